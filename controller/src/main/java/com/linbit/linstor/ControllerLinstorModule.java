@@ -2,6 +2,8 @@ package com.linbit.linstor;
 
 import com.linbit.WorkerPool;
 import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.core.LinStor;
+import com.linbit.linstor.core.MeteredThreadPoolExecutor;
 import com.linbit.linstor.core.repository.AuthTokenRepositoryImpl;
 import com.linbit.linstor.core.repository.AuthTokenRepository;
 import com.linbit.linstor.core.repository.ExternalFileRepositoryImpl;
@@ -24,14 +26,34 @@ import com.linbit.linstor.core.repository.StorPoolDefinitionRepositoryImpl;
 import com.linbit.linstor.core.repository.StorPoolDefinitionRepository;
 import com.linbit.linstor.core.repository.SystemConfRepositoryImpl;
 import com.linbit.linstor.core.repository.SystemConfRepository;
+import com.linbit.utils.MathUtils;
 
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 public class ControllerLinstorModule extends AbstractModule
 {
+    // Scheduler for read-only REST requests
+    public static final String QUERY_SCHEDULER = "QueryWorkerPool";
+    // Scheduler for REST requests modifying the cluster
+    public static final String TRANSACTION_SCHEDULER = "TransactionWorkerPool";
+    // Scheduler for fluxes started by the BackgroundRunner
+    public static final String BACKGROUND_SCHEDULER = "BackgroundWorkerPool";
+    // Name of the pool handling messages received from satellites, bound to LinStorModule.MSG_PROCESSING_SCHEDULER
+    private static final String STLT_MSG_POOL_NAME = "StltMsgWorkerPool";
+
+    private static final int MIN_THREAD_SIZE = 4;
+    private static final int MAX_THREAD_SIZE = 16;
+
+    // Transactions mostly serialize on the write locks, so there is no point in having as many threads
+    private static final int MIN_TRANSACTION_THREAD_SIZE = 2;
+    private static final int MAX_TRANSACTION_THREAD_SIZE = 8;
+
     @Override
     protected void configure()
     {
@@ -54,4 +76,42 @@ public class ControllerLinstorModule extends AbstractModule
     {
         return null;
     }
+
+    @Provides
+    @Singleton
+    @Named(QUERY_SCHEDULER)
+    public Scheduler queryScheduler()
+    {
+        return meteredScheduler(QUERY_SCHEDULER, MIN_THREAD_SIZE, MAX_THREAD_SIZE);
+    }
+
+    @Provides
+    @Singleton
+    @Named(TRANSACTION_SCHEDULER)
+    public Scheduler transactionScheduler()
+    {
+        return meteredScheduler(TRANSACTION_SCHEDULER, MIN_TRANSACTION_THREAD_SIZE, MAX_TRANSACTION_THREAD_SIZE);
+    }
+
+    @Provides
+    @Singleton
+    @Named(BACKGROUND_SCHEDULER)
+    public Scheduler backgroundScheduler()
+    {
+        return meteredScheduler(BACKGROUND_SCHEDULER, MIN_TRANSACTION_THREAD_SIZE, MAX_TRANSACTION_THREAD_SIZE);
+    }
+
+    @Provides
+    @Singleton
+    @Named(LinStorModule.MSG_PROCESSING_SCHEDULER)
+    public Scheduler stltMsgScheduler()
+    {
+        return meteredScheduler(STLT_MSG_POOL_NAME, MIN_THREAD_SIZE, MAX_THREAD_SIZE);
+    }
+
+    private static Scheduler meteredScheduler(String poolName, int minThreads, int maxThreads)
+    {
+        int thrCount = MathUtils.bounds(minThreads, LinStor.CPU_COUNT, maxThreads);
+        return Schedulers.fromExecutorService(new MeteredThreadPoolExecutor(poolName, thrCount), poolName);
+    }
 }
@@ -0,0 +1,66 @@
+package com.linbit.linstor.api.protobuf.internal;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCallReactive;
+import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.event.EventProcessor;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntEventBatchOuterClass.MsgIntBatchedEvent;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntEventBatchOuterClass.MsgIntEventBatch;
+import com.linbit.linstor.proto.responses.MsgEventOuterClass.MsgEvent;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_EVENT_BATCH,
+    description = "Handles several events of a satellite",
+    transactional = true
+)
+@Singleton
+public class IntEventBatch implements ApiCallReactive
+{
+    private final EventProcessor eventProcessor;
+
+    @Inject
+    public IntEventBatch(
+        EventProcessor eventProcessorRef
+    )
+    {
+        eventProcessor = eventProcessorRef;
+    }
+
+    @Override
+    public Flux<byte[]> executeReactive(InputStream msgDataIn)
+        throws IOException
+    {
+        MsgIntEventBatch msgEventBatch = MsgIntEventBatch.parseDelimitedFrom(msgDataIn);
+
+        List<EventProcessor.IncomingEvent> events = new ArrayList<>(msgEventBatch.getEventsCount());
+        for (MsgIntBatchedEvent batchedEvent : msgEventBatch.getEventsList())
+        {
+            MsgEvent msgEvent = batchedEvent.getEvent();
+            events.add(
+                new EventProcessor.IncomingEvent(
+                    msgEvent.getEventAction(),
+                    msgEvent.getEventName(),
+                    msgEvent.hasResourceName() ? msgEvent.getResourceName() : null,
+                    msgEvent.hasVolumeNumber() ? msgEvent.getVolumeNumber() : null,
+                    msgEvent.hasSnapshotName() ? msgEvent.getSnapshotName() : null,
+                    msgEvent.hasPeerName() ? msgEvent.getPeerName() : null,
+                    batchedEvent.getEventData().newInput()
+                )
+            );
+        }
+
+        // intentionally not calling eventProcessor.handleEvents directly to prevent the TCP thread from blocking
+        return Flux.defer(() -> eventProcessor.handleEvents(events))
+            .thenMany(Flux.empty());
+    }
+}
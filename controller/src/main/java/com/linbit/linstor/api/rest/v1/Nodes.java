@@ -198,7 +198,7 @@ public class Nodes
         int offset
     )
     {
-        return requestHelper.doInScope(ApiConsts.API_LST_NODE, request, () ->
+        return requestHelper.doInScopeConditional(ApiConsts.API_LST_NODE, request, () ->
         {
             Stream<NodeApi> nodeApiStream = ctrlApiCallHandler.listNodes(nodeNames, propFilters).stream();
             if (limit > 0)
@@ -212,7 +212,7 @@ public class Nodes
             return RequestHelper.queryRequestResponse(
                 objectMapper, ApiConsts.FAIL_NOT_FOUND_NODE, "Node", searchNodeName, nodeDataList
             );
-        }, false);
+        });
     }
 
     @POST
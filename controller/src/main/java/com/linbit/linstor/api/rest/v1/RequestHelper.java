@@ -1,5 +1,6 @@
 package com.linbit.linstor.api.rest.v1;
 
+import com.linbit.linstor.ControllerLinstorModule;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
@@ -16,13 +17,17 @@ import com.linbit.linstor.netcom.PeerREST;
 import com.linbit.linstor.prometheus.LinstorControllerMetrics;
 import com.linbit.linstor.security.LdapAuthentication;
 import com.linbit.linstor.security.SignInException;
+import com.linbit.linstor.transaction.ChangeSequence;
 import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
 import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
 import com.linbit.linstor.transaction.manager.TransactionMgrUtil;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -37,10 +42,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.prometheus.client.Histogram;
+import org.glassfish.grizzly.http.Method;
 import org.glassfish.grizzly.http.server.Request;
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.util.context.Context;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
@@ -52,6 +59,8 @@ public class RequestHelper
     private final TransactionMgrGenerator transactionMgrGenerator;
     private final LdapAuthentication ldapAuthentication;
     private final CtrlConfig linstorConfig;
+    private final Scheduler queryScheduler;
+    private final Scheduler transactionScheduler;
 
     @Inject
     public RequestHelper(
@@ -59,7 +68,9 @@ public class RequestHelper
         LinStorScope apiCallScopeRef,
         TransactionMgrGenerator transactionMgrGeneratorRef,
         LdapAuthentication ldapAuthenticationRef,
-        CtrlConfig linstorConfigRef
+        CtrlConfig linstorConfigRef,
+        @Named(ControllerLinstorModule.QUERY_SCHEDULER) Scheduler querySchedulerRef,
+        @Named(ControllerLinstorModule.TRANSACTION_SCHEDULER) Scheduler transactionSchedulerRef
     )
     {
         errorReporter = errorReporterRef;
@@ -67,6 +78,8 @@ public class RequestHelper
         transactionMgrGenerator = transactionMgrGeneratorRef;
         ldapAuthentication = ldapAuthenticationRef;
         linstorConfig = linstorConfigRef;
+        queryScheduler = querySchedulerRef;
+        transactionScheduler = transactionSchedulerRef;
     }
 
     private Tuple2<String, String> parseBasicAuthHeader(String authorization)
@@ -260,6 +273,95 @@ public class RequestHelper
         return ret;
     }
 
+    /**
+     * Like {@link #doInScope(String, Request, Callable, boolean)} for non-transactional list requests, but with
+     * conditional GET support: the response carries an <code>ETag</code> derived from the {@link ChangeSequence}, and
+     * a request whose <code>If-None-Match</code> header contains the current tag is answered with
+     * <code>304 Not Modified</code> without running the callable (and therefore without taking any locks).
+     *
+     * Only use this for responses that are entirely derived from the state tracked by the {@link ChangeSequence}.
+     */
+    public Response doInScopeConditional(String apiCall, Request request, Callable<Response> callable)
+    {
+        // taken before the state is read, so a concurrent change is seen by the next request at the latest
+        EntityTag tag = new EntityTag(ChangeSequence.getTag());
+        Response ret;
+        if (isNotModified(request, tag))
+        {
+            createContext(apiCall, request);
+            ret = Response.notModified(tag).build();
+        }
+        else
+        {
+            ret = withEntityTag(doInScope(apiCall, request, callable, false), tag);
+        }
+        return ret;
+    }
+
+    /**
+     * Conditional GET variant of {@link #doFlux(String, Request, AsyncResponse, Mono)}, see
+     * {@link #doInScopeConditional(String, Request, Callable)}. The response is only created if the current tag does
+     * not match the <code>If-None-Match</code> header of the request.
+     */
+    void doFluxConditional(
+        String apiCall,
+        Request request,
+        final AsyncResponse asyncResponse,
+        Supplier<Mono<Response>> monoResponseSupplier
+    )
+    {
+        EntityTag tag = new EntityTag(ChangeSequence.getTag());
+        if (isNotModified(request, tag))
+        {
+            createContext(apiCall, request);
+            asyncResponse.resume(Response.notModified(tag).build());
+        }
+        else
+        {
+            doFlux(
+                apiCall,
+                request,
+                asyncResponse,
+                monoResponseSupplier.get().map(response -> withEntityTag(response, tag))
+            );
+        }
+    }
+
+    private static boolean isNotModified(Request request, EntityTag currentTag)
+    {
+        boolean notModified = false;
+        @Nullable String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null)
+        {
+            String quotedTag = "\"" + currentTag.getValue() + "\"";
+            for (String tag : ifNoneMatch.split(","))
+            {
+                String trimmedTag = tag.trim();
+                // If-None-Match uses the weak comparison
+                if (trimmedTag.startsWith("W/"))
+                {
+                    trimmedTag = trimmedTag.substring(2);
+                }
+                if (trimmedTag.equals("*") || trimmedTag.equals(quotedTag))
+                {
+                    notModified = true;
+                    break;
+                }
+            }
+        }
+        return notModified;
+    }
+
+    private static Response withEntityTag(Response response, EntityTag tag)
+    {
+        Response ret = response;
+        if (response.getStatus() == Response.Status.OK.getStatusCode())
+        {
+            ret = Response.fromResponse(response).tag(tag).build();
+        }
+        return ret;
+    }
+
     void doFlux(
         String apiCall,
         Request request,
@@ -268,6 +370,11 @@ public class RequestHelper
     )
     {
         Context context = createContext(apiCall, request);
+        // read-only requests must not queue up behind long running modifications (and vice versa)
+        Method method = request.getMethod();
+        Scheduler scheduler = Method.GET.equals(method) || Method.HEAD.equals(method) ?
+            queryScheduler :
+            transactionScheduler;
 
         Mono.using(
                 () -> LinstorControllerMetrics.requestDurationHistogram.labels(apiCall).startTimer(),
@@ -301,6 +408,7 @@ public class RequestHelper
                     }
                     return Mono.just(ApiCallRcRestUtils.toResponse(apiCallRc, Response.Status.INTERNAL_SERVER_ERROR));
                 })
+            .subscribeOn(scheduler)
             .subscribe(
                 asyncResponse::resume,
                 exc ->
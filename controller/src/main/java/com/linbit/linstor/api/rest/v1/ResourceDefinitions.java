@@ -124,7 +124,7 @@ public class ResourceDefinitions
         int offset
     )
     {
-        return requestHelper.doInScope(ApiConsts.API_LST_RSC_DFN, request, () ->
+        return requestHelper.doInScopeConditional(ApiConsts.API_LST_RSC_DFN, request, () ->
         {
             Stream<ResourceDefinitionApi> rscDfnApiStream =
                 ctrlApiCallHandler.listResourceDefinitions(rscDfnNames, propFilters).stream();
@@ -139,7 +139,7 @@ public class ResourceDefinitions
             return RequestHelper.queryRequestResponse(
                 objectMapper, ApiConsts.FAIL_NOT_FOUND_RSC_DFN, "Resource definition", singleRscDfn, rscDfnDataList
             );
-        }, false);
+        });
     }
 
     @POST
@@ -31,13 +31,19 @@ import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.glassfish.grizzly.http.server.Request;
@@ -49,6 +55,17 @@ import reactor.core.publisher.Mono;
 @Produces(MediaType.APPLICATION_JSON)
 public class View
 {
+    /**
+     * Response header containing the cursor for the next page of a paged request
+     */
+    static final String NEXT_CURSOR_HEADER = "X-Linstor-Next-Cursor";
+
+    /**
+     * By default, the allocated sizes of thin volumes are only fetched again from a satellite if the last answer of
+     * that satellite is older than this, so that polling the view does not query all satellites on every request
+     */
+    private static final String DEFAULT_VLM_ALLOCATED_MAX_AGE_SEC = "30";
+
     private final RequestHelper requestHelper;
     private final CtrlApiCallHandler ctrlApiCallHandler;
     private final CtrlVlmListApiCallHandler ctrlVlmListApiCallHandler;
@@ -87,7 +104,9 @@ public class View
         @QueryParam("storage_pools") List<String> storagePools,
         @QueryParam("props") List<String> propFilters,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @QueryParam("cursor") @Nullable String cursor,
+        @DefaultValue(DEFAULT_VLM_ALLOCATED_MAX_AGE_SEC) @QueryParam("max_age") long maxAgeSec
     )
     {
         List<String> nodesFilter = nodes != null ? nodes : Collections.emptyList();
@@ -97,56 +116,59 @@ public class View
         RequestHelper.safeAsyncResponse(asyncResponse, () ->
         {
             MDC.put(ErrorReporter.LOGID, ErrorReporter.getNewLogId());
+            // the offset is only applied together with a limit
             Flux<ResourceList> flux = ctrlVlmListApiCallHandler.listVlms(
-                nodesFilter, storagePoolsFilter, resourcesFilter, propFilters);
+                nodesFilter,
+                storagePoolsFilter,
+                resourcesFilter,
+                propFilters,
+                limit,
+                limit > 0 ? offset : 0,
+                cursor,
+                TimeUnit.SECONDS.toMillis(Math.max(maxAgeSec, 0))
+            );
 
             requestHelper.doFlux(
                 ApiConsts.API_LST_VLM,
                 request,
                 asyncResponse,
-                listVolumesApiCallRcWithToResponse(flux, limit, offset)
+                listVolumesApiCallRcWithToResponse(flux)
             );
         });
     }
 
-    private Mono<Response> listVolumesApiCallRcWithToResponse(
-        Flux<ResourceList> resourceListFlux,
-        int limit,
-        int offset
-    )
+    private Mono<Response> listVolumesApiCallRcWithToResponse(Flux<ResourceList> resourceListFlux)
     {
         return resourceListFlux.flatMap(resourceList ->
         {
-            Response resp;
-
-            Stream<ResourceApi> rscApiStream = resourceList.getResources().stream();
-
-            if (limit > 0)
-            {
-                rscApiStream = rscApiStream.skip(offset).limit(limit);
-            }
-
-            final List<JsonGenTypes.Resource> rscs = rscApiStream
-                .map(rscApi -> Json.apiToResourceWithVolumes(rscApi, resourceList.getSatelliteStates(), true))
-                .collect(Collectors.toList());
-
-            try
-            {
-                resp = Response
-                    .status(Response.Status.OK)
-                    .entity(objectMapper.writeValueAsString(rscs))
-                    .build();
-            }
-            catch (JsonProcessingException exc)
+            // the resources are serialized one by one directly into the response, instead of building the whole
+            // JSON document in memory first
+            Response.ResponseBuilder respBuilder = Response
+                .status(Response.Status.OK)
+                .entity((StreamingOutput) output -> writeResources(output, resourceList));
+            @Nullable String nextCursor = resourceList.getNextCursor();
+            if (nextCursor != null)
             {
-                exc.printStackTrace();
-                resp = Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
+                respBuilder.header(NEXT_CURSOR_HEADER, nextCursor);
             }
-
-            return Mono.just(resp);
+            return Mono.just(respBuilder.build());
         }).next();
     }
 
+    private void writeResources(OutputStream output, ResourceList resourceList) throws IOException
+    {
+        JsonGenerator jsonGen = objectMapper.getFactory().createGenerator(output);
+        jsonGen.writeStartArray();
+        for (ResourceApi rscApi : resourceList.getResources())
+        {
+            jsonGen.writeObject(
+                Json.apiToResourceWithVolumes(rscApi, resourceList.getSatelliteStates(), true)
+            );
+        }
+        jsonGen.writeEndArray();
+        jsonGen.flush();
+    }
+
     @GET
     @Path("storage-pools")
     public void viewStoragePools(
@@ -166,15 +188,31 @@ public class View
         RequestHelper.safeAsyncResponse(asyncResponse, () ->
         {
             MDC.put(ErrorReporter.LOGID, ErrorReporter.getNewLogId());
-            Flux<List<StorPoolApi>> flux = ctrlStorPoolListApiCallHandler
-                .listStorPools(nodesFilter, storagePoolsFilter, propFilters, fromCache);
-
-            requestHelper.doFlux(
-                ApiConsts.API_LST_STOR_POOL,
-                request,
-                asyncResponse,
-                storPoolListToResponse(flux, limit, offset)
+            Supplier<Mono<Response>> responseSupplier = () -> storPoolListToResponse(
+                ctrlStorPoolListApiCallHandler.listStorPools(nodesFilter, storagePoolsFilter, propFilters, fromCache),
+                limit,
+                offset
             );
+
+            if (fromCache)
+            {
+                // uncached free capacities are queried from the satellites, so only cached answers can be tagged
+                requestHelper.doFluxConditional(
+                    ApiConsts.API_LST_STOR_POOL,
+                    request,
+                    asyncResponse,
+                    responseSupplier
+                );
+            }
+            else
+            {
+                requestHelper.doFlux(
+                    ApiConsts.API_LST_STOR_POOL,
+                    request,
+                    asyncResponse,
+                    responseSupplier.get()
+                );
+            }
         });
     }
 
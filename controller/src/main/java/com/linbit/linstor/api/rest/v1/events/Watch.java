@@ -0,0 +1,214 @@
+package com.linbit.linstor.api.rest.v1.events;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.api.rest.v1.RequestHelper;
+import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
+import com.linbit.linstor.logging.ErrorReporter;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.jersey.media.sse.EventOutput;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SseFeature;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Server sent event stream of the creations, modifications and deletions of nodes, resource definitions, resources,
+ * volumes and snapshots, see {@link ChangeJournal}.
+ *
+ * Every change is sent as an event named after the action ("create", "modify" or "delete") with the sequence number
+ * of the change as event id. A "reset" event tells the client that changes were lost, either because the journal no
+ * longer contains all changes since the requested sequence number or because the client did not keep up. In both
+ * cases the client has to re-read the objects it is interested in and can then continue watching with the sequence
+ * number of the reset event.
+ */
+@Path("v1/watch")
+public class Watch
+{
+    private static final String EVENT_RESET = "reset";
+
+    private final ErrorReporter errorReporter;
+    private final RequestHelper requestHelper;
+    private final ChangeJournal changeJournal;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Inject
+    public Watch(
+        ErrorReporter errorReporterRef,
+        RequestHelper requestHelperRef,
+        ChangeJournal changeJournalRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        requestHelper = requestHelperRef;
+        changeJournal = changeJournalRef;
+    }
+
+    @GET
+    @Produces(SseFeature.SERVER_SENT_EVENTS)
+    public EventOutput watch(
+        @Context Request request,
+        @QueryParam("since") @Nullable Long since,
+        @HeaderParam("Last-Event-ID") @Nullable String lastEventId
+    )
+        throws IOException
+    {
+        final EventOutput eventOutput = new EventOutput();
+        Response resp = requestHelper.doInScope(
+            "Watch",
+            request,
+            () ->
+            {
+                startWatch(eventOutput, since != null ? since : parseSeq(lastEventId));
+                return null;
+            },
+            false
+        );
+
+        if (resp != null)
+        {
+            eventOutput.write(
+                new OutboundEvent.Builder()
+                    .name("error")
+                    .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                    .data(resp.getEntity()).build());
+            eventOutput.close();
+        }
+        return eventOutput;
+    }
+
+    private void startWatch(EventOutput eventOutput, @Nullable Long since) throws IOException
+    {
+        ChangeJournal.Watch watch = changeJournal.watch(since);
+        if (!watch.complete())
+        {
+            writeReset(eventOutput, watch.seq());
+        }
+        watch.changes()
+            .publishOn(Schedulers.boundedElastic())
+            .subscribe(
+                entry -> write(eventOutput, entry),
+                exc ->
+                {
+                    if (exc instanceof ChangeJournal.ChangesLostException)
+                    {
+                        // everything the client has not received yet is lost, so there is no later sequence number
+                        // to continue with
+                        writeResetQuietly(eventOutput, changeJournal.getLastSeq());
+                    }
+                    close(eventOutput);
+                },
+                () -> close(eventOutput)
+            );
+    }
+
+    private void write(EventOutput eventOutput, ChangeJournal.Entry entry)
+    {
+        ObjectChange change = entry.change();
+        JsonGenTypes.WatchEvent watchEvent = new JsonGenTypes.WatchEvent();
+        watchEvent.seq = entry.seq();
+        watchEvent.action = change.getAction().name();
+        watchEvent.kind = change.getKind().name();
+        watchEvent.node_name = change.getNodeName();
+        watchEvent.resource_name = change.getRscName();
+        watchEvent.volume_number = change.getVlmNr();
+        watchEvent.snapshot_name = change.getSnapName();
+        try
+        {
+            eventOutput.write(
+                new OutboundEvent.Builder()
+                    .name(change.getAction().name().toLowerCase(Locale.ROOT))
+                    .id(Long.toString(entry.seq()))
+                    .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                    .data(objectMapper.writeValueAsString(watchEvent))
+                    .build()
+            );
+        }
+        catch (JsonProcessingException exc)
+        {
+            errorReporter.reportError(exc);
+        }
+        catch (IOException exc)
+        {
+            // the client disconnected. Throwing cancels the subscription, which removes the watcher from the journal
+            throw new WatchClosedException(exc);
+        }
+    }
+
+    private void writeReset(EventOutput eventOutput, long seq) throws IOException
+    {
+        eventOutput.write(
+            new OutboundEvent.Builder()
+                .name(EVENT_RESET)
+                .id(Long.toString(seq))
+                .data("")
+                .build()
+        );
+    }
+
+    private void writeResetQuietly(EventOutput eventOutput, long seq)
+    {
+        try
+        {
+            writeReset(eventOutput, seq);
+        }
+        catch (IOException ignored)
+        {
+            // the client disconnected
+        }
+    }
+
+    private void close(EventOutput eventOutput)
+    {
+        try
+        {
+            eventOutput.close();
+        }
+        catch (IOException ignored)
+        {
+        }
+    }
+
+    private static @Nullable Long parseSeq(@Nullable String lastEventId)
+    {
+        @Nullable Long seq = null;
+        if (lastEventId != null)
+        {
+            try
+            {
+                seq = Long.parseLong(lastEventId);
+            }
+            catch (NumberFormatException ignored)
+            {
+                // not one of our event ids, watch only future changes
+            }
+        }
+        return seq;
+    }
+
+    private static class WatchClosedException extends RuntimeException
+    {
+        private static final long serialVersionUID = 5870346524313325426L;
+
+        WatchClosedException(IOException cause)
+        {
+            super(cause);
+        }
+    }
+}
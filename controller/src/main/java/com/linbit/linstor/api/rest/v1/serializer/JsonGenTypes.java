@@ -1845,6 +1845,36 @@ public class JsonGenTypes
         public @Nullable Node new_node;
     }
 
+    /**
+     * Creation, modification or deletion of an object. Names are in canonical (upper case) form.
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class WatchEvent
+    {
+        /**
+         * Sequence number of the change, also sent as event id
+         */
+        public long seq;
+        public String action;
+        public String kind;
+        /**
+         * Set for nodes, resources and volumes
+         */
+        public @Nullable String node_name;
+        /**
+         * Set for resource definitions, resources, volumes and snapshots
+         */
+        public @Nullable String resource_name;
+        /**
+         * Set for volumes
+         */
+        public @Nullable Integer volume_number;
+        /**
+         * Set for snapshots
+         */
+        public @Nullable String snapshot_name;
+    }
+
     /**
      * External file which can be configured to be deployed by Linstor
      */
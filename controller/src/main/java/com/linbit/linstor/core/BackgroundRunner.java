@@ -1,6 +1,7 @@
 package com.linbit.linstor.core;
 
 import com.linbit.ImplementationError;
+import com.linbit.linstor.ControllerLinstorModule;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiModule;
@@ -10,6 +11,7 @@ import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.logging.ErrorReporter;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.util.ArrayList;
@@ -28,22 +30,26 @@ import java.util.stream.Collectors;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
 import reactor.util.context.Context;
 
 @Singleton
 public class BackgroundRunner
 {
     private final ErrorReporter errorReporter;
+    private final Scheduler backgroundScheduler;
 
     private final TreeMap<NodeName, TreeSet<RunConfig<?>>> runQueuesByNode;
     private final TreeSet<NodeName> busyNodes;
 
     @Inject
     public BackgroundRunner(
-        ErrorReporter errorReporterRef
+        ErrorReporter errorReporterRef,
+        @Named(ControllerLinstorModule.BACKGROUND_SCHEDULER) Scheduler backgroundSchedulerRef
     )
     {
         errorReporter = errorReporterRef;
+        backgroundScheduler = backgroundSchedulerRef;
 
         runQueuesByNode = new TreeMap<>();
         busyNodes = new TreeSet<>();
@@ -209,11 +215,14 @@ public class BackgroundRunner
     /**
      * Assumes that runQueuesByNode lock is taken
      *
-     * Starts the given Flux and adds the RunConfig to all affected queues stating that the corresponding node is busy
+     * Starts the given Flux on the background scheduler (so that neither the caller's thread nor the pools handling
+     * client requests are occupied by it) and adds the RunConfig to all affected queues stating that the corresponding
+     * node is busy
      */
     private <T> void startBackgroundFlux(RunConfig<T> runCfgRef)
     {
         prepareFlux(runCfgRef)
+            .subscribeOn(backgroundScheduler)
             .subscribe(
                 responses ->
                 {
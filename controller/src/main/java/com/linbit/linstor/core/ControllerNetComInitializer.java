@@ -280,7 +280,8 @@ public final class ControllerNetComInitializer implements StartupInitializer
                 commonSerializer,
                 msgProc,
                 bindAddress,
-                ctrlConnTracker
+                ctrlConnTracker,
+                ctrlCfg.getNetComIoThreads()
             );
             try
             {
@@ -413,7 +414,8 @@ public final class ControllerNetComInitializer implements StartupInitializer
                         keyStorePw.toCharArray(),
                         keyPw.toCharArray(),
                         trustStoreFilePath.toString(),
-                        trustStorPw.toCharArray()
+                        trustStorPw.toCharArray(),
+                        ctrlCfg.getNetComIoThreads()
                     );
                     try
                     {
@@ -1,6 +1,7 @@
 package com.linbit.linstor.core;
 
 import com.linbit.linstor.ControllerPeerCtx;
+import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedFetcher;
 import com.linbit.linstor.core.apicallhandler.controller.backup.CtrlBackupCreateApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.internal.NodeInternalCallHandler;
 import com.linbit.linstor.event.EventBroker;
@@ -27,6 +28,7 @@ class CtrlConnTracker implements ConnectionObserver
     private final NodeInternalCallHandler nodeInternalCallHandler;
     private final SharedStorPoolManager sharedSpMgr;
     private final CtrlBackupCreateApiCallHandler backupCrtApiCallHandler;
+    private final VlmAllocatedFetcher vlmAllocatedFetcher;
 
     @Inject
     CtrlConnTracker(
@@ -37,7 +39,8 @@ class CtrlConnTracker implements ConnectionObserver
         TaskScheduleService taskSchedulerRef,
         NodeInternalCallHandler nodeInternalCallHandlerRef,
         SharedStorPoolManager sharedSpMgrRef,
-        CtrlBackupCreateApiCallHandler backupCrtApiCallHandlerRef
+        CtrlBackupCreateApiCallHandler backupCrtApiCallHandlerRef,
+        VlmAllocatedFetcher vlmAllocatedFetcherRef
     )
     {
         peerMap = peerMapRef;
@@ -48,6 +51,7 @@ class CtrlConnTracker implements ConnectionObserver
         nodeInternalCallHandler = nodeInternalCallHandlerRef;
         sharedSpMgr = sharedSpMgrRef;
         backupCrtApiCallHandler = backupCrtApiCallHandlerRef;
+        vlmAllocatedFetcher = vlmAllocatedFetcherRef;
     }
 
     @Override
@@ -100,6 +104,10 @@ class CtrlConnTracker implements ConnectionObserver
         if (connPeer != null)
         {
             eventBroker.connectionClosed(connPeer);
+            if (connPeer.getNode() != null)
+            {
+                vlmAllocatedFetcher.invalidate(connPeer.getNode().getName());
+            }
 
             if (!shuttingDown)
             {
@@ -0,0 +1,103 @@
+package com.linbit.linstor.core;
+
+import com.linbit.linstor.prometheus.LinstorControllerMetrics;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/**
+ * Fixed size thread pool that exports its queue depth, the time tasks spend waiting in the queue and the time tasks
+ * spend running through {@link LinstorControllerMetrics}, labeled with the name of the pool.
+ */
+public class MeteredThreadPoolExecutor extends ThreadPoolExecutor
+{
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Gauge.Child queueDepth;
+    private final Histogram.Child queueWait;
+    private final Histogram.Child taskDuration;
+
+    public MeteredThreadPoolExecutor(String poolName, int thrCount)
+    {
+        super(
+            thrCount,
+            thrCount,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new DaemonThreadFactory(poolName)
+        );
+        queueDepth = LinstorControllerMetrics.workerPoolQueueDepth.labels(poolName);
+        queueWait = LinstorControllerMetrics.workerPoolQueueWaitHistogram.labels(poolName);
+        taskDuration = LinstorControllerMetrics.workerPoolTaskDurationHistogram.labels(poolName);
+    }
+
+    @Override
+    public void execute(Runnable task)
+    {
+        queueDepth.inc();
+        try
+        {
+            super.execute(new MeteredTask(task, System.nanoTime()));
+        }
+        catch (RuntimeException exc)
+        {
+            // rejected, i.e. the pool was shut down
+            queueDepth.dec();
+            throw exc;
+        }
+    }
+
+    private class MeteredTask implements Runnable
+    {
+        private final Runnable task;
+        private final long enqueuedAt;
+
+        MeteredTask(Runnable taskRef, long enqueuedAtRef)
+        {
+            task = taskRef;
+            enqueuedAt = enqueuedAtRef;
+        }
+
+        @Override
+        public void run()
+        {
+            queueDepth.dec();
+            long startedAt = System.nanoTime();
+            queueWait.observe((startedAt - enqueuedAt) / NANOS_PER_SECOND);
+            try
+            {
+                task.run();
+            }
+            finally
+            {
+                taskDuration.observe((System.nanoTime() - startedAt) / NANOS_PER_SECOND);
+            }
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory
+    {
+        private final String namePrefix;
+        private final AtomicInteger threadIdx = new AtomicInteger();
+
+        DaemonThreadFactory(String namePrefixRef)
+        {
+            namePrefix = namePrefixRef;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, String.format("%s_%04d", namePrefix, threadIdx.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
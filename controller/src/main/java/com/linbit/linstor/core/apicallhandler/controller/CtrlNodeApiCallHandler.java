@@ -56,6 +56,7 @@ import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.core.identifier.NetInterfaceName;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.CtrlPropsIndexes;
 import com.linbit.linstor.core.objects.NetInterface;
 import com.linbit.linstor.core.objects.NetInterface.EncryptionType;
 import com.linbit.linstor.core.objects.NetInterfaceFactory;
@@ -119,11 +120,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.MDC;
 import reactor.core.publisher.Flux;
@@ -166,6 +169,7 @@ public class CtrlNodeApiCallHandler
     private final CtrlRscLayerDataFactory ctrlRscLayerDataFactory;
     private final Provider<PropsChangedListenerBuilder> propsChangeListenerBuilderProvider;
     private final CopySnapsHelper copySnapsHelper;
+    private final CtrlPropsIndexes propsIndexes;
 
     @Inject
     public CtrlNodeApiCallHandler(
@@ -202,7 +206,8 @@ public class CtrlNodeApiCallHandler
         CtrlRscAutoHelper ctrlRscAutoHelperRef,
         CtrlRscLayerDataFactory ctrlRscLayerDataFactoryRef,
         Provider<PropsChangedListenerBuilder> propsChangeListenerBuilderProviderRef,
-        CopySnapsHelper copySnapsHelperRef
+        CopySnapsHelper copySnapsHelperRef,
+        CtrlPropsIndexes propsIndexesRef
     )
     {
         ctrlTransactionHelper = ctrlTransactionHelperRef;
@@ -239,6 +244,7 @@ public class CtrlNodeApiCallHandler
         ctrlRscLayerDataFactory = ctrlRscLayerDataFactoryRef;
         propsChangeListenerBuilderProvider = propsChangeListenerBuilderProviderRef;
         copySnapsHelper = copySnapsHelperRef;
+        propsIndexes = propsIndexesRef;
     }
 
     Node createNodeImpl(
@@ -669,7 +675,7 @@ public class CtrlNodeApiCallHandler
         ArrayList<NodeApi> nodes = new ArrayList<>();
         final List<Pattern> nodesFilter = RegexMatcher.compileAll(nodeNames, true);
 
-        nodeRepository.getMapForView().values().stream()
+        streamCandidateNodes(nodeNames, propFilters)
             .filter(node -> RegexMatcher.matchesAny(nodesFilter, node.getName().displayValue))
             .forEach(node ->
                 {
@@ -684,6 +690,32 @@ public class CtrlNodeApiCallHandler
         return nodes;
     }
 
+    /**
+     * Returns the nodes that might match the given filters, sorted by name. Exact property filters on indexed keys
+     * and plain (non-regex) node names are answered without iterating all nodes.
+     */
+    private Stream<Node> streamCandidateNodes(List<String> nodeNames, List<String> propFilters)
+    {
+        Stream<Node> nodeStream;
+        @Nullable Set<Node> indexedNodes = propsIndexes.getNodeIndex().lookupCandidates(propFilters);
+        if (indexedNodes != null)
+        {
+            nodeStream = indexedNodes.stream().sorted();
+        }
+        else
+        if (RegexMatcher.isAllLiterals(nodeNames))
+        {
+            nodeStream = LinstorParsingUtils.asExactNames(nodeNames, LinstorParsingUtils::asNodeName).stream()
+                .map(nodeRepository::get)
+                .filter(Objects::nonNull);
+        }
+        else
+        {
+            nodeStream = nodeRepository.getMapForView().values().stream();
+        }
+        return nodeStream;
+    }
+
     private Node createNode(NodeName nodeName, Node.Type type)
     {
         Node node;
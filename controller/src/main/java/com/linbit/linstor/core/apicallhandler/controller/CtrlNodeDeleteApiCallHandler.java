@@ -78,6 +78,7 @@ public class CtrlNodeDeleteApiCallHandler implements CtrlSatelliteConnectionList
     private final SpecialSatelliteProcessManager specTargetProcMgr;
     private final DynamicNumberPool specStltPortPool;
     private final CtrlBackupCreateApiCallHandler ctrlBackupCrtApiCallHandler;
+    private final VlmAllocatedFetcher vlmAllocatedFetcher;
 
     @Inject
     public CtrlNodeDeleteApiCallHandler(
@@ -95,6 +96,7 @@ public class CtrlNodeDeleteApiCallHandler implements CtrlSatelliteConnectionList
         SpecialSatelliteProcessManager specTargetProcMgrRef,
         @Named(NumberPoolModule.SPECIAL_SATELLTE_PORT_POOL) DynamicNumberPool specStltPortPoolRef,
         CtrlBackupCreateApiCallHandler ctrlBackupCrtApiCallHandlerRef,
+        VlmAllocatedFetcher vlmAllocatedFetcherRef,
         ErrorReporter errorReporterRef
     )
     {
@@ -112,6 +114,7 @@ public class CtrlNodeDeleteApiCallHandler implements CtrlSatelliteConnectionList
         specTargetProcMgr = specTargetProcMgrRef;
         specStltPortPool = specStltPortPoolRef;
         ctrlBackupCrtApiCallHandler = ctrlBackupCrtApiCallHandlerRef;
+        vlmAllocatedFetcher = vlmAllocatedFetcherRef;
         errorReporter = errorReporterRef;
     }
 
@@ -599,5 +602,6 @@ public class CtrlNodeDeleteApiCallHandler implements CtrlSatelliteConnectionList
     private void removeNodePrivileged(NodeName nodeName)
     {
         nodeRepository.remove(nodeName);
+        vlmAllocatedFetcher.invalidate(nodeName);
     }
 }
@@ -71,6 +71,7 @@ public class CtrlNodeLostApiCallHandler
     private final ReadWriteLock nodesMapLock;
     private final CtrlRscDeleteApiHelper ctrlRscDeleteApiHelper;
     private final CtrlBackupCreateApiCallHandler ctrlBackupCrtApiCallHandler;
+    private final VlmAllocatedFetcher vlmAllocatedFetcher;
 
     @Inject
     public CtrlNodeLostApiCallHandler(
@@ -87,6 +88,7 @@ public class CtrlNodeLostApiCallHandler
         @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
         CtrlRscDeleteApiHelper ctrlRscDeleteApiHelperRef,
         CtrlBackupCreateApiCallHandler ctrlBackupCrtApiCallHandlerRef,
+        VlmAllocatedFetcher vlmAllocatedFetcherRef,
         ErrorReporter errorReporterRef
     )
     {
@@ -103,6 +105,7 @@ public class CtrlNodeLostApiCallHandler
         nodesMapLock = nodesMapLockRef;
         ctrlRscDeleteApiHelper = ctrlRscDeleteApiHelperRef;
         ctrlBackupCrtApiCallHandler = ctrlBackupCrtApiCallHandlerRef;
+        vlmAllocatedFetcher = vlmAllocatedFetcherRef;
         errorReporter = errorReporterRef;
     }
 
@@ -393,5 +396,6 @@ public class CtrlNodeLostApiCallHandler
     private void removeNodePrivileged(NodeName nodeName)
     {
         nodeRepository.remove(nodeName);
+        vlmAllocatedFetcher.invalidate(nodeName);
     }
 }
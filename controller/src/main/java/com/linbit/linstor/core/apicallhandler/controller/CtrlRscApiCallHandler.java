@@ -261,8 +261,10 @@ public class CtrlRscApiCallHandler
 
             if (notifyStlts)
             {
-                flux = ctrlSatelliteUpdateCaller
-                        .updateSatellites(rsc.getResourceDefinition(), Flux.empty())
+                // if only properties changed, the satellites can be updated with a delta
+                flux = (flagsChanged || !specialPropFluxes.isEmpty() ?
+                        ctrlSatelliteUpdateCaller.updateSatellites(rsc.getResourceDefinition(), Flux.empty()) :
+                        ctrlSatelliteUpdateCaller.updateSatellitesWithDelta(rsc.getResourceDefinition(), Flux.empty()))
                     .flatMap(updateTuple -> updateTuple == null ? Flux.empty() : updateTuple.getT2())
                     .concatWith(autoFlux);
             }
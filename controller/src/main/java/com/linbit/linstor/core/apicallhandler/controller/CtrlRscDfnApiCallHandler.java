@@ -134,6 +134,11 @@ import reactor.core.publisher.Flux;
 @Singleton
 public class CtrlRscDfnApiCallHandler
 {
+    private static final String DRBD_QUORUM_KEY = ApiConsts.NAMESPC_DRBD_RESOURCE_OPTIONS + "/" +
+        InternalApiConsts.KEY_DRBD_QUORUM;
+    private static final String AUTO_TIEBREAKER_KEY = ApiConsts.NAMESPC_DRBD_OPTIONS + "/" +
+        ApiConsts.KEY_DRBD_AUTO_ADD_QUORUM_TIEBREAKER;
+
     private final ErrorReporter errorReporter;
     private final CtrlVlmDfnApiCallHandler vlmDfnHandler;
     private final CtrlVlmDfnCrtApiHelper ctrlVlmDfnCrtApiHelper;
@@ -469,6 +474,8 @@ public class CtrlRscDfnApiCallHandler
         Flux<ApiCallRc> autoFlux = Flux.empty();
         ApiCallRcImpl apiCallRcs = new ApiCallRcImpl();
         boolean notifyStlts = false;
+        // if only properties changed, the satellites can be updated with a delta
+        boolean propsOnlyChange = true;
 
         try
         {
@@ -501,6 +508,7 @@ public class CtrlRscDfnApiCallHandler
             if (portInt != null || newRscPeerSlots != null)
             {
                 notifyStlts = true;
+                propsOnlyChange = false;
                 // TODO: might be a good idea to create this object earlier
                 LayerPayload payload = new LayerPayload();
                 payload.getDrbdRscDfn().tcpPort = portInt;
@@ -524,6 +532,7 @@ public class CtrlRscDfnApiCallHandler
                     .buildPropsChangedListeners(rscDfn, specialPropFluxes);
 
                 checkProps(overrideProps, rscDfn);
+                propsOnlyChange &= !isAutoHelperManaged(overrideProps, deletePropKeys);
 
                 notifyStlts = ctrlPropsHelper.fillProperties(
                     apiCallRcs,
@@ -555,7 +564,7 @@ public class CtrlRscDfnApiCallHandler
                         context
                     )
                 ).concatWith(Flux.merge(specialPropFluxes));
-
+                propsOnlyChange &= specialPropFluxes.isEmpty();
             }
 
             if (!layerStackStrList.isEmpty())
@@ -573,6 +582,7 @@ public class CtrlRscDfnApiCallHandler
                     );
                 }
                 notifyStlts = true;
+                propsOnlyChange = false;
                 rscDfn.setLayerStack(layerStack);
             }
 
@@ -598,6 +608,7 @@ public class CtrlRscDfnApiCallHandler
 
                 rscDfn.setResourceGroup(rscGrp);
                 notifyStlts = true;
+                propsOnlyChange = false;
             }
 
             ctrlTransactionHelper.commit();
@@ -614,7 +625,9 @@ public class CtrlRscDfnApiCallHandler
             if (notifyStlts)
             {
                 flux = flux.concatWith(
-                    ctrlSatelliteUpdateCaller.updateSatellites(rscDfn, Flux.empty())
+                    (propsOnlyChange ?
+                        ctrlSatelliteUpdateCaller.updateSatellitesWithDelta(rscDfn, Flux.empty()) :
+                        ctrlSatelliteUpdateCaller.updateSatellites(rscDfn, Flux.empty()))
                         .flatMap(updateTuple -> updateTuple == null ? Flux.empty() : updateTuple.getT2())
                         .concatWith(autoFlux)
                 );
@@ -696,7 +709,7 @@ public class CtrlRscDfnApiCallHandler
             )
         );
 
-        String drbdQuorum = ApiConsts.NAMESPC_DRBD_RESOURCE_OPTIONS + "/" + InternalApiConsts.KEY_DRBD_QUORUM;
+        String drbdQuorum = DRBD_QUORUM_KEY;
         boolean drbdQuorumChanged = false;
         if (overrideProps.containsKey(drbdQuorum))
         {
@@ -710,7 +723,7 @@ public class CtrlRscDfnApiCallHandler
             drbdQuorumChanged = true;
         }
 
-        String autoTiebreakerKey = ApiConsts.NAMESPC_DRBD_OPTIONS + "/" + ApiConsts.KEY_DRBD_AUTO_ADD_QUORUM_TIEBREAKER;
+        String autoTiebreakerKey = AUTO_TIEBREAKER_KEY;
         if (overrideProps.containsKey(autoTiebreakerKey) || deletePropKeys.contains(autoTiebreakerKey) ||
             drbdQuorumChanged)
         {
@@ -732,6 +745,16 @@ public class CtrlRscDfnApiCallHandler
         return retFlux;
     }
 
+    /**
+     * Returns true if {@link #handleChangedProperties} will let the {@link CtrlRscAutoHelper} manage the resource
+     * definition, which might change more than just properties (i.e. tiebreaker resources).
+     */
+    private static boolean isAutoHelperManaged(Map<String, String> overrideProps, Set<String> deletePropKeys)
+    {
+        return overrideProps.containsKey(DRBD_QUORUM_KEY) || deletePropKeys.contains(DRBD_QUORUM_KEY) ||
+            overrideProps.containsKey(AUTO_TIEBREAKER_KEY) || deletePropKeys.contains(AUTO_TIEBREAKER_KEY);
+    }
+
     ArrayList<ResourceDefinitionApi> listResourceDefinitions(List<String> rscDfnNames, List<String> propFilters)
     {
         ArrayList<ResourceDefinitionApi> rscdfns = new ArrayList<>();
@@ -4,6 +4,7 @@ import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlRscDeltaTracker;
 import com.linbit.linstor.core.apicallhandler.response.ApiDatabaseException;
 import com.linbit.linstor.core.apicallhandler.response.ApiOperation;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
@@ -41,6 +42,7 @@ public class CtrlRscDfnDeleteApiCallHandler implements CtrlSatelliteConnectionLi
     private final ResponseConverter responseConverter;
     private final LockGuardFactory lockGuardFactory;
     private final CtrlRscDfnTruncateApiCallHandler ctrlRscDfnTruncateApiCallHandler;
+    private final CtrlRscDeltaTracker rscDeltaTracker;
 
     @Inject
     public CtrlRscDfnDeleteApiCallHandler(
@@ -50,7 +52,8 @@ public class CtrlRscDfnDeleteApiCallHandler implements CtrlSatelliteConnectionLi
         ResourceDefinitionRepository resourceDefinitionRepositoryRef,
         ResponseConverter responseConverterRef,
         LockGuardFactory lockGuardFactoryRef,
-        CtrlRscDfnTruncateApiCallHandler ctrlRscDfnTruncateApiCallHandlerRef
+        CtrlRscDfnTruncateApiCallHandler ctrlRscDfnTruncateApiCallHandlerRef,
+        CtrlRscDeltaTracker rscDeltaTrackerRef
     )
     {
         scopeRunner = scopeRunnerRef;
@@ -60,6 +63,7 @@ public class CtrlRscDfnDeleteApiCallHandler implements CtrlSatelliteConnectionLi
         responseConverter = responseConverterRef;
         lockGuardFactory = lockGuardFactoryRef;
         ctrlRscDfnTruncateApiCallHandler = ctrlRscDfnTruncateApiCallHandlerRef;
+        rscDeltaTracker = rscDeltaTrackerRef;
     }
 
     @Override
@@ -211,6 +215,7 @@ public class CtrlRscDfnDeleteApiCallHandler implements CtrlSatelliteConnectionLi
     private void removeResourceDefinitionPriveleged(ResourceName rscName, byte[] externalName)
     {
         resourceDefinitionRepository.remove(rscName, externalName);
+        rscDeltaTracker.forget(rscName);
     }
 
 }
@@ -1,6 +1,7 @@
 package com.linbit.linstor.core.apicallhandler.controller;
 
 import com.linbit.linstor.LinStorException;
+import com.linbit.linstor.LinstorParsingUtils;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
@@ -11,7 +12,10 @@ import com.linbit.linstor.core.CtrlSecurityObjects;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.response.ResponseUtils;
 import com.linbit.linstor.core.apis.StorPoolApi;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.objects.CtrlPropsIndexes;
 import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.StorPoolDefinition;
 import com.linbit.linstor.core.repository.StorPoolDefinitionRepository;
 import com.linbit.linstor.core.repository.SystemConfRepository;
 import com.linbit.linstor.netcom.Peer;
@@ -31,9 +35,13 @@ import javax.inject.Singleton;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.slf4j.MDC;
 import reactor.core.publisher.Flux;
@@ -51,6 +59,7 @@ public class CtrlStorPoolListApiCallHandler
     private final DecryptionHelper decryptionHelper;
     private final CtrlSecurityObjects secObjs;
     private final SystemConfRepository sysCfgRepo;
+    private final CtrlPropsIndexes propsIndexes;
 
     @Inject
     public CtrlStorPoolListApiCallHandler(
@@ -60,7 +69,8 @@ public class CtrlStorPoolListApiCallHandler
         StorPoolDefinitionRepository storPoolDefinitionRepositoryRef,
         DecryptionHelper decryptionHelperRef,
         CtrlSecurityObjects secObjsRef,
-        SystemConfRepository sysCfgRepoRef
+        SystemConfRepository sysCfgRepoRef,
+        CtrlPropsIndexes propsIndexesRef
     )
     {
         scopeRunner = scopeRunnerRef;
@@ -70,6 +80,7 @@ public class CtrlStorPoolListApiCallHandler
         decryptionHelper = decryptionHelperRef;
         secObjs = secObjsRef;
         sysCfgRepo = sysCfgRepoRef;
+        propsIndexes = propsIndexesRef;
     }
 
     public Flux<List<StorPoolApi>> listStorPools(
@@ -87,7 +98,7 @@ public class CtrlStorPoolListApiCallHandler
             flux = scopeRunner.fluxInTransactionlessScope(
                 "Assemble storage pool list from Cache",
                 lockGuardFactory.buildDeferred(READ, STOR_POOL_DFN_MAP),
-                () -> Flux.just(assembleList(nodesFilter, storPoolsFilter, propFilters, null))
+                () -> Flux.just(assembleList(nodeNames, nodesFilter, storPoolNames, storPoolsFilter, propFilters, null))
             );
         }
         else
@@ -97,7 +108,16 @@ public class CtrlStorPoolListApiCallHandler
                     freeCapacityAnswers -> scopeRunner.fluxInTransactionlessScope(
                         "Assemble storage pool list",
                         lockGuardFactory.buildDeferred(LockType.WRITE, LockObj.STOR_POOL_DFN_MAP),
-                        () -> Flux.just(assembleList(nodesFilter, storPoolsFilter, propFilters, freeCapacityAnswers)),
+                        () -> Flux.just(
+                            assembleList(
+                                nodeNames,
+                                nodesFilter,
+                                storPoolNames,
+                                storPoolsFilter,
+                                propFilters,
+                                freeCapacityAnswers
+                            )
+                        ),
                         MDC.getCopyOfContextMap()
                     )
                 );
@@ -116,7 +136,7 @@ public class CtrlStorPoolListApiCallHandler
 
         try (LockGuard ignored = lockGuardFactory.build(READ, STOR_POOL_DFN_MAP))
         {
-            return assembleList(nodesFilter, storPoolsFilter, propFilters, null);
+            return assembleList(nodeNames, nodesFilter, storPoolNames, storPoolsFilter, propFilters, null);
         }
     }
 
@@ -156,7 +176,9 @@ public class CtrlStorPoolListApiCallHandler
     }
 
     private List<StorPoolApi> assembleList(
+        List<String> nodeNames,
         List<Pattern> nodesFilter,
+        List<String> storPoolNames,
         List<Pattern> storPoolsFilter,
         List<String> propFilters,
         @Nullable Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> freeCapacityAnswers
@@ -164,83 +186,134 @@ public class CtrlStorPoolListApiCallHandler
     {
         ArrayList<StorPoolApi> storPools = new ArrayList<>();
         ReadOnlyProps ctrlProps = sysCfgRepo.getCtrlConfForView();
-        storPoolDefinitionRepository.getMapForView().values().stream()
+        List<StorPool> candidates = streamCandidates(nodeNames, storPoolNames, storPoolsFilter, propFilters)
             .filter(
-                storPoolDfn -> RegexMatcher.matchesAny(storPoolsFilter, storPoolDfn.getName().displayValue)
+                storPool -> RegexMatcher.matchesAny(storPoolsFilter, storPool.getName().displayValue) &&
+                    RegexMatcher.matchesAny(nodesFilter, storPool.getNode().getName().displayValue)
             )
-            .forEach(
-                storPoolDfn ->
+            .collect(toList());
+        for (StorPool storPool : candidates)
+        {
+            ReadOnlyProps props = storPool.getProps();
+            if (props.contains(propFilters))
+            {
+                Long freeCapacity;
+                Long totalCapacity;
+
+                final Tuple2<SpaceInfo, List<ApiCallRc>> storageInfo = freeCapacityAnswers != null ?
+                    freeCapacityAnswers.get(new StorPool.Key(storPool)) : null;
+
+                storPool.clearReports();
+                Peer peer = storPool.getNode().getPeer();
+                if (!peer.isOnline())
+                {
+                    freeCapacity = null;
+                    totalCapacity = null;
+                    storPool.addReports(
+                        new ApiCallRcImpl(
+                            ResponseUtils.makeNotConnectedWarning(storPool.getNode().getName())
+                        )
+                    );
+                }
+                else
+                if (storageInfo == null)
+                {
+                    freeCapacity = storPool.getFreeSpaceTracker()
+                        .getFreeCapacityLastUpdated().orElse(null);
+                    totalCapacity = storPool.getFreeSpaceTracker()
+                        .getTotalCapacity().orElse(null);
+                }
+                else
                 {
-                    for (StorPool storPool : storPoolDfn.streamStorPools()
-                        .filter(storPool -> RegexMatcher.matchesAny(
-                            nodesFilter, storPool.getNode().getName().displayValue))
-                        .collect(toList()))
+                    SpaceInfo spaceInfo = storageInfo.getT1();
+                    for (ApiCallRc apiCallRc : storageInfo.getT2())
                     {
-                        ReadOnlyProps props = storPool.getProps();
-                        if (props.contains(propFilters))
-                        {
-                            Long freeCapacity;
-                            Long totalCapacity;
-
-                            final Tuple2<SpaceInfo, List<ApiCallRc>> storageInfo = freeCapacityAnswers != null ?
-                                freeCapacityAnswers.get(new StorPool.Key(storPool)) : null;
-
-                            storPool.clearReports();
-                            Peer peer = storPool.getNode().getPeer();
-                            if (!peer.isOnline())
-                            {
-                                freeCapacity = null;
-                                totalCapacity = null;
-                                storPool.addReports(
-                                    new ApiCallRcImpl(
-                                        ResponseUtils.makeNotConnectedWarning(storPool.getNode().getName())
-                                    )
-                                );
-                            }
-                            else
-                            if (storageInfo == null)
-                            {
-                                freeCapacity = storPool.getFreeSpaceTracker()
-                                    .getFreeCapacityLastUpdated().orElse(null);
-                                totalCapacity = storPool.getFreeSpaceTracker()
-                                    .getTotalCapacity().orElse(null);
-                            }
-                            else
-                            {
-                                SpaceInfo spaceInfo = storageInfo.getT1();
-                                for (ApiCallRc apiCallRc : storageInfo.getT2())
-                                {
-                                    storPool.addReports(apiCallRc);
-                                }
-
-                                freeCapacity = spaceInfo.freeCapacity;
-                                totalCapacity = spaceInfo.totalCapacity;
-                            }
-
-                            // fullSyncId and updateId null, as they are not going to be serialized anyway
-                            StorPoolApi apiData = storPool.getApiData(
-                                totalCapacity,
-                                freeCapacity,
-                                null,
-                                null,
-                                FreeCapacityAutoPoolSelectorUtils
-                                    .getFreeCapacityOversubscriptionRatioPrivileged(
-                                        storPool,
-                                        ctrlProps
-                                    ),
-                                FreeCapacityAutoPoolSelectorUtils
-                                    .getTotalCapacityOversubscriptionRatioPrivileged(
-                                        storPool,
-                                        ctrlProps
-                                    )
-                            );
-                            patchStorPoolProps(apiData.getStorPoolProps());
-                            storPools.add(apiData);
-                        }
+                        storPool.addReports(apiCallRc);
                     }
+
+                    freeCapacity = spaceInfo.freeCapacity;
+                    totalCapacity = spaceInfo.totalCapacity;
                 }
-            );
+
+                // fullSyncId and updateId null, as they are not going to be serialized anyway
+                StorPoolApi apiData = storPool.getApiData(
+                    totalCapacity,
+                    freeCapacity,
+                    null,
+                    null,
+                    FreeCapacityAutoPoolSelectorUtils
+                        .getFreeCapacityOversubscriptionRatioPrivileged(
+                            storPool,
+                            ctrlProps
+                        ),
+                    FreeCapacityAutoPoolSelectorUtils
+                        .getTotalCapacityOversubscriptionRatioPrivileged(
+                            storPool,
+                            ctrlProps
+                        )
+                );
+                patchStorPoolProps(apiData.getStorPoolProps());
+                storPools.add(apiData);
+            }
+        }
 
         return storPools;
     }
+
+    /**
+     * Returns the storage pools that might match the given filters, sorted by storage pool name and node name. Exact
+     * property filters on indexed keys and plain (non-regex) storage pool or node names are answered without
+     * iterating all storage pools.
+     */
+    private Stream<StorPool> streamCandidates(
+        List<String> nodeNames,
+        List<String> storPoolNames,
+        List<Pattern> storPoolsFilter,
+        List<String> propFilters
+    )
+    {
+        Stream<StorPool> storPoolStream;
+        @Nullable Set<StorPool> indexedStorPools = propsIndexes.getStorPoolIndex().lookupCandidates(propFilters);
+        if (indexedStorPools != null)
+        {
+            storPoolStream = indexedStorPools.stream()
+                .sorted(
+                    Comparator.comparing(StorPool::getName).thenComparing(storPool -> storPool.getNode().getName())
+                );
+        }
+        else
+        {
+            Stream<StorPoolDefinition> storPoolDfnStream;
+            if (RegexMatcher.isAllLiterals(storPoolNames))
+            {
+                storPoolDfnStream = LinstorParsingUtils.asExactNames(storPoolNames, LinstorParsingUtils::asStorPoolName)
+                    .stream()
+                    .map(storPoolDefinitionRepository::get)
+                    .filter(Objects::nonNull);
+            }
+            else
+            {
+                storPoolDfnStream = storPoolDefinitionRepository.getMapForView().values().stream()
+                    .filter(
+                        storPoolDfn -> RegexMatcher.matchesAny(storPoolsFilter, storPoolDfn.getName().displayValue)
+                    );
+            }
+
+            if (RegexMatcher.isAllLiterals(nodeNames))
+            {
+                Set<NodeName> exactNodeNames = LinstorParsingUtils.asExactNames(
+                    nodeNames,
+                    LinstorParsingUtils::asNodeName
+                );
+                storPoolStream = storPoolDfnStream.flatMap(
+                    storPoolDfn -> exactNodeNames.stream().map(storPoolDfn::getStorPool).filter(Objects::nonNull)
+                );
+            }
+            else
+            {
+                storPoolStream = storPoolDfnStream.flatMap(StorPoolDefinition::streamStorPools);
+            }
+        }
+        return storPoolStream;
+    }
 }
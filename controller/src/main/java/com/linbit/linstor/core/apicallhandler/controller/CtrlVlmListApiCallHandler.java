@@ -2,31 +2,37 @@ package com.linbit.linstor.core.apicallhandler.controller;
 
 import com.linbit.linstor.LinstorParsingUtils;
 import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.api.ApiCallRcImpl;
+import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.pojo.EffectivePropertiesPojo;
 import com.linbit.linstor.api.pojo.RscPojo;
 import com.linbit.linstor.core.StltConfigAccessor;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
+import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.apis.ResourceConnectionApi;
 import com.linbit.linstor.core.apis.VolumeApi;
+import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.core.objects.CtrlPropsIndexes;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.ResourceConnection;
+import com.linbit.linstor.core.objects.ResourceDefinition;
 import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.core.objects.VolumeDefinition;
 import com.linbit.linstor.core.repository.NodeRepository;
 import com.linbit.linstor.core.repository.ResourceDefinitionRepository;
 import com.linbit.linstor.netcom.Peer;
-import com.linbit.linstor.propscon.ReadOnlyProps;
 import com.linbit.linstor.satellitestate.SatelliteState;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
 import com.linbit.linstor.storage.kinds.DeviceLayerKind;
 import com.linbit.linstor.storage.utils.LayerUtils;
 import com.linbit.locks.LockGuard;
 import com.linbit.locks.LockGuardFactory;
+import com.linbit.utils.Pair;
 import com.linbit.utils.RegexMatcher;
 
 import static com.linbit.locks.LockGuardFactory.LockObj.NODES_MAP;
@@ -36,30 +42,38 @@ import static com.linbit.locks.LockGuardFactory.LockType.READ;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.MDC;
 import reactor.core.publisher.Flux;
 
-import static java.util.stream.Collectors.toList;
-
 @Singleton
 public class CtrlVlmListApiCallHandler
 {
+    // neither resource nor node names may contain a '/'
+    private static final char CURSOR_SEPARATOR = '/';
+
     private final ScopeRunner scopeRunner;
     private final VlmAllocatedFetcher vlmAllocatedFetcher;
     private final ResourceDefinitionRepository resourceDefinitionRepository;
     private final NodeRepository nodeRepository;
     private final LockGuardFactory lockGuardFactory;
     private final StltConfigAccessor stltCfgAccessor;
+    private final CtrlPropsIndexes propsIndexes;
 
     @Inject
     public CtrlVlmListApiCallHandler(
@@ -68,7 +82,8 @@ public class CtrlVlmListApiCallHandler
         ResourceDefinitionRepository resourceDefinitionRepositoryRef,
         NodeRepository nodeRepositoryRef,
         LockGuardFactory lockGuardFactoryRef,
-        StltConfigAccessor stltCfgAccessorRef
+        StltConfigAccessor stltCfgAccessorRef,
+        CtrlPropsIndexes propsIndexesRef
     )
     {
         scopeRunner = scopeRunnerRef;
@@ -77,6 +92,7 @@ public class CtrlVlmListApiCallHandler
         nodeRepository = nodeRepositoryRef;
         lockGuardFactory = lockGuardFactoryRef;
         stltCfgAccessor = stltCfgAccessorRef;
+        propsIndexes = propsIndexesRef;
     }
 
     public Flux<ResourceList> listVlms(
@@ -85,22 +101,69 @@ public class CtrlVlmListApiCallHandler
         List<String> resources,
         List<String> propFilters
     )
+    {
+        return listVlms(nodeNames, storPools, resources, propFilters, 0, 0, null, 0);
+    }
+
+    /**
+     * Like {@link #listVlms(List, List, List, List)}, but only assembles the requested page of resources, so that the
+     * cost of a request does not depend on the number of resources in the whole cluster.
+     *
+     * @param limit maximum number of resources to return, 0 for no limit
+     * @param offset number of matching resources to skip (after the cursor, if given)
+     * @param cursor the {@link ResourceList#getNextCursor()} of the previous page, or null to start with the first
+     *     resource
+     * @param maxAgeMillis how old the allocated sizes of a node may be before its satellite has to be queried again,
+     *     0 to always query the satellites
+     */
+    public Flux<ResourceList> listVlms(
+        List<String> nodeNames,
+        List<String> storPools,
+        List<String> resources,
+        List<String> propFilters,
+        int limit,
+        int offset,
+        @Nullable String cursor,
+        long maxAgeMillis
+    )
     {
         final List<Pattern> nodesFilter = RegexMatcher.compileAll(nodeNames, true);
         final List<Pattern> storPoolsFilter = RegexMatcher.compileAll(storPools, true);
         final List<Pattern> resourceFilter = RegexMatcher.compileAll(resources, true);
 
+        final @Nullable Pair<ResourceName, NodeName> startAfter;
+        try
+        {
+            startAfter = cursor == null ? null : decodeCursor(cursor);
+        }
+        catch (ApiRcException exc)
+        {
+            return Flux.error(exc);
+        }
+        final Page page = new Page(Math.max(limit, 0), Math.max(offset, 0), startAfter);
+
         return vlmAllocatedFetcher.fetchVlmAllocated(
                 nodesFilter,
                 resolveFetchStorPools(storPools),
-                resolveFetchResources(resources)
+                resolveFetchResources(resources),
+                maxAgeMillis
             )
             .flatMapMany(vlmAllocatedAnswers ->
                 scopeRunner.fluxInTransactionlessScope(
                     "Assemble volume list",
                     lockGuardFactory.buildDeferred(READ, NODES_MAP, RSC_DFN_MAP),
                     () -> Flux.just(
-                        assembleList(nodesFilter, storPoolsFilter, resourceFilter, propFilters, vlmAllocatedAnswers)),
+                        assembleList(
+                            nodeNames,
+                            nodesFilter,
+                            storPoolsFilter,
+                            resources,
+                            resourceFilter,
+                            propFilters,
+                            vlmAllocatedAnswers,
+                            page
+                        )
+                    ),
                     MDC.getCopyOfContextMap()
                 )
             );
@@ -109,117 +172,64 @@ public class CtrlVlmListApiCallHandler
     /**
      *
      * @param vlmAllocatedAnswers if null an cached result will be returned
+     * @param page the part of the matching resources to assemble
      * @return Filtered ResourceList result
      */
     private ResourceList assembleList(
+        List<String> nodeNames,
         List<Pattern> nodesFilter,
         List<Pattern> storPoolsFilter,
+        List<String> resources,
         List<Pattern> resourceFilter,
         List<String> propFilters,
-        final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers
+        final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers,
+        Page page
     )
     {
         ResourceList rscList = new ResourceList();
-        resourceDefinitionRepository.getMapForView().values().stream()
-            .filter(rscDfn -> RegexMatcher.matchesAny(resourceFilter, rscDfn.getName().displayValue))
-            .forEach(rscDfn ->
+        Set<Node> pageNodes = new HashSet<>();
+        int toSkip = page.offset;
+        @Nullable Resource lastRsc = null;
+        boolean pageFull = false;
+
+        Iterator<Resource> rscIt = iterateCandidates(nodeNames, resources, resourceFilter, propFilters, page);
+        while (!pageFull && rscIt.hasNext())
+        {
+            Resource rsc = rscIt.next();
+            ResourceDefinition rscDfn = rsc.getResourceDefinition();
+            if (!page.isBeforeCursor(rscDfn.getName(), rsc.getNode().getName()) &&
+                RegexMatcher.matchesAny(resourceFilter, rscDfn.getName().displayValue) &&
+                RegexMatcher.matchesAny(nodesFilter, rsc.getNode().getName().displayValue) &&
+                // prop filter
+                rsc.getProps().contains(propFilters))
             {
-                for (Resource rsc : rscDfn.streamResource()
-                    .filter(rsc -> RegexMatcher.matchesAny(
-                        nodesFilter, rsc.getNode().getName().displayValue))
-                    .collect(toList()))
+                List<Volume> volumes = getMatchingVolumes(rsc, storPoolsFilter);
+                if (!volumes.isEmpty())
                 {
-                    // prop filter
-                    final ReadOnlyProps props = rsc.getProps();
-                    if (props.contains(propFilters))
+                    if (toSkip > 0)
+                    {
+                        --toSkip;
+                    }
+                    else
+                    if (page.limit > 0 && rscList.getResources().size() >= page.limit)
                     {
-                        // create our api object ourselves to filter the volumes by storage pools
-
-                        // build volume list filtered by storage pools (if provided)
-                        List<VolumeApi> volumes = new ArrayList<>();
-                        List<AbsRscLayerObject<Resource>> storageRscList = LayerUtils
-                            .getChildLayerDataByKind(
-                            rsc.getLayerData(),
-                            DeviceLayerKind.STORAGE
-                        );
-                        Iterator<Volume> itVolumes = rsc.iterateVolumes();
-                        while (itVolumes.hasNext())
-                        {
-                            Volume vlm = itVolumes.next();
-                            boolean addToList = storPoolsFilter.isEmpty();
-                            if (!addToList)
-                            {
-                                VolumeNumber vlmNr = vlm.getVolumeDefinition().getVolumeNumber();
-                                for (AbsRscLayerObject<Resource> storageRsc : storageRscList)
-                                {
-                                    if (RegexMatcher.matchesAny(
-                                        storPoolsFilter,
-                                        storageRsc.getVlmProviderObject(vlmNr).getStorPool().getName()
-                                            .displayValue)
-                                    )
-                                    {
-                                        addToList = true;
-                                        break;
-                                    }
-                                }
-                            }
-                            if (addToList)
-                            {
-                                if (vlmAllocatedAnswers != null)
-                                {
-                                    VlmAllocatedResult vlmAllocResult = vlmAllocatedAnswers.get(vlm.getKey());
-                                    if (vlmAllocResult != null)
-                                    {
-                                        vlm.clearReports();
-                                        vlm.addReports(vlmAllocResult.getApiCallRc());
-                                    }
-                                }
-                                volumes.add(vlm.getApiData(
-                                    getAllocated(
-                                        vlmAllocatedAnswers, vlm)
-                                    )
-                                );
-                            }
-                        }
-
-                        List<ResourceConnectionApi> rscConns = new ArrayList<>();
-                        for (ResourceConnection rscConn : rsc.getAbsResourceConnections())
-                        {
-                            rscConns.add(rscConn.getApiData());
-                        }
-
-                        if (!volumes.isEmpty())
-                        {
-                            EffectivePropertiesPojo propsPojo = rsc.getEffectiveProps(
-                                stltCfgAccessor
-                            );
-
-                            RscPojo filteredRscVlms = new RscPojo(
-                                rscDfn.getName().getDisplayName(),
-                                rsc.getNode().getName().getDisplayName(),
-                                rsc.getNode().getUuid(),
-                                rscDfn.getApiData(),
-                                rsc.getUuid(),
-                                rsc.getStateFlags().getFlagsBits(),
-                                rsc.getProps().map(),
-                                volumes,
-                                null,
-                                rscConns,
-                                null,
-                                null,
-                                rsc.getLayerData().asPojo(),
-                                rsc.getCreateTimestamp().orElse(null),
-                                propsPojo
-                            );
-                            rscList.addResource(filteredRscVlms);
-                        }
+                        // there is at least one more matching resource, so the client needs a cursor
+                        rscList.setNextCursor(encodeCursor(lastRsc));
+                        pageFull = true;
+                    }
+                    else
+                    {
+                        rscList.addResource(buildRscApi(rsc, volumes, vlmAllocatedAnswers));
+                        pageNodes.add(rsc.getNode());
+                        lastRsc = rsc;
                     }
                 }
             }
-            );
+        }
 
-        // get resource states of all nodes
-        for (final Node node : nodeRepository.getMapForView().values())
+        // get resource states of all nodes (only of the nodes of the returned resources if only a page was requested)
+        Collection<Node> nodes = page.isPaged() ? pageNodes : nodeRepository.getMapForView().values();
+        for (final Node node : nodes)
         {
             final Peer satellite = node.getPeer();
             Lock readLock = satellite.getSatelliteStateLock().readLock();
@@ -242,6 +252,223 @@ public class CtrlVlmListApiCallHandler
         return rscList;
     }
 
+    /**
+     * Returns all resources that might match the given filters, sorted by resource name and node name (which is what
+     * makes the cursor work). Instead of iterating all resources, exact property filters on indexed keys are answered
+     * by the property index and plain (non-regex) resource or node names are looked up directly. The caller still
+     * has to check every returned resource against all filters.
+     */
+    private Iterator<Resource> iterateCandidates(
+        List<String> nodeNames,
+        List<String> resources,
+        List<Pattern> resourceFilter,
+        List<String> propFilters,
+        Page page
+    )
+    {
+        Iterator<Resource> rscIt;
+        @Nullable Set<Resource> indexedRscs = propsIndexes.getRscIndex().lookupCandidates(propFilters);
+        if (indexedRscs != null)
+        {
+            rscIt = sorted(indexedRscs.stream());
+        }
+        else
+        if (RegexMatcher.isAllLiterals(resources))
+        {
+            rscIt = LinstorParsingUtils.asExactNames(resources, LinstorParsingUtils::asRscName).stream()
+                .map(resourceDefinitionRepository::get)
+                .filter(Objects::nonNull)
+                .flatMap(rscDfn -> streamResources(rscDfn, nodeNames))
+                .iterator();
+        }
+        else
+        if (RegexMatcher.isAllLiterals(nodeNames))
+        {
+            rscIt = sorted(
+                LinstorParsingUtils.asExactNames(nodeNames, LinstorParsingUtils::asNodeName).stream()
+                    .map(nodeRepository::get)
+                    .filter(Objects::nonNull)
+                    .flatMap(Node::streamResources)
+            );
+        }
+        else
+        {
+            rscIt = resourceDefinitionRepository.getMapForView().values().stream()
+                .filter(
+                    rscDfn -> !page.isBeforeCursor(rscDfn.getName()) &&
+                        RegexMatcher.matchesAny(resourceFilter, rscDfn.getName().displayValue)
+                )
+                .flatMap(ResourceDefinition::streamResource)
+                .iterator();
+        }
+        return rscIt;
+    }
+
+    private static Stream<Resource> streamResources(ResourceDefinition rscDfn, List<String> nodeNames)
+    {
+        Stream<Resource> rscStream;
+        if (RegexMatcher.isAllLiterals(nodeNames))
+        {
+            rscStream = LinstorParsingUtils.asExactNames(nodeNames, LinstorParsingUtils::asNodeName).stream()
+                .map(rscDfn::getResource)
+                .filter(Objects::nonNull);
+        }
+        else
+        {
+            rscStream = rscDfn.streamResource();
+        }
+        return rscStream;
+    }
+
+    private static Iterator<Resource> sorted(Stream<Resource> rscStream)
+    {
+        return rscStream
+            .sorted(
+                Comparator.comparing((Resource rsc) -> rsc.getResourceDefinition().getName())
+                    .thenComparing(rsc -> rsc.getNode().getName())
+            )
+            .iterator();
+    }
+
+    /**
+     * Returns the volumes of the given resource, filtered by storage pools (if provided)
+     */
+    private List<Volume> getMatchingVolumes(Resource rsc, List<Pattern> storPoolsFilter)
+    {
+        List<Volume> volumes = new ArrayList<>();
+        List<AbsRscLayerObject<Resource>> storageRscList = LayerUtils
+            .getChildLayerDataByKind(
+            rsc.getLayerData(),
+            DeviceLayerKind.STORAGE
+        );
+        Iterator<Volume> itVolumes = rsc.iterateVolumes();
+        while (itVolumes.hasNext())
+        {
+            Volume vlm = itVolumes.next();
+            boolean addToList = storPoolsFilter.isEmpty();
+            if (!addToList)
+            {
+                VolumeNumber vlmNr = vlm.getVolumeDefinition().getVolumeNumber();
+                for (AbsRscLayerObject<Resource> storageRsc : storageRscList)
+                {
+                    if (RegexMatcher.matchesAny(
+                        storPoolsFilter,
+                        storageRsc.getVlmProviderObject(vlmNr).getStorPool().getName()
+                            .displayValue)
+                    )
+                    {
+                        addToList = true;
+                        break;
+                    }
+                }
+            }
+            if (addToList)
+            {
+                volumes.add(vlm);
+            }
+        }
+        return volumes;
+    }
+
+    private RscPojo buildRscApi(
+        Resource rsc,
+        List<Volume> volumes,
+        final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers
+    )
+    {
+        // create our api object ourselves to filter the volumes by storage pools
+        List<VolumeApi> vlmApis = new ArrayList<>();
+        for (Volume vlm : volumes)
+        {
+            if (vlmAllocatedAnswers != null)
+            {
+                VlmAllocatedResult vlmAllocResult = vlmAllocatedAnswers.get(vlm.getKey());
+                if (vlmAllocResult != null)
+                {
+                    vlm.clearReports();
+                    vlm.addReports(vlmAllocResult.getApiCallRc());
+                }
+            }
+            vlmApis.add(vlm.getApiData(getAllocated(vlmAllocatedAnswers, vlm)));
+        }
+
+        List<ResourceConnectionApi> rscConns = new ArrayList<>();
+        for (ResourceConnection rscConn : rsc.getAbsResourceConnections())
+        {
+            rscConns.add(rscConn.getApiData());
+        }
+
+        ResourceDefinition rscDfn = rsc.getResourceDefinition();
+        EffectivePropertiesPojo propsPojo = rsc.getEffectiveProps(
+            stltCfgAccessor
+        );
+
+        return new RscPojo(
+            rscDfn.getName().getDisplayName(),
+            rsc.getNode().getName().getDisplayName(),
+            rsc.getNode().getUuid(),
+            rscDfn.getApiData(),
+            rsc.getUuid(),
+            rsc.getStateFlags().getFlagsBits(),
+            rsc.getProps().map(),
+            vlmApis,
+            null,
+            rscConns,
+            null,
+            null,
+            rsc.getLayerData().asPojo(),
+            rsc.getCreateTimestamp().orElse(null),
+            propsPojo
+        );
+    }
+
+    /**
+     * The cursor is the (base64 encoded) name of the last returned resource, i.e. the next page starts with the
+     * resource following it. Unlike an offset, this stays correct if resources are created or deleted between the
+     * requests of two pages.
+     */
+    private static @Nullable String encodeCursor(@Nullable Resource lastRsc)
+    {
+        @Nullable String cursor = null;
+        if (lastRsc != null)
+        {
+            String key = lastRsc.getResourceDefinition().getName().displayValue + CURSOR_SEPARATOR +
+                lastRsc.getNode().getName().displayValue;
+            cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+        }
+        return cursor;
+    }
+
+    private static Pair<ResourceName, NodeName> decodeCursor(String cursor)
+    {
+        String key;
+        try
+        {
+            key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException exc)
+        {
+            throw invalidCursor(cursor, exc);
+        }
+        int sepIdx = key.indexOf(CURSOR_SEPARATOR);
+        if (sepIdx < 0)
+        {
+            throw invalidCursor(cursor, null);
+        }
+        return new Pair<>(
+            LinstorParsingUtils.asRscName(key.substring(0, sepIdx)),
+            LinstorParsingUtils.asNodeName(key.substring(sepIdx + 1))
+        );
+    }
+
+    private static ApiRcException invalidCursor(String cursor, @Nullable Exception cause)
+    {
+        return new ApiRcException(
+            ApiCallRcImpl.simpleEntry(ApiConsts.FAIL_INVLD_REQUEST, "The given cursor '" + cursor + "' is invalid."),
+            cause
+        );
+    }
+
     private long getAllocated(
         final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedCapacities,
         Volume vlm
@@ -325,7 +552,7 @@ public class CtrlVlmListApiCallHandler
 
         try (LockGuard ignored = lockGuardFactory.build(READ, NODES_MAP, RSC_DFN_MAP))
         {
-            return assembleList(nodesFilter, storPoolsFilter, resourceFilter, propFilters, null);
+            return assembleList(nodesFilter, storPoolsFilter, resourceFilter, propFilters, null, Page.ALL);
         }
     }
 
@@ -400,4 +627,47 @@ public class CtrlVlmListApiCallHandler
     {
         return "Volume '" + vlmNr + "' on resource '" + rscNameStr + "' on node '" + nodeNameStr + "'";
     }
+
+    private static class Page
+    {
+        private static final Page ALL = new Page(0, 0, null);
+
+        private final int limit;
+        private final int offset;
+        private final @Nullable Pair<ResourceName, NodeName> startAfter;
+
+        Page(int limitRef, int offsetRef, @Nullable Pair<ResourceName, NodeName> startAfterRef)
+        {
+            limit = limitRef;
+            offset = offsetRef;
+            startAfter = startAfterRef;
+        }
+
+        boolean isPaged()
+        {
+            return limit > 0 || offset > 0 || startAfter != null;
+        }
+
+        /**
+         * Returns true if all resources of the given resource definition were already returned by previous pages
+         */
+        boolean isBeforeCursor(ResourceName rscName)
+        {
+            return startAfter != null && rscName.compareTo(startAfter.objA) < 0;
+        }
+
+        /**
+         * Returns true if the given resource was already returned by previous pages
+         */
+        boolean isBeforeCursor(ResourceName rscName, NodeName nodeName)
+        {
+            boolean before = false;
+            if (startAfter != null)
+            {
+                int cmp = rscName.compareTo(startAfter.objA);
+                before = cmp < 0 || cmp == 0 && nodeName.compareTo(startAfter.objB) <= 0;
+            }
+            return before;
+        }
+    }
 }
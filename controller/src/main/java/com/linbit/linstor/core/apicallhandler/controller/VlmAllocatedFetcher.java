@@ -31,4 +31,21 @@ public interface VlmAllocatedFetcher
         Set<StorPoolName> storPoolFilter,
         Set<ResourceName> resourceFilter
     );
+
+    /**
+     * Like {@link #fetchVlmAllocated(List, Set, Set)}, but nodes whose last complete answer (i.e. one that was not
+     * narrowed by a storage pool or resource filter) is at most <code>maxAgeMillis</code> old are not queried again.
+     * Their cached answer is returned instead. A <code>maxAgeMillis</code> of 0 queries all nodes.
+     */
+    Mono<Map<Volume.Key, VlmAllocatedResult>> fetchVlmAllocated(
+        List<Pattern> nodeNameFilters,
+        Set<StorPoolName> storPoolFilter,
+        Set<ResourceName> resourceFilter,
+        long maxAgeMillis
+    );
+
+    /**
+     * Drops the cached answer of the given node, e.g. because the node was deleted or lost its connection
+     */
+    void invalidate(NodeName nodeName);
 }
@@ -4,6 +4,7 @@ import com.linbit.ImplementationError;
 import com.linbit.InvalidNameException;
 import com.linbit.ValueOutOfRangeException;
 import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.api.protobuf.ProtoDeserializationUtils;
@@ -39,8 +40,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -62,6 +64,14 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
     private final CtrlApiDataLoader ctrlApiDataLoader;
     private final NodeRepository nodeRepository;
 
+    /*
+     * The last complete answer of every node. Filled by every request that is not narrowed by a storage pool or
+     * resource filter, which includes the periodic UpdateSpaceInfoTask.
+     * An answer is only used as long as the node, its connection and its thin volumes are the same as when the node
+     * was queried. Stale answers are dropped on every fetch.
+     */
+    private final ConcurrentHashMap<NodeName, CachedAnswer> answerCache = new ConcurrentHashMap<>();
+
     @Inject
     public VlmAllocatedFetcherProto(
         ScopeRunner scopeRunnerRef,
@@ -89,7 +99,17 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         Set<ResourceName> resourceFilter
     )
     {
-        return fetchVlmAllocated(() -> requestVlmAllocated(nodesFilter, storPoolFilter, resourceFilter));
+        boolean complete = storPoolFilter.isEmpty() && resourceFilter.isEmpty();
+        return fetchVlmAllocated(
+            (cachedResults, queriedNodes) -> requestVlmAllocated(
+                nodesFilter,
+                storPoolFilter,
+                resourceFilter,
+                queriedNodes
+            ),
+            complete,
+            0
+        );
     }
 
     @Override
@@ -99,59 +119,193 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         Set<ResourceName> resourceFilter
     )
     {
-        return fetchVlmAllocated(() -> requestVlmAllocated(nodeNameFilters, storPoolFilter, resourceFilter));
+        return fetchVlmAllocated(nodeNameFilters, storPoolFilter, resourceFilter, 0);
+    }
+
+    @Override
+    public Mono<Map<Volume.Key, VlmAllocatedResult>> fetchVlmAllocated(
+        List<Pattern> nodeNameFilters,
+        Set<StorPoolName> storPoolFilter,
+        Set<ResourceName> resourceFilter,
+        long maxAgeMillis
+    )
+    {
+        boolean complete = storPoolFilter.isEmpty() && resourceFilter.isEmpty();
+        return fetchVlmAllocated(
+            (cachedResults, queriedNodes) -> requestVlmAllocated(
+                nodeNameFilters,
+                storPoolFilter,
+                resourceFilter,
+                maxAgeMillis,
+                cachedResults,
+                queriedNodes
+            ),
+            complete,
+            maxAgeMillis
+        );
     }
 
+    @Override
+    public void invalidate(NodeName nodeName)
+    {
+        answerCache.remove(nodeName);
+    }
+
+    /**
+     * @param requestsSupplier builds the requests to the satellites. Nodes that are not queried but served from the
+     *     cache instead have to be added to the first given map by the supplier. The state of every queried node has
+     *     to be added to the second map if its answer may be cached.
+     * @param complete whether the answers of the satellites contain all of their volumes, i.e. whether they may be
+     *     cached
+     * @param maxAgeMillis cached answers older than this are dropped. 0 does not drop any answers because of their age
+     */
     private Mono<Map<Volume.Key, VlmAllocatedResult>> fetchVlmAllocated(
-        Callable<Flux<Tuple2<NodeName, ByteArrayInputStream>>> requestsSupplier
+        BiFunction<
+            Map<Volume.Key, VlmAllocatedResult>,
+            Map<NodeName, NodeState>,
+            Flux<Tuple2<NodeName, ByteArrayInputStream>>
+        > requestsSupplier,
+        boolean complete,
+        long maxAgeMillis
     )
     {
+        final Map<Volume.Key, VlmAllocatedResult> cachedResults = new HashMap<>();
+        final Map<NodeName, NodeState> queriedNodes = new HashMap<>();
+        final long requestTimestamp = System.currentTimeMillis();
         return scopeRunner
             .fluxInTransactionlessScope(
                 "Fetch volume allocated",
                 LockGuard.createDeferred(
                     nodesMapLock.readLock(), rscDfnMapLock.readLock(), storPoolDfnMapLock.readLock()),
-                requestsSupplier,
+                () ->
+                {
+                    evictStaleAnswers(maxAgeMillis);
+                    return requestsSupplier.apply(cachedResults, queriedNodes);
+                },
                 MDC.getCopyOfContextMap()
             )
             .collect(Collectors.toList())
-            .map(this::parseVlmAllocated);
+            .map(answers ->
+            {
+                Map<Volume.Key, VlmAllocatedResult> vlmAllocatedCapacities = new HashMap<>(cachedResults);
+                for (Map.Entry<NodeName, Map<Volume.Key, VlmAllocatedResult>> nodeEntry : parseVlmAllocated(answers)
+                    .entrySet())
+                {
+                    @Nullable NodeState nodeState = queriedNodes.get(nodeEntry.getKey());
+                    if (complete && nodeState != null)
+                    {
+                        answerCache.put(
+                            nodeEntry.getKey(),
+                            new CachedAnswer(requestTimestamp, nodeState, nodeEntry.getValue())
+                        );
+                    }
+                    vlmAllocatedCapacities.putAll(nodeEntry.getValue());
+                }
+                return vlmAllocatedCapacities;
+            });
+    }
+
+    /**
+     * Drops the cached answers of deleted nodes, of nodes that were reconnected or went offline and, if
+     * <code>maxAgeMillis</code> is not 0, all answers older than that.
+     */
+    private void evictStaleAnswers(long maxAgeMillis)
+    {
+        final long minTimestamp = System.currentTimeMillis() - maxAgeMillis;
+        final CoreModule.NodesMap nodesMap = nodeRepository.getMapForView();
+        answerCache.entrySet().removeIf(
+            entry -> (maxAgeMillis > 0 && entry.getValue().timestamp < minTimestamp) ||
+                !entry.getValue().nodeState.isSameConnection(nodesMap.get(entry.getKey()))
+        );
     }
 
     private Flux<Tuple2<NodeName, ByteArrayInputStream>> requestVlmAllocated(
         Set<NodeName> nodesFilter,
         Set<StorPoolName> storPoolFilter,
-        Set<ResourceName> resourceFilter
+        Set<ResourceName> resourceFilter,
+        Map<NodeName, NodeState> queriedNodesRef
     )
     {
         Stream<Node> nodeStream = nodesFilter.isEmpty() ?
             nodeRepository.getMapForView().values().stream() :
             nodesFilter.stream().map(nodeName -> ctrlApiDataLoader.loadNode(nodeName, true));
 
-        return buildVlmAllocatedRequests(nodeStream, storPoolFilter, resourceFilter);
+        return buildVlmAllocatedRequests(nodeStream, storPoolFilter, resourceFilter, queriedNodesRef);
     }
 
     private Flux<Tuple2<NodeName, ByteArrayInputStream>> requestVlmAllocated(
         List<Pattern> nodeNameFilters,
         Set<StorPoolName> storPoolFilter,
-        Set<ResourceName> resourceFilter
+        Set<ResourceName> resourceFilter,
+        long maxAgeMillis,
+        Map<Volume.Key, VlmAllocatedResult> cachedResultsRef,
+        Map<NodeName, NodeState> queriedNodesRef
     )
     {
+        final long minTimestamp = System.currentTimeMillis() - maxAgeMillis;
         Stream<Node> nodeStream = nodeRepository.getMapForView().values().stream()
-            .filter(node -> RegexMatcher.matchesAny(nodeNameFilters, node.getName().displayValue));
+            .filter(node -> RegexMatcher.matchesAny(nodeNameFilters, node.getName().displayValue))
+            .filter(node -> !addCachedAnswer(node, maxAgeMillis, minTimestamp, cachedResultsRef));
+
+        return buildVlmAllocatedRequests(nodeStream, storPoolFilter, resourceFilter, queriedNodesRef);
+    }
 
-        return buildVlmAllocatedRequests(nodeStream, storPoolFilter, resourceFilter);
+    /**
+     * Adds the cached answer of the given node to the given map if it is recent enough
+     *
+     * @return true if the node does not have to be queried
+     */
+    private boolean addCachedAnswer(
+        Node node,
+        long maxAgeMillis,
+        long minTimestamp,
+        Map<Volume.Key, VlmAllocatedResult> cachedResultsRef
+    )
+    {
+        boolean cached = false;
+        if (maxAgeMillis > 0)
+        {
+            @Nullable CachedAnswer answer = answerCache.get(node.getName());
+            if (answer != null && answer.timestamp >= minTimestamp)
+            {
+                if (
+                    answer.nodeState.isSameConnection(node) &&
+                        answer.nodeState.thinVlmKeys.equals(getThinVlmKeys(node))
+                )
+                {
+                    cachedResultsRef.putAll(answer.vlmAllocatedCapacities);
+                    cached = true;
+                }
+                else
+                {
+                    // the node was reconnected or volumes were created or deleted since it was queried
+                    answerCache.remove(node.getName(), answer);
+                }
+            }
+        }
+        return cached;
     }
 
     private Flux<Tuple2<NodeName, ByteArrayInputStream>> buildVlmAllocatedRequests(
         Stream<Node> nodeStream,
         Set<StorPoolName> storPoolFilter,
-        Set<ResourceName> resourceFilter
+        Set<ResourceName> resourceFilter,
+        Map<NodeName, NodeState> queriedNodesRef
     )
     {
-        Stream<Node> nodeWithThinStream = nodeStream.filter(node -> hasThinVlms(node, storPoolFilter, resourceFilter));
+        List<Node> nodesWithThin = nodeStream
+            .filter(node -> hasThinVlms(node, storPoolFilter, resourceFilter))
+            .collect(Collectors.toList());
+        if (storPoolFilter.isEmpty() && resourceFilter.isEmpty())
+        {
+            // only complete answers are cached
+            for (Node node : nodesWithThin)
+            {
+                queriedNodesRef.put(node.getName(), new NodeState(node, getThinVlmKeys(node)));
+            }
+        }
 
-        List<Tuple2<NodeName, Flux<ByteArrayInputStream>>> nameAndRequests = nodeWithThinStream
+        List<Tuple2<NodeName, Flux<ByteArrayInputStream>>> nameAndRequests = nodesWithThin.stream()
             .map(node -> Tuples.of(node.getName(), requestVlmAllocatedOnNode(node, storPoolFilter, resourceFilter)))
             .collect(Collectors.toList());
 
@@ -177,6 +331,15 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
             .anyMatch(rscName -> resourceFilter.isEmpty() || resourceFilter.contains(rscName));
     }
 
+    private Set<Volume.Key> getThinVlmKeys(Node node)
+    {
+        return streamStorPools(node)
+            .filter(storPool -> storPool.getDeviceProviderKind().usesThinProvisioning())
+            .flatMap(this::streamVolumes)
+            .map(vlmData -> vlmData.getVolume().getKey())
+            .collect(Collectors.toSet());
+    }
+
     private Flux<ByteArrayInputStream> requestVlmAllocatedOnNode(
         Node node,
         Set<StorPoolName> storPoolFilter,
@@ -218,10 +381,10 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         return peer;
     }
 
-    private Map<Volume.Key, VlmAllocatedResult> parseVlmAllocated(
+    private Map<NodeName, Map<Volume.Key, VlmAllocatedResult>> parseVlmAllocated(
         List<Tuple2<NodeName, ByteArrayInputStream>> vlmAllocatedAnswers)
     {
-        Map<Volume.Key, VlmAllocatedResult> vlmAllocatedCapacities = new HashMap<>();
+        Map<NodeName, Map<Volume.Key, VlmAllocatedResult>> vlmAllocatedCapacities = new HashMap<>();
 
         try
         {
@@ -231,6 +394,8 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
                 ByteArrayInputStream vlmAllocatedMsgDataIn = vlmAllocatedAnswer.getT2();
 
                 MsgIntVlmAllocated nodeVlmAllocated = MsgIntVlmAllocated.parseDelimitedFrom(vlmAllocatedMsgDataIn);
+                Map<Volume.Key, VlmAllocatedResult> nodeVlmAllocatedCapacities = vlmAllocatedCapacities
+                    .computeIfAbsent(nodeName, ignored -> new HashMap<>());
                 for (VlmAllocated vlmAllocated : nodeVlmAllocated.getAllocatedCapacitiesList())
                 {
                     ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
@@ -244,7 +409,7 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
                         ));
                     }
 
-                    vlmAllocatedCapacities.put(
+                    nodeVlmAllocatedCapacities.put(
                         new Volume.Key(
                             nodeName,
                             new ResourceName(vlmAllocated.getRscName()),
@@ -262,4 +427,49 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
 
         return vlmAllocatedCapacities;
     }
+
+    /**
+     * The state of a node at the time it was queried
+     */
+    private static class NodeState
+    {
+        private final Node node;
+        private final @Nullable Peer peer;
+        private final Set<Volume.Key> thinVlmKeys;
+
+        NodeState(Node nodeRef, Set<Volume.Key> thinVlmKeysRef)
+        {
+            node = nodeRef;
+            peer = nodeRef.getPeer();
+            thinVlmKeys = thinVlmKeysRef;
+        }
+
+        /**
+         * @return true if the given node is the same one that was queried and it is still online on the same
+         *     connection
+         */
+        boolean isSameConnection(@Nullable Node currentNode)
+        {
+            return currentNode == node && !node.isDeleted() && peer != null && node.getPeer() == peer &&
+                peer.isOnline();
+        }
+    }
+
+    private static class CachedAnswer
+    {
+        private final long timestamp;
+        private final NodeState nodeState;
+        private final Map<Volume.Key, VlmAllocatedResult> vlmAllocatedCapacities;
+
+        CachedAnswer(
+            long timestampRef,
+            NodeState nodeStateRef,
+            Map<Volume.Key, VlmAllocatedResult> vlmAllocatedCapacitiesRef
+        )
+        {
+            timestamp = timestampRef;
+            nodeState = nodeStateRef;
+            vlmAllocatedCapacities = Collections.unmodifiableMap(vlmAllocatedCapacitiesRef);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.linbit.linstor.core.apicallhandler.controller.helpers;
 
+import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.core.apis.ResourceApi;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.satellitestate.SatelliteState;
@@ -12,6 +13,7 @@ public class ResourceList
 {
     private final ArrayList<ResourceApi> rscs = new ArrayList<>();
     private final Map<NodeName, SatelliteState> satelliteStates = new HashMap<>();
+    private @Nullable String nextCursor;
 
     public void addResource(ResourceApi rscApi)
     {
@@ -37,4 +39,17 @@ public class ResourceList
     {
         return satelliteStates;
     }
+
+    public void setNextCursor(@Nullable String nextCursorRef)
+    {
+        nextCursor = nextCursorRef;
+    }
+
+    /**
+     * Returns the cursor to request the next page with, or null if there are no further resources
+     */
+    public @Nullable String getNextCursor()
+    {
+        return nextCursor;
+    }
 }
@@ -0,0 +1,309 @@
+package com.linbit.linstor.core.apicallhandler.controller.internal;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.api.pojo.RscDeltaPojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo.PropsDeltaPojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo.RscOnNodeDeltaPojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo.VlmDeltaPojo;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.core.objects.VolumeDefinition;
+import com.linbit.linstor.propscon.ReadOnlyProps;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Keeps track of the delta versions of resource definitions.
+ *
+ * For every resource definition we remember the properties and flags of the resource definition, its volume
+ * definitions, resources and volumes together with a version number. Whenever the whole resource is sent to a
+ * satellite, the current version is included. If the properties or flags changed since the last recorded state, a
+ * new version is recorded first, so that a given version always corresponds to exactly one state.
+ *
+ * A delta can therefore only be applied by satellites that are at the base version of the delta. All other
+ * satellites have to request the whole resource again.
+ *
+ * Callers must hold at least the read lock of the resource definition map while calling these methods.
+ */
+@Singleton
+public class CtrlRscDeltaTracker
+{
+    private final Map<ResourceName, RscDfnState> states = new HashMap<>();
+    /*
+     * Versions are unique across all resource definitions. This way a re-created resource definition (or one that
+     * was forgotten in the meantime) can never reuse a version a satellite might still have.
+     */
+    private long nextVersion = 1;
+
+    @Inject
+    public CtrlRscDeltaTracker()
+    {
+    }
+
+    /**
+     * Returns the version that has to be sent to the satellite together with the whole resource.
+     */
+    public synchronized long getVersion(ResourceDefinition rscDfn)
+    {
+        ResourceName rscName = rscDfn.getName();
+        RscDfnState prevState = states.get(rscName);
+        long version;
+        if (prevState != null && prevState.matches(rscDfn))
+        {
+            version = prevState.version;
+        }
+        else
+        {
+            version = nextVersion++;
+            states.put(rscName, new RscDfnState(rscDfn, version));
+        }
+        return version;
+    }
+
+    /**
+     * Records the current state of the given resource definition as a new version and returns the delta from the
+     * previously recorded version.
+     *
+     * Returns <code>null</code> if no delta can be built (i.e. the resource definition was not yet sent to any
+     * satellite, or the set of volume definitions, resources or volumes changed since the last recorded version). In
+     * that case the caller has to fall back to the regular "changed" notification.
+     */
+    public synchronized @Nullable RscDeltaPojo buildDelta(ResourceDefinition rscDfn)
+    {
+        ResourceName rscName = rscDfn.getName();
+        RscDfnState prevState = states.get(rscName);
+        @Nullable RscDeltaPojo delta = null;
+        if (prevState != null)
+        {
+            RscDfnState curState = new RscDfnState(rscDfn, nextVersion);
+            if (prevState.hasSameStructure(curState))
+            {
+                nextVersion++;
+                delta = prevState.diff(curState, rscName.displayValue);
+                states.put(rscName, curState);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Drops the recorded state of a deleted resource definition.
+     */
+    public synchronized void forget(ResourceName rscName)
+    {
+        states.remove(rscName);
+    }
+
+    private static PropsDeltaPojo diffProps(Map<String, String> prevProps, Map<String, String> curProps)
+    {
+        Map<String, String> setProps = new TreeMap<>();
+        for (Entry<String, String> entry : curProps.entrySet())
+        {
+            if (!entry.getValue().equals(prevProps.get(entry.getKey())))
+            {
+                setProps.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Set<String> deletedKeys = new TreeSet<>(prevProps.keySet());
+        deletedKeys.removeAll(curProps.keySet());
+        return new PropsDeltaPojo(setProps, deletedKeys);
+    }
+
+    private static class ObjState
+    {
+        private final Map<String, String> props;
+        private final long flags;
+
+        ObjState(ReadOnlyProps propsRef, long flagsRef)
+        {
+            props = propsRef.cloneMap();
+            flags = flagsRef;
+        }
+
+        boolean matches(ReadOnlyProps propsRef, long flagsRef)
+        {
+            return flags == flagsRef && props.equals(propsRef.map());
+        }
+
+        boolean isUnchanged(ObjState other)
+        {
+            return flags == other.flags && props.equals(other.props);
+        }
+    }
+
+    private static class RscState
+    {
+        private final UUID uuid;
+        private final ObjState rscState;
+        private final Map<Integer, ObjState> vlmStates = new TreeMap<>();
+
+        RscState(Resource rsc)
+        {
+            uuid = rsc.getUuid();
+            rscState = new ObjState(rsc.getProps(), rsc.getStateFlags().getFlagsBits());
+            Iterator<Volume> vlmIt = rsc.iterateVolumes();
+            while (vlmIt.hasNext())
+            {
+                Volume vlm = vlmIt.next();
+                vlmStates.put(vlm.getVolumeNumber().value, new ObjState(vlm.getProps(), vlm.getFlags().getFlagsBits()));
+            }
+        }
+
+        boolean matches(Resource rsc)
+        {
+            boolean ret = uuid.equals(rsc.getUuid()) &&
+                rscState.matches(rsc.getProps(), rsc.getStateFlags().getFlagsBits()) &&
+                vlmStates.size() == rsc.getVolumeCount();
+            Iterator<Volume> vlmIt = rsc.iterateVolumes();
+            while (ret && vlmIt.hasNext())
+            {
+                Volume vlm = vlmIt.next();
+                ObjState vlmState = vlmStates.get(vlm.getVolumeNumber().value);
+                ret = vlmState != null && vlmState.matches(vlm.getProps(), vlm.getFlags().getFlagsBits());
+            }
+            return ret;
+        }
+    }
+
+    private static class RscDfnState
+    {
+        private final long version;
+        private final UUID uuid;
+        private final ObjState rscDfnState;
+        private final Map<Integer, ObjState> vlmDfnStates = new TreeMap<>();
+        private final Map<String, RscState> rscStates = new TreeMap<>();
+
+        RscDfnState(ResourceDefinition rscDfn, long versionRef)
+        {
+            version = versionRef;
+            uuid = rscDfn.getUuid();
+            rscDfnState = new ObjState(rscDfn.getProps(), rscDfn.getFlags().getFlagsBits());
+            Iterator<VolumeDefinition> vlmDfnIt = rscDfn.iterateVolumeDfn();
+            while (vlmDfnIt.hasNext())
+            {
+                VolumeDefinition vlmDfn = vlmDfnIt.next();
+                vlmDfnStates.put(
+                    vlmDfn.getVolumeNumber().value,
+                    new ObjState(vlmDfn.getProps(), vlmDfn.getFlags().getFlagsBits())
+                );
+            }
+            Iterator<Resource> rscIt = rscDfn.iterateResource();
+            while (rscIt.hasNext())
+            {
+                Resource rsc = rscIt.next();
+                rscStates.put(rsc.getNode().getName().displayValue, new RscState(rsc));
+            }
+        }
+
+        boolean matches(ResourceDefinition rscDfn)
+        {
+            boolean ret = uuid.equals(rscDfn.getUuid()) &&
+                rscDfnState.matches(rscDfn.getProps(), rscDfn.getFlags().getFlagsBits()) &&
+                vlmDfnStates.size() == rscDfn.getVolumeDfnCount() &&
+                rscStates.size() == rscDfn.getResourceCount();
+            Iterator<VolumeDefinition> vlmDfnIt = rscDfn.iterateVolumeDfn();
+            while (ret && vlmDfnIt.hasNext())
+            {
+                VolumeDefinition vlmDfn = vlmDfnIt.next();
+                ObjState vlmDfnState = vlmDfnStates.get(vlmDfn.getVolumeNumber().value);
+                ret = vlmDfnState != null &&
+                    vlmDfnState.matches(vlmDfn.getProps(), vlmDfn.getFlags().getFlagsBits());
+            }
+            Iterator<Resource> rscIt = rscDfn.iterateResource();
+            while (ret && rscIt.hasNext())
+            {
+                Resource rsc = rscIt.next();
+                RscState rscState = rscStates.get(rsc.getNode().getName().displayValue);
+                ret = rscState != null && rscState.matches(rsc);
+            }
+            return ret;
+        }
+
+        boolean hasSameStructure(RscDfnState other)
+        {
+            boolean ret = uuid.equals(other.uuid) &&
+                vlmDfnStates.keySet().equals(other.vlmDfnStates.keySet()) &&
+                rscStates.keySet().equals(other.rscStates.keySet());
+            Iterator<Entry<String, RscState>> rscStateIt = rscStates.entrySet().iterator();
+            while (ret && rscStateIt.hasNext())
+            {
+                Entry<String, RscState> entry = rscStateIt.next();
+                RscState otherRscState = other.rscStates.get(entry.getKey());
+                ret = Objects.equals(entry.getValue().uuid, otherRscState.uuid) &&
+                    entry.getValue().vlmStates.keySet().equals(otherRscState.vlmStates.keySet());
+            }
+            return ret;
+        }
+
+        RscDeltaPojo diff(RscDfnState cur, String rscNameStr)
+        {
+            List<VlmDeltaPojo> vlmDfnDeltas = diffVlms(vlmDfnStates, cur.vlmDfnStates);
+
+            List<RscOnNodeDeltaPojo> rscDeltas = new ArrayList<>();
+            for (Entry<String, RscState> entry : rscStates.entrySet())
+            {
+                RscState prevRscState = entry.getValue();
+                RscState curRscState = cur.rscStates.get(entry.getKey());
+                List<VlmDeltaPojo> vlmDeltas = diffVlms(prevRscState.vlmStates, curRscState.vlmStates);
+                if (!prevRscState.rscState.isUnchanged(curRscState.rscState) || !vlmDeltas.isEmpty())
+                {
+                    rscDeltas.add(
+                        new RscOnNodeDeltaPojo(
+                            entry.getKey(),
+                            diffProps(prevRscState.rscState.props, curRscState.rscState.props),
+                            curRscState.rscState.flags,
+                            vlmDeltas
+                        )
+                    );
+                }
+            }
+
+            return new RscDeltaPojo(
+                rscNameStr,
+                version,
+                cur.version,
+                diffProps(rscDfnState.props, cur.rscDfnState.props),
+                cur.rscDfnState.flags,
+                vlmDfnDeltas,
+                rscDeltas
+            );
+        }
+
+        private static List<VlmDeltaPojo> diffVlms(Map<Integer, ObjState> prevStates, Map<Integer, ObjState> curStates)
+        {
+            List<VlmDeltaPojo> ret = new ArrayList<>();
+            for (Entry<Integer, ObjState> entry : prevStates.entrySet())
+            {
+                ObjState prevState = entry.getValue();
+                ObjState curState = curStates.get(entry.getKey());
+                if (!prevState.isUnchanged(curState))
+                {
+                    ret.add(
+                        new VlmDeltaPojo(
+                            entry.getKey(),
+                            diffProps(prevState.props, curState.props),
+                            curState.flags
+                        )
+                    );
+                }
+            }
+            return ret.isEmpty() ? Collections.emptyList() : ret;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.api.pojo.RscDeltaPojo;
 import com.linbit.linstor.api.protobuf.ProtoDeserializationUtils;
 import com.linbit.linstor.core.SatelliteConnectorImpl;
 import com.linbit.linstor.core.apicallhandler.controller.internal.helpers.AtomicUpdateSatelliteData;
@@ -29,6 +30,7 @@ import com.linbit.linstor.netcom.PeerNotConnectedException;
 import com.linbit.linstor.proto.common.ApiCallResponseOuterClass.ApiCallResponse;
 import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
 import com.linbit.linstor.tasks.RetryResourcesTask;
+import com.linbit.locks.LockGuard;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -62,6 +64,7 @@ public class CtrlSatelliteUpdateCaller
     private final SatelliteConnectorImpl stltConnector;
     private final NodeRepository nodeRepo;
     private final SatelliteRetcodeDispatcher retcodeDispatcher;
+    private final CtrlRscDeltaTracker rscDeltaTracker;
 
     @Inject
     private CtrlSatelliteUpdateCaller(
@@ -69,7 +72,8 @@ public class CtrlSatelliteUpdateCaller
         Provider<RetryResourcesTask> retryResourceTaskProviderRef,
         SatelliteConnectorImpl stltConnectorRef,
         NodeRepository nodeRepoRef,
-        SatelliteRetcodeDispatcher retcodeDispatcherRef
+        SatelliteRetcodeDispatcher retcodeDispatcherRef,
+        CtrlRscDeltaTracker rscDeltaTrackerRef
     )
     {
         internalComSerializer = serializerRef;
@@ -77,6 +81,7 @@ public class CtrlSatelliteUpdateCaller
         stltConnector = stltConnectorRef;
         nodeRepo = nodeRepoRef;
         retcodeDispatcher = retcodeDispatcherRef;
+        rscDeltaTracker = rscDeltaTrackerRef;
     }
 
     /**
@@ -171,6 +176,11 @@ public class CtrlSatelliteUpdateCaller
         @Nullable Publisher<ApiCallRc> nextStepRef,
         ContextView cv
     )
+    {
+        return updateSatellites(rscDfn, getDfltNotConnectedHandler(cv), nextStepRef);
+    }
+
+    private NotConnectedHandler getDfltNotConnectedHandler(ContextView cv)
     {
         NotConnectedHandler dfltNotConnectedHandler;
         // TODO move this into context class
@@ -183,8 +193,7 @@ public class CtrlSatelliteUpdateCaller
         {
             dfltNotConnectedHandler = notConnectedWarn();
         }
-
-        return updateSatellites(rscDfn, dfltNotConnectedHandler, nextStepRef);
+        return dfltNotConnectedHandler;
     }
 
     /**
@@ -214,6 +223,78 @@ public class CtrlSatelliteUpdateCaller
         return Flux.fromIterable(responses);
     }
 
+    /**
+     * Same as {@link #updateSatellites(ResourceDefinition, Publisher)}, but only sends the property and flag
+     * changes of the given resource definition (and its volume definitions, resources and volumes) instead of a
+     * "changed" notification that makes the satellites request the whole resource again.
+     *
+     * Must only be used if nothing else than properties and flags changed, i.e. no layer data, no resource
+     * connections, no nodes, etc. Falls back to the regular update if the resources or volumes themselves changed.
+     * Must be called while holding at least the read lock of the resource definition map.
+     */
+    public Flux<Tuple2<NodeName, Flux<ApiCallRc>>> updateSatellitesWithDelta(
+        ResourceDefinition rscDfn,
+        @Nullable Publisher<ApiCallRc> nextStepRef
+    )
+    {
+        Flux<Tuple2<NodeName, Flux<ApiCallRc>>> ret;
+        @Nullable RscDeltaPojo rscDelta = rscDeltaTracker.buildDelta(rscDfn);
+        if (rscDelta == null)
+        {
+            ret = updateSatellites(rscDfn, nextStepRef);
+        }
+        else
+        {
+            List<Resource> rscsToUpdate = new ArrayList<>();
+            Iterator<Resource> rscIterator = rscDfn.iterateResource();
+            while (rscIterator.hasNext())
+            {
+                Resource currentRsc = rscIterator.next();
+                if (!currentRsc.getNode().isEvicted())
+                {
+                    rscsToUpdate.add(currentRsc);
+                }
+            }
+            ret = Flux.deferContextual(
+                cv ->
+                {
+                    NotConnectedHandler notConnectedHandler = getDfltNotConnectedHandler(cv);
+                    List<Tuple2<NodeName, Flux<ApiCallRc>>> responses = new ArrayList<>();
+                    for (Resource currentRsc : rscsToUpdate)
+                    {
+                        Peer currentPeer = currentRsc.getNode().getPeer();
+                        Flux<ApiCallRc> response = updateResource(
+                            currentRsc,
+                            notConnectedHandler,
+                            nextStepRef,
+                            // the updateId must only be taken when the message is actually sent, otherwise the
+                            // satellite would wait forever for an update that never arrives
+                            Flux.defer(
+                                () -> currentPeer.apiCall(
+                                    InternalApiConsts.API_APPLY_RSC_DELTA,
+                                    serializeRscDelta(currentPeer, rscDelta)
+                                )
+                            )
+                        );
+                        responses.add(Tuples.of(currentRsc.getNode().getName(), response));
+                    }
+                    return Flux.fromIterable(responses);
+                }
+            );
+        }
+        return ret;
+    }
+
+    private byte[] serializeRscDelta(Peer peer, RscDeltaPojo rscDelta)
+    {
+        try (LockGuard ls = LockGuard.createLocked(peer.getSerializerLock().readLock()))
+        {
+            return internalComSerializer.headerlessBuilder()
+                .resourceDelta(rscDelta, peer.getFullSyncId(), peer.getNextSerializerId())
+                .build();
+        }
+    }
+
     public Flux<Tuple2<NodeName, Flux<ApiCallRc>>> updateSatellite(final StorPool storPool)
     {
         // figure out which nodes to update
@@ -320,6 +401,31 @@ public class CtrlSatelliteUpdateCaller
         NotConnectedHandler notConnectedHandler,
         @Nullable Publisher<ApiCallRc> nextStepRef
     )
+    {
+        return updateResource(
+            currentRsc,
+            notConnectedHandler,
+            nextStepRef,
+            currentRsc.getNode().getPeer()
+                .apiCall(
+                    InternalApiConsts.API_CHANGED_RSC,
+                    internalComSerializer
+                        .headerlessBuilder()
+                        .changedResource(
+                            currentRsc.getUuid(),
+                            currentRsc.getResourceDefinition().getName().displayValue
+                        )
+                        .build()
+                )
+        );
+    }
+
+    private Flux<ApiCallRc> updateResource(
+        Resource currentRsc,
+        NotConnectedHandler notConnectedHandler,
+        @Nullable Publisher<ApiCallRc> nextStepRef,
+        Flux<ByteArrayInputStream> apiCall
+    )
     {
         Node node = currentRsc.getNode();
         NodeName nodeName = node.getName();
@@ -337,18 +443,7 @@ public class CtrlSatelliteUpdateCaller
         }
         else
         {
-            response = currentPeer
-                .apiCall(
-                    InternalApiConsts.API_CHANGED_RSC,
-                    internalComSerializer
-                        .headerlessBuilder()
-                        .changedResource(
-                            currentRsc.getUuid(),
-                            currentRsc.getResourceDefinition().getName().displayValue
-                        )
-                        .build()
-                )
-
+            response = apiCall
                 .map(inputStream -> deserializeApiCallRc(nodeName, inputStream))
 
                 .transform(retcodeDispatcher.forResource(currentRsc))
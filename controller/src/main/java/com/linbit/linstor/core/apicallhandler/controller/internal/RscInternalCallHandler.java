@@ -78,6 +78,7 @@ public class RscInternalCallHandler
     private final CtrlSatelliteUpdater stltUpdater;
     private final EbsStatusManagerService ebsStatusMgr;
     private final Provider<CtrlRscDfnApiCallHelper> rscDfnApiCallHelperProvider;
+    private final CtrlRscDeltaTracker rscDeltaTracker;
 
     @Inject
     public RscInternalCallHandler(
@@ -94,7 +95,8 @@ public class RscInternalCallHandler
         CtrlApiDataLoader ctrlApiDataLoader,
         CtrlSatelliteUpdater stltUpdaterRef,
         EbsStatusManagerService ebsStatusMgrRef,
-        Provider<CtrlRscDfnApiCallHelper> rscDfnApiCallHelperProviderRef
+        Provider<CtrlRscDfnApiCallHelper> rscDfnApiCallHelperProviderRef,
+        CtrlRscDeltaTracker rscDeltaTrackerRef
     )
     {
         errorReporter = errorReporterRef;
@@ -111,6 +113,7 @@ public class RscInternalCallHandler
         stltUpdater = stltUpdaterRef;
         ebsStatusMgr = ebsStatusMgrRef;
         rscDfnApiCallHelperProvider = rscDfnApiCallHelperProviderRef;
+        rscDeltaTracker = rscDeltaTrackerRef;
     }
 
     public void handleResourceRequest(
@@ -142,8 +145,13 @@ public class RscInternalCallHandler
                     peer.get().sendMessage(
                         ctrlStltSerializer
                             .onewayBuilder(InternalApiConsts.API_APPLY_RSC)
-                            .resource(rsc, fullSyncTimestamp, updateId)
-                            .build()
+                            .resource(
+                                rsc,
+                                fullSyncTimestamp,
+                                updateId,
+                                rscDeltaTracker.getVersion(rsc.getResourceDefinition())
+                            )
+                            .buildBuffer()
                     );
                 }
                 else
@@ -6,6 +6,8 @@ import com.linbit.linstor.annotation.Nullable;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
 
 import com.moandjiezana.toml.Toml;
 
@@ -29,6 +31,8 @@ public class CtrlConfig extends LinstorConfig
 
     private @Nullable String dbInMemory;
     private boolean dbDisableVersionCheck;
+    private int dbLoadParallelism = 4;
+    private List<String> dbIndexedPropKeys = Collections.emptyList();
 
     /*
      * Database.k8s
@@ -37,6 +41,8 @@ public class CtrlConfig extends LinstorConfig
 
     private int k8sMaxRollbackEntries = 100;
 
+    private int k8sMaxParallelRequests = 8;
+
     /*
      * Logging
      */
@@ -81,6 +87,16 @@ public class CtrlConfig extends LinstorConfig
      */
     private @Nullable String webUiDirectory;
 
+    /*
+     * NetCom
+     */
+    private int netComIoThreads = 1;
+
+    /*
+     * Tasks
+     */
+    private int taskWorkerThreads = 4;
+
     public CtrlConfig(@Nullable String[] args)
     {
         super(args);
@@ -221,6 +237,22 @@ public class CtrlConfig extends LinstorConfig
         }
     }
 
+    public void setDbLoadParallelism(@Nullable Integer dbLoadParallelismRef)
+    {
+        if (dbLoadParallelismRef != null)
+        {
+            dbLoadParallelism = dbLoadParallelismRef;
+        }
+    }
+
+    public void setDbIndexedPropKeys(@Nullable List<String> dbIndexedPropKeysRef)
+    {
+        if (dbIndexedPropKeysRef != null)
+        {
+            dbIndexedPropKeys = List.copyOf(dbIndexedPropKeysRef);
+        }
+    }
+
     public void setK8sRequestRetries(final @Nullable Integer k8sRequestRetriesRef)
     {
         if (k8sRequestRetriesRef != null)
@@ -237,6 +269,14 @@ public class CtrlConfig extends LinstorConfig
         }
     }
 
+    public void setK8sMaxParallelRequests(final @Nullable Integer k8sMaxParallelRequestsRef)
+    {
+        if (k8sMaxParallelRequestsRef != null)
+        {
+            k8sMaxParallelRequests = k8sMaxParallelRequestsRef;
+        }
+    }
+
     public void setLogRestAccessLogPath(@Nullable String logRestAccessLogPathRef)
     {
         if (logRestAccessLogPathRef != null)
@@ -397,6 +437,22 @@ public class CtrlConfig extends LinstorConfig
         }
     }
 
+    public void setNetComIoThreads(final @Nullable Integer netComIoThreadsRef)
+    {
+        if (netComIoThreadsRef != null)
+        {
+            netComIoThreads = netComIoThreadsRef;
+        }
+    }
+
+    public void setTaskWorkerThreads(final @Nullable Integer taskWorkerThreadsRef)
+    {
+        if (taskWorkerThreadsRef != null)
+        {
+            taskWorkerThreads = taskWorkerThreadsRef;
+        }
+    }
+
     public @Nullable String getDbUser()
     {
         return dbUser;
@@ -442,6 +498,16 @@ public class CtrlConfig extends LinstorConfig
         return dbDisableVersionCheck;
     }
 
+    public int getDbLoadParallelism()
+    {
+        return dbLoadParallelism;
+    }
+
+    public List<String> getDbIndexedPropKeys()
+    {
+        return dbIndexedPropKeys;
+    }
+
     public int getK8sRequestRetries()
     {
         return k8sRequestRetries;
@@ -452,6 +518,11 @@ public class CtrlConfig extends LinstorConfig
         return k8sMaxRollbackEntries;
     }
 
+    public int getK8sMaxParallelRequests()
+    {
+        return k8sMaxParallelRequests;
+    }
+
     public @Nullable String getLogRestAccessLogPath()
     {
         return logRestAccessLogPath;
@@ -583,4 +654,14 @@ public class CtrlConfig extends LinstorConfig
     {
         return webUiDirectory;
     }
+
+    public int getNetComIoThreads()
+    {
+        return netComIoThreads;
+    }
+
+    public int getTaskWorkerThreads()
+    {
+        return taskWorkerThreads;
+    }
 }
@@ -4,6 +4,8 @@ import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.core.LinstorConfigTool;
 import com.linbit.linstor.core.cfg.LinstorConfig.RestAccessLogMode;
 
+import java.util.List;
+
 @SuppressWarnings("checkstyle:MemberName")
 public class CtrlTomlConfig
 {
@@ -77,6 +79,8 @@ public class CtrlTomlConfig
         private @Nullable String client_key_pcks8_pem;
         private @Nullable String client_key_pkcs8_pem;
         private @Nullable String client_key_password;
+        private @Nullable Integer load_parallelism;
+        private @Nullable List<String> indexed_prop_keys;
 
         private @Nullable K8s k8s = new K8s();
 
@@ -89,6 +93,8 @@ public class CtrlTomlConfig
             cfg.setDbClientCertificate(client_certificate);
             cfg.setDbClientKeyPkcs8Pem(client_key_pkcs8_pem != null ? client_key_pkcs8_pem : client_key_pcks8_pem);
             cfg.setDbClientKeyPassword(client_key_password);
+            cfg.setDbLoadParallelism(load_parallelism);
+            cfg.setDbIndexedPropKeys(indexed_prop_keys);
 
             k8s.applyTo(cfg);
         }
@@ -148,11 +154,13 @@ public class CtrlTomlConfig
     {
         private @Nullable Integer request_retries;
         private @Nullable Integer max_rollback_entries;
+        private @Nullable Integer max_parallel_requests;
 
         public void applyTo(CtrlConfig cfg)
         {
             cfg.setK8sRequestRetries(request_retries);
             cfg.setK8sMaxRollbackEntries(max_rollback_entries);
+            cfg.setK8sMaxParallelRequests(max_parallel_requests);
         }
     }
 
@@ -166,6 +174,26 @@ public class CtrlTomlConfig
         }
     }
 
+    static class NetCom
+    {
+        private @Nullable Integer io_threads;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setNetComIoThreads(io_threads);
+        }
+    }
+
+    static class Tasks
+    {
+        private @Nullable Integer worker_threads;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setTaskWorkerThreads(worker_threads);
+        }
+    }
+
     private HTTP http = new HTTP();
     private HTTPS https = new HTTPS();
     private LDAP ldap = new LDAP();
@@ -173,6 +201,8 @@ public class CtrlTomlConfig
     private Logging logging = new Logging();
     private Encrypt encrypt = new Encrypt();
     private WebUi webUi = new WebUi();
+    private NetCom netcom = new NetCom();
+    private Tasks tasks = new Tasks();
 
     /**
      * Getter needed by {@link LinstorConfigTool}
@@ -191,5 +221,7 @@ public class CtrlTomlConfig
         logging.applyTo(cfg);
         encrypt.applyTo(cfg);
         webUi.applyTo(cfg);
+        netcom.applyTo(cfg);
+        tasks.applyTo(cfg);
     }
 }
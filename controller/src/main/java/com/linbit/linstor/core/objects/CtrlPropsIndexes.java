@@ -0,0 +1,45 @@
+package com.linbit.linstor.core.objects;
+
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.propscon.PropsIndex;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Secondary indexes on the properties configured as <code>[db] indexed_prop_keys</code>, used by the list API calls
+ * to answer exact property filters (e.g. <code>--props Aux/site=east</code>) without checking every object.
+ *
+ * Objects are added by the controller factories when they are created and by the database drivers when they are
+ * loaded. Without configured keys the indexes are empty and no change listeners are registered.
+ */
+@Singleton
+public class CtrlPropsIndexes
+{
+    private final PropsIndex<Node> nodeIndex;
+    private final PropsIndex<Resource> rscIndex;
+    private final PropsIndex<StorPool> storPoolIndex;
+
+    @Inject
+    public CtrlPropsIndexes(CtrlConfig ctrlCfgRef)
+    {
+        nodeIndex = new PropsIndex<>(ctrlCfgRef.getDbIndexedPropKeys());
+        rscIndex = new PropsIndex<>(ctrlCfgRef.getDbIndexedPropKeys());
+        storPoolIndex = new PropsIndex<>(ctrlCfgRef.getDbIndexedPropKeys());
+    }
+
+    public PropsIndex<Node> getNodeIndex()
+    {
+        return nodeIndex;
+    }
+
+    public PropsIndex<Resource> getRscIndex()
+    {
+        return rscIndex;
+    }
+
+    public PropsIndex<StorPool> getStorPoolIndex()
+    {
+        return storPoolIndex;
+    }
+}
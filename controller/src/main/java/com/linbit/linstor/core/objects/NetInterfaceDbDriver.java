@@ -17,6 +17,8 @@ import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.dbdrivers.RawParameters;
 import com.linbit.linstor.dbdrivers.interfaces.NetInterfaceCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
@@ -53,13 +55,20 @@ public final class NetInterfaceDbDriver
         ErrorReporter errorReporterRef,
         DbEngine dbEngineRef,
         Provider<TransactionMgr> transMgrProviderRef,
-        TransactionObjectFactory transObjFactoryRef
+        TransactionObjectFactory transObjFactoryRef,
+        ChangeJournal changeJournalRef
     )
     {
         super(errorReporterRef, GeneratedDatabaseTables.NODE_NET_INTERFACES, dbEngineRef);
         transMgrProvider = transMgrProviderRef;
         transObjFactory = transObjFactoryRef;
 
+        // network interfaces are part of their node
+        setChangeJournal(
+            changeJournalRef,
+            (netIf, ignored) -> ObjectChange.node(ObjectChange.Action.MODIFY, netIf.getNode().getName())
+        );
+
         setColumnSetter(UUID, netIf -> netIf.getUuid().toString());
         setColumnSetter(NODE_NAME, netIf -> netIf.getNode().getName().value);
         setColumnSetter(NODE_NET_NAME, netIf -> netIf.getName().value);
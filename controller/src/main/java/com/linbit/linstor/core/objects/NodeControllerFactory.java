@@ -31,6 +31,7 @@ public class NodeControllerFactory
     private final Provider<TransactionMgr> transMgrProvider;
     private final NodeRepository nodeRepository;
     private final ReadOnlyProps ctrlConf;
+    private final CtrlPropsIndexes propsIndexes;
 
     @Inject
     public NodeControllerFactory(
@@ -40,7 +41,8 @@ public class NodeControllerFactory
         TransactionObjectFactory transObjFactoryRef,
         Provider<TransactionMgr> transMgrProviderRef,
         NodeRepository nodeRepositoryRef,
-        @Named(LinStor.CONTROLLER_PROPS) ReadOnlyProps ctrlConfRef
+        @Named(LinStor.CONTROLLER_PROPS) ReadOnlyProps ctrlConfRef,
+        CtrlPropsIndexes propsIndexesRef
     )
     {
         errorReporter = errorReporterRef;
@@ -50,6 +52,7 @@ public class NodeControllerFactory
         transMgrProvider = transMgrProviderRef;
         nodeRepository = nodeRepositoryRef;
         ctrlConf = ctrlConfRef;
+        propsIndexes = propsIndexesRef;
     }
 
     public Node create(
@@ -80,6 +83,7 @@ public class NodeControllerFactory
             false
         );
         dbDriver.create(node);
+        propsIndexes.getNodeIndex().add(node, node.getProps());
 
         return node;
     }
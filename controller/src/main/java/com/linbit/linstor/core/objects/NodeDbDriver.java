@@ -14,6 +14,8 @@ import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.dbdrivers.RawParameters;
 import com.linbit.linstor.dbdrivers.interfaces.NodeCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.PropsContainerFactory;
 import com.linbit.linstor.propscon.ReadOnlyProps;
@@ -47,6 +49,7 @@ public final class NodeDbDriver extends AbsDatabaseDriver<Node, Node.InitMaps, V
     final StateFlagsPersistence<Node> flagsDriver;
     final SingleColumnDatabaseDriver<Node, Node.Type> nodeTypeDriver;
     private ReadOnlyProps ctrlConf;
+    private final CtrlPropsIndexes propsIndexes;
 
     @Inject
     public NodeDbDriver(
@@ -55,7 +58,9 @@ public final class NodeDbDriver extends AbsDatabaseDriver<Node, Node.InitMaps, V
         DbEngine dbEngine,
         Provider<TransactionMgr> transMgrProviderRef,
         PropsContainerFactory propsContainerFactoryRef,
-        TransactionObjectFactory transObjFactoryRef
+        TransactionObjectFactory transObjFactoryRef,
+        CtrlPropsIndexes propsIndexesRef,
+        ChangeJournal changeJournalRef
     )
     {
         super(errorReporterRef, GeneratedDatabaseTables.NODES, dbEngine);
@@ -63,6 +68,9 @@ public final class NodeDbDriver extends AbsDatabaseDriver<Node, Node.InitMaps, V
         transMgrProvider = transMgrProviderRef;
         propsContainerFactory = propsContainerFactoryRef;
         transObjFactory = transObjFactoryRef;
+        propsIndexes = propsIndexesRef;
+
+        setChangeJournal(changeJournalRef, (node, action) -> ObjectChange.node(action, node.getName()));
 
         setColumnSetter(UUID, node -> node.getUuid().toString());
         setColumnSetter(NODE_NAME, node -> node.getName().value);
@@ -151,6 +159,7 @@ public final class NodeDbDriver extends AbsDatabaseDriver<Node, Node.InitMaps, V
             nodeConnMap,
             false
         );
+        propsIndexes.getNodeIndex().add(node, node.getProps());
 
         return new Pair<>(
             node,
@@ -40,6 +40,7 @@ public class ResourceControllerFactory
     private final TransactionObjectFactory transObjFactory;
     private final Provider<TransactionMgr> transMgrProvider;
     private final CtrlRscLayerDataFactory layerStackHelper;
+    private final CtrlPropsIndexes propsIndexes;
 
     @Inject
     public ResourceControllerFactory(
@@ -47,7 +48,8 @@ public class ResourceControllerFactory
         PropsContainerFactory propsContainerFactoryRef,
         TransactionObjectFactory transObjFactoryRef,
         Provider<TransactionMgr> transMgrProviderRef,
-        CtrlRscLayerDataFactory layerStackHelperRef
+        CtrlRscLayerDataFactory layerStackHelperRef,
+        CtrlPropsIndexes propsIndexesRef
     )
     {
         dbDriver = dbDriverRef;
@@ -55,6 +57,7 @@ public class ResourceControllerFactory
         transObjFactory = transObjFactoryRef;
         transMgrProvider = transMgrProviderRef;
         layerStackHelper = layerStackHelperRef;
+        propsIndexes = propsIndexesRef;
     }
 
     public Resource create(
@@ -160,6 +163,7 @@ public class ResourceControllerFactory
             dbDriver.create(rsc);
             node.addResource(rsc);
             rscDfn.addResource(rsc);
+            propsIndexes.getRscIndex().add(rsc, rsc.getProps());
         }
         else
         {
@@ -15,6 +15,8 @@ import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.dbdrivers.RawParameters;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.PropsContainerFactory;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
@@ -50,6 +52,7 @@ public final class ResourceDbDriver extends
     private final PropsContainerFactory propsContainerFactory;
     private final TransactionObjectFactory transObjFactory;
     private final Provider<TransactionMgr> transMgrProvider;
+    private final CtrlPropsIndexes propsIndexes;
 
     private final SingleColumnDatabaseDriver<AbsResource<Resource>, Instant> createTimestampDriver;
 
@@ -59,7 +62,9 @@ public final class ResourceDbDriver extends
         DbEngine dbEngine,
         Provider<TransactionMgr> transMgrProviderRef,
         PropsContainerFactory propsContainerFactoryRef,
-        TransactionObjectFactory transObjFactoryRef
+        TransactionObjectFactory transObjFactoryRef,
+        CtrlPropsIndexes propsIndexesRef,
+        ChangeJournal changeJournalRef
     )
     {
         super(
@@ -70,6 +75,12 @@ public final class ResourceDbDriver extends
         transMgrProvider = transMgrProviderRef;
         propsContainerFactory = propsContainerFactoryRef;
         transObjFactory = transObjFactoryRef;
+        propsIndexes = propsIndexesRef;
+
+        setChangeJournal(
+            changeJournalRef,
+            (rsc, action) -> ObjectChange.rsc(action, rsc.getNode().getName(), rsc.getResourceDefinition().getName())
+        );
 
         flagsDriver = generateFlagDriver(RESOURCE_FLAGS, Resource.Flags.class);
 
@@ -116,22 +127,21 @@ public final class ResourceDbDriver extends
             final long flags = raw.get(RESOURCE_FLAGS);
             @Nullable Long createTimestamp = raw.get(CREATE_TIMESTAMP);
 
-            ret = new Pair<>(
-                new Resource(
-                    raw.build(UUID, java.util.UUID::fromString),
-                    loadAllDataRef.objB.get(rscName),
-                    loadAllDataRef.objA.get(nodeName),
-                    flags,
-                    this,
-                    propsContainerFactory,
-                    transObjFactory,
-                    transMgrProvider,
-                    rscConMap,
-                    vlmMap,
-                    createTimestamp == null ? null : Instant.ofEpochMilli(createTimestamp)
-                ),
-                new InitMapImpl(rscConMap, vlmMap)
+            Resource rsc = new Resource(
+                raw.build(UUID, java.util.UUID::fromString),
+                loadAllDataRef.objB.get(rscName),
+                loadAllDataRef.objA.get(nodeName),
+                flags,
+                this,
+                propsContainerFactory,
+                transObjFactory,
+                transMgrProvider,
+                rscConMap,
+                vlmMap,
+                createTimestamp == null ? null : Instant.ofEpochMilli(createTimestamp)
             );
+            propsIndexes.getRscIndex().add(rsc, rsc.getProps());
+            ret = new Pair<>(rsc, new InitMapImpl(rscConMap, vlmMap));
         }
         return ret;
     }
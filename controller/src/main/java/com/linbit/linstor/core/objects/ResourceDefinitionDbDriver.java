@@ -19,6 +19,8 @@ import com.linbit.linstor.dbdrivers.RawParameters;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceDefinitionCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.CollectionDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.PropsContainerFactory;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
@@ -70,7 +72,8 @@ public final class ResourceDefinitionDbDriver
         DbEngine dbEngineRef,
         Provider<TransactionMgr> transMgrProviderRef,
         PropsContainerFactory propsContainerFactoryRef,
-        TransactionObjectFactory transObjFactoryRef
+        TransactionObjectFactory transObjFactoryRef,
+        ChangeJournal changeJournalRef
     )
     {
         super(errorReporterRef, GeneratedDatabaseTables.RESOURCE_DEFINITIONS, dbEngineRef);
@@ -78,6 +81,8 @@ public final class ResourceDefinitionDbDriver
         propsContainerFactory = propsContainerFactoryRef;
         transObjFactory = transObjFactoryRef;
 
+        setChangeJournal(changeJournalRef, (rscDfn, action) -> ObjectChange.rscDfn(action, rscDfn.getName()));
+
         setColumnSetter(UUID, rscDfn -> rscDfn.getUuid().toString());
         setColumnSetter(RESOURCE_NAME, rscDfn -> rscDfn.getName().value);
         setColumnSetter(RESOURCE_DSP_NAME, rscDfn -> rscDfn.getName().displayValue);
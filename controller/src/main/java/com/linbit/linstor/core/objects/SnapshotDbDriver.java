@@ -18,6 +18,8 @@ import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.dbdrivers.RawParameters;
 import com.linbit.linstor.dbdrivers.interfaces.SnapshotCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.PropsContainerFactory;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
@@ -63,7 +65,8 @@ public final class SnapshotDbDriver extends
         DbEngine dbEngineRef,
         Provider<TransactionMgr> transMgrProviderRef,
         PropsContainerFactory propsContainerFactoryRef,
-        TransactionObjectFactory transObjFactoryRef
+        TransactionObjectFactory transObjFactoryRef,
+        ChangeJournal changeJournalRef
     )
     {
         super(errorReporterRef, GeneratedDatabaseTables.RESOURCES, dbEngineRef);
@@ -71,6 +74,20 @@ public final class SnapshotDbDriver extends
         propsContainerFactory = propsContainerFactoryRef;
         transObjFactory = transObjFactoryRef;
 
+        // snapshots are part of their snapshot definition
+        setChangeJournal(
+            changeJournalRef,
+            (absSnap, ignored) ->
+            {
+                Snapshot snap = (Snapshot) absSnap;
+                return ObjectChange.snapshot(
+                    ObjectChange.Action.MODIFY,
+                    snap.getResourceName(),
+                    snap.getSnapshotName()
+                );
+            }
+        );
+
         Function<Instant, Object> createTimestampTypeMapper;
 
         setColumnSetter(UUID, snap -> snap.getUuid().toString());
@@ -16,6 +16,8 @@ import com.linbit.linstor.dbdrivers.DbEngine;
 import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.dbdrivers.RawParameters;
 import com.linbit.linstor.dbdrivers.interfaces.SnapshotDefinitionCtrlDatabaseDriver;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.PropsContainerFactory;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
@@ -62,7 +64,8 @@ public final class SnapshotDefinitionDbDriver
         DbEngine dbEngineRef,
         Provider<TransactionMgr> transMgrProviderRef,
         PropsContainerFactory propsContainerFactoryRef,
-        TransactionObjectFactory transObjFactoryRef
+        TransactionObjectFactory transObjFactoryRef,
+        ChangeJournal changeJournalRef
     )
     {
         super(errorReporterRef, GeneratedDatabaseTables.RESOURCE_DEFINITIONS, dbEngineRef);
@@ -71,6 +74,11 @@ public final class SnapshotDefinitionDbDriver
         propsContainerFactory = propsContainerFactoryRef;
         transObjFactory = transObjFactoryRef;
 
+        setChangeJournal(
+            changeJournalRef,
+            (snapDfn, action) -> ObjectChange.snapshot(action, snapDfn.getResourceName(), snapDfn.getName())
+        );
+
         setColumnSetter(UUID, snapDfn -> snapDfn.getUuid().toString());
         setColumnSetter(RESOURCE_NAME, snapDfn -> snapDfn.getResourceName().value);
         setColumnSetter(SNAPSHOT_NAME, snapDfn -> snapDfn.getName().value);
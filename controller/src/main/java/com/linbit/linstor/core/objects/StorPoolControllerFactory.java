@@ -42,19 +42,22 @@ public class StorPoolControllerFactory
     private final PropsContainerFactory propsContainerFactory;
     private final TransactionObjectFactory transObjFactory;
     private final Provider<TransactionMgr> transMgrProvider;
+    private final CtrlPropsIndexes propsIndexes;
 
     @Inject
     public StorPoolControllerFactory(
         StorPoolDatabaseDriver driverRef,
         PropsContainerFactory propsContainerFactoryRef,
         TransactionObjectFactory transObjFactoryRef,
-        Provider<TransactionMgr> transMgrProviderRef
+        Provider<TransactionMgr> transMgrProviderRef,
+        CtrlPropsIndexes propsIndexesRef
     )
     {
         driver = driverRef;
         propsContainerFactory = propsContainerFactoryRef;
         transObjFactory = transObjFactoryRef;
         transMgrProvider = transMgrProviderRef;
+        propsIndexes = propsIndexesRef;
     }
 
     public StorPool create(
@@ -104,6 +107,7 @@ public class StorPoolControllerFactory
         driver.create(storPool);
         node.addStorPool(storPool);
         storPoolDef.addStorPool(storPool);
+        propsIndexes.getStorPoolIndex().add(storPool, storPool.getProps());
 
         setDefaultProps(storPool);
 
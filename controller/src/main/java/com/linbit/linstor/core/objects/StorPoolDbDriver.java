@@ -47,6 +47,7 @@ public final class StorPoolDbDriver
     private final Provider<TransactionMgr> transMgrProvider;
     private final PropsContainerFactory propsContainerFactory;
     private final TransactionObjectFactory transObjFactory;
+    private final CtrlPropsIndexes propsIndexes;
 
     private final Map<SharedStorPoolName, FreeSpaceMgr> freeSpaceMgrMap;
 
@@ -56,13 +57,15 @@ public final class StorPoolDbDriver
         DbEngine dbEngineRef,
         Provider<TransactionMgr> transMgrProviderRef,
         PropsContainerFactory propsContainerFactoryRef,
-        TransactionObjectFactory transObjFactoryRef
+        TransactionObjectFactory transObjFactoryRef,
+        CtrlPropsIndexes propsIndexesRef
     )
     {
         super(errorReporterRef, GeneratedDatabaseTables.NODE_STOR_POOL, dbEngineRef);
         transMgrProvider = transMgrProviderRef;
         propsContainerFactory = propsContainerFactoryRef;
         transObjFactory = transObjFactoryRef;
+        propsIndexes = propsIndexesRef;
 
         freeSpaceMgrMap = new TreeMap<>();
 
@@ -103,23 +106,23 @@ public final class StorPoolDbDriver
         final Map<String, VlmProviderObject<Resource>> vlmMap = new TreeMap<>();
         final Map<String, VlmProviderObject<Snapshot>> snapVlmMap = new TreeMap<>();
 
-        return new Pair<>(
-            new StorPool(
-                raw.build(UUID, java.util.UUID::fromString),
-                parent.objA.get(nodeName),
-                parent.objB.get(poolName),
-                LinstorParsingUtils.asProviderKind(raw.<String>get(DRIVER_NAME)),
-                fsm,
-                externalLocking,
-                this,
-                propsContainerFactory,
-                transObjFactory,
-                transMgrProvider,
-                vlmMap,
-                snapVlmMap
-            ),
-            new InitMapsImpl(vlmMap, snapVlmMap)
+        final StorPool storPool = new StorPool(
+            raw.build(UUID, java.util.UUID::fromString),
+            parent.objA.get(nodeName),
+            parent.objB.get(poolName),
+            LinstorParsingUtils.asProviderKind(raw.<String>get(DRIVER_NAME)),
+            fsm,
+            externalLocking,
+            this,
+            propsContainerFactory,
+            transObjFactory,
+            transMgrProvider,
+            vlmMap,
+            snapVlmMap
         );
+        propsIndexes.getStorPoolIndex().add(storPool, storPool.getProps());
+
+        return new Pair<>(storPool, new InitMapsImpl(vlmMap, snapVlmMap));
     }
 
     private FreeSpaceMgr restore(SharedStorPoolName sharedStorPoolNameRef) throws DatabaseException
@@ -13,6 +13,8 @@ import com.linbit.linstor.dbdrivers.DbEngine;
 import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.dbdrivers.RawParameters;
 import com.linbit.linstor.dbdrivers.interfaces.VolumeCtrlDatabaseDriver;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.PropsContainerFactory;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
@@ -58,7 +60,8 @@ public final class VolumeDbDriver
         DbEngine dbEngineRef,
         Provider<TransactionMgr> transMgrProviderRef,
         PropsContainerFactory propsContainerFactoryRef,
-        TransactionObjectFactory transObjFactoryRef
+        TransactionObjectFactory transObjFactoryRef,
+        ChangeJournal changeJournalRef
     )
     {
         super(errorReporterRef, GeneratedDatabaseTables.VOLUMES, dbEngineRef);
@@ -66,6 +69,16 @@ public final class VolumeDbDriver
         propsContainerFactory = propsContainerFactoryRef;
         transObjFactory = transObjFactoryRef;
 
+        setChangeJournal(
+            changeJournalRef,
+            (vlm, action) -> ObjectChange.vlm(
+                action,
+                vlm.getAbsResource().getNode().getName(),
+                vlm.getResourceDefinition().getName(),
+                vlm.getVolumeDefinition().getVolumeNumber()
+            )
+        );
+
         setColumnSetter(UUID, vlm -> vlm.getUuid().toString());
         setColumnSetter(NODE_NAME, vlm -> vlm.getAbsResource().getNode().getName().value);
         setColumnSetter(RESOURCE_NAME, vlm -> vlm.getResourceDefinition().getName().value);
@@ -15,6 +15,8 @@ import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.dbdrivers.RawParameters;
 import com.linbit.linstor.dbdrivers.interfaces.VolumeDefinitionCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.PropsContainerFactory;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
@@ -55,7 +57,8 @@ public final class VolumeDefinitionDbDriver extends
         DbEngine dbEngineRef,
         Provider<TransactionMgr> transMgrProviderRef,
         PropsContainerFactory propsContainerFactoryRef,
-        TransactionObjectFactory transObjFactoryRef
+        TransactionObjectFactory transObjFactoryRef,
+        ChangeJournal changeJournalRef
     )
     {
         super(
@@ -67,6 +70,15 @@ public final class VolumeDefinitionDbDriver extends
         propsContainerFactory = propsContainerFactoryRef;
         transObjFactory = transObjFactoryRef;
 
+        // volume definitions are part of their resource definition
+        setChangeJournal(
+            changeJournalRef,
+            (vlmDfn, ignored) -> ObjectChange.rscDfn(
+                ObjectChange.Action.MODIFY,
+                vlmDfn.getResourceDefinition().getName()
+            )
+        );
+
         setColumnSetter(UUID, vlmDfn -> vlmDfn.getUuid().toString());
         setColumnSetter(RESOURCE_NAME, vlmDfn -> vlmDfn.getResourceDefinition().getName().value);
         setColumnSetter(VLM_NR, vlmDfn -> vlmDfn.getVolumeNumber().value);
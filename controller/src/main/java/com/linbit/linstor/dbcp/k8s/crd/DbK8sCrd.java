@@ -27,6 +27,7 @@ import com.linbit.linstor.transaction.ControllerK8sCrdTransactionMgrGenerator;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -34,10 +35,16 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Provider;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionList;
@@ -482,12 +489,69 @@ public class DbK8sCrd implements ControllerK8sCrdDatabase
         return k8sCachingClient.computeIfAbsent(clazz, c -> new K8sCachingClient<>(k8sClient.resources(c)));
     }
 
+    @Override
+    public void preloadCachingClients(
+        List<Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>>> crdClasses,
+        int parallelism
+    )
+        throws DatabaseException
+    {
+        List<Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>>> missingClasses = new ArrayList<>();
+        for (Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>> clazz : crdClasses)
+        {
+            if (!k8sCachingClient.containsKey(clazz))
+            {
+                missingClasses.add(clazz);
+            }
+        }
+        if (!missingClasses.isEmpty())
+        {
+            // only the list requests run concurrently, the map of caching clients is only filled by this thread
+            ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(parallelism, missingClasses.size())),
+                new ThreadFactoryBuilder().setNameFormat("K8sCrdPreload_%04d").setDaemon(true).build()
+            );
+            try
+            {
+                List<Future<K8sResourceClient<?>>> futures = new ArrayList<>();
+                for (Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>> clazz : missingClasses)
+                {
+                    Callable<K8sResourceClient<?>> listCall = () -> new K8sCachingClient<>(k8sClient.resources(clazz));
+                    futures.add(executor.submit(listCall));
+                }
+                for (int idx = 0; idx < missingClasses.size(); ++idx)
+                {
+                    k8sCachingClient.put(missingClasses.get(idx), futures.get(idx).get());
+                }
+            }
+            catch (InterruptedException exc)
+            {
+                Thread.currentThread().interrupt();
+                throw new DatabaseException("Interrupted while loading custom resources", exc);
+            }
+            catch (ExecutionException exc)
+            {
+                throw new DatabaseException("Failed to load custom resources", exc.getCause());
+            }
+            finally
+            {
+                executor.shutdownNow();
+            }
+        }
+    }
+
     @Override
     public int getMaxRollbackEntries()
     {
         return ctrlCfg.getK8sMaxRollbackEntries();
     }
 
+    @Override
+    public int getMaxParallelRequests()
+    {
+        return ctrlCfg.getK8sMaxParallelRequests();
+    }
+
     @Override
     public void clearCache()
     {
@@ -18,6 +18,8 @@ import com.linbit.linstor.dbdrivers.interfaces.updater.MapDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
 import com.linbit.linstor.dbdrivers.k8s.crd.GenCrdCurrent;
 import com.linbit.linstor.dbdrivers.k8s.crd.LinstorSpec;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.stateflags.Flags;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
@@ -62,6 +64,9 @@ public abstract class AbsDatabaseDriver<DATA extends Comparable<? super DATA>, I
 
     private final Map<Column, Function<DATA, Object>> setters;
 
+    private @Nullable ChangeJournal changeJournal;
+    private @Nullable ObjectChange.Mapper<DATA> changeMapper;
+
     protected AbsDatabaseDriver(
         ErrorReporter errorReporterRef,
         @Nullable DatabaseTable tableRef,
@@ -102,6 +107,7 @@ public abstract class AbsDatabaseDriver<DATA extends Comparable<? super DATA>, I
         if (table != null)
         {
             dbEngine.create(setters, dataRef, table, this::getId);
+            recordChange(dataRef, ObjectChange.Action.CREATE);
         }
     }
 
@@ -121,6 +127,7 @@ public abstract class AbsDatabaseDriver<DATA extends Comparable<? super DATA>, I
         if (table != null)
         {
             dbEngine.delete(setters, dataRef, table, this::getId);
+            recordChange(dataRef, ObjectChange.Action.DELETE);
         }
     }
 
@@ -180,7 +187,12 @@ public abstract class AbsDatabaseDriver<DATA extends Comparable<? super DATA>, I
         Class<FLAG> flagsClass
     )
     {
-        return dbEngine.generateFlagsDriver(setters, col, flagsClass, this::getId);
+        StateFlagsPersistence<DATA> flagsDriver = dbEngine.generateFlagsDriver(setters, col, flagsClass, this::getId);
+        return (data, oldFlagBits, newFlagBits) ->
+        {
+            flagsDriver.persist(data, oldFlagBits, newFlagBits);
+            recordChange(data, ObjectChange.Action.MODIFY);
+        };
     }
 
     protected <INPUT_TYPE, DB_TYPE> SingleColumnDatabaseDriver<DATA, INPUT_TYPE> generateSingleColumnDriver(
@@ -189,13 +201,15 @@ public abstract class AbsDatabaseDriver<DATA extends Comparable<? super DATA>, I
         Function<INPUT_TYPE, DB_TYPE> typeMapper
     )
     {
-        return dbEngine.generateSingleColumnDriver(
-            setters,
-            col,
-            typeMapper,
-            this::getId,
-            dataValueToString,
-            Objects::toString
+        return recordingModifications(
+            dbEngine.generateSingleColumnDriver(
+                setters,
+                col,
+                typeMapper,
+                this::getId,
+                dataValueToString,
+                Objects::toString
+            )
         );
     }
 
@@ -206,13 +220,15 @@ public abstract class AbsDatabaseDriver<DATA extends Comparable<? super DATA>, I
         DataToString<INPUT_TYPE> inputToStringRef
     )
     {
-        return dbEngine.generateSingleColumnDriver(
-            setters,
-            col,
-            typeMapper,
-            this::getId,
-            dataValueToString,
-            inputToStringRef
+        return recordingModifications(
+            dbEngine.generateSingleColumnDriver(
+                setters,
+                col,
+                typeMapper,
+                this::getId,
+                dataValueToString,
+                inputToStringRef
+            )
         );
     }
 
@@ -220,14 +236,64 @@ public abstract class AbsDatabaseDriver<DATA extends Comparable<? super DATA>, I
         Column col
     )
     {
-        return dbEngine.generateCollectionToJsonStringArrayDriver(setters, col, this::getId);
+        CollectionDatabaseDriver<DATA, LIST_TYPE> collDriver = dbEngine.generateCollectionToJsonStringArrayDriver(
+            setters,
+            col,
+            this::getId
+        );
+        return new CollectionDatabaseDriver<>()
+        {
+            @Override
+            public void insert(DATA data, LIST_TYPE value, Collection<LIST_TYPE> backingCollection)
+                throws DatabaseException
+            {
+                collDriver.insert(data, value, backingCollection);
+                recordChange(data, ObjectChange.Action.MODIFY);
+            }
+
+            @Override
+            public void remove(DATA data, LIST_TYPE value, Collection<LIST_TYPE> backingCollection)
+                throws DatabaseException
+            {
+                collDriver.remove(data, value, backingCollection);
+                recordChange(data, ObjectChange.Action.MODIFY);
+            }
+        };
     }
 
     protected <KEY, VALUE> MapDatabaseDriver<DATA, KEY, VALUE> generateMapToJsonStringArrayDriver(
         Column col
     )
     {
-        return dbEngine.generateMapToJsonStringArrayDriver(setters, col, this::getId);
+        MapDatabaseDriver<DATA, KEY, VALUE> mapDriver = dbEngine.generateMapToJsonStringArrayDriver(
+            setters,
+            col,
+            this::getId
+        );
+        return new MapDatabaseDriver<>()
+        {
+            @Override
+            public void insert(DATA data, Map<KEY, VALUE> backingMap, KEY key, VALUE value) throws DatabaseException
+            {
+                mapDriver.insert(data, backingMap, key, value);
+                recordChange(data, ObjectChange.Action.MODIFY);
+            }
+
+            @Override
+            public void update(DATA data, Map<KEY, VALUE> backingMap, KEY key, VALUE oldValue, VALUE newValue)
+                throws DatabaseException
+            {
+                mapDriver.update(data, backingMap, key, oldValue, newValue);
+                recordChange(data, ObjectChange.Action.MODIFY);
+            }
+
+            @Override
+            public void delete(DATA data, Map<KEY, VALUE> backingMap, KEY key, VALUE value) throws DatabaseException
+            {
+                mapDriver.delete(data, backingMap, key, value);
+                recordChange(data, ObjectChange.Action.MODIFY);
+            }
+        };
     }
 
     @SafeVarargs
@@ -238,6 +304,39 @@ public abstract class AbsDatabaseDriver<DATA extends Comparable<? super DATA>, I
         return new MultiColumnDriver<>(singleColumnDriversRef);
     }
 
+    /**
+     * Records every creation, modification and deletion of DATA in the given {@link ChangeJournal}, as the change of
+     * the watchable object returned by the given mapper.
+     */
+    protected void setChangeJournal(ChangeJournal changeJournalRef, ObjectChange.Mapper<DATA> changeMapperRef)
+    {
+        changeJournal = changeJournalRef;
+        changeMapper = changeMapperRef;
+    }
+
+    private void recordChange(DATA data, ObjectChange.Action action)
+    {
+        if (changeJournal != null && changeMapper != null)
+        {
+            @Nullable ObjectChange change = changeMapper.map(data, action);
+            if (change != null)
+            {
+                changeJournal.record(change);
+            }
+        }
+    }
+
+    private <INPUT_TYPE> SingleColumnDatabaseDriver<DATA, INPUT_TYPE> recordingModifications(
+        SingleColumnDatabaseDriver<DATA, INPUT_TYPE> driver
+    )
+    {
+        return (data, oldElement) ->
+        {
+            driver.update(data, oldElement);
+            recordChange(data, ObjectChange.Action.MODIFY);
+        };
+    }
+
     protected void setColumnSetter(
         Column colRef,
         Function<DATA, Object> setterRef
@@ -17,6 +17,7 @@ import com.linbit.linstor.core.CoreModule.ExternalFileMap;
 import com.linbit.linstor.core.CoreModule.RemoteMap;
 import com.linbit.linstor.core.CoreModule.ScheduleMap;
 import com.linbit.linstor.core.LinStor;
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.core.identifier.ExternalFileName;
 import com.linbit.linstor.core.identifier.KeyValueStoreName;
 import com.linbit.linstor.core.identifier.NodeName;
@@ -85,6 +86,7 @@ import com.linbit.linstor.dbdrivers.interfaces.remotes.S3RemoteCtrlDatabaseDrive
 import com.linbit.linstor.layer.LayerPayload;
 import com.linbit.linstor.layer.resource.AbsRscLayerHelper;
 import com.linbit.linstor.layer.resource.CtrlRscLayerDataFactory;
+import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.InvalidKeyException;
 import com.linbit.linstor.propscon.Props;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
@@ -110,6 +112,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -124,6 +127,43 @@ public class DatabaseLoader implements DatabaseDriver
 {
     public static final ServiceName DFLT_SERVICE_INSTANCE_NAME;
 
+    /**
+     * All tables read by {@link #loadCoreObjects()}, in the order they are loaded
+     */
+    private static final List<DatabaseTable> LOAD_ORDER = List.of(
+        GeneratedDatabaseTables.PROPS_CONTAINERS,
+        GeneratedDatabaseTables.RESOURCE_GROUPS,
+        GeneratedDatabaseTables.VOLUME_GROUPS,
+        GeneratedDatabaseTables.NODES,
+        GeneratedDatabaseTables.RESOURCE_DEFINITIONS,
+        GeneratedDatabaseTables.STOR_POOL_DEFINITIONS,
+        GeneratedDatabaseTables.FILES,
+        GeneratedDatabaseTables.S3_REMOTES,
+        GeneratedDatabaseTables.LINSTOR_REMOTES,
+        GeneratedDatabaseTables.EBS_REMOTES,
+        GeneratedDatabaseTables.SCHEDULES,
+        GeneratedDatabaseTables.NODE_NET_INTERFACES,
+        GeneratedDatabaseTables.NODE_CONNECTIONS,
+        GeneratedDatabaseTables.NODE_STOR_POOL,
+        GeneratedDatabaseTables.RESOURCES,
+        GeneratedDatabaseTables.RESOURCE_CONNECTIONS,
+        GeneratedDatabaseTables.VOLUME_DEFINITIONS,
+        GeneratedDatabaseTables.VOLUMES,
+        GeneratedDatabaseTables.VOLUME_CONNECTIONS,
+        GeneratedDatabaseTables.KEY_VALUE_STORE,
+        GeneratedDatabaseTables.LAYER_RESOURCE_IDS,
+        GeneratedDatabaseTables.LAYER_DRBD_RESOURCE_DEFINITIONS,
+        GeneratedDatabaseTables.LAYER_DRBD_VOLUME_DEFINITIONS,
+        GeneratedDatabaseTables.LAYER_DRBD_RESOURCES,
+        GeneratedDatabaseTables.LAYER_DRBD_VOLUMES,
+        GeneratedDatabaseTables.LAYER_LUKS_VOLUMES,
+        GeneratedDatabaseTables.LAYER_STORAGE_VOLUMES,
+        GeneratedDatabaseTables.LAYER_CACHE_VOLUMES,
+        GeneratedDatabaseTables.LAYER_BCACHE_VOLUMES,
+        GeneratedDatabaseTables.LAYER_WRITECACHE_VOLUMES,
+        GeneratedDatabaseTables.AUTH_TOKENS
+    );
+
     static
     {
         try
@@ -182,6 +222,9 @@ public class DatabaseLoader implements DatabaseDriver
     private final CtrlStorPoolResolveHelper storPoolResolveHelper;
     private final RemoteMap remoteMap;
     private final ScheduleMap scheduleMap;
+    private final DbEngine dbEngine;
+    private final CtrlConfig ctrlCfg;
+    private final ErrorReporter errorReporter;
 
     @Inject
     public DatabaseLoader(
@@ -226,7 +269,10 @@ public class DatabaseLoader implements DatabaseDriver
         CoreModule.ExternalFileMap extFileMapRef,
         CtrlStorPoolResolveHelper storPoolResolveHelperRef,
         CoreModule.RemoteMap remoteMapRef,
-        CoreModule.ScheduleMap scheduleMapRef
+        CoreModule.ScheduleMap scheduleMapRef,
+        DbEngine dbEngineRef,
+        CtrlConfig ctrlCfgRef,
+        ErrorReporter errorReporterRef
     )
     {
         propsDriver = propsDriverRef;
@@ -272,6 +318,9 @@ public class DatabaseLoader implements DatabaseDriver
         remoteMap = remoteMapRef;
         scheduleMap = scheduleMapRef;
         authTokenMap = authTokenMapRef;
+        dbEngine = dbEngineRef;
+        ctrlCfg = ctrlCfgRef;
+        errorReporter = errorReporterRef;
 
         ArrayList<DeviceLayerKind> layerKindsWithoutDriver = new ArrayList<>();
         for (DeviceLayerKind kind : DeviceLayerKind.values())
@@ -304,11 +353,20 @@ public class DatabaseLoader implements DatabaseDriver
              */
             storPoolResolveHelper.setEnableChecks(false);
 
+            /*
+             * The tables are fetched concurrently in the background (if configured), while the object graph is still
+             * built stage by stage, since every stage needs the objects of the previous stages as parents.
+             */
+            final long loadStart = System.nanoTime();
+            dbEngine.prefetch(LOAD_ORDER, ctrlCfg.getDbLoadParallelism());
+            long stageStart = loadStart;
+
             propsDriver.loadAll(null); // will load into cache
 
             // depends on loaded (cached) props
             ctrlConf.loadAll();
             stltConf.loadAll();
+            stageStart = logStageFinished("properties", stageStart);
 
             // load the resource groups
             Map<ResourceGroup, ResourceGroup.InitMaps> loadedRscGroupsMap =
@@ -366,6 +424,10 @@ public class DatabaseLoader implements DatabaseDriver
             tmpRemoteMap.putAll(mapByName(loadedLinstorRemotesMap, LinstorRemote::getName));
             tmpRemoteMap.putAll(mapByName(loadedEbsRemotesMap, EbsRemote::getName));
             Map<ScheduleName, Schedule> tmpScheduleMap = mapByName(loadedSchedulesMap, Schedule::getName);
+            stageStart = logStageFinished(
+                "resource groups, nodes, resource definitions, storage pool definitions, files, remotes and schedules",
+                stageStart
+            );
 
 
             // loading net interfaces
@@ -411,6 +473,7 @@ public class DatabaseLoader implements DatabaseDriver
             }
             // loading free space managers
             Map<SharedStorPoolName, FreeSpaceMgr> tmpFreeSpaceMgrMap = storPoolDriver.getAllLoadedFreeSpaceMgrs();
+            stageStart = logStageFinished("net interfaces, node connections and storage pools", stageStart);
 
             // loading resources
             Map<AbsResource<Resource>, Resource.InitMaps> loadedAbsResources =
@@ -444,6 +507,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedResources.get(sourceResource).getRscConnMap().put(targetResource.getKey(), rscConn);
                 loadedResources.get(targetResource).getRscConnMap().put(sourceResource.getKey(), rscConn);
             }
+            stageStart = logStageFinished("resources and resource connections", stageStart);
 
             // loading volume definitions
             Map<VolumeDefinition, VolumeDefinition.InitMaps> loadedVlmDfnMap =
@@ -495,6 +559,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedVolumes.get(sourceVolume).getVolumeConnections().put(targetVolume.getKey(), vlmConn);
                 loadedVolumes.get(targetVolume).getVolumeConnections().put(sourceVolume.getKey(), vlmConn);
             }
+            stageStart = logStageFinished("volume definitions, volumes and volume connections", stageStart);
 
             // loading snapshot definitions
             Map<SnapshotDefinition, SnapshotDefinition.InitMaps> loadedSnapshotDfns = snapshotDefinitionDriver.loadAll(
@@ -574,6 +639,8 @@ public class DatabaseLoader implements DatabaseDriver
                     .put(snapshotVolume.getNodeName(), snapshotVolume);
             }
 
+            stageStart = logStageFinished("snapshots", stageStart);
+
             // load and put key value store map
             Map<KeyValueStore, KeyValueStore.InitMaps> loadedKeyValueStoreMap =
                 Collections.unmodifiableMap(keyValueStoreGenericDbDriver.loadAll(null));
@@ -618,6 +685,8 @@ public class DatabaseLoader implements DatabaseDriver
                 tmpStorPoolMapForLayers
             );
 
+            stageStart = logStageFinished("key value stores and layer data", stageStart);
+
             // load external names
             for (ResourceDefinition rscDfn : tmpRscDfnMap.values())
             {
@@ -640,10 +709,16 @@ public class DatabaseLoader implements DatabaseDriver
             Map<Integer, AuthToken> tmpAuthTokenMap =
                 mapByName(loadedAuthTokensMap, AuthToken::getId);
             authTokenMap.putAll(tmpAuthTokenMap);
+            logStageFinished("external names and auth tokens", stageStart);
 
             AbsRscLayerHelper.databaseLoadingFinished();
 
             propsDriver.clearCache();
+
+            errorReporter.logInfo(
+                "Database loading finished in %d ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStart)
+            );
         }
         catch (InvalidKeyException exc)
         {
@@ -659,10 +734,25 @@ public class DatabaseLoader implements DatabaseDriver
         }
         finally
         {
+            dbEngine.clearPrefetched();
             storPoolResolveHelper.setEnableChecks(true);
         }
     }
 
+    /**
+     * Logs the time since the given start of the stage and returns the start time of the next stage
+     */
+    private long logStageFinished(String stageDescription, long stageStart)
+    {
+        long now = System.nanoTime();
+        errorReporter.logDebug(
+            "Database loading: %s loaded in %d ms",
+            stageDescription,
+            TimeUnit.NANOSECONDS.toMillis(now - stageStart)
+        );
+        return now;
+    }
+
     public static <NAME, DATA, IN_DATA extends DATA> TreeMap<NAME, DATA> mapByName(
         Map<IN_DATA, ?> map,
         Function<IN_DATA, NAME> nameMapper
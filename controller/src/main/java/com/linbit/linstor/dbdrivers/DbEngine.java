@@ -337,6 +337,28 @@ public interface DbEngine
         throws DatabaseException, InvalidNameException, InvalidIpAddressException,
         ValueOutOfRangeException, MdException, ValueInUseException, ExhaustedPoolException;
 
+    /**
+     * Starts fetching all entries of the given tables concurrently, using at most <code>parallelism</code> threads
+     * (and database connections or API server requests). Following {@link #loadAll} calls for these tables use the
+     * prefetched entries instead of querying the database again, waiting for the fetch to finish if necessary.
+     * Tables should be given in the order they will be loaded.
+     *
+     * The entries are fetched outside of the current transaction, so this must only be used while the current
+     * transaction has not written anything yet, i.e. when loading the database during startup. Prefetched entries are
+     * dropped as soon as something is written through this engine.
+     *
+     * @param tables
+     *     The tables to fetch
+     * @param parallelism
+     *     The maximum number of tables fetched at the same time. Values below 2 disable prefetching.
+     */
+    void prefetch(List<DatabaseTable> tables, int parallelism) throws DatabaseException;
+
+    /**
+     * Drops all prefetched entries and stops fetching the remaining ones
+     */
+    void clearPrefetched();
+
     String getDbDump() throws DatabaseException;
 
     @Deprecated(since = "v1.34.0")
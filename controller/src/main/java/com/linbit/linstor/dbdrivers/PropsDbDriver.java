@@ -4,6 +4,8 @@ import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.dbdrivers.interfaces.PropsCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.PropsDatabaseDriver.PropsDbEntry;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.event.journal.ChangeJournal;
+import com.linbit.linstor.event.journal.ObjectChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.utils.Pair;
 
@@ -31,11 +33,18 @@ public class PropsDbDriver extends AbsDatabaseDriver<PropsDbEntry, Void, Void>
     @Inject
     public PropsDbDriver(
         ErrorReporter errorReporterRef,
-        DbEngine dbEngineRef
+        DbEngine dbEngineRef,
+        ChangeJournal changeJournalRef
     )
     {
         super(errorReporterRef, PROPS_CONTAINERS, dbEngineRef);
 
+        // properties are part of the object owning them
+        setChangeJournal(
+            changeJournalRef,
+            (propDbEntry, ignored) -> ObjectChange.forPropsInstance(propDbEntry.propsInstance)
+        );
+
         setColumnSetter(
             PROPS_INSTANCE,
             propDbEntry -> propDbEntry.propsInstance.toUpperCase()
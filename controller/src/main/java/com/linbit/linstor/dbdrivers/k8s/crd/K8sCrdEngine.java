@@ -427,6 +427,40 @@ public class K8sCrdEngine implements DbEngine
         return dateRef != null ? dateRef.toEpochMilli() : null;
     }
 
+    @Override
+    public void prefetch(List<DatabaseTable> tables, int parallelism) throws DatabaseException
+    {
+        if (parallelism > 1)
+        {
+            List<Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>>> crdClasses = new ArrayList<>();
+            for (DatabaseTable table : tables)
+            {
+                addCrdClass(crdClasses, table);
+            }
+            // the caching clients list all custom resources of their type once and serve loadAll from their cache,
+            // so creating them concurrently is all that is needed here
+            ctrlK8sCrdDbProvider.get().preloadCachingClients(crdClasses, parallelism);
+        }
+    }
+
+    @Override
+    public void clearPrefetched()
+    {
+        // noop, the caching clients are kept for as long as the controller is running
+    }
+
+    private static <CRD extends LinstorCrd<SPEC>, SPEC extends LinstorSpec<CRD, SPEC>> void addCrdClass(
+        List<Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>>> crdClasses,
+        DatabaseTable table
+    )
+    {
+        @Nullable Class<CRD> crdClass = GenCrdCurrent.databaseTableToCustomResourceClass(table);
+        if (crdClass != null)
+        {
+            crdClasses.add(crdClass);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public String getDbDump() throws DatabaseException
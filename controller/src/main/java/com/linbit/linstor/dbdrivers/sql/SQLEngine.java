@@ -6,6 +6,8 @@ import com.linbit.InvalidNameException;
 import com.linbit.ValueInUseException;
 import com.linbit.ValueOutOfRangeException;
 import com.linbit.drbd.md.MdException;
+import com.linbit.linstor.ControllerDatabase;
+import com.linbit.linstor.ControllerSQLDatabase;
 import com.linbit.linstor.LinStorDBRuntimeException;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRc;
@@ -28,6 +30,7 @@ import com.linbit.linstor.dbdrivers.sql.dump.SqlDump;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.stateflags.Flags;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
+import com.linbit.linstor.transaction.manager.SQLWriteBuffer;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.Pair;
 
@@ -44,14 +47,22 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 @Singleton
 public class SQLEngine implements DbEngine
 {
@@ -71,17 +82,24 @@ public class SQLEngine implements DbEngine
     private final HashMap<DatabaseTable, String> deleteStatements;
     private final HashMap<DatabaseTable, String> truncateStatements;
     private final CtrlConfig ctrlCfg;
+    private final ControllerSQLDatabase controllerDatabase;
+
+    private final ConcurrentHashMap<DatabaseTable, Future<List<RawParameters>>> prefetchedTables;
+    private @Nullable ExecutorService prefetchExecutor;
 
     @Inject
     public SQLEngine(
         ErrorReporter errorReporterRef,
         Provider<TransactionMgrSQL> transMgrProviderRef,
-        CtrlConfig ctrlCfgRef
+        CtrlConfig ctrlCfgRef,
+        ControllerDatabase controllerDatabaseRef
     )
     {
         errorReporter = errorReporterRef;
         transMgrProvider = transMgrProviderRef;
         ctrlCfg = ctrlCfgRef;
+        controllerDatabase = (ControllerSQLDatabase) controllerDatabaseRef;
+        prefetchedTables = new ConcurrentHashMap<>();
 
         selectAllStatements = new HashMap<>();
         selectSingleStatements = new HashMap<>();
@@ -140,7 +158,12 @@ public class SQLEngine implements DbEngine
     {
         errorReporter.logTrace("Creating %s %s", table.getName(), dataToString.toString(data));
 
-        insertImpl(setters, data, table);
+        Object[] values = getValues(setters, table, ignored -> true, data);
+        getWriteBuffer().add(
+            table,
+            getInsertStatement(table),
+            stmt -> setValues(stmt, 1, table, ignored -> true, values)
+        );
 
         errorReporter.logTrace("%s created %s", table.getName(), dataToString.toString(data));
     }
@@ -240,6 +263,7 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException
     {
+        dropPrefetchedOnWrite();
         try (PreparedStatement upsertStmt = getConnection().prepareStatement(getSelectSingleStatement(tableRef)))
         {
             errorReporter.logTrace("Upserting %s %s", tableRef.getName(), dataToStringRef.toString(dataRef));
@@ -348,20 +372,16 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(getDeleteStatement(table)))
-        {
-            errorReporter.logTrace("Deleting %s %s", table.getName(), dataToString.toString(data));
-
-            setPrimaryValues(setters, stmt, 1, table, data);
+        errorReporter.logTrace("Deleting %s %s", table.getName(), dataToString.toString(data));
 
-            stmt.executeUpdate();
+        Object[] pkValues = getPrimaryValues(setters, table, data);
+        getWriteBuffer().add(
+            table,
+            getDeleteStatement(table),
+            stmt -> setPrimaryValues(stmt, 1, table, pkValues)
+        );
 
-            errorReporter.logTrace("%s deleted %s", table.getName(), dataToString.toString(data));
-        }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
-        }
+        errorReporter.logTrace("%s deleted %s", table.getName(), dataToString.toString(data));
     }
 
     private String getDeleteStatement(DatabaseTable table)
@@ -389,6 +409,7 @@ public class SQLEngine implements DbEngine
     @Override
     public void truncate(DatabaseTable table) throws DatabaseException
     {
+        dropPrefetchedOnWrite();
         try (PreparedStatement stmt = getConnection().prepareStatement(getTruncateStatement(table)))
         {
             errorReporter.logTrace("Truncating table %s", table.getName());
@@ -486,44 +507,57 @@ public class SQLEngine implements DbEngine
         throws DatabaseException, MdException
     {
         Map<DATA, INIT_MAPS> loadedObjectsMap = new TreeMap<>();
-        try (PreparedStatement stmt = getConnection().prepareStatement(getSelectAllStatement(table)))
+        @Nullable Future<List<RawParameters>> prefetched = prefetchedTables.get(table);
+        if (prefetched != null)
         {
-            try (ResultSet resultSet = stmt.executeQuery())
+            for (RawParameters rawParams : awaitPrefetched(table, prefetched))
             {
-                while (resultSet.next())
+                addRestoredData(loadedObjectsMap, restoreData(table, rawParams, parentsRef, dataLoaderRef));
+            }
+        }
+        else
+        {
+            try (PreparedStatement stmt = getConnection().prepareStatement(getSelectAllStatement(table)))
+            {
+                try (ResultSet resultSet = stmt.executeQuery())
                 {
-                    Pair<DATA, INIT_MAPS> pair = restoreData(
-                        table, resultSet, parentsRef, dataLoaderRef
-                    );
-                    // pair might be null when loading objects sharing the same table.
-                    // For example SnapshotDbDriver will return null when finding a Resource entry
-                    // and vice versa.
-                    if (pair != null)
+                    while (resultSet.next())
                     {
-                        loadedObjectsMap.put(pair.objA, pair.objB);
+                        RawParameters rawParams = buildRawParams(table, resultSet, table.values(), new TreeMap<>());
+                        addRestoredData(loadedObjectsMap, restoreData(table, rawParams, parentsRef, dataLoaderRef));
                     }
                 }
             }
+            catch (SQLException exc)
+            {
+                throw new DatabaseException(exc);
+            }
         }
-        catch (SQLException exc)
+        return loadedObjectsMap;
+    }
+
+    private static <DATA, INIT_MAPS> void addRestoredData(
+        Map<DATA, INIT_MAPS> loadedObjectsMapRef,
+        @Nullable Pair<DATA, INIT_MAPS> pairRef
+    )
+    {
+        // pair might be null when loading objects sharing the same table.
+        // For example SnapshotDbDriver will return null when finding a Resource entry
+        // and vice versa.
+        if (pairRef != null)
         {
-            throw new DatabaseException(exc);
+            loadedObjectsMapRef.put(pairRef.objA, pairRef.objB);
         }
-        return loadedObjectsMap;
     }
 
     private <DATA, INIT_MAPS, LOAD_ALL> Pair<DATA, INIT_MAPS> restoreData(
         DatabaseTable table,
-        ResultSet resultSet,
+        RawParameters rawParams,
         LOAD_ALL parents,
         DataLoader<DATA, INIT_MAPS, LOAD_ALL> dataLoader
     )
         throws DatabaseException, MdException
     {
-        Column[] columns = table.values();
-        Map<String, Object> objects = new TreeMap<>();
-        RawParameters rawParams = buildRawParams(table, resultSet, columns, objects);
-
         Pair<DATA, INIT_MAPS> pair;
         try
         {
@@ -537,11 +571,12 @@ public class SQLEngine implements DbEngine
             ValueInUseException | ExhaustedPoolException exc)
         {
             StringBuilder pk = new StringBuilder("Primary key: ");
-            for (Column col : columns)
+            for (Column col : table.values())
             {
                 if (col.isPk())
                 {
-                    pk.append(col.getName()).append(" = '").append(objects.get(col.getName())).append("', ");
+                    Object pkValue = rawParams.get(col);
+                    pk.append(col.getName()).append(" = '").append(pkValue).append("', ");
                 }
             }
             pk.setLength(pk.length() - 2);
@@ -560,6 +595,101 @@ public class SQLEngine implements DbEngine
         return pair;
     }
 
+    @Override
+    public synchronized void prefetch(List<DatabaseTable> tables, int parallelism)
+    {
+        clearPrefetched();
+        if (parallelism > 1 && !tables.isEmpty())
+        {
+            ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(parallelism, tables.size()),
+                new ThreadFactoryBuilder().setNameFormat("DbPrefetch_%04d").setDaemon(true).build()
+            );
+            for (DatabaseTable table : tables)
+            {
+                prefetchedTables.computeIfAbsent(table, tbl -> executor.submit(() -> fetchAll(tbl)));
+            }
+            // no further tasks, the threads terminate once all tables are fetched
+            executor.shutdown();
+            prefetchExecutor = executor;
+        }
+    }
+
+    @Override
+    public synchronized void clearPrefetched()
+    {
+        if (prefetchExecutor != null)
+        {
+            prefetchExecutor.shutdownNow();
+            prefetchExecutor = null;
+        }
+        prefetchedTables.clear();
+    }
+
+    /**
+     * Fetches all entries of the given table using a separate connection from the pool
+     */
+    private List<RawParameters> fetchAll(DatabaseTable table) throws DatabaseException
+    {
+        @Nullable Connection dbCon = null;
+        try
+        {
+            dbCon = controllerDatabase.getConnection();
+            return selectAll(dbCon, table);
+        }
+        catch (SQLException exc)
+        {
+            throw new DatabaseException(exc);
+        }
+        finally
+        {
+            controllerDatabase.returnConnection(dbCon);
+        }
+    }
+
+    private List<RawParameters> awaitPrefetched(DatabaseTable table, Future<List<RawParameters>> prefetched)
+        throws DatabaseException
+    {
+        try
+        {
+            return prefetched.get();
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Interrupted while fetching table " + table.getName(), exc);
+        }
+        catch (ExecutionException exc)
+        {
+            if (exc.getCause() instanceof DatabaseException dbExc)
+            {
+                throw dbExc;
+            }
+            throw new DatabaseException("Failed to fetch table " + table.getName(), exc.getCause());
+        }
+    }
+
+    private List<RawParameters> selectAll(Connection dbCon, DatabaseTable table) throws SQLException, DatabaseException
+    {
+        List<RawParameters> ret = new ArrayList<>();
+        try (PreparedStatement stmt = dbCon.prepareStatement(getSelectAllStatement(table)))
+        {
+            try (ResultSet resultSet = stmt.executeQuery())
+            {
+                while (resultSet.next())
+                {
+                    ret.add(buildRawParams(
+                        table,
+                        resultSet,
+                        table.values(),
+                        new TreeMap<>()
+                    ));
+                }
+            }
+        }
+        return ret;
+    }
+
     private RawParameters buildRawParams(
         DatabaseTable table,
         ResultSet resultSet,
@@ -619,27 +749,14 @@ public class SQLEngine implements DbEngine
     @Override
     public List<RawParameters> export(DatabaseTable tableRef) throws DatabaseException
     {
-        List<RawParameters> ret = new ArrayList<>();
-        try (PreparedStatement stmt = getConnection().prepareStatement(getSelectAllStatement(tableRef)))
+        try
         {
-            try (ResultSet resultSet = stmt.executeQuery())
-            {
-                while (resultSet.next())
-                {
-                    ret.add(buildRawParams(
-                        tableRef,
-                        resultSet,
-                        tableRef.values(),
-                        new TreeMap<>()
-                    ));
-                }
-            }
+            return selectAll(getConnection(), tableRef);
         }
         catch (SQLException exc)
         {
             throw new DatabaseException(exc);
         }
-        return ret;
     }
 
     @Override
@@ -686,9 +803,31 @@ public class SQLEngine implements DbEngine
         }
     }
 
-    Connection getConnection()
+    /**
+     * Returns the connection of the current transaction, after all pending writes of the transaction were executed.
+     * Writes that do not depend on the current state of the database should be queued in the
+     * {@link #getWriteBuffer() write buffer} instead.
+     */
+    Connection getConnection() throws DatabaseException
+    {
+        TransactionMgrSQL transMgr = transMgrProvider.get();
+        transMgr.getWriteBuffer().flush();
+        return transMgr.getConnection();
+    }
+
+    SQLWriteBuffer getWriteBuffer()
+    {
+        dropPrefetchedOnWrite();
+        return transMgrProvider.get().getWriteBuffer();
+    }
+
+    private void dropPrefetchedOnWrite()
     {
-        return transMgrProvider.get().getConnection();
+        if (!prefetchedTables.isEmpty())
+        {
+            // the prefetched entries would not contain this write
+            clearPrefetched();
+        }
     }
 
     String generateUpdateStatement(Column colToUpdate)
@@ -721,6 +860,89 @@ public class SQLEngine implements DbEngine
         return setValues(setters, stmt, startIdxRef, table, Column::isPk, data);
     }
 
+    /**
+     * Evaluates the setters of the primary key columns, in the order expected by
+     * {@link #setPrimaryValues(PreparedStatement, int, DatabaseTable, Object[])}
+     */
+    <DATA> Object[] getPrimaryValues(
+        Map<Column, Function<DATA, Object>> setters,
+        DatabaseTable table,
+        DATA data
+    )
+        throws DatabaseException
+    {
+        return getValues(setters, table, Column::isPk, data);
+    }
+
+    int setPrimaryValues(PreparedStatement stmt, int startIdxRef, DatabaseTable table, Object[] pkValues)
+        throws SQLException, DatabaseException
+    {
+        return setValues(stmt, startIdxRef, table, Column::isPk, pkValues);
+    }
+
+    /**
+     * Evaluates the setters of all columns matching the given predicate. Statements queued in the write buffer are
+     * executed later, so the values have to be taken from the data object right away.
+     */
+    private <DATA> Object[] getValues(
+        Map<Column, Function<DATA, Object>> setters,
+        DatabaseTable table,
+        Predicate<Column> predicate,
+        DATA data
+    )
+        throws DatabaseException
+    {
+        Column[] columns = table.values();
+        Object[] values = new Object[columns.length];
+        int idx = 0;
+        for (Column col : columns)
+        {
+            if (predicate.test(col))
+            {
+                Object obj = setters.get(col).apply(data);
+                if (obj == null && !col.isNullable())
+                {
+                    // fail right away instead of when the write buffer is flushed
+                    throw nullInNotNullColumn(table.getName(), col.getName());
+                }
+                values[idx] = obj;
+                ++idx;
+            }
+        }
+        return Arrays.copyOf(values, idx);
+    }
+
+    private int setValues(
+        PreparedStatement stmt,
+        int startIdxRef,
+        DatabaseTable table,
+        Predicate<Column> predicate,
+        Object[] values
+    )
+        throws SQLException, DatabaseException
+    {
+        int idx = startIdxRef;
+        int valueIdx = 0;
+        for (Column col : table.values())
+        {
+            if (predicate.test(col))
+            {
+                setSqlParam(
+                    stmt,
+                    idx,
+                    col.isNullable(),
+                    col.getSqlType(),
+                    values[valueIdx],
+                    table.getName(),
+                    col.getName()
+                );
+                ++idx;
+                ++valueIdx;
+            }
+        }
+        return idx;
+    }
+
     <DATA> int setValues(
         Map<Column, Function<DATA, Object>> setters,
         PreparedStatement stmt,
@@ -775,13 +997,7 @@ public class SQLEngine implements DbEngine
             }
             else
             {
-                throw new DatabaseException(
-                    "Cannot persist null object to not null database column.",
-                    null,
-                    null,
-                    null,
-                    "Table: " + tblNameRef + ", Column: " + clmNameRef
-                );
+                throw nullInNotNullColumn(tblNameRef, clmNameRef);
             }
         }
         else
@@ -831,6 +1047,17 @@ public class SQLEngine implements DbEngine
         }
     }
 
+    private static DatabaseException nullInNotNullColumn(String tblNameRef, String clmNameRef)
+    {
+        return new DatabaseException(
+            "Cannot persist null object to not null database column.",
+            null,
+            null,
+            null,
+            "Table: " + tblNameRef + ", Column: " + clmNameRef
+        );
+    }
+
     private void setValuesFromSpec(
         PreparedStatement stmtRef,
         DbExportPojoData.Table tableRef,
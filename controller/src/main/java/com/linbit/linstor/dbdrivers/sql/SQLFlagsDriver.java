@@ -10,8 +10,6 @@ import com.linbit.linstor.stateflags.FlagsHelper;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
 import com.linbit.utils.StringUtils;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -48,43 +46,43 @@ class SQLFlagsDriver<DATA, FLAG extends Enum<FLAG> & Flags> implements StateFlag
     @Override
     public void persist(DATA data, long oldFlagBits, long newFlagBits) throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
-        {
-            String fromFlags = StringUtils.join(
-                FlagsHelper.toStringList(flagsClass, oldFlagBits),
-                ", "
-            );
-            String toFlags = StringUtils.join(
-                FlagsHelper.toStringList(flagsClass, newFlagBits),
-                ", "
-            );
-            String inlineId = dataToString.toString(data);
-
-            errorReporter
-                .logTrace(
-                    "Updating %s's flags from [%s] to [%s] %s",
-                    table.getName(),
-                    fromFlags,
-                    toFlags,
-                    inlineId
-                );
-            stmt.setLong(1, newFlagBits);
-            sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
+        String fromFlags = StringUtils.join(
+            FlagsHelper.toStringList(flagsClass, oldFlagBits),
+            ", "
+        );
+        String toFlags = StringUtils.join(
+            FlagsHelper.toStringList(flagsClass, newFlagBits),
+            ", "
+        );
+        String inlineId = dataToString.toString(data);
 
-            stmt.executeUpdate();
+        errorReporter
+            .logTrace(
+                "Updating %s's flags from [%s] to [%s] %s",
+                table.getName(),
+                fromFlags,
+                toFlags,
+                inlineId
+            );
+        Object[] pkValues = sqlEngine.getPrimaryValues(setters, table, data);
+        sqlEngine.getWriteBuffer().addUpdate(
+            table,
+            updateStatement,
+            pkValues,
+            stmt ->
+            {
+                stmt.setLong(1, newFlagBits);
+                sqlEngine.setPrimaryValues(stmt, 2, table, pkValues);
+            }
+        );
 
-            errorReporter
-                .logTrace(
-                    "%s's flags updated from [%s] to [%s] %s",
-                    table.getName(),
-                    fromFlags,
-                    toFlags,
-                    inlineId
-                );
-        }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
-        }
+        errorReporter
+            .logTrace(
+                "%s's flags updated from [%s] to [%s] %s",
+                table.getName(),
+                fromFlags,
+                toFlags,
+                inlineId
+            );
     }
 }
@@ -7,8 +7,6 @@ import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
 import com.linbit.linstor.dbdrivers.interfaces.updater.CollectionDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.function.Function;
@@ -61,32 +59,33 @@ class SQLListToJsonArrayDriver<DATA, LIST_TYPE> implements CollectionDatabaseDri
     private void update(DATA data, Collection<LIST_TYPE> backingCollection)
         throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
-        {
-            String inlineId = dataToString.toString(data);
-            errorReporter.logTrace(
-                "Updating %s's %s to %s of %s",
-                table.getName(),
-                columnToUpdate.getName(),
-                backingCollection.toString(),
-                inlineId
-            );
+        String inlineId = dataToString.toString(data);
+        errorReporter.logTrace(
+            "Updating %s's %s to %s of %s",
+            table.getName(),
+            columnToUpdate.getName(),
+            backingCollection.toString(),
+            inlineId
+        );
 
-            stmt.setObject(1, columnSetter.apply(data));
-            sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
-
-            stmt.executeUpdate();
-            errorReporter.logTrace(
-                "%s's %s updated to %s %s",
-                table.getName(),
-                columnToUpdate.getName(),
-                backingCollection.toString(),
-                inlineId
-            );
-        }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
-        }
+        Object value = columnSetter.apply(data);
+        Object[] pkValues = sqlEngine.getPrimaryValues(setters, table, data);
+        sqlEngine.getWriteBuffer().addUpdate(
+            table,
+            updateStatement,
+            pkValues,
+            stmt ->
+            {
+                stmt.setObject(1, value);
+                sqlEngine.setPrimaryValues(stmt, 2, table, pkValues);
+            }
+        );
+        errorReporter.logTrace(
+            "%s's %s updated to %s %s",
+            table.getName(),
+            columnToUpdate.getName(),
+            backingCollection.toString(),
+            inlineId
+        );
     }
 }
@@ -7,8 +7,6 @@ import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
 import com.linbit.linstor.dbdrivers.interfaces.updater.MapDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -67,32 +65,33 @@ class SQLMapToJsonDriver<DATA, KEY, VALUE> implements MapDatabaseDriver<DATA, KE
     private void update(DATA data, Map<KEY, VALUE> backingMapRef)
         throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
-        {
-            String inlineId = dataToString.toString(data);
-            errorReporter.logTrace(
-                "Updating %s's %s to %s of %s",
-                table.getName(),
-                columnToUpdate.getName(),
-                backingMapRef.toString(),
-                inlineId
-            );
+        String inlineId = dataToString.toString(data);
+        errorReporter.logTrace(
+            "Updating %s's %s to %s of %s",
+            table.getName(),
+            columnToUpdate.getName(),
+            backingMapRef.toString(),
+            inlineId
+        );
 
-            stmt.setObject(1, columnSetter.apply(data));
-            sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
-
-            stmt.executeUpdate();
-            errorReporter.logTrace(
-                "%s's %s updated to %s %s",
-                table.getName(),
-                columnToUpdate.getName(),
-                backingMapRef.toString(),
-                inlineId
-            );
-        }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
-        }
+        Object value = columnSetter.apply(data);
+        Object[] pkValues = sqlEngine.getPrimaryValues(setters, table, data);
+        sqlEngine.getWriteBuffer().addUpdate(
+            table,
+            updateStatement,
+            pkValues,
+            stmt ->
+            {
+                stmt.setObject(1, value);
+                sqlEngine.setPrimaryValues(stmt, 2, table, pkValues);
+            }
+        );
+        errorReporter.logTrace(
+            "%s's %s updated to %s %s",
+            table.getName(),
+            columnToUpdate.getName(),
+            backingMapRef.toString(),
+            inlineId
+        );
     }
 }
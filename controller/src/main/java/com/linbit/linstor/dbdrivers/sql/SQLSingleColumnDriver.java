@@ -54,63 +54,61 @@ class SQLSingleColumnDriver<DATA, INPUT_TYPE, DB_TYPE> implements SingleColumnDa
     @Override
     public void update(DATA parentRef, INPUT_TYPE oldElementRef) throws DatabaseException
     {
-        try
+        if (oldElementRef instanceof byte[])
         {
-            if (oldElementRef instanceof byte[])
-            {
-                errorReporter.logTrace(
-                    "Updating %s's %s from [%s] to [%s] %s",
-                    table.getName(),
-                    colToUpdate.getName(),
-                    "<Array of bytes>",
-                    dataValueToString.apply(parentRef) == null ? "null" : "<Array of bytes>",
-                    dataToString.toString(parentRef)
-                );
-            }
-            else
-            {
-                errorReporter.logTrace(
-                    "Updating %s's %s from [%s] to [%s] %s",
-                    table.getName(),
-                    colToUpdate.getName(),
-                    oldElementRef == null ? "null" : inputToStringFct.toString(oldElementRef),
-                    dataValueToString.apply(parentRef),
-                    dataToString.toString(parentRef)
-                );
-            }
-            try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
-            {
-                int idx = fillSetter(stmt, 1, (DB_TYPE) setters.get(colToUpdate).apply(parentRef));
-                sqlEngine.setPrimaryValues(setters, stmt, idx, table, parentRef);
-
-                stmt.executeUpdate();
-            }
-            if (oldElementRef instanceof byte[])
-            {
-                errorReporter.logTrace(
-                    "%s's %s updated from [%s] to [%s] %s",
-                    table.getName(),
-                    colToUpdate.getName(),
-                    "<Array of bytes>",
-                    dataValueToString.apply(parentRef) == null ? "null" : "<Array of bytes>",
-                    dataToString.toString(parentRef)
-                );
-            }
-            else
+            errorReporter.logTrace(
+                "Updating %s's %s from [%s] to [%s] %s",
+                table.getName(),
+                colToUpdate.getName(),
+                "<Array of bytes>",
+                dataValueToString.apply(parentRef) == null ? "null" : "<Array of bytes>",
+                dataToString.toString(parentRef)
+            );
+        }
+        else
+        {
+            errorReporter.logTrace(
+                "Updating %s's %s from [%s] to [%s] %s",
+                table.getName(),
+                colToUpdate.getName(),
+                oldElementRef == null ? "null" : inputToStringFct.toString(oldElementRef),
+                dataValueToString.apply(parentRef),
+                dataToString.toString(parentRef)
+            );
+        }
+        DB_TYPE value = (DB_TYPE) setters.get(colToUpdate).apply(parentRef);
+        Object[] pkValues = sqlEngine.getPrimaryValues(setters, table, parentRef);
+        sqlEngine.getWriteBuffer().addUpdate(
+            table,
+            updateStatement,
+            pkValues,
+            stmt ->
             {
-                errorReporter.logTrace(
-                    "%s's %s updated from [%s] to [%s] %s",
-                    table.getName(),
-                    colToUpdate.getName(),
-                    oldElementRef == null ? "null" : inputToStringFct.toString(oldElementRef),
-                    dataValueToString.apply(parentRef),
-                    dataToString.toString(parentRef)
-                );
+                int idx = fillSetter(stmt, 1, value);
+                sqlEngine.setPrimaryValues(stmt, idx, table, pkValues);
             }
+        );
+        if (oldElementRef instanceof byte[])
+        {
+            errorReporter.logTrace(
+                "%s's %s updated from [%s] to [%s] %s",
+                table.getName(),
+                colToUpdate.getName(),
+                "<Array of bytes>",
+                dataValueToString.apply(parentRef) == null ? "null" : "<Array of bytes>",
+                dataToString.toString(parentRef)
+            );
         }
-        catch (SQLException sqlExc)
+        else
         {
-            throw new DatabaseException(sqlExc);
+            errorReporter.logTrace(
+                "%s's %s updated from [%s] to [%s] %s",
+                table.getName(),
+                colToUpdate.getName(),
+                oldElementRef == null ? "null" : inputToStringFct.toString(oldElementRef),
+                dataValueToString.apply(parentRef),
+                dataToString.toString(parentRef)
+            );
         }
     }
 
@@ -0,0 +1,152 @@
+package com.linbit.linstor.event.journal;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Bounded in-memory journal of the creations, modifications and deletions of nodes, resource definitions, resources,
+ * volumes and snapshots.
+ *
+ * The database drivers {@link #record(ObjectChange) record} changes while writing them. A recorded change is only
+ * appended to the journal once its transaction is committed, so watchers never see changes that were rolled back.
+ * Every appended change gets a sequence number, which clients can use to continue watching where they left off, as
+ * long as the journal still contains all changes since then.
+ */
+@Singleton
+public class ChangeJournal
+{
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    private final Provider<TransactionMgr> transMgrProvider;
+    private final int capacity;
+    private final ArrayDeque<Entry> entries;
+    private final List<Sinks.Many<Entry>> watchers = new ArrayList<>();
+    /*
+     * Start with the current time in microseconds instead of 0, so that a sequence number from before a restart is
+     * lower than all sequence numbers after the restart (unless there were more changes than microseconds), which
+     * makes such a client re-read everything instead of silently missing changes.
+     */
+    private long lastSeq = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+
+    public record Entry(long seq, ObjectChange change)
+    {
+    }
+
+    /**
+     * @param complete false if the journal no longer contained all changes since the requested sequence number, in
+     *     which case the client has to re-read the current state of the objects it is interested in
+     * @param seq the sequence number of the last change before the watch was started
+     * @param changes the changes after the requested sequence number (or after the start of the watch). Completes with
+     *     a {@link ChangesLostException} if the watcher does not keep up with the changes.
+     */
+    public record Watch(boolean complete, long seq, Flux<Entry> changes)
+    {
+    }
+
+    public static class ChangesLostException extends RuntimeException
+    {
+        private static final long serialVersionUID = -2393946329408934513L;
+
+        ChangesLostException()
+        {
+            super("Watcher did not keep up with the changes");
+        }
+    }
+
+    @Inject
+    public ChangeJournal(Provider<TransactionMgr> transMgrProviderRef)
+    {
+        this(transMgrProviderRef, DEFAULT_CAPACITY);
+    }
+
+    ChangeJournal(Provider<TransactionMgr> transMgrProviderRef, int capacityRef)
+    {
+        transMgrProvider = transMgrProviderRef;
+        capacity = capacityRef;
+        entries = new ArrayDeque<>(capacityRef);
+    }
+
+    /**
+     * Records a change within the current transaction. The change is appended to the journal when the transaction is
+     * committed.
+     */
+    public void record(ObjectChange change)
+    {
+        new PendingChange(this, change, transMgrProvider).activate();
+    }
+
+    synchronized void append(ObjectChange change)
+    {
+        Entry entry = new Entry(++lastSeq, change);
+        if (entries.size() == capacity)
+        {
+            entries.removeFirst();
+        }
+        entries.addLast(entry);
+
+        Iterator<Sinks.Many<Entry>> watcherIt = watchers.iterator();
+        while (watcherIt.hasNext())
+        {
+            Sinks.Many<Entry> watcher = watcherIt.next();
+            Sinks.EmitResult emitResult = watcher.tryEmitNext(entry);
+            if (emitResult.isFailure())
+            {
+                // cancelled by the watcher or its buffer is full
+                watcherIt.remove();
+                watcher.tryEmitError(new ChangesLostException());
+            }
+        }
+    }
+
+    /**
+     * Starts watching the changes.
+     *
+     * @param since the sequence number of the last change the client has seen, or null to only watch future changes
+     */
+    public synchronized Watch watch(@Nullable Long since)
+    {
+        Sinks.Many<Entry> sink = Sinks.many().unicast().onBackpressureBuffer(Queues.<Entry>get(capacity).get());
+        boolean complete = true;
+        if (since != null)
+        {
+            long firstSeq = entries.isEmpty() ? lastSeq + 1 : entries.getFirst().seq();
+            complete = since >= firstSeq - 1 && since <= lastSeq;
+            if (complete)
+            {
+                for (Entry entry : entries)
+                {
+                    if (entry.seq() > since)
+                    {
+                        sink.tryEmitNext(entry);
+                    }
+                }
+            }
+        }
+        watchers.add(sink);
+        return new Watch(complete, lastSeq, sink.asFlux().doFinally(ignored -> removeWatcher(sink)));
+    }
+
+    public synchronized long getLastSeq()
+    {
+        return lastSeq;
+    }
+
+    private synchronized void removeWatcher(Sinks.Many<Entry> sink)
+    {
+        watchers.remove(sink);
+    }
+}
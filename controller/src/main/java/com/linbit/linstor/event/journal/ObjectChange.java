@@ -0,0 +1,239 @@
+package com.linbit.linstor.event.journal;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.SnapshotName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+
+import java.util.Objects;
+
+/**
+ * A creation, modification or deletion of a watchable object, see {@link ChangeJournal}.
+ *
+ * Objects are identified by their names in canonical (upper case) form, since that is all that is known about
+ * the owner of a modified property.
+ */
+public final class ObjectChange
+{
+    public enum Kind
+    {
+        NODE,
+        RESOURCE_DEFINITION,
+        RESOURCE,
+        VOLUME,
+        SNAPSHOT
+    }
+
+    public enum Action
+    {
+        CREATE,
+        MODIFY,
+        DELETE
+    }
+
+    /**
+     * Maps the data of a database driver to the change of the watchable object it belongs to.
+     */
+    @FunctionalInterface
+    public interface Mapper<DATA>
+    {
+        /**
+         * @return the change of the watchable object caused by the given action on the given data, or null if the data
+         *     does not belong to a watchable object
+         */
+        @Nullable
+        ObjectChange map(DATA data, Action action);
+    }
+
+    private final Kind kind;
+    private final Action action;
+    private final @Nullable String nodeName;
+    private final @Nullable String rscName;
+    private final @Nullable Integer vlmNr;
+    private final @Nullable String snapName;
+
+    private ObjectChange(
+        Kind kindRef,
+        Action actionRef,
+        @Nullable String nodeNameRef,
+        @Nullable String rscNameRef,
+        @Nullable Integer vlmNrRef,
+        @Nullable String snapNameRef
+    )
+    {
+        kind = kindRef;
+        action = actionRef;
+        nodeName = nodeNameRef;
+        rscName = rscNameRef;
+        vlmNr = vlmNrRef;
+        snapName = snapNameRef;
+    }
+
+    public static ObjectChange node(Action action, NodeName nodeName)
+    {
+        return new ObjectChange(Kind.NODE, action, nodeName.value, null, null, null);
+    }
+
+    public static ObjectChange rscDfn(Action action, ResourceName rscName)
+    {
+        return new ObjectChange(Kind.RESOURCE_DEFINITION, action, null, rscName.value, null, null);
+    }
+
+    public static ObjectChange rsc(Action action, NodeName nodeName, ResourceName rscName)
+    {
+        return new ObjectChange(Kind.RESOURCE, action, nodeName.value, rscName.value, null, null);
+    }
+
+    public static ObjectChange vlm(Action action, NodeName nodeName, ResourceName rscName, VolumeNumber vlmNr)
+    {
+        return new ObjectChange(Kind.VOLUME, action, nodeName.value, rscName.value, vlmNr.value, null);
+    }
+
+    public static ObjectChange snapshot(Action action, ResourceName rscName, SnapshotName snapName)
+    {
+        return new ObjectChange(Kind.SNAPSHOT, action, null, rscName.value, null, snapName.value);
+    }
+
+    /**
+     * Maps a property change to the modification of the watchable object owning the properties.
+     *
+     * @param propsInstance the path of the properties container, see <code>PropsContainer.buildPath(...)</code>
+     *
+     * @return the modification of the owning object, or null if the properties do not belong to a watchable object
+     */
+    public static @Nullable ObjectChange forPropsInstance(String propsInstance)
+    {
+        String path = propsInstance.toUpperCase();
+        @Nullable String[] nodePath = split(path, LinStorObject.NODE, 1);
+        @Nullable String[] rscDfnPath = split(path, LinStorObject.RSC_DFN, 1);
+        if (rscDfnPath == null)
+        {
+            // volume definitions are part of their resource definition
+            rscDfnPath = split(path, LinStorObject.VLM_DFN, 2);
+        }
+        @Nullable String[] rscPath = split(path, LinStorObject.RSC, 2);
+        @Nullable String[] vlmPath = split(path, LinStorObject.VLM, 3);
+        @Nullable String[] snapPath = split(path, LinStorObject.SNAP_DFN, 2);
+        if (snapPath == null)
+        {
+            snapPath = split(path, LinStorObject.SNAP_DFN_RSC_DFN, 2);
+        }
+
+        @Nullable ObjectChange change = null;
+        if (nodePath != null)
+        {
+            change = new ObjectChange(Kind.NODE, Action.MODIFY, nodePath[0], null, null, null);
+        }
+        else
+        if (rscDfnPath != null)
+        {
+            change = new ObjectChange(Kind.RESOURCE_DEFINITION, Action.MODIFY, null, rscDfnPath[0], null, null);
+        }
+        else
+        if (rscPath != null)
+        {
+            change = new ObjectChange(Kind.RESOURCE, Action.MODIFY, rscPath[0], rscPath[1], null, null);
+        }
+        else
+        if (vlmPath != null)
+        {
+            try
+            {
+                change = new ObjectChange(
+                    Kind.VOLUME,
+                    Action.MODIFY,
+                    vlmPath[0],
+                    vlmPath[1],
+                    Integer.parseInt(vlmPath[2]),
+                    null
+                );
+            }
+            catch (NumberFormatException ignored)
+            {
+                // not a volume's path
+            }
+        }
+        else
+        if (snapPath != null)
+        {
+            change = new ObjectChange(Kind.SNAPSHOT, Action.MODIFY, null, snapPath[0], null, snapPath[1]);
+        }
+        return change;
+    }
+
+    /**
+     * @return the names following the path prefix of the given type, or null if the path does not belong to the given
+     *     type or does not contain exactly the given number of names
+     */
+    private static @Nullable String[] split(String path, LinStorObject type, int count)
+    {
+        @Nullable String[] parts = null;
+        if (type.path != null && path.startsWith(type.path))
+        {
+            String[] split = path.substring(type.path.length()).split("/", -1);
+            if (split.length == count)
+            {
+                parts = split;
+            }
+        }
+        return parts;
+    }
+
+    public Kind getKind()
+    {
+        return kind;
+    }
+
+    public Action getAction()
+    {
+        return action;
+    }
+
+    public @Nullable String getNodeName()
+    {
+        return nodeName;
+    }
+
+    public @Nullable String getRscName()
+    {
+        return rscName;
+    }
+
+    public @Nullable Integer getVlmNr()
+    {
+        return vlmNr;
+    }
+
+    public @Nullable String getSnapName()
+    {
+        return snapName;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(kind, action, nodeName, rscName, vlmNr, snapName);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj)
+    {
+        boolean eq = this == obj;
+        if (!eq && obj instanceof ObjectChange other)
+        {
+            eq = kind == other.kind && action == other.action && Objects.equals(nodeName, other.nodeName) &&
+                Objects.equals(rscName, other.rscName) && Objects.equals(vlmNr, other.vlmNr) &&
+                Objects.equals(snapName, other.snapName);
+        }
+        return eq;
+    }
+
+    @Override
+    public String toString()
+    {
+        return action + " " + kind + " [node=" + nodeName + ", rsc=" + rscName + ", vlmNr=" + vlmNr + ", snap=" +
+            snapName + "]";
+    }
+}
@@ -0,0 +1,72 @@
+package com.linbit.linstor.event.journal;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.transaction.AbsTransactionObject;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import javax.inject.Provider;
+
+/**
+ * A change recorded during a transaction. It is appended to the {@link ChangeJournal} when the transaction is
+ * committed and discarded when the transaction is rolled back.
+ *
+ * Two pending changes are equal if their {@link ObjectChange}s are, so the same change recorded several times within
+ * one transaction is only registered, and therefore only appended, once.
+ */
+class PendingChange extends AbsTransactionObject
+{
+    private final ChangeJournal journal;
+    private final ObjectChange change;
+    private boolean pending = false;
+
+    PendingChange(
+        ChangeJournal journalRef,
+        ObjectChange changeRef,
+        Provider<? extends TransactionMgr> transMgrProviderRef
+    )
+    {
+        super(transMgrProviderRef);
+        journal = journalRef;
+        change = changeRef;
+    }
+
+    /**
+     * Registers this change with the current transaction.
+     */
+    void activate()
+    {
+        activateTransMgr();
+        pending = true;
+    }
+
+    @Override
+    protected void commitImpl()
+    {
+        journal.append(change);
+        pending = false;
+    }
+
+    @Override
+    protected void rollbackImpl()
+    {
+        pending = false;
+    }
+
+    @Override
+    public boolean isDirty()
+    {
+        return pending;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return change.hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj)
+    {
+        return this == obj || obj instanceof PendingChange other && change.equals(other.change);
+    }
+}
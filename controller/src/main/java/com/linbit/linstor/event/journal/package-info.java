@@ -0,0 +1,4 @@
+@NonNullByDefault
+package com.linbit.linstor.event.journal;
+
+import com.linbit.linstor.annotation.NonNullByDefault;
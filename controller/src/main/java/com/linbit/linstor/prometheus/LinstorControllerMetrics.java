@@ -1,5 +1,6 @@
 package com.linbit.linstor.prometheus;
 
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class LinstorControllerMetrics
@@ -14,4 +15,58 @@ public class LinstorControllerMetrics
         .buckets(LinstorServerMetrics.DEFAULT_BUCKETS)
         .labelNames("apicall")
         .register();
+
+    /**
+     * Number of tasks waiting for a thread of the controller's worker pools (query, transaction, satellite message
+     * and background pool).
+     */
+    public static final Gauge workerPoolQueueDepth = Gauge.build()
+        .name("linstor_worker_pool_queue_depth")
+        .help("Number of tasks waiting for a thread of the LINSTOR worker pool")
+        .labelNames("pool")
+        .register();
+
+    /**
+     * Histogram for the time a task waits in the queue of a worker pool until a thread picks it up.
+     */
+    public static final Histogram workerPoolQueueWaitHistogram = Histogram.build()
+        .name("linstor_worker_pool_queue_wait_seconds")
+        .help("Time a task waited for a thread of the LINSTOR worker pool in seconds")
+        .unit("seconds")
+        .buckets(LinstorServerMetrics.DEFAULT_BUCKETS)
+        .labelNames("pool")
+        .register();
+
+    /**
+     * Histogram for the time a worker pool thread spends running a single task.
+     */
+    public static final Histogram workerPoolTaskDurationHistogram = Histogram.build()
+        .name("linstor_worker_pool_task_duration_seconds")
+        .help("Duration of a task run by the LINSTOR worker pool in seconds")
+        .unit("seconds")
+        .buckets(LinstorServerMetrics.DEFAULT_BUCKETS)
+        .labelNames("pool")
+        .register();
+
+    /**
+     * Histogram for the duration of a single run of a task of the TaskScheduleService.
+     */
+    public static final Histogram taskRunDurationHistogram = Histogram.build()
+        .name("linstor_task_run_duration_seconds")
+        .help("Duration of a single run of a LINSTOR scheduled task in seconds")
+        .unit("seconds")
+        .buckets(LinstorServerMetrics.DEFAULT_BUCKETS)
+        .labelNames("task")
+        .register();
+
+    /**
+     * Histogram for the time between the planned and the actual start of a task of the TaskScheduleService.
+     */
+    public static final Histogram taskLatenessHistogram = Histogram.build()
+        .name("linstor_task_lateness_seconds")
+        .help("Time a LINSTOR scheduled task started after its planned time in seconds")
+        .unit("seconds")
+        .buckets(LinstorServerMetrics.DEFAULT_BUCKETS)
+        .labelNames("task")
+        .register();
 }
@@ -6,23 +6,40 @@ import com.linbit.ServiceName;
 import com.linbit.SystemService;
 import com.linbit.SystemServiceStartException;
 import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorControllerMetrics;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.prometheus.client.Histogram;
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
 
+/**
+ * Runs the registered {@link Task}s on a small pool of worker threads.
+ *
+ * The planned runs are kept in a hashed timing wheel: the service thread advances the wheel every {@link #TICK_MS}
+ * milliseconds and hands the runs that became due to the worker pool, so a long running task does not delay the
+ * other tasks. A task never runs concurrently with itself; if it becomes due again (or is rescheduled) while it is
+ * still running, the next run is planned once the current one has finished. The runs planned by the tasks
+ * themselves get a small random delay, so that tasks with the same interval do not all start at the same time.
+ */
 @Singleton
 public class TaskScheduleService implements SystemService, Runnable
 {
@@ -85,6 +102,16 @@ public class TaskScheduleService implements SystemService, Runnable
     private static final String SERVICE_INFO = "Task schedule service";
     private static final long DEFAULT_RETRY_DELAY = 60_000;
 
+    // resolution of the timing wheel
+    private static final long TICK_MS = 100;
+    // must be a power of 2, one rotation of the wheel covers WHEEL_SIZE * TICK_MS milliseconds
+    private static final int WHEEL_SIZE = 512;
+    // upper limit of the random delay added to the runs planned by the tasks themselves
+    private static final long MAX_JITTER_MS = 1_000;
+    // the random delay is also limited to this fraction of the time until the planned run
+    private static final long JITTER_DIVISOR = 20;
+    private static final double MILLIS_PER_SECOND = 1_000.0;
+
     static
     {
         try
@@ -103,6 +130,38 @@ public class TaskScheduleService implements SystemService, Runnable
         }
     }
 
+    /**
+     * Scheduling state of a task. All fields except {@link #task} and {@link #name} are guarded by
+     * {@link TaskScheduleService#tasksLock}.
+     */
+    private static class TaskState
+    {
+        private final Task task;
+        private final String name;
+        // incremented whenever the planned run changes, making the wheel entries of older plans stale
+        private long generation = 0;
+        private boolean running = false;
+        // timestamp requested by rescheduleAt or addTask while the task was running, negative to cancel the task
+        private @Nullable Long requestedAt = null;
+
+        TaskState(Task taskRef)
+        {
+            task = taskRef;
+            name = getTaskName(taskRef);
+        }
+    }
+
+    /**
+     * Planned run of a task, stored in the slot of the timing wheel in which it becomes due
+     */
+    private record ScheduledRun(TaskState state, long generation, long scheduledAt, long fireAt)
+    {
+        boolean isStale()
+        {
+            return generation != state.generation;
+        }
+    }
+
     private ServiceName serviceInstanceName;
     private boolean running = false;
     private boolean shutdown = false;
@@ -111,18 +170,32 @@ public class TaskScheduleService implements SystemService, Runnable
     private final Condition tasksCond;
 
     private @Nullable Thread workerThread;
+    private @Nullable ExecutorService workerPool;
 
-    private final TreeMap<Long, List<Task>> tasks = new TreeMap<>();
+    private final List<List<ScheduledRun>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final Map<Task, TaskState> taskStates = new IdentityHashMap<>();
     private final List<Task> newTasks = new ArrayList<>();
     private final ErrorReporter errorReporter;
+    private final int workerThreadCount;
+
+    // the last tick of the wheel whose slot was processed
+    private long lastTick;
+    // number of entries in the wheel, including stale ones
+    private int wheelEntryCount = 0;
 
     @Inject
-    public TaskScheduleService(ErrorReporter errorReporterRef)
+    public TaskScheduleService(ErrorReporter errorReporterRef, CtrlConfig ctrlCfgRef)
     {
         errorReporter = errorReporterRef;
+        workerThreadCount = Math.max(1, ctrlCfgRef.getTaskWorkerThreads());
         serviceInstanceName = SERVICE_NAME;
         tasksLock = new ReentrantLock();
         tasksCond = tasksLock.newCondition();
+        for (int idx = 0; idx < WHEEL_SIZE; idx++)
+        {
+            wheel.add(new ArrayList<>());
+        }
+        lastTick = System.currentTimeMillis() / TICK_MS;
     }
 
     @Override
@@ -182,6 +255,13 @@ public class TaskScheduleService implements SystemService, Runnable
             {
                 task.initialize();
             }
+            if (needStart)
+            {
+                workerPool = Executors.newFixedThreadPool(
+                    workerThreadCount,
+                    new ThreadFactoryBuilder().setNameFormat("TaskScheduleWorker_%02d").setDaemon(true).build()
+                );
+            }
         }
         finally
         {
@@ -202,6 +282,10 @@ public class TaskScheduleService implements SystemService, Runnable
         try
         {
             shutdown = true;
+            if (workerPool != null)
+            {
+                workerPool.shutdown();
+            }
             tasksCond.signal();
         }
         finally
@@ -213,10 +297,17 @@ public class TaskScheduleService implements SystemService, Runnable
     @Override
     public void awaitShutdown(long timeout) throws InterruptedException
     {
+        long start = System.currentTimeMillis();
         if (workerThread != null)
         {
             workerThread.join(timeout);
         }
+        ExecutorService pool = workerPool;
+        if (pool != null)
+        {
+            long remaining = Math.max(0, timeout - (System.currentTimeMillis() - start));
+            pool.awaitTermination(remaining, TimeUnit.MILLISECONDS);
+        }
     }
 
     public void addTask(Task task)
@@ -243,66 +334,28 @@ public class TaskScheduleService implements SystemService, Runnable
             {
                 try
                 {
-                    // Handle new tasks
+                    // Run any new tasks immediately
+                    for (Task task : newTasks)
                     {
-                        // Run any new tasks and reschedule each task according to
-                        // the delay that the task requested
-                        final List<Task> execTaskList = new ArrayList<>(newTasks);
-                        newTasks.clear();
-                        if (!execTaskList.isEmpty())
-                        {
-                            long now = System.currentTimeMillis();
-                            tasksLock.unlock();
-                            for (Task execTask : execTaskList)
-                            {
-                                execute(execTask, now);
-                            }
-                            tasksLock.lock();
-                        }
+                        requestRun(getState(task), System.currentTimeMillis());
                     }
+                    newTasks.clear();
 
-                    // Handle existing tasks
-                    long waitTime;
-                    Long entryTime = tasks.firstKey();
-                    if (entryTime != null)
-                    {
-                        long now = System.currentTimeMillis();
-
-                        while (entryTime != null && entryTime <= now)
-                        {
-                            // Remove the task
-                            Entry<Long, List<Task>> taskEntry = tasks.pollFirstEntry();
-                            final List<Task> execTaskList = new ArrayList<>(taskEntry.getValue());
-
-                            tasksLock.unlock();
-                            for (Task execTask : execTaskList)
-                            {
-                                execute(execTask, entryTime);
-                            }
-                            tasksLock.lock();
-
-                            entryTime = tasks.firstKey();
-                            if (entryTime != null && entryTime > now)
-                            {
-                                now = System.currentTimeMillis();
-                            }
-                        }
-
-                        // Set the waitTime to suspend this thread until the
-                        // next task list's target time is reached, or if there
-                        // are no more tasks, wait until a wakeup event occurs (0)
-                        waitTime = entryTime != null ? entryTime - now : 0;
-                    }
-                    else
-                    {
-                        waitTime = 0;
-                    }
+                    long now = System.currentTimeMillis();
+                    advanceWheel(now);
 
                     if (!shutdown && newTasks.isEmpty())
                     {
-                        // Suspend until new tasks are added or the target time of an
-                        // existing task list is reached
-                        tasksCond.await(waitTime, TimeUnit.MILLISECONDS);
+                        if (wheelEntryCount == 0)
+                        {
+                            // Suspend until new tasks are added or scheduled
+                            tasksCond.await();
+                        }
+                        else
+                        {
+                            // Suspend until the next tick of the wheel
+                            tasksCond.await((lastTick + 1) * TICK_MS - now, TimeUnit.MILLISECONDS);
+                        }
                     }
                 }
                 catch (InterruptedException ignored)
@@ -329,12 +382,116 @@ public class TaskScheduleService implements SystemService, Runnable
         }
     }
 
-    private void execute(Task task, long scheduledAt)
+    /**
+     * Processes the slots of all ticks since the last call and dispatches the runs that became due.
+     * Requires {@link #tasksLock} to be held.
+     */
+    private void advanceWheel(long now)
+    {
+        long nowTick = now / TICK_MS;
+        if (nowTick < lastTick)
+        {
+            // the clock was set back, process the slots from the new current tick on again
+            lastTick = nowTick;
+        }
+        // a single rotation covers all slots, even if the service thread fell far behind
+        long ticks = Math.min(nowTick - lastTick, WHEEL_SIZE);
+        for (long tick = nowTick - ticks + 1; tick <= nowTick; tick++)
+        {
+            Iterator<ScheduledRun> slotIt = wheel.get(slot(tick)).iterator();
+            while (slotIt.hasNext())
+            {
+                ScheduledRun run = slotIt.next();
+                boolean stale = run.isStale();
+                // entries planned for a later rotation stay in the slot
+                if (stale || run.fireAt() <= now)
+                {
+                    slotIt.remove();
+                    wheelEntryCount--;
+                    if (!stale)
+                    {
+                        dispatch(run.state(), run.scheduledAt(), run.fireAt());
+                    }
+                }
+            }
+        }
+        lastTick = nowTick;
+    }
+
+    /**
+     * Runs the task as soon as possible, or right after its current run if it is running.
+     * Requires {@link #tasksLock} to be held.
+     */
+    private void requestRun(TaskState state, long now)
+    {
+        state.generation++;
+        if (state.running)
+        {
+            state.requestedAt = now;
+        }
+        else
+        {
+            dispatch(state, now, now);
+        }
+    }
+
+    /**
+     * Plans the next run of the (not running) task. Requires {@link #tasksLock} to be held.
+     *
+     * @param scheduledAt the timestamp passed to {@link Task#run(long)}
+     * @param fireAt the timestamp at which the task should actually run
+     */
+    private void schedule(TaskState state, long scheduledAt, long fireAt)
+    {
+        state.generation++;
+        if (fireAt <= System.currentTimeMillis())
+        {
+            dispatch(state, scheduledAt, fireAt);
+        }
+        else
+        {
+            addToWheel(state, scheduledAt, fireAt);
+        }
+    }
+
+    private void addToWheel(TaskState state, long scheduledAt, long fireAt)
+    {
+        // round up, so the slot is not processed before the run is due
+        long tick = (fireAt + TICK_MS - 1) / TICK_MS;
+        wheel.get(slot(tick)).add(new ScheduledRun(state, state.generation, scheduledAt, fireAt));
+        wheelEntryCount++;
+        tasksCond.signal();
+    }
+
+    /**
+     * Hands the run to the worker pool. Requires {@link #tasksLock} to be held.
+     */
+    private void dispatch(TaskState state, long scheduledAt, long fireAt)
+    {
+        ExecutorService pool = workerPool;
+        if (shutdown || pool == null)
+        {
+            // keep the run in the wheel in case the service is started again
+            addToWheel(state, scheduledAt, fireAt);
+        }
+        else
+        {
+            state.running = true;
+            pool.execute(() -> execute(state, scheduledAt, fireAt));
+        }
+    }
+
+    private void execute(TaskState state, long scheduledAt, long fireAt)
     {
+        long startTime = System.currentTimeMillis();
+        LinstorControllerMetrics.taskLatenessHistogram.labels(state.name)
+            .observe(Math.max(0, startTime - fireAt) / MILLIS_PER_SECOND);
+
         long delay = scheduledAt + DEFAULT_RETRY_DELAY;
+        Histogram.Timer timer = LinstorControllerMetrics.taskRunDurationHistogram.labels(state.name).startTimer();
         try (var ignore = MDC.putCloseable(ErrorReporter.LOGID, ErrorReporter.getNewLogId()))
         {
-            delay = task.run(scheduledAt);
+            delay = state.task.run(scheduledAt);
         }
         catch (Exception exc)
         {
@@ -345,41 +502,70 @@ public class TaskScheduleService implements SystemService, Runnable
                     exc
                 ),
                 null,
-                "This exception was generated in the service thread of the service '" + SERVICE_NAME + "'"
+                "This exception was generated in a worker thread of the service '" + SERVICE_NAME + "'"
             );
         }
+        finally
+        {
+            timer.observeDuration();
+        }
 
-        // Reschedule the task if a non-negative delay was requested
-        if (delay >= 0)
+        tasksLock.lock();
+        try
         {
-            // If a task list exists for the calculated target time,
-            // add the task to the existing task list; otherwise, register
-            // a new task list for the calculated target time and
-            // add the task to the newly registered task list
-            tasksLock.lock();
-            try
+            finished(state, delay);
+        }
+        finally
+        {
+            tasksLock.unlock();
+        }
+    }
+
+    /**
+     * Plans the next run of the task that just finished. Requires {@link #tasksLock} to be held.
+     *
+     * @param delay the timestamp returned by the task
+     */
+    private void finished(TaskState state, long delay)
+    {
+        state.running = false;
+        @Nullable Long requestedAt = state.requestedAt;
+        state.requestedAt = null;
+        if (requestedAt == null)
+        {
+            // Reschedule the task if a non-negative delay was requested
+            if (delay >= 0)
             {
-                List<Task> taskList = tasks.get(delay);
-                if (taskList == null)
-                {
-                    taskList = new ArrayList<>();
-                    tasks.put(delay, taskList);
-                }
-                taskList.add(task);
+                schedule(state, delay, delay + jitter(delay));
             }
-            finally
+            else
             {
-                tasksLock.unlock();
+                taskStates.remove(state.task);
             }
         }
+        else if (requestedAt < 0)
+        {
+            // cancelled while running
+            taskStates.remove(state.task);
+        }
+        else
+        {
+            long next = delay < 0 ? requestedAt : Math.min(delay, requestedAt);
+            schedule(state, next, next);
+        }
+    }
+
+    private TaskState getState(Task task)
+    {
+        return taskStates.computeIfAbsent(task, TaskState::new);
     }
 
     /**
      * Reschedules the given task regardless when it would have been scheduled normally.
      * A negative newDelay will cancel the task completely.
      * The task will *NOT* be executed when this method is called, especially not in the caller thread of this method.
-     * Even with newDelay = 0 the task is rescheduled in the internal map, which means that the TaskScheduler's internal
-     * thread will be notified to execute the task (if necessary)
+     * Even with newDelay = 0 the task is only handed to the worker pool of the TaskScheduler. If the task is currently
+     * running, the new schedule takes effect once the current run has finished.
      *
      */
     public void rescheduleAt(Task task, long newDelay)
@@ -387,30 +573,24 @@ public class TaskScheduleService implements SystemService, Runnable
         tasksLock.lock();
         try
         {
-            Long deleteEntry = null;
-            for (Entry<Long, List<Task>> entry : tasks.entrySet())
+            @Nullable TaskState state = newDelay >= 0 ? getState(task) : taskStates.get(task);
+            if (state != null)
             {
-                if (entry.getValue().remove(task) && entry.getValue().isEmpty())
+                long targetTime = newDelay + System.currentTimeMillis();
+                // invalidate the currently planned run
+                state.generation++;
+                if (state.running)
                 {
-                    deleteEntry = entry.getKey();
+                    state.requestedAt = newDelay >= 0 ? targetTime : Task.END_TASK;
                 }
-            }
-            if (deleteEntry != null)
-            {
-                tasks.remove(deleteEntry);
-            }
-
-            if (newDelay >= 0)
-            {
-                long targetTime = newDelay + System.currentTimeMillis();
-                List<Task> taskList = tasks.get(targetTime);
-                if (taskList == null)
+                else if (newDelay >= 0)
                 {
-                    taskList = new ArrayList<>();
-                    tasks.put(targetTime, taskList);
+                    schedule(state, targetTime, targetTime);
+                }
+                else
+                {
+                    taskStates.remove(task);
                 }
-                taskList.add(task);
-                tasksCond.signal();
             }
         }
         finally
@@ -418,4 +598,30 @@ public class TaskScheduleService implements SystemService, Runnable
             tasksLock.unlock();
         }
     }
+
+    /**
+     * Returns a random delay that spreads runs planned for the same time, limited to a fraction of the time until the
+     * planned run
+     */
+    private static long jitter(long scheduledAt)
+    {
+        long bound = Math.min(MAX_JITTER_MS, (scheduledAt - System.currentTimeMillis()) / JITTER_DIVISOR);
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0;
+    }
+
+    private static int slot(long tick)
+    {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+
+    /**
+     * @return the simple class name of the task, or of the enclosing class for tasks implemented as a lambda
+     */
+    private static String getTaskName(Task task)
+    {
+        String className = task.getClass().getName();
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int lambdaIdx = name.indexOf("$$");
+        return lambdaIdx == -1 ? name : name.substring(0, lambdaIdx);
+    }
 }
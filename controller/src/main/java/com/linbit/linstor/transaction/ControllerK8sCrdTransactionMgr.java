@@ -14,6 +14,7 @@ import com.linbit.linstor.dbdrivers.k8s.crd.RollbackCrd;
 import com.linbit.linstor.transaction.manager.TransactionMgrK8sCrd;
 
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -158,23 +159,31 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
                 throw new TransactionException("Error creating rollback entry", exc);
             }
 
+            // the rollback entry is written, all following requests are independent of each other
+            List<Runnable> requests = new ArrayList<>();
             for (Entry<DatabaseTable, HashMap<String, LinstorCrd<?>>> entry : currentTransaction.rscsToCreate
                 .entrySet())
             {
-                create(entry.getKey(), entry.getValue());
+                create(entry.getKey(), entry.getValue(), requests);
             }
             for (Entry<DatabaseTable, HashMap<String, LinstorCrd<?>>> entry : currentTransaction.rscsToReplace
                 .entrySet())
             {
-                replace(entry.getKey(), entry.getValue());
+                replace(entry.getKey(), entry.getValue(), requests);
             }
             for (Entry<DatabaseTable, HashMap<String, LinstorCrd<?>>> entry : currentTransaction.rscsToDelete
                 .entrySet())
             {
-                delete(entry.getKey(), entry.getValue());
+                delete(entry.getKey(), entry.getValue(), requests);
             }
+            K8sCrdCommitExecutor.run(requests, controllerK8sCrdDatabase.getMaxParallelRequests());
 
+            boolean changed = !requests.isEmpty() || transactionObjectCollection.areAnyDirty();
             transactionObjectCollection.commitAll();
+            if (changed)
+            {
+                ChangeSequence.next();
+            }
 
             clearTransactionObjects();
 
@@ -188,41 +197,44 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
     @SuppressWarnings("unchecked")
     private <CRD extends LinstorCrd<SPEC>, SPEC extends LinstorSpec<CRD, SPEC>> void create(
         DatabaseTable dbTableRef,
-        HashMap<String, LinstorCrd<?>> changedCrds
+        HashMap<String, LinstorCrd<?>> changedCrds,
+        List<Runnable> requests
     )
     {
         K8sResourceClient<CRD> client = currentTransaction.getClient(dbTableRef);
         for (LinstorCrd<?> linstorCrd : changedCrds.values())
         {
-            client.create((CRD) linstorCrd);
+            requests.add(() -> client.create((CRD) linstorCrd));
         }
     }
 
     @SuppressWarnings("unchecked")
     private <CRD extends LinstorCrd<SPEC>, SPEC extends LinstorSpec<CRD, SPEC>> void replace(
         DatabaseTable dbTableRef,
-        HashMap<String, LinstorCrd<?>> changedCrds
+        HashMap<String, LinstorCrd<?>> changedCrds,
+        List<Runnable> requests
     )
     {
         K8sResourceClient<CRD> client = currentTransaction
             .getClient(dbTableRef);
         for (LinstorCrd<?> linstorCrd : changedCrds.values())
         {
-            client.replace((CRD) linstorCrd);
+            requests.add(() -> client.replace((CRD) linstorCrd));
         }
     }
 
     @SuppressWarnings("unchecked")
     private <CRD extends LinstorCrd<SPEC>, SPEC extends LinstorSpec<CRD, SPEC>> void delete(
         DatabaseTable dbTableRef,
-        HashMap<String, LinstorCrd<?>> createdCrds
+        HashMap<String, LinstorCrd<?>> createdCrds,
+        List<Runnable> requests
     )
     {
         K8sResourceClient<CRD> client = currentTransaction
             .getClient(dbTableRef);
         for (LinstorCrd<?> linstorCrd : createdCrds.values())
         {
-            client.delete((CRD) linstorCrd);
+            requests.add(() -> client.delete((CRD) linstorCrd));
         }
     }
 
@@ -0,0 +1,152 @@
+package com.linbit.linstor.transaction;
+
+import com.linbit.linstor.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the API server requests of a K8s CRD commit with a bounded number of requests in flight.
+ *
+ * All requests of a commit are independent of each other (every CRD is contained in only one of the create, replace
+ * or delete sets of a {@link K8sCrdTransaction}), so they can be issued in any order. Only the rollback entry has to
+ * be written before, which the caller does before calling {@link #run(List, int)}.
+ *
+ * If a request fails, no further requests are started, but {@link #run(List, int)} still waits for all requests that
+ * are already in flight before it rethrows the first failure. That way the following rollback cannot race with
+ * requests of the failed commit.
+ */
+class K8sCrdCommitExecutor
+{
+    private static final String THREAD_NAME_PREFIX = "K8sCrdCommit";
+    private static final AtomicInteger THREAD_IDX = new AtomicInteger();
+
+    /*
+     * Commits are serialized by the transaction manager, so this pool never holds more than maxParallelRequests - 1
+     * threads (the calling thread also processes requests). Idle threads are terminated by the cached thread pool.
+     */
+    private static final ExecutorService WORKER_POOL = Executors.newCachedThreadPool(
+        runnable ->
+        {
+            Thread thread = new Thread(
+                runnable,
+                String.format("%s_%04d", THREAD_NAME_PREFIX, THREAD_IDX.getAndIncrement())
+            );
+            thread.setDaemon(true);
+            return thread;
+        }
+    );
+
+    private K8sCrdCommitExecutor()
+    {
+    }
+
+    /**
+     * Runs all given requests, at most maxParallelRequests concurrently. Returns once all requests have been run
+     * successfully.
+     *
+     * @throws RuntimeException the first exception thrown by any of the requests (others are added as suppressed)
+     */
+    static void run(List<Runnable> requests, int maxParallelRequests)
+    {
+        int workerCount = Math.min(Math.max(maxParallelRequests, 1), requests.size());
+        if (workerCount <= 1)
+        {
+            for (Runnable request : requests)
+            {
+                request.run();
+            }
+        }
+        else
+        {
+            AtomicInteger nextRequestIdx = new AtomicInteger();
+            AtomicReference<RuntimeException> failure = new AtomicReference<>();
+            Runnable worker = () -> processRequests(requests, nextRequestIdx, failure);
+
+            List<Future<?>> futures = new ArrayList<>(workerCount - 1);
+            for (int idx = 1; idx < workerCount; ++idx)
+            {
+                futures.add(WORKER_POOL.submit(worker));
+            }
+            try
+            {
+                worker.run();
+            }
+            finally
+            {
+                for (Future<?> future : futures)
+                {
+                    awaitUninterruptibly(future);
+                }
+            }
+
+            @Nullable RuntimeException exc = failure.get();
+            if (exc != null)
+            {
+                throw exc;
+            }
+        }
+    }
+
+    private static void processRequests(
+        List<Runnable> requests,
+        AtomicInteger nextRequestIdx,
+        AtomicReference<RuntimeException> failure
+    )
+    {
+        int idx = nextRequestIdx.getAndIncrement();
+        while (idx < requests.size() && failure.get() == null)
+        {
+            try
+            {
+                requests.get(idx).run();
+            }
+            catch (RuntimeException exc)
+            {
+                if (!failure.compareAndSet(null, exc))
+                {
+                    failure.get().addSuppressed(exc);
+                }
+            }
+            idx = nextRequestIdx.getAndIncrement();
+        }
+    }
+
+    private static void awaitUninterruptibly(Future<?> future)
+    {
+        boolean interrupted = false;
+        boolean done = false;
+        while (!done)
+        {
+            try
+            {
+                future.get();
+                done = true;
+            }
+            catch (InterruptedException exc)
+            {
+                // we must not return while requests of this commit are still in flight
+                interrupted = true;
+            }
+            catch (ExecutionException exc)
+            {
+                // cannot happen, processRequests catches all RuntimeExceptions, but do not hide Errors
+                if (exc.getCause() instanceof Error err)
+                {
+                    throw err;
+                }
+                done = true;
+            }
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.linbit;
 
+import com.linbit.linstor.LinStorModule;
 import com.linbit.linstor.logging.ErrorReporter;
 
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
+import reactor.core.scheduler.Scheduler;
 
 public class SatelliteLinstorModule extends AbstractModule
 {
@@ -29,6 +32,17 @@ public class SatelliteLinstorModule extends AbstractModule
         );
     }
 
+    /**
+     * The satellite only talks to the controller, so messages are simply handled on the main worker pool
+     */
+    @Provides
+    @Singleton
+    @Named(LinStorModule.MSG_PROCESSING_SCHEDULER)
+    public Scheduler msgProcessingScheduler(Scheduler mainWorkerPoolScheduler)
+    {
+        return mainWorkerPoolScheduler;
+    }
+
     // @Provides
     // @Singleton
     // @Named(STLT_WORKER_POOL_NAME)
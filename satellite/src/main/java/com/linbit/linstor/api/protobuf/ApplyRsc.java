@@ -73,7 +73,7 @@ public class ApplyRsc implements ApiCall
             applyMsg.getFullSyncId(),
             applyMsg.getUpdateId()
         );
-        apiCallHandler.applyResourceChanges(rscRawData);
+        apiCallHandler.applyResourceChanges(rscRawData, applyMsg.getDeltaVersion());
     }
 
     //deserialize sync msg and put into pojo, extend rsc api and pojo!
@@ -0,0 +1,117 @@
+package com.linbit.linstor.api.protobuf;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCallReactive;
+import com.linbit.linstor.api.ApiCallRc;
+import com.linbit.linstor.api.pojo.RscDeltaPojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo.PropsDeltaPojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo.RscOnNodeDeltaPojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo.VlmDeltaPojo;
+import com.linbit.linstor.core.apicallhandler.ResponseSerializer;
+import com.linbit.linstor.core.apicallhandler.StltApiCallHandler;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscDeltaOuterClass.IntPropsDelta;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscDeltaOuterClass.IntRscDelta;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscDeltaOuterClass.IntVlmDelta;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscDeltaOuterClass.MsgIntApplyRscDelta;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_APPLY_RSC_DELTA,
+    description = "Applies property and flag changes of a resource definition"
+)
+@Singleton
+public class ApplyRscDelta implements ApiCallReactive
+{
+    private final StltApiCallHandler apiCallHandler;
+    private final ResponseSerializer responseSerializer;
+
+    @Inject
+    public ApplyRscDelta(
+        StltApiCallHandler apiCallHandlerRef,
+        ResponseSerializer responseSerializerRef
+    )
+    {
+        apiCallHandler = apiCallHandlerRef;
+        responseSerializer = responseSerializerRef;
+    }
+
+    @Override
+    public Flux<byte[]> executeReactive(InputStream msgDataIn)
+        throws IOException
+    {
+        MsgIntApplyRscDelta applyMsg = MsgIntApplyRscDelta.parseDelimitedFrom(msgDataIn);
+
+        Sinks.One<Flux<ApiCallRc>> responseSink = Sinks.one();
+        apiCallHandler.applyResourceDelta(
+            asRscDeltaPojo(applyMsg),
+            applyMsg.getFullSyncId(),
+            applyMsg.getUpdateId(),
+            responseSink
+        );
+
+        return responseSink.asMono()
+            .flatMapMany(Function.identity())
+            .transform(responseSerializer::transform);
+    }
+
+    private static RscDeltaPojo asRscDeltaPojo(MsgIntApplyRscDelta applyMsg)
+    {
+        List<RscOnNodeDeltaPojo> rscDeltas = new ArrayList<>();
+        for (IntRscDelta intRscDelta : applyMsg.getRscsList())
+        {
+            rscDeltas.add(
+                new RscOnNodeDeltaPojo(
+                    intRscDelta.getNodeName(),
+                    asPropsDeltaPojo(intRscDelta.getProps()),
+                    intRscDelta.getFlags(),
+                    asVlmDeltaPojos(intRscDelta.getVlmsList())
+                )
+            );
+        }
+        return new RscDeltaPojo(
+            applyMsg.getRscName(),
+            applyMsg.getBaseVersion(),
+            applyMsg.getVersion(),
+            asPropsDeltaPojo(applyMsg.getRscDfnProps()),
+            applyMsg.getRscDfnFlags(),
+            asVlmDeltaPojos(applyMsg.getVlmDfnsList()),
+            rscDeltas
+        );
+    }
+
+    private static List<VlmDeltaPojo> asVlmDeltaPojos(List<IntVlmDelta> intVlmDeltas)
+    {
+        List<VlmDeltaPojo> ret = new ArrayList<>();
+        for (IntVlmDelta intVlmDelta : intVlmDeltas)
+        {
+            ret.add(
+                new VlmDeltaPojo(
+                    intVlmDelta.getVlmNr(),
+                    asPropsDeltaPojo(intVlmDelta.getProps()),
+                    intVlmDelta.getFlags()
+                )
+            );
+        }
+        return ret;
+    }
+
+    private static PropsDeltaPojo asPropsDeltaPojo(IntPropsDelta intPropsDelta)
+    {
+        return new PropsDeltaPojo(
+            intPropsDelta.getSetPropsMap(),
+            new HashSet<>(intPropsDelta.getDeletedKeysList())
+        );
+    }
+}
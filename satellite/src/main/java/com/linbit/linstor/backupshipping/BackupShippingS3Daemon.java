@@ -10,8 +10,10 @@ import com.linbit.extproc.OutputProxy.StdErrEvent;
 import com.linbit.extproc.OutputProxy.StdOutEvent;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.BackupToS3;
+import com.linbit.linstor.api.S3RangedDownload;
 import com.linbit.linstor.core.objects.remotes.S3Remote;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.linstor.storage.StorageException;
 
 import java.io.IOException;
@@ -29,6 +31,7 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
 {
     private static final int DFLT_DEQUE_CAPACITY = 100;
+    private static final int RESTORE_PROGRESS_STEP_PERCENT = 10;
     private final ErrorReporter errorReporter;
     private final Thread cmdThread;
     private final Thread s3Thread;
@@ -36,12 +39,16 @@ public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
     private final BackupToS3 backupHandler;
     private final String backupName;
     private final S3Remote remote;
+    private final String remoteName;
     private final long volSize;
 
     private final LinkedBlockingDeque<Event> deque;
     private final DaemonHandler handler;
     private final Object syncObj = new Object();
     private final byte[] masterKey;
+    private final int partsInFlight;
+    private final int partRetries;
+    private final int restoreChunksInFlight;
 
     private volatile boolean running = false;
     private @Nullable Process cmdProcess;
@@ -64,18 +71,25 @@ public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
         boolean restoreRef,
         long size,
         BiConsumer<Boolean, Integer> postActionRef,
-        byte[] masterKeyRef
+        byte[] masterKeyRef,
+        int partsInFlightRef,
+        int partRetriesRef,
+        int restoreChunksInFlightRef
     )
     {
         errorReporter = errorReporterRef;
         threadGroup = threadGroupRef;
         command = commandRef;
         remote = remoteRef;
+        remoteName = remoteRef.getName().displayValue;
         afterTermination = postActionRef;
         backupName = backupNameRef;
         backupHandler = backupHandlerRef;
         volSize = size;
         masterKey = masterKeyRef;
+        partsInFlight = partsInFlightRef;
+        partRetries = partRetriesRef;
+        restoreChunksInFlight = restoreChunksInFlightRef;
 
         deque = new LinkedBlockingDeque<>(DFLT_DEQUE_CAPACITY);
         handler = new DaemonHandler(deque, command);
@@ -155,7 +169,14 @@ public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
         {
             backupHandler
                 .putObjectMultipart(
-                    backupName, cmdProcess.getInputStream(), volSize, uploadId, remote, masterKey
+                    backupName,
+                    cmdProcess.getInputStream(),
+                    volSize,
+                    uploadId,
+                    remote,
+                    masterKey,
+                    partsInFlight,
+                    partRetries
                 );
             success = true;
         }
@@ -176,17 +197,39 @@ public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
         errorReporter.logTrace("starting restore for backup %s", backupName);
         boolean success = false;
         try (
-            InputStream is = backupHandler.getObject(backupName, remote, masterKey);
+            InputStream is = openRestoreStream();
             OutputStream os = cmdProcess.getOutputStream();
         )
         {
+            long startTime = System.currentTimeMillis();
             byte[] readBuf = new byte[1 << 20];
             int readLen = 0;
+            int loggedPercent = 0;
+            if (is instanceof S3RangedDownload download)
+            {
+                LinstorServerMetrics.backupS3RestoreSizeBytes.labels(remoteName, backupName).set(download.getSize());
+            }
             while ((readLen = is.read(readBuf)) != -1)
             {
                 os.write(readBuf, 0, readLen);
+                if (is instanceof S3RangedDownload download)
+                {
+                    LinstorServerMetrics.backupS3RestoreDownloadedBytes.labels(remoteName, backupName)
+                        .set(download.getPosition());
+                    loggedPercent = logRestoreProgress(download, loggedPercent);
+                }
             }
             os.flush();
+            if (is instanceof S3RangedDownload download)
+            {
+                errorReporter.logInfo(
+                    "Downloaded %d bytes of backup %s in %d ms with %d chunks in flight",
+                    download.getPosition(),
+                    backupName,
+                    System.currentTimeMillis() - startTime,
+                    restoreChunksInFlight
+                );
+            }
             Thread.sleep(500);
             success = true;
         }
@@ -199,9 +242,54 @@ public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
                 errorReporter.reportError(exc);
             }
         }
+        finally
+        {
+            // only running restores have a progress
+            LinstorServerMetrics.backupS3RestoreSizeBytes.remove(remoteName, backupName);
+            LinstorServerMetrics.backupS3RestoreDownloadedBytes.remove(remoteName, backupName);
+        }
         threadFinished(success, true);
     }
 
+    private InputStream openRestoreStream()
+    {
+        InputStream ret;
+        if (restoreChunksInFlight > 0)
+        {
+            ret = backupHandler.getObjectRanged(backupName, remote, masterKey, restoreChunksInFlight, partRetries);
+        }
+        else
+        {
+            ret = backupHandler.getObject(backupName, remote, masterKey);
+        }
+        return ret;
+    }
+
+    /**
+     * Logs the progress of the restore whenever another {@link #RESTORE_PROGRESS_STEP_PERCENT} percent were
+     * downloaded.
+     *
+     * @return the last logged percentage
+     */
+    private int logRestoreProgress(S3RangedDownload download, int loggedPercent)
+    {
+        int ret = loggedPercent;
+        long size = download.getSize();
+        int percent = size > 0 ? (int) (download.getPosition() * 100 / size) : 100;
+        if (percent >= loggedPercent + RESTORE_PROGRESS_STEP_PERCENT)
+        {
+            ret = percent - percent % RESTORE_PROGRESS_STEP_PERCENT;
+            errorReporter.logInfo(
+                "Restoring backup %s: %d%% (%d of %d bytes)",
+                backupName,
+                ret,
+                download.getPosition(),
+                size
+            );
+        }
+        return ret;
+    }
+
     @Override
     public void run()
     {
@@ -10,6 +10,7 @@ import com.linbit.linstor.core.CoreModule.RemoteMap;
 import com.linbit.linstor.core.StltConfigAccessor;
 import com.linbit.linstor.core.StltConnTracker;
 import com.linbit.linstor.core.StltSecurityObjects;
+import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.core.objects.Snapshot;
 import com.linbit.linstor.core.objects.remotes.AbsRemote;
 import com.linbit.linstor.core.objects.remotes.AbsRemote.RemoteType;
@@ -46,6 +47,7 @@ public class BackupShippingS3Service extends AbsBackupShippingService
         "%s";
 
     private final BackupToS3 backupHandler;
+    private final StltConfig stltCfg;
 
     @Inject
     public BackupShippingS3Service(
@@ -58,7 +60,8 @@ public class BackupShippingS3Service extends AbsBackupShippingService
         StltConfigAccessor stltConfigAccessorRef,
         StltConnTracker stltConnTracker,
         RemoteMap remoteMapRef,
-        LockGuardFactory lockGuardFactoryRef
+        LockGuardFactory lockGuardFactoryRef,
+        StltConfig stltCfgRef
     )
     {
         super(
@@ -76,6 +79,7 @@ public class BackupShippingS3Service extends AbsBackupShippingService
         );
 
         backupHandler = backupHandlerRef;
+        stltCfg = stltCfgRef;
     }
 
     @Override
@@ -147,7 +151,10 @@ public class BackupShippingS3Service extends AbsBackupShippingService
                 snapVlmDataRef.getSnapshotAllocatedSize() :
                 snapVlmDataRef.getAllocatedSize(),
             postAction,
-            stltSecObj.getCryptKey()
+            stltSecObj.getCryptKey(),
+            stltCfg.getBackupS3PartsInFlight(remote.getName().displayValue),
+            stltCfg.getBackupS3PartRetries(),
+            stltCfg.getBackupS3RestoreChunksInFlight()
         );
     }
 
@@ -20,6 +20,8 @@ import com.linbit.linstor.storage.StorageException;
 import java.util.List;
 import java.util.Set;
 
+import reactor.core.publisher.Flux;
+
 public interface DeviceManager extends DrbdStateChange, DeviceLayer.NotificationListener
 {
     void controllerUpdateApplied(Set<ResourceName> rscSet);
@@ -34,6 +36,12 @@ public interface DeviceManager extends DrbdStateChange, DeviceLayer.Notification
     void markResourceForDispatch(ResourceName name);
     void markMultipleResourcesForDispatch(Set<ResourceName> rscSet);
 
+    /**
+     * Marks the resource for dispatch after a delta was applied to it. The returned flux receives the responses
+     * of the dispatch.
+     */
+    Flux<ApiCallRc> rscDeltaApplied(ResourceName rscName);
+
     void applyChangedNodeProps(Props propsRef) throws StorageException;
     void fullSyncApplied(Node localNode) throws StorageException;
 
@@ -8,6 +8,7 @@ import com.linbit.ServiceName;
 import com.linbit.SystemService;
 import com.linbit.SystemServiceStartException;
 import com.linbit.drbd.DrbdVersion;
+import com.linbit.extproc.ExtCmd;
 import com.linbit.fsevent.FileSystemWatch;
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.LinStorModule;
@@ -45,6 +46,7 @@ import com.linbit.linstor.logging.LoggingModule;
 import com.linbit.linstor.logging.StdErrorReporter;
 import com.linbit.linstor.modularcrypto.ModularCryptoProvider;
 import com.linbit.linstor.numberpool.SatelliteNumberPoolModule;
+import com.linbit.linstor.prometheus.StltMetricsService;
 import com.linbit.linstor.systemstarter.NetComInitializer;
 import com.linbit.linstor.systemstarter.ServiceStarter;
 import com.linbit.linstor.systemstarter.StartupInitializer;
@@ -105,6 +107,7 @@ public final class Satellite
 
     private final DrbdEventService drbdEventSvc;
     private final CloneService cloneService;
+    private final StltMetricsService metricsService;
 
     private final BackupShippingMgr backShipMgr;
 
@@ -133,7 +136,8 @@ public final class Satellite
         StltConfig stltCfgRef,
         CloneService cloneServiceRef,
         DrbdVersion drbdVersionRef,
-        PlatformStlt platformStltRef
+        PlatformStlt platformStltRef,
+        StltMetricsService metricsServiceRef
     )
     {
         errorReporter = errorReporterRef;
@@ -152,6 +156,7 @@ public final class Satellite
         cloneService = cloneServiceRef;
         vsnCheck = drbdVersionRef;
         platformStlt = platformStltRef;
+        metricsService = metricsServiceRef;
     }
 
     public void start()
@@ -224,6 +229,7 @@ public final class Satellite
 
             startOrderlist.add(new ServiceStarter(devMgrService));
             startOrderlist.add(new ServiceStarter(cloneService));
+            startOrderlist.add(new ServiceStarter(metricsService));
             errorReporter.logInfo("Initializing main network communications service");
             startOrderlist.add(netComInitializer);
 
@@ -236,6 +242,7 @@ public final class Satellite
             }
             systemServicesMap.put(devMgrService.getInstanceName(), devMgrService);
             systemServicesMap.put(cloneService.getInstanceName(), cloneService);
+            systemServicesMap.put(metricsService.getInstanceName(), metricsService);
 
             applicationLifecycleManager.startSystemServices(startOrderlist);
 
@@ -330,6 +337,7 @@ public final class Satellite
         LinStor.printStartupInfo();
 
         StltConfig cfg = new StltConfig(args);
+        ExtCmd.setVirtualThreadOutputPumps(cfg.isExtCmdVirtualThreads());
 
         System.setProperty("log.module", LinStor.SATELLITE_MODULE);
         System.setProperty("log.directory", cfg.getLogDirectory());
@@ -4,6 +4,7 @@ import com.linbit.ImplementationError;
 import com.linbit.PlatformStlt;
 import com.linbit.extproc.ChildProcessHandler;
 import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.LinstorParsingUtils;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
@@ -14,6 +15,7 @@ import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.api.pojo.EbsRemotePojo;
 import com.linbit.linstor.api.pojo.ExternalFilePojo;
 import com.linbit.linstor.api.pojo.NodePojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo;
 import com.linbit.linstor.api.pojo.RscPojo;
 import com.linbit.linstor.api.pojo.S3RemotePojo;
 import com.linbit.linstor.api.pojo.SnapshotPojo;
@@ -37,6 +39,7 @@ import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.migration.StltMigrationHandler;
 import com.linbit.linstor.core.migration.StltMigrationHandler.StltMigrationResult;
 import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.ResourceDefinition;
 import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.core.objects.StorPoolDefinition;
@@ -76,6 +79,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
@@ -93,6 +97,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.event.Level;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
 @Singleton
 public class StltApiCallHandler
@@ -326,6 +332,7 @@ public class StltApiCallHandler
                  * This re-populating is done in devMgr.fullSyncApplied(localNode)
                  */
                 stltApiCallHandlerUtils.clearCaches();
+                rscHandler.clearDeltaVersions();
                 deleteUnknownResFiles(resources); // new res files should be (re-)generated in the next devMgrCycle
 
                 // now start to (re-) create linstor objects received from controller
@@ -571,14 +578,21 @@ public class StltApiCallHandler
     private void createWatchForPeer()
     {
         Peer controllerPeer = controllerPeerConnector.getControllerPeer();
-        eventBroker.createWatch(
-            controllerPeer,
-            new Watch(
-                UUID.randomUUID(),
-                controllerPeer.getId(),
-                0,
-                EventIdentifier.global(null)
-        ));
+        Watch watch = new Watch(
+            UUID.randomUUID(),
+            controllerPeer.getId(),
+            0,
+            EventIdentifier.global(null)
+        );
+        long flushIntervalMs = stltCfg.getEventBatchFlushIntervalMs();
+        if (flushIntervalMs > 0)
+        {
+            eventBroker.createBatchedWatch(controllerPeer, watch, Duration.ofMillis(flushIntervalMs));
+        }
+        else
+        {
+            eventBroker.createWatch(controllerPeer, watch);
+        }
     }
 
     public void applyControllerChanges(
@@ -707,9 +721,26 @@ public class StltApiCallHandler
         applyChangedData(new ApplyNode(nodeName, fullSyncId, updateId));
     }
 
-    public void applyResourceChanges(RscPojo rscRawData)
+    public void applyResourceChanges(RscPojo rscRawData, long deltaVersion)
     {
-        applyChangedData(new ApplyRscData(rscRawData));
+        applyChangedData(new ApplyRscData(rscRawData, deltaVersion));
+    }
+
+    /**
+     * Applies the given delta if our local copy of the resource definition is at the base version of the delta.
+     * Otherwise the whole resource is requested from the controller.
+     *
+     * @param responseSink will receive the responses of the device manager once the changes are applied (or got
+     *     discarded)
+     */
+    public void applyResourceDelta(
+        RscDeltaPojo rscDelta,
+        long fullSyncId,
+        long updateId,
+        Sinks.One<Flux<ApiCallRc>> responseSink
+    )
+    {
+        applyChangedData(new ApplyRscDeltaData(rscDelta, fullSyncId, updateId, responseSink));
     }
 
     public void applyDeletedResourceChange(
@@ -845,6 +876,7 @@ public class StltApiCallHandler
             else
             {
                 errorReporter.logWarning("Ignoring received outdated update. ");
+                data.discarded();
             }
         }
     }
@@ -960,6 +992,13 @@ public class StltApiCallHandler
         }
 
         void applyChange();
+
+        /**
+         * Called instead of {@link #applyChange()} if the update was ignored as outdated
+         */
+        default void discarded()
+        {
+        }
     }
 
     private class ApplyControllerData implements ApplyData
@@ -1058,12 +1097,14 @@ public class StltApiCallHandler
         private @Nullable String deletedRscName;
         private final long fullSyncId;
         private final long updateId;
+        private final long deltaVersion;
 
-        ApplyRscData(RscPojo rscPojoRef)
+        ApplyRscData(RscPojo rscPojoRef, long deltaVersionRef)
         {
             rscPojo = rscPojoRef;
             fullSyncId = rscPojo.getFullSyncId();
             updateId = rscPojo.getUpdateId();
+            deltaVersion = deltaVersionRef;
         }
 
         ApplyRscData(
@@ -1075,6 +1116,7 @@ public class StltApiCallHandler
             deletedRscName = rscNameRef;
             this.fullSyncId = fullSyncIdRef;
             this.updateId = updateIdRef;
+            deltaVersion = StltRscApiCallHandler.UNKNOWN_DELTA_VERSION;
         }
 
         @Override
@@ -1101,7 +1143,7 @@ public class StltApiCallHandler
             {
                 if (rscPojo != null)
                 {
-                    rscHandler.applyChanges(rscPojo);
+                    rscHandler.applyChanges(rscPojo, deltaVersion);
                     checkForAlreadyKnownResources(rscPojo, false);
                 }
                 else
@@ -1112,6 +1154,101 @@ public class StltApiCallHandler
         }
     }
 
+    private class ApplyRscDeltaData implements ApplyData
+    {
+        private final RscDeltaPojo rscDelta;
+        private final long fullSyncId;
+        private final long updateId;
+        private final Sinks.One<Flux<ApiCallRc>> responseSink;
+
+        ApplyRscDeltaData(
+            RscDeltaPojo rscDeltaRef,
+            long fullSyncIdRef,
+            long updateIdRef,
+            Sinks.One<Flux<ApiCallRc>> responseSinkRef
+        )
+        {
+            rscDelta = rscDeltaRef;
+            fullSyncId = fullSyncIdRef;
+            updateId = updateIdRef;
+            responseSink = responseSinkRef;
+        }
+
+        @Override
+        public long getFullSyncId()
+        {
+            return fullSyncId;
+        }
+
+        @Override
+        public long getUpdateId()
+        {
+            return updateId;
+        }
+
+        @Override
+        public void applyChange()
+        {
+            Flux<ApiCallRc> responses;
+            try (
+                LockGuard ls = LockGuard.createLocked(
+                    nodesMapLock.readLock(),
+                    rscDfnMapLock.writeLock()
+                )
+            )
+            {
+                ResourceName rscName = LinstorParsingUtils.asRscName(rscDelta.getRscName());
+                long localVersion = rscHandler.getDeltaVersion(rscName);
+                if (localVersion == rscDelta.getVersion())
+                {
+                    // we already received the whole resource in this version, nothing to apply
+                    responses = deviceManager.rscDeltaApplied(rscName);
+                }
+                else if (localVersion == rscDelta.getBaseVersion() &&
+                    localVersion != StltRscApiCallHandler.UNKNOWN_DELTA_VERSION &&
+                    rscHandler.applyDelta(rscDelta))
+                {
+                    responses = deviceManager.rscDeltaApplied(rscName);
+                }
+                else
+                {
+                    errorReporter.logDebug(
+                        "Cannot apply delta %d -> %d of resource '%s' (local version: %d), requesting resource",
+                        rscDelta.getBaseVersion(),
+                        rscDelta.getVersion(),
+                        rscName,
+                        localVersion
+                    );
+                    ResourceDefinition rscDfn = rscDfnMap.get(rscName);
+                    Resource localRsc = rscDfn == null ?
+                        null :
+                        rscDfn.getResource(controllerPeerConnector.getLocalNodeName());
+                    if (localRsc == null)
+                    {
+                        // nothing we could request by UUID, the controller will tell us if the resource
+                        // (or its deletion) is relevant for us
+                        responses = Flux.empty();
+                    }
+                    else
+                    {
+                        responses = deviceManager.getUpdateTracker().updateResource(
+                            localRsc.getUuid(),
+                            rscName,
+                            controllerPeerConnector.getLocalNodeName()
+                        );
+                    }
+                }
+            }
+            responseSink.tryEmitValue(responses);
+        }
+
+        @Override
+        public void discarded()
+        {
+            responseSink.tryEmitValue(Flux.empty());
+        }
+    }
+
     private class ApplyStorPool implements ApplyData
     {
         private @Nullable StorPoolPojo storPoolPojo;
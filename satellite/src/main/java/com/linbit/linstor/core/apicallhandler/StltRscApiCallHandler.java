@@ -4,6 +4,10 @@ import com.linbit.ImplementationError;
 import com.linbit.InvalidIpAddressException;
 import com.linbit.InvalidNameException;
 import com.linbit.ValueOutOfRangeException;
+import com.linbit.linstor.api.pojo.RscDeltaPojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo.PropsDeltaPojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo.RscOnNodeDeltaPojo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo.VlmDeltaPojo;
 import com.linbit.linstor.api.pojo.RscPojo;
 import com.linbit.linstor.api.pojo.RscPojo.OtherNodeNetInterfacePojo;
 import com.linbit.linstor.api.pojo.RscPojo.OtherRscPojo;
@@ -64,6 +68,12 @@ import java.util.stream.Collectors;
 @Singleton
 class StltRscApiCallHandler
 {
+    /**
+     * Delta version of resources that were applied without a (known) version, i.e. during a full sync.
+     * Such resources always need to be requested again instead of applying a delta.
+     */
+    static final long UNKNOWN_DELTA_VERSION = 0;
+
     private final ErrorReporter errorReporter;
     private final DeviceManager deviceManager;
     private final ControllerPeerConnector controllerPeerConnector;
@@ -81,6 +91,11 @@ class StltRscApiCallHandler
     private final StltLayerRscDataMerger layerRscDataMerger;
     private final StltCryptApiCallHelper cryptHelper;
 
+    /*
+     * Only accessed while holding the write lock of the rscDfnMap
+     */
+    private final Map<ResourceName, Long> appliedDeltaVersions = new HashMap<>();
+
     @Inject
     StltRscApiCallHandler(
         ErrorReporter errorReporterRef,
@@ -131,6 +146,7 @@ class StltRscApiCallHandler
         try
         {
             ResourceName rscName = new ResourceName(rscNameStr);
+            appliedDeltaVersions.remove(rscName);
 
             ResourceDefinition rscDfn = rscDfnMap.get(rscName);
             if (rscDfn != null)
@@ -179,6 +195,11 @@ class StltRscApiCallHandler
     }
 
     public void applyChanges(RscPojo rscRawData)
+    {
+        applyChanges(rscRawData, UNKNOWN_DELTA_VERSION);
+    }
+
+    public void applyChanges(RscPojo rscRawData, long deltaVersion)
     {
         try
         {
@@ -593,6 +614,8 @@ class StltRscApiCallHandler
 
             transMgrProvider.get().commit();
 
+            setDeltaVersion(rscName, deltaVersion);
+
             Set<Resource.ResourceKey> devMgrNotifications = new TreeSet<>();
 
             reportSuccess(createdRscSet, "created");
@@ -610,6 +633,114 @@ class StltRscApiCallHandler
         }
     }
 
+    long getDeltaVersion(ResourceName rscName)
+    {
+        return appliedDeltaVersions.getOrDefault(rscName, UNKNOWN_DELTA_VERSION);
+    }
+
+    void clearDeltaVersions()
+    {
+        appliedDeltaVersions.clear();
+    }
+
+    private void setDeltaVersion(ResourceName rscName, long deltaVersion)
+    {
+        if (deltaVersion == UNKNOWN_DELTA_VERSION)
+        {
+            appliedDeltaVersions.remove(rscName);
+        }
+        else
+        {
+            appliedDeltaVersions.put(rscName, deltaVersion);
+        }
+    }
+
+    /**
+     * Applies the given property and flag changes. The caller has to make sure that our local resource definition
+     * is at the base version of the delta.
+     *
+     * @return false if the delta could not be applied since the delta references an object we do not know. In this
+     *     case nothing was changed and the whole resource has to be requested from the controller.
+     */
+    public boolean applyDelta(RscDeltaPojo rscDelta)
+    {
+        boolean applied = false;
+        try
+        {
+            ResourceName rscName = new ResourceName(rscDelta.getRscName());
+            ResourceDefinition rscDfn = rscDfnMap.get(rscName);
+            if (rscDfn != null && canApplyDelta(rscDfn, rscDelta))
+            {
+                applyPropsDelta(rscDfn.getProps(), rscDelta.getRscDfnProps());
+                rscDfn.getFlags().resetFlagsTo(ResourceDefinition.Flags.restoreFlags(rscDelta.getRscDfnFlags()));
+
+                for (VlmDeltaPojo vlmDfnDelta : rscDelta.getVlmDfns())
+                {
+                    VolumeDefinition vlmDfn = rscDfn.getVolumeDfn(new VolumeNumber(vlmDfnDelta.getVlmNr()));
+                    applyPropsDelta(vlmDfn.getProps(), vlmDfnDelta.getProps());
+                    vlmDfn.getFlags().resetFlagsTo(VolumeDefinition.Flags.restoreFlags(vlmDfnDelta.getFlags()));
+                }
+                for (RscOnNodeDeltaPojo rscOnNodeDelta : rscDelta.getRscs())
+                {
+                    Resource rsc = rscDfn.getResource(new NodeName(rscOnNodeDelta.getNodeName()));
+                    applyPropsDelta(rsc.getProps(), rscOnNodeDelta.getProps());
+                    rsc.getStateFlags().resetFlagsTo(Resource.Flags.restoreFlags(rscOnNodeDelta.getFlags()));
+                    for (VlmDeltaPojo vlmDelta : rscOnNodeDelta.getVlms())
+                    {
+                        Volume vlm = rsc.getVolume(new VolumeNumber(vlmDelta.getVlmNr()));
+                        applyPropsDelta(vlm.getProps(), vlmDelta.getProps());
+                        vlm.getFlags().resetFlagsTo(Volume.Flags.restoreFlags(vlmDelta.getFlags()));
+                    }
+                }
+
+                transMgrProvider.get().commit();
+
+                setDeltaVersion(rscName, rscDelta.getVersion());
+                errorReporter.logTrace(
+                    "rscDfn '%s' updated to delta version %d",
+                    rscName,
+                    rscDelta.getVersion()
+                );
+                applied = true;
+            }
+        }
+        catch (Exception | ImplementationError exc)
+        {
+            errorReporter.reportError(exc);
+        }
+        return applied;
+    }
+
+    private boolean canApplyDelta(ResourceDefinition rscDfn, RscDeltaPojo rscDelta)
+        throws InvalidNameException, ValueOutOfRangeException
+    {
+        boolean canApply = true;
+        Iterator<VlmDeltaPojo> vlmDfnDeltaIt = rscDelta.getVlmDfns().iterator();
+        while (canApply && vlmDfnDeltaIt.hasNext())
+        {
+            canApply = rscDfn.getVolumeDfn(new VolumeNumber(vlmDfnDeltaIt.next().getVlmNr())) != null;
+        }
+        Iterator<RscOnNodeDeltaPojo> rscDeltaIt = rscDelta.getRscs().iterator();
+        while (canApply && rscDeltaIt.hasNext())
+        {
+            RscOnNodeDeltaPojo rscOnNodeDelta = rscDeltaIt.next();
+            Resource rsc = rscDfn.getResource(new NodeName(rscOnNodeDelta.getNodeName()));
+            canApply = rsc != null;
+            Iterator<VlmDeltaPojo> vlmDeltaIt = rscOnNodeDelta.getVlms().iterator();
+            while (canApply && vlmDeltaIt.hasNext())
+            {
+                canApply = rsc.getVolume(new VolumeNumber(vlmDeltaIt.next().getVlmNr())) != null;
+            }
+        }
+        return canApply;
+    }
+
+    private void applyPropsDelta(Props props, PropsDeltaPojo propsDelta)
+    {
+        props.map().putAll(propsDelta.getSetProps());
+        props.keySet().removeAll(propsDelta.getDeletedKeys());
+    }
+
     /**
      * Gets the remote {@link Node} and merges the nodes properties and network interfaces based on the content of
      * <code>otherRscRawRef</code>
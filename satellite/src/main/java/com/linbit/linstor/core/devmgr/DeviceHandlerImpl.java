@@ -3,6 +3,7 @@ package com.linbit.linstor.core.devmgr;
 import com.linbit.ImplementationError;
 import com.linbit.InvalidNameException;
 import com.linbit.Platform;
+import com.linbit.WorkerPool;
 import com.linbit.exceptions.InvalidSizeException;
 import com.linbit.extproc.ExtCmdFactory;
 import com.linbit.linstor.InternalApiConsts;
@@ -11,6 +12,7 @@ import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiCallRcImpl.EntryBuilder;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.LinStorScope;
 import com.linbit.linstor.api.SpaceInfo;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.backupshipping.BackupShippingMgr;
@@ -20,6 +22,7 @@ import com.linbit.linstor.core.ControllerPeerConnector;
 import com.linbit.linstor.core.StltExternalFileHandler;
 import com.linbit.linstor.core.SysFsHandler;
 import com.linbit.linstor.core.UdevHandler;
+import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.core.devmgr.exceptions.ResourceException;
 import com.linbit.linstor.core.devmgr.exceptions.VolumeException;
 import com.linbit.linstor.core.identifier.ResourceName;
@@ -62,7 +65,10 @@ import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObje
 import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
 import com.linbit.linstor.storage.kinds.DeviceLayerKind;
 import com.linbit.linstor.storage.utils.MkfsUtils;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+import com.linbit.linstor.transaction.manager.TransactionMgrUtil;
 import com.linbit.linstor.utils.SetUtils;
+import com.linbit.linstor.utils.layer.LayerVlmUtils;
 import com.linbit.utils.StringUtils;
 
 import javax.inject.Inject;
@@ -82,6 +88,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -115,6 +123,11 @@ public class DeviceHandlerImpl implements DeviceHandler
     private final SuspendManager suspendMgr;
     private final LayerSizeHelper layerSizeHelper;
 
+    private final StltConfig stltCfg;
+    private final WorkerPool workerPool;
+    private final LinStorScope devMgrScope;
+    private final Provider<TransactionMgr> transMgrProvider;
+
     @Inject
     public DeviceHandlerImpl(
         ErrorReporter errorReporterRef,
@@ -131,7 +144,11 @@ public class DeviceHandlerImpl implements DeviceHandler
         BackupShippingMgr backupShippingManagerRef,
         SuspendManager suspendMgrRef,
         LayerSizeHelper layerSizeHelperRef,
-        CloneService cloneServiceRef
+        CloneService cloneServiceRef,
+        StltConfig stltCfgRef,
+        WorkerPool workerPoolRef,
+        LinStorScope devMgrScopeRef,
+        Provider<TransactionMgr> transMgrProviderRef
     )
     {
         errorReporter = errorReporterRef;
@@ -150,6 +167,10 @@ public class DeviceHandlerImpl implements DeviceHandler
         suspendMgr = suspendMgrRef;
         layerSizeHelper = layerSizeHelperRef;
         cloneService = cloneServiceRef;
+        stltCfg = stltCfgRef;
+        workerPool = workerPoolRef;
+        devMgrScope = devMgrScopeRef;
+        transMgrProvider = transMgrProviderRef;
 
         suspendMgrRef.setExceptionHandler(this::handleException);
 
@@ -211,8 +232,14 @@ public class DeviceHandlerImpl implements DeviceHandler
                 snapListNotifyDelete,
                 failedRscs
             );
+            Set<ResourceName> rscNamesWithDispatchedSnaps = new HashSet<>();
+            for (Snapshot snap : snapsRef)
+            {
+                rscNamesWithDispatchedSnaps.add(snap.getResourceName());
+            }
             processResources(
                 resources,
+                rscNamesWithDispatchedSnaps,
                 rscListNotifyApplied,
                 rscListNotifyDelete,
                 vlmListNotifyDelete,
@@ -344,6 +371,7 @@ public class DeviceHandlerImpl implements DeviceHandler
 
     private void processResources(
         Collection<Resource> resourceList,
+        Set<ResourceName> rscNamesWithDispatchedSnaps,
         List<Resource> rscListNotifyApplied,
         List<Resource> rscListNotifyDelete,
         List<Volume> vlmListNotifyDelete,
@@ -355,123 +383,378 @@ public class DeviceHandlerImpl implements DeviceHandler
         failedRscs.putAll(suspendMgr.manageSuspendIo(resourceList, false));
 
         final NotificationListener notificationListener = notificationListenerProvider.get();
-        for (Resource rsc : resourceList)
+        final int rscWorkers = Math.min(stltCfg.getDevMgrRscWorkers(), workerPool.getThreadCount());
+        if (rscWorkers > 1 && resourceList.size() > 1)
         {
-            ResourceName rscName = rsc.getResourceDefinition().getName();
-            ApiCallRcImpl apiCallRc = failedRscs.get(rsc);
-            if (apiCallRc == null)
+            List<RscProcessResult> results = processResourcesParallel(
+                resourceList,
+                rscNamesWithDispatchedSnaps,
+                failedRscs,
+                notificationListener,
+                rscWorkers
+            );
+            // results are in the same order as resourceList, regardless of the order the workers finished
+            for (RscProcessResult result : results)
             {
-                apiCallRc = new ApiCallRcImpl();
-                try
+                applyResult(
+                    result,
+                    notificationListener,
+                    rscListNotifyApplied,
+                    rscListNotifyDelete,
+                    vlmListNotifyDelete
+                );
+            }
+        }
+        else
+        {
+            for (Resource rsc : resourceList)
+            {
+                applyResult(
+                    processResourceEntry(rsc, failedRscs.get(rsc)),
+                    notificationListener,
+                    rscListNotifyApplied,
+                    rscListNotifyDelete,
+                    vlmListNotifyDelete
+                );
+            }
+        }
+    }
+
+    /**
+     * Processes the given resources using the satellite's worker pool. Resources that depend on each other
+     * (clone source / target or snapshots that are dispatched within the same run) are processed sequentially
+     * in the calling thread before the independent resources are handed to the workers.
+     *
+     * @return the results in the same order as the given <code>resourceList</code>
+     */
+    private List<RscProcessResult> processResourcesParallel(
+        Collection<Resource> resourceList,
+        Set<ResourceName> rscNamesWithDispatchedSnaps,
+        Map<Resource, ApiCallRcImpl> failedRscs,
+        NotificationListener notificationListener,
+        int rscWorkers
+    )
+        throws ImplementationError
+    {
+        final List<Resource> rscs = new ArrayList<>(resourceList);
+        final RscProcessResult[] results = new RscProcessResult[rscs.size()];
+
+        List<Integer> independentRscIdxList = new ArrayList<>();
+        for (int idx = 0; idx < rscs.size(); idx++)
+        {
+            Resource rsc = rscs.get(idx);
+            if (hasCloneOrSnapshotDependency(rsc, rscNamesWithDispatchedSnaps))
+            {
+                results[idx] = processResourceEntry(rsc, failedRscs.get(rsc));
+            }
+            else
+            {
+                independentRscIdxList.add(idx);
+            }
+        }
+
+        // collected in this thread so that the workers only need read access
+        final int maxPerStorPool = stltCfg.getDevMgrRscWorkersPerStorPool();
+        final Map<StorPool, Semaphore> storPoolSlots = new HashMap<>();
+        final Map<Resource, Set<StorPool>> rscStorPools = new HashMap<>();
+        if (maxPerStorPool > 0)
+        {
+            for (int idx : independentRscIdxList)
+            {
+                Resource rsc = rscs.get(idx);
+                // TreeSet, so that the semaphores are always acquired in the same order
+                Set<StorPool> storPools = LayerVlmUtils.getStorPools(rsc);
+                rscStorPools.put(rsc, storPools);
+                for (StorPool storPool : storPools)
                 {
+                    storPoolSlots.computeIfAbsent(storPool, ignored -> new Semaphore(maxPerStorPool, true));
+                }
+            }
+        }
 
-                    AbsRscLayerObject<Resource> rscLayerObject = rsc.getLayerData();
-                    processResource(rscLayerObject, apiCallRc);
+        errorReporter.logTrace(
+            "Processing %d resources using %d workers (%d sequentially due to dependencies)",
+            rscs.size(),
+            rscWorkers,
+            rscs.size() - independentRscIdxList.size()
+        );
 
-                    StateFlags<Flags> rscFlags = rsc.getStateFlags();
-                    if (rscFlags.isUnset(Flags.DELETE) &&
-                        rscFlags.isUnset(Flags.DRBD_DELETE) &&
-                        rscFlags.isUnset(Flags.INACTIVE) &&
-                        rsc.getResourceDefinition().getFlags().isUnset(ResourceDefinition.Flags.CLONING))
+        final TransactionMgr transMgr = transMgrProvider.get();
+        final Semaphore workerSlots = new Semaphore(rscWorkers);
+        final CountDownLatch finishedLatch = new CountDownLatch(independentRscIdxList.size());
+        for (int idx : independentRscIdxList)
+        {
+            final int rscIdx = idx;
+            final Resource rsc = rscs.get(rscIdx);
+            final @Nullable ApiCallRcImpl failedApiCallRc = failedRscs.get(rsc);
+            final Set<StorPool> storPools = rscStorPools.getOrDefault(rsc, Collections.emptySet());
+
+            workerSlots.acquireUninterruptibly();
+            workerPool.submit(
+                () ->
+                {
+                    List<Semaphore> acquiredSlots = new ArrayList<>();
+                    try (LinStorScope.ScopeAutoCloseable close = devMgrScope.enter())
                     {
-                        if (rscLayerObject.getLayerKind().isLocalOnly())
+                        TransactionMgrUtil.seedTransactionMgr(devMgrScope, transMgr);
+                        devMgrScope.seed(NotificationListener.class, notificationListener);
+
+                        for (StorPool storPool : storPools)
                         {
-                            MkfsUtils.makeFileSystemOnMarked(errorReporter, extCmdFactory, rsc);
+                            Semaphore storPoolSlot = storPoolSlots.get(storPool);
+                            storPoolSlot.acquireUninterruptibly();
+                            acquiredSlots.add(storPoolSlot);
                         }
-                        updateDiscGran(rscLayerObject);
+                        results[rscIdx] = processResourceEntry(rsc, failedApiCallRc);
                     }
-
-                    /*
-                     * old device manager reported changes of free space after every
-                     * resource operation. As this could require to query the same
-                     * VG or zpool multiple times within the same device manager run,
-                     * we only query the free space after the whole run.
-                     * This also means that we only send the resourceApplied messages
-                     * at the very end
-                     */
-                    if (rscFlags.isSet(Resource.Flags.DELETE))
+                    catch (Exception | ImplementationError exc)
                     {
-                        rscListNotifyDelete.add(rsc);
-                        Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
-                        while (iterateVolumes.hasNext())
-                        {
-                            Volume vlm = iterateVolumes.next();
-                            // verify if all VlmProviderObject were deleted correctly
-                            ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
-                            vlmListNotifyDelete.add(vlm);
-                        }
-                        notificationListener.notifyResourceDeleted(rsc);
-                        // rsc.delete is done by the deviceManager
+                        results[rscIdx] = new RscProcessResult(rsc, exc);
                     }
-                    else
+                    finally
                     {
-                        Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
-                        while (iterateVolumes.hasNext())
+                        for (Semaphore storPoolSlot : acquiredSlots)
                         {
-                            Volume vlm = iterateVolumes.next();
-                            if (vlm.getFlags().isSet(Volume.Flags.DELETE))
-                            {
-                                // verify if all VlmProviderObject were deleted correctly
-                                ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
-                                vlmListNotifyDelete.add(vlm);
-                            }
-                            else
-                            {
-                                updateDeviceSymlinks(vlm);
-                            }
+                            storPoolSlot.release();
                         }
-                        rscListNotifyApplied.add(rsc);
+                        workerSlots.release();
+                        finishedLatch.countDown();
                     }
+                }
+            );
+        }
+
+        boolean interrupted = false;
+        boolean finished = false;
+        while (!finished)
+        {
+            try
+            {
+                finishedLatch.await();
+                finished = true;
+            }
+            catch (InterruptedException ignored)
+            {
+                // we must not return before all workers are done, as they are still modifying our objects
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
 
-                    extFileHandler.handle(rsc);
+        List<RscProcessResult> ret = new ArrayList<>(results.length);
+        for (RscProcessResult result : results)
+        {
+            if (result.unexpectedExc != null)
+            {
+                if (result.unexpectedExc instanceof ImplementationError implErr)
+                {
+                    throw implErr;
+                }
+                throw new ImplementationError(
+                    "Unexpected exception while processing resource " + result.rsc,
+                    result.unexpectedExc
+                );
+            }
+            ret.add(result);
+        }
+        return ret;
+    }
 
-                    // give the layer the opportunity to send a "resource ready" event
-                    @Nullable AbsRscLayerObject<Resource> firstNonIgnoredRscData = getFirstRscDataToExecuteForDataPath(
-                        rsc.getLayerData()
-                    );
-                    if (firstNonIgnoredRscData == null)
+    /**
+     * Resources that are part of a clone or that have snapshots dispatched within the current run cannot be
+     * processed in parallel with the other resources, as the layers might need to access both objects within
+     * the same step.
+     */
+    private boolean hasCloneOrSnapshotDependency(Resource rsc, Set<ResourceName> rscNamesWithDispatchedSnaps)
+    {
+        ResourceDefinition rscDfn = rsc.getResourceDefinition();
+        boolean ret = rscDfn.getFlags().isSet(ResourceDefinition.Flags.CLONING) ||
+            rscNamesWithDispatchedSnaps.contains(rscDfn.getName());
+        if (!ret)
+        {
+            Iterator<Volume> vlmIt = rsc.iterateVolumes();
+            while (vlmIt.hasNext())
+            {
+                StateFlags<Volume.Flags> vlmFlags = vlmIt.next().getFlags();
+                if (vlmFlags.isSomeSet(Volume.Flags.CLONING, Volume.Flags.CLONING_START))
+                {
+                    ret = true;
+                    break;
+                }
+            }
+        }
+        if (!ret)
+        {
+            // this resource is the source of a clone
+            for (String key : rsc.getProps().map().keySet())
+            {
+                if (key.startsWith(InternalApiConsts.CLONE_PROP_PREFIX))
+                {
+                    ret = true;
+                    break;
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Adds the result of a single resource to the lists that are evaluated after all resources were processed and
+     * sends the dispatch response for the resource.
+     */
+    private void applyResult(
+        RscProcessResult result,
+        NotificationListener notificationListener,
+        List<Resource> rscListNotifyApplied,
+        List<Resource> rscListNotifyDelete,
+        List<Volume> vlmListNotifyDelete
+    )
+    {
+        Resource rsc = result.rsc;
+        if (result.deleted)
+        {
+            rscListNotifyDelete.add(rsc);
+            vlmListNotifyDelete.addAll(result.vlmsDeleted);
+            notificationListener.notifyResourceDeleted(rsc);
+            // rsc.delete is done by the deviceManager
+        }
+        else
+        {
+            vlmListNotifyDelete.addAll(result.vlmsDeleted);
+            if (result.applied)
+            {
+                rscListNotifyApplied.add(rsc);
+            }
+        }
+        notificationListener.notifyResourceDispatchResponse(
+            rsc.getResourceDefinition().getName(),
+            result.apiCallRc
+        );
+    }
+
+    /**
+     * Processes a single resource. This method must not modify any state that is shared between resources (except
+     * through thread-safe layers and handlers), since it might be called concurrently for different resources.
+     */
+    private RscProcessResult processResourceEntry(Resource rsc, @Nullable ApiCallRcImpl failedApiCallRc)
+        throws ImplementationError
+    {
+        RscProcessResult result = new RscProcessResult(rsc);
+        ApiCallRcImpl apiCallRc = failedApiCallRc;
+        if (apiCallRc == null)
+        {
+            apiCallRc = new ApiCallRcImpl();
+            try
+            {
+
+                AbsRscLayerObject<Resource> rscLayerObject = rsc.getLayerData();
+                processResource(rscLayerObject, apiCallRc);
+
+                StateFlags<Flags> rscFlags = rsc.getStateFlags();
+                if (rscFlags.isUnset(Flags.DELETE) &&
+                    rscFlags.isUnset(Flags.DRBD_DELETE) &&
+                    rscFlags.isUnset(Flags.INACTIVE) &&
+                    rsc.getResourceDefinition().getFlags().isUnset(ResourceDefinition.Flags.CLONING))
+                {
+                    if (rscLayerObject.getLayerKind().isLocalOnly())
                     {
-                        Set<LayerIgnoreReason> ignoreReasons = rsc.getLayerData().getIgnoreReasons();
-                        errorReporter.logDebug(
-                            "Not calling resourceFinished for any layer as the resource '%s' is completely ignored. " +
-                                "Topmost reason%s: %s",
-                            rsc.getLayerData().getSuffixedResourceName(),
-                            ignoreReasons.size() > 1 ? "s" : "",
-                            LayerIgnoreReason.getDescriptions(ignoreReasons)
-                        );
+                        MkfsUtils.makeFileSystemOnMarked(errorReporter, extCmdFactory, rsc);
                     }
-                    else
+                    updateDiscGran(rscLayerObject);
+                }
+
+                /*
+                 * old device manager reported changes of free space after every
+                 * resource operation. As this could require to query the same
+                 * VG or zpool multiple times within the same device manager run,
+                 * we only query the free space after the whole run.
+                 * This also means that we only send the resourceApplied messages
+                 * at the very end
+                 */
+                if (rscFlags.isSet(Resource.Flags.DELETE))
+                {
+                    result.deleted = true;
+                    Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
+                    while (iterateVolumes.hasNext())
                     {
-                        resourceFinished(firstNonIgnoredRscData);
+                        Volume vlm = iterateVolumes.next();
+                        // verify if all VlmProviderObject were deleted correctly
+                        ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
+                        result.vlmsDeleted.add(vlm);
                     }
-
-                    if (Platform.isLinux())
+                }
+                else
+                {
+                    Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
+                    while (iterateVolumes.hasNext())
                     {
-                        if (rscFlags.isUnset(Resource.Flags.DELETE, Flags.DRBD_DELETE))
+                        Volume vlm = iterateVolumes.next();
+                        if (vlm.getFlags().isSet(Volume.Flags.DELETE))
                         {
-                            sysFsHandler.update(rsc, apiCallRc);
+                            // verify if all VlmProviderObject were deleted correctly
+                            ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
+                            result.vlmsDeleted.add(vlm);
                         }
                         else
                         {
-                            sysFsHandler.cleanup(rsc);
+                            updateDeviceSymlinks(vlm);
                         }
                     }
+                    result.applied = true;
                 }
-                catch (DatabaseException exc)
+
+                extFileHandler.handle(rsc);
+
+                // give the layer the opportunity to send a "resource ready" event
+                @Nullable AbsRscLayerObject<Resource> firstNonIgnoredRscData = getFirstRscDataToExecuteForDataPath(
+                    rsc.getLayerData()
+                );
+                if (firstNonIgnoredRscData == null)
                 {
-                    throw new ImplementationError(exc);
+                    Set<LayerIgnoreReason> ignoreReasons = rsc.getLayerData().getIgnoreReasons();
+                    errorReporter.logDebug(
+                        "Not calling resourceFinished for any layer as the resource '%s' is completely ignored. " +
+                            "Topmost reason%s: %s",
+                        rsc.getLayerData().getSuffixedResourceName(),
+                        ignoreReasons.size() > 1 ? "s" : "",
+                        LayerIgnoreReason.getDescriptions(ignoreReasons)
+                    );
                 }
-                catch (DeviceLayer.BlockedPortsException blockedPortsExc)
+                else
                 {
-                    apiCallRc = buildBlockedPortsResponse(rsc, blockedPortsExc);
+                    resourceFinished(firstNonIgnoredRscData);
                 }
-                catch (Exception | ImplementationError exc)
+
+                if (Platform.isLinux())
                 {
-                    apiCallRc = handleException(rsc, exc);
+                    if (rscFlags.isUnset(Resource.Flags.DELETE, Flags.DRBD_DELETE))
+                    {
+                        sysFsHandler.update(rsc, apiCallRc);
+                    }
+                    else
+                    {
+                        sysFsHandler.cleanup(rsc);
+                    }
                 }
             }
-            notificationListener.notifyResourceDispatchResponse(rscName, apiCallRc);
+            catch (DatabaseException exc)
+            {
+                throw new ImplementationError(exc);
+            }
+            catch (DeviceLayer.BlockedPortsException blockedPortsExc)
+            {
+                apiCallRc = buildBlockedPortsResponse(rsc, blockedPortsExc);
+            }
+            catch (Exception | ImplementationError exc)
+            {
+                apiCallRc = handleException(rsc, exc);
+            }
         }
+        result.apiCallRc = apiCallRc;
+        return result;
     }
 
     /**
@@ -1809,4 +2092,26 @@ public class DeviceHandlerImpl implements DeviceHandler
             processAfterClone(vlmSrcData, childVlmData, clonedDevPath);
         }
     }
+
+    private static class RscProcessResult
+    {
+        private final Resource rsc;
+        private final List<Volume> vlmsDeleted = new ArrayList<>();
+        private ApiCallRcImpl apiCallRc;
+        private boolean applied;
+        private boolean deleted;
+        private @Nullable Throwable unexpectedExc;
+
+        RscProcessResult(Resource rscRef)
+        {
+            rsc = rscRef;
+            apiCallRc = new ApiCallRcImpl();
+        }
+
+        RscProcessResult(Resource rscRef, Throwable unexpectedExcRef)
+        {
+            this(rscRef);
+            unexpectedExc = unexpectedExcRef;
+        }
+    }
 }
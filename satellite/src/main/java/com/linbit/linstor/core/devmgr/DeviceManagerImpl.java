@@ -96,6 +96,7 @@ import java.util.stream.Collectors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.scheduler.Scheduler;
 
@@ -168,6 +169,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     private final Set<SnapshotDefinition.Key> deletedSnapshotSet = new TreeSet<>();
 
     private final LinStorScope deviceMgrScope;
+    private final Scheduler scheduler;
     private final Provider<TransactionMgr> transMgrProvider;
 
     private final StltSecurityObjects stltSecObj;
@@ -252,7 +254,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         LinStorScope deviceMgrScopeRef,
         Provider<TransactionMgr> transMgrProviderRef,
         StltSecurityObjects stltSecObjRef,
-        Scheduler scheduler,
+        Scheduler schedulerRef,
         UpdateMonitor updateMonitorRef,
         ResourceStateEvent resourceStateEventRef,
         DeviceHandler deviceHandlerRef,
@@ -287,6 +289,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         backupServiceMgr = backupServiceMgrRef;
         extFileHandler = extFileHandlerRef;
 
+        scheduler = schedulerRef;
         updTracker = new StltUpdateTrackerImpl(sched, scheduler);
         svcThr = null;
         devMgrInstName = DEV_MGR_NAME;
@@ -600,6 +603,25 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         }
     }
 
+    @Override
+    public Flux<ApiCallRc> rscDeltaApplied(ResourceName rscName)
+    {
+        return Flux
+            .<ApiCallRc>create(fluxSink ->
+                {
+                    synchronized (sched)
+                    {
+                        UpdateNotification updateNotification = new UpdateNotification(null);
+                        updateNotification.addResponseSink(fluxSink);
+                        markPendingRscDispatch(updateNotification, Collections.singleton(rscName));
+                        sched.notify();
+                    }
+                }
+            )
+            // Handle dispatch responses asynchronously on the main thread pool
+            .publishOn(scheduler);
+    }
+
     @Override
     public void forceWakeUpdateNotifications()
     {
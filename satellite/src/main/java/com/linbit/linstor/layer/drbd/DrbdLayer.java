@@ -87,6 +87,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -120,6 +121,12 @@ public class DrbdLayer implements DeviceLayer
      */
     @Nullable private static List<String> adjustResourcesList;
 
+    /**
+     * Suffixed names of the resources that were already adjusted in batches by the prepare method of the current
+     * devmanager run. Resources might be processed concurrently, hence the concurrent set.
+     */
+    private final Set<String> batchAdjustedRscNames = ConcurrentHashMap.newKeySet();
+
 
     @Inject
     public DrbdLayer(
@@ -187,6 +194,128 @@ public class DrbdLayer implements DeviceLayer
                 errorReporter.reportError(extCmdExc);
             }
         }
+
+        adjustInBatches(rscDataList, notGeneratedResFiles);
+    }
+
+    /**
+     * Adjusts all resources that need to be adjusted and do not need any other preparation with as few drbdadm
+     * invocations as possible, instead of one invocation per resource in processResource. This mostly matters after
+     * a restart of the satellite, when every resource is processed.
+     *
+     * Resources that could not be adjusted here are adjusted one by one as usual, which also reports the failure
+     * for the correct resource.
+     */
+    void adjustInBatches(
+        Set<AbsRscLayerObject<Resource>> rscDataList,
+        List<String> notGeneratedResFiles
+    )
+    {
+        batchAdjustedRscNames.clear();
+
+        List<DrbdRscData<Resource>> batchAdjustable = new ArrayList<>();
+        for (AbsRscLayerObject<Resource> rscLayerObject : rscDataList)
+        {
+            DrbdRscData<Resource> drbdRscData = (DrbdRscData<Resource>) rscLayerObject;
+            String rscNameLower = drbdRscData.getResourceName().displayValue.toLowerCase();
+            if ((adjustResourcesList == null || adjustResourcesList.contains(rscNameLower)) &&
+                !notGeneratedResFiles.contains(rscNameLower) &&
+                isBatchAdjustable(drbdRscData))
+            {
+                batchAdjustable.add(drbdRscData);
+            }
+        }
+
+        // a single resource is adjusted by processResource just as fast
+        if (batchAdjustable.size() > 1)
+        {
+            List<DrbdRscData<Resource>> adjusted = drbdUtils.adjustBatch(batchAdjustable);
+            for (DrbdRscData<Resource> drbdRscData : adjusted)
+            {
+                batchAdjustedRscNames.add(drbdRscData.getSuffixedResourceName());
+            }
+            errorReporter.logDebug(
+                "Adjusted %d of %d DRBD resources in batches",
+                adjusted.size(),
+                batchAdjustable.size()
+            );
+        }
+    }
+
+    /**
+     * Only resources that are already up and that do not need anything else to be done before they are adjusted
+     * (new or deleted volumes, resize, new meta data, deleted peers, ...) can be adjusted before they are processed.
+     */
+    boolean isBatchAdjustable(DrbdRscData<Resource> drbdRscData)
+    {
+        boolean batchAdjustable = !Platform.isWindows() &&
+            !shouldDrbdDeviceBeDeleted(drbdRscData) &&
+            !hasDeletingPeer(drbdRscData) &&
+            drbdRscData.getFlags().isUnset(
+                DrbdRscFlags.DELETE,
+                DrbdRscFlags.DISK_ADD_REQUESTED,
+                DrbdRscFlags.DISK_ADDING,
+                DrbdRscFlags.DISK_REMOVE_REQUESTED,
+                DrbdRscFlags.DISK_REMOVING,
+                DrbdRscFlags.FORCE_NEW_METADATA,
+                DrbdRscFlags.INVALIDATE
+            ) &&
+            drbdRscData.getAbsResource().getStateFlags().isUnset(Flags.RESTORE_FROM_SNAPSHOT);
+        if (batchAdjustable)
+        {
+            @Nullable DrbdResource drbdRscState;
+            try
+            {
+                drbdRscState = drbdState.getDrbdResource(drbdRscData.getSuffixedResourceName());
+            }
+            catch (NoInitialStateException exc)
+            {
+                drbdRscState = null;
+            }
+            batchAdjustable = drbdRscState != null;
+
+            Iterator<DrbdVlmData<Resource>> vlmIt = drbdRscData.getVlmLayerObjects().values().iterator();
+            while (batchAdjustable && vlmIt.hasNext())
+            {
+                DrbdVlmData<Resource> drbdVlmData = vlmIt.next();
+                batchAdjustable = drbdRscState.getVolume(drbdVlmData.getVlmNr()) != null &&
+                    ((Volume) drbdVlmData.getVolume()).getFlags().isUnset(
+                        Volume.Flags.RESIZE,
+                        Volume.Flags.DRBD_RESIZE,
+                        Volume.Flags.DELETE,
+                        Volume.Flags.DRBD_DELETE
+                    );
+            }
+        }
+        return batchAdjustable;
+    }
+
+    /**
+     * Deleted peers and peer volumes need a del-peer / forget-peer before the adjust, which is only done when the
+     * resource is processed
+     */
+    private boolean hasDeletingPeer(DrbdRscData<Resource> drbdRscData)
+    {
+        boolean hasDeletingPeer = false;
+        for (DrbdRscData<Resource> otherRsc : drbdRscData.getRscDfnLayerObject().getDrbdRscDataList())
+        {
+            if (!otherRsc.equals(drbdRscData))
+            {
+                Resource otherAbsRsc = otherRsc.getAbsResource();
+                hasDeletingPeer = otherAbsRsc.getStateFlags()
+                    .isSomeSet(Resource.Flags.DELETE, Resource.Flags.DRBD_DELETE);
+                Iterator<Volume> vlmIt = otherAbsRsc.iterateVolumes();
+                while (!hasDeletingPeer && vlmIt.hasNext())
+                {
+                    hasDeletingPeer = vlmIt.next().getFlags().isSomeSet(Volume.Flags.DELETE, Volume.Flags.DRBD_DELETE);
+                }
+                if (hasDeletingPeer)
+                {
+                    break;
+                }
+            }
+        }
+        return hasDeletingPeer;
     }
 
     @Override
@@ -226,6 +355,7 @@ public class DrbdLayer implements DeviceLayer
     {
         drbdSetupStatusOutput = null;
         adjustResourcesList = null;
+        batchAdjustedRscNames.clear();
     }
 
     @Override
@@ -1228,11 +1358,12 @@ public class DrbdLayer implements DeviceLayer
         return String.format(DRBD_DEVICE_PATH_FORMAT, drbdVlmData.getVlmDfnLayerObject().getMinorNr().value);
     }
 
-    private void updateRequiresAdjust(DrbdRscData<?> drbdRscData)
+    void updateRequiresAdjust(DrbdRscData<?> drbdRscData)
     {
         drbdRscData.setAdjustRequired(
-            adjustResourcesList == null || adjustResourcesList.contains(
-                drbdRscData.getResourceName().displayValue.toLowerCase()));
+            !batchAdjustedRscNames.contains(drbdRscData.getSuffixedResourceName()) &&
+            (adjustResourcesList == null || adjustResourcesList.contains(
+                drbdRscData.getResourceName().displayValue.toLowerCase())));
     }
 
     private List<DrbdVlmData<Resource>> detachVolumesIfNecessary(DrbdRscData<Resource> drbdRscData)
@@ -0,0 +1,252 @@
+package com.linbit.linstor.layer.drbd.drbdstate;
+
+import com.linbit.linstor.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parser for 'drbdsetup events2' lines
+ *
+ * The line is decoded into a reusable char buffer and split in place, without creating strings for the line or its
+ * tokens. Action, object type, keys and most values are taken from a small string cache, which is seeded with the
+ * names known to the state tracker, so that only values that change with nearly every line (like the resync
+ * progress) need new strings. The parsed properties are stored in a reused map and are therefore only valid until
+ * the next line is parsed.
+ */
+final class DrbdEventLineParser
+{
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    // must be a power of 2
+    private static final int CACHE_SIZE = 1024;
+    // same as String.hashCode(), so the known names can be seeded with their hash codes
+    private static final int HASH_MULTIPLIER = 31;
+    // mixes the upper bits of the hash into the slot, like HashMap does
+    private static final int HASH_SPREAD_SHIFT = 16;
+
+    private static final String[] KNOWN_NAMES =
+    {
+        DrbdEventsMonitor.ACTION_CREATE,
+        DrbdEventsMonitor.ACTION_CHANGE,
+        DrbdEventsMonitor.ACTION_DESTROY,
+        DrbdEventsMonitor.ACTION_EXISTS,
+        DrbdEventsMonitor.OBJ_RESOURCE,
+        DrbdEventsMonitor.OBJ_VOLUME,
+        DrbdEventsMonitor.OBJ_PEER_VOLUME,
+        DrbdEventsMonitor.OBJ_CONNECTION,
+        DrbdEventsMonitor.OBJ_END_OF_INIT,
+        DrbdResource.PROP_KEY_RES_NAME,
+        DrbdResource.PROP_KEY_ROLE,
+        DrbdResource.PROP_KEY_SUSPENDED,
+        DrbdResource.PROP_KEY_MAY_PROMOTE,
+        DrbdResource.PROP_KEY_PROMOTION_SCORE,
+        DrbdConnection.PROP_KEY_CONNECTION,
+        DrbdConnection.PROP_KEY_CONN_NAME,
+        DrbdConnection.PROP_KEY_PEER_NODE_ID,
+        DrbdVolume.PROP_KEY_VOL_NR,
+        DrbdVolume.PROP_KEY_MINOR,
+        DrbdVolume.PROP_KEY_DISK,
+        DrbdVolume.PROP_KEY_PEER_DISK,
+        DrbdVolume.PROP_KEY_REPLICATION,
+        DrbdVolume.PROP_KEY_CLIENT,
+        DrbdVolume.PROP_KEY_PEER_CLIENT,
+        DrbdVolume.PROP_KEY_DONE
+    };
+
+    private final @Nullable String[] cache = new String[CACHE_SIZE];
+    private final Map<String, String> props = new HashMap<>();
+    private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+    private int len = 0;
+    private @Nullable String action = null;
+    private @Nullable String objType = null;
+
+    DrbdEventLineParser()
+    {
+        for (String name : KNOWN_NAMES)
+        {
+            cache[slot(name.hashCode())] = name;
+        }
+    }
+
+    /**
+     * Decodes the given line into the char buffer. Must be called before {@link #parse()}.
+     */
+    void read(byte[] data)
+    {
+        ensureCapacity(data.length);
+        boolean ascii = true;
+        for (int idx = 0; idx < data.length && ascii; idx++)
+        {
+            byte chr = data[idx];
+            if (chr < 0)
+            {
+                ascii = false;
+            }
+            else
+            {
+                buffer[idx] = (char) chr;
+            }
+        }
+        if (ascii)
+        {
+            len = data.length;
+        }
+        else
+        {
+            String line = new String(data, StandardCharsets.UTF_8);
+            ensureCapacity(line.length());
+            line.getChars(0, line.length(), buffer, 0);
+            len = line.length();
+        }
+    }
+
+    /**
+     * @return the line last passed to {@link #read(byte[])}
+     */
+    String getLine()
+    {
+        return new String(buffer, 0, len);
+    }
+
+    /**
+     * Splits the line last passed to {@link #read(byte[])} into action, object type and properties
+     *
+     * @return false if the line was empty
+     */
+    boolean parse() throws EventsSourceException
+    {
+        props.clear();
+        action = null;
+        objType = null;
+
+        boolean nonEmpty = len > 0;
+        if (nonEmpty)
+        {
+            int pos = skipSpaces(0);
+            if (pos == len)
+            {
+                throw new EventsSourceException("Received an event line without an action parameter");
+            }
+            int end = tokenEnd(pos);
+            action = cachedString(pos, end);
+
+            pos = skipSpaces(end);
+            if (pos == len)
+            {
+                throw new EventsSourceException("Received an event line without an object type parameter");
+            }
+            end = tokenEnd(pos);
+            objType = cachedString(pos, end);
+
+            pos = skipSpaces(end);
+            while (pos < len)
+            {
+                end = tokenEnd(pos);
+                int splitIdx = indexOf(':', pos, end);
+                if (splitIdx != -1)
+                {
+                    String key = cachedString(pos, splitIdx);
+                    String value = key.equals(DrbdVolume.PROP_KEY_DONE) ?
+                        new String(buffer, splitIdx + 1, end - splitIdx - 1) :
+                        cachedString(splitIdx + 1, end);
+                    props.put(key, value);
+                }
+                pos = skipSpaces(end);
+            }
+        }
+        return nonEmpty;
+    }
+
+    String getAction()
+    {
+        return action;
+    }
+
+    String getObjType()
+    {
+        return objType;
+    }
+
+    Map<String, String> getProps()
+    {
+        return props;
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (buffer.length < capacity)
+        {
+            buffer = new char[Math.max(capacity, buffer.length * 2)];
+        }
+    }
+
+    private int skipSpaces(int start)
+    {
+        int pos = start;
+        while (pos < len && buffer[pos] == ' ')
+        {
+            pos++;
+        }
+        return pos;
+    }
+
+    private int tokenEnd(int start)
+    {
+        int pos = start;
+        while (pos < len && buffer[pos] != ' ')
+        {
+            pos++;
+        }
+        return pos;
+    }
+
+    private int indexOf(char chr, int start, int end)
+    {
+        int idx = -1;
+        for (int pos = start; pos < end && idx == -1; pos++)
+        {
+            if (buffer[pos] == chr)
+            {
+                idx = pos;
+            }
+        }
+        return idx;
+    }
+
+    /**
+     * Returns the cached string with the content of the given buffer range, or creates (and caches) a new one if
+     * the slot of the range holds a different string
+     */
+    private String cachedString(int start, int end)
+    {
+        int hash = 0;
+        for (int pos = start; pos < end; pos++)
+        {
+            hash = HASH_MULTIPLIER * hash + buffer[pos];
+        }
+        int slot = slot(hash);
+        @Nullable String ret = cache[slot];
+        if (ret == null || !matches(ret, start, end))
+        {
+            ret = new String(buffer, start, end - start);
+            cache[slot] = ret;
+        }
+        return ret;
+    }
+
+    private boolean matches(String str, int start, int end)
+    {
+        boolean ret = str.length() == end - start;
+        for (int idx = 0; idx < str.length() && ret; idx++)
+        {
+            ret = str.charAt(idx) == buffer[start + idx];
+        }
+        return ret;
+    }
+
+    private static int slot(int hash)
+    {
+        return (hash ^ (hash >>> HASH_SPREAD_SHIFT)) & (CACHE_SIZE - 1);
+    }
+}
@@ -103,10 +103,16 @@ public class DrbdEventService implements SystemService, Runnable, DrbdStateStore
             Event event;
             try (var ignore = MDC.putCloseable(ErrorReporter.LOGID, ErrorReporter.getNewLogId()))
             {
-                event = eventDeque.take();
+                event = eventDeque.poll();
+                if (event == null)
+                {
+                    // all lines received so far are processed, let the observers see the latest resync progress
+                    eventsMonitor.flushCoalesced();
+                    event = eventDeque.take();
+                }
                 if (event instanceof StdOutEvent stdOutEvent)
                 {
-                    eventsMonitor.receiveEvent(new String(stdOutEvent.data, StandardCharsets.UTF_8));
+                    eventsMonitor.receiveEvent(stdOutEvent.data);
                 }
                 else
                 if (event instanceof StdErrEvent stdErrEvent)
@@ -10,9 +10,11 @@ import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.utils.TripleNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.StringTokenizer;
-import java.util.TreeMap;
+
+import org.slf4j.event.Level;
 
 /**
  * Drbdsetup events monitor
@@ -36,6 +38,16 @@ public class DrbdEventsMonitor
     public static final String OBJ_CONNECTION   = "connection";
     public static final String OBJ_END_OF_INIT  = "-";
 
+    // the only keys of a 'change peer-device' line that just updates the resync progress
+    private static final String[] DONE_CHANGE_KEYS =
+    {
+        DrbdResource.PROP_KEY_RES_NAME,
+        DrbdConnection.PROP_KEY_PEER_NODE_ID,
+        DrbdConnection.PROP_KEY_CONN_NAME,
+        DrbdVolume.PROP_KEY_VOL_NR,
+        DrbdVolume.PROP_KEY_DONE
+    };
+
     // DRBD state tracker & events multiplexer reference
     private final DrbdStateTracker tracker;
     private boolean stateAvailable = false;
@@ -46,6 +58,11 @@ public class DrbdEventsMonitor
     private boolean existsFinished = false;
     private final ArrayList<TripleNonNull<String, String, Map<String, String>>> duringExistsQueue = new ArrayList<>();
 
+    private final DrbdEventLineParser parser = new DrbdEventLineParser();
+    // latest resync progress of peer volumes, not yet passed to the observers
+    private final Map<DrbdVolume, String> pendingDone = new LinkedHashMap<>();
+    private final Map<String, String> doneProps = new HashMap<>();
+
     public DrbdEventsMonitor(
         DrbdStateTracker trackerRef,
         ErrorReporter errorReporterRef,
@@ -57,60 +74,96 @@ public class DrbdEventsMonitor
         rscDfnMap = rscDfnMapRef;
     }
 
-    public void receiveEvent(String eventString) throws EventsSourceException
+    /**
+     * Parses and applies the given events2 line.
+     *
+     * Lines that only update the resync progress of a peer volume are coalesced: only the latest progress of each
+     * peer volume is passed to the observers, either before the next other line is applied or when
+     * {@link #flushCoalesced()} is called.
+     */
+    public void receiveEvent(byte[] eventData) throws EventsSourceException
     {
-        if (eventString == null)
+        if (eventData == null)
         {
             throw new ImplementationError(
-                "Event string passed by caller is a null pointer",
+                "Event data passed by caller is a null pointer",
                 new NullPointerException()
             );
         }
-        errorReporter.logTrace("DRBD 'events2': %s", eventString);
+        parser.read(eventData);
+        if (errorReporter.hasAtLeastLogLevel(Level.TRACE))
+        {
+            errorReporter.logTrace("DRBD 'events2': %s", parser.getLine());
+        }
 
         // Skip empty lines
-        if (!eventString.isEmpty())
+        if (parser.parse())
         {
-            StringTokenizer tokens = new StringTokenizer(eventString, " ");
-            Map<String, String> props = new TreeMap<>();
+            String action = parser.getAction();
+            String objType = parser.getObjType();
+            Map<String, String> props = parser.getProps();
 
-            if (tokens.hasMoreTokens())
+            if (!existsFinished && !action.equals(ACTION_EXISTS))
             {
-                String action = tokens.nextToken();
-                if (tokens.hasMoreTokens())
-                {
-                    String objType = tokens.nextToken();
-                    while (tokens.hasMoreTokens())
-                    {
-                        String kvPair = tokens.nextToken();
-                        int splitIdx = kvPair.indexOf(':');
-                        if (splitIdx != -1)
-                        {
-                            String key = kvPair.substring(0, splitIdx);
-                            String value = kvPair.substring(splitIdx + 1);
-                            props.put(key, value);
-                        }
-                    }
+                // the parser reuses its map for the next line
+                duringExistsQueue.add(new TripleNonNull<>(action, objType, new HashMap<>(props)));
+            }
+            else
+            if (isDoneChange(action, objType, props))
+            {
+                DrbdResource resource = getResource(props, ACTION_CHANGE, OBJ_PEER_VOLUME);
+                DrbdConnection connection = getConnection(resource, props, ACTION_CHANGE, OBJ_PEER_VOLUME);
+                DrbdVolume volume = getVolume(resource, connection, props, ACTION_CHANGE, OBJ_PEER_VOLUME);
+                pendingDone.put(volume, props.get(DrbdVolume.PROP_KEY_DONE));
+            }
+            else
+            {
+                flushCoalesced();
+                executeAction(action, objType, props);
+            }
+        }
+    }
 
-                    if (!existsFinished && !action.equals(ACTION_EXISTS))
-                    {
-                        duringExistsQueue.add(new TripleNonNull<>(action, objType, props));
-                    }
-                    else
-                    {
-                        executeAction(action, objType, props);
-                    }
-                }
-                else
+    /**
+     * Passes the coalesced resync progress updates to the observers. Should be called whenever there are no more
+     * events2 lines to process for now.
+     */
+    public void flushCoalesced() throws EventsSourceException
+    {
+        if (!pendingDone.isEmpty())
+        {
+            try
+            {
+                for (Map.Entry<DrbdVolume, String> entry : pendingDone.entrySet())
                 {
-                    throw new EventsSourceException("Received an event line without an object type parameter");
+                    doneProps.put(DrbdVolume.PROP_KEY_DONE, entry.getValue());
+                    entry.getKey().update(doneProps, tracker.multiplexer);
                 }
             }
-            else
+            finally
             {
-                throw new EventsSourceException("Received an event line without an action parameter");
+                pendingDone.clear();
+            }
+        }
+    }
+
+    private static boolean isDoneChange(String action, String objType, Map<String, String> props)
+    {
+        boolean ret = action.equals(ACTION_CHANGE) && objType.equals(OBJ_PEER_VOLUME) &&
+            props.containsKey(DrbdVolume.PROP_KEY_DONE);
+        if (ret)
+        {
+            int knownKeys = 0;
+            for (String key : DONE_CHANGE_KEYS)
+            {
+                if (props.containsKey(key))
+                {
+                    knownKeys++;
+                }
             }
+            ret = knownKeys == props.size();
         }
+        return ret;
     }
 
     private void executeAction(String action, String objType, Map<String, String> props) throws EventsSourceException
@@ -157,6 +210,7 @@ public class DrbdEventsMonitor
     public void reinitializing()
     {
         stateAvailable = false;
+        pendingDone.clear();
         for (DrbdStateChange obs : tracker.drbdStateChangeObservers)
         {
             obs.drbdStateUnavailable();
@@ -70,6 +70,12 @@ public class DrbdAdm
     private static final long SECONDARY_RETRY_MAX_BACKOFF_MS = 2_000L;
     private static final String DEVICE_HELD_OPEN_ERR_MSG = "Device is held open by someone";
 
+    /**
+     * Maximum number of resources adjusted by a single drbdadm invocation, which also limits the number of
+     * resources that have to be adjusted again one by one if the invocation fails
+     */
+    static final int MAX_ADJUST_BATCH_SIZE = 50;
+
     private final ExtCmdFactory extCmdFactory;
     private final StltConfigAccessor stltCfgAccessor;
     private final DrbdEventService drbdEventService;
@@ -150,6 +156,57 @@ public class DrbdAdm
         drbdRscData.setAdjustRequired(false);
     }
 
+    /**
+     * Adjusts the given resources with as few drbdadm invocations as possible, i.e. one invocation for every
+     * {@value #MAX_ADJUST_BATCH_SIZE} resources. Resources that have skip-disk enabled are not adjusted as they
+     * need different options.
+     *
+     * If an invocation fails, none of its resources is regarded as adjusted, since drbdadm's exit code does not tell
+     * which of them failed. The caller has to adjust those again one by one to report the failure for the right
+     * resource.
+     *
+     * @return the resources that were adjusted successfully
+     */
+    public List<DrbdRscData<Resource>> adjustBatch(List<DrbdRscData<Resource>> drbdRscDataList)
+    {
+        List<DrbdRscData<Resource>> batchable = new ArrayList<>();
+        for (DrbdRscData<Resource> drbdRscData : drbdRscDataList)
+        {
+            if (!drbdRscData.isSkipDiskEnabled(stltCfgAccessor.getReadonlyProps()))
+            {
+                batchable.add(drbdRscData);
+            }
+        }
+
+        List<DrbdRscData<Resource>> adjusted = new ArrayList<>();
+        for (int startIdx = 0; startIdx < batchable.size(); startIdx += MAX_ADJUST_BATCH_SIZE)
+        {
+            List<DrbdRscData<Resource>> batch = batchable.subList(
+                startIdx,
+                Math.min(startIdx + MAX_ADJUST_BATCH_SIZE, batchable.size())
+            );
+            List<String> command = new ArrayList<>(Arrays.asList(DRBDADM_UTIL, "-vvv", "adjust"));
+            for (DrbdRscData<Resource> drbdRscData : batch)
+            {
+                command.add(drbdRscData.getSuffixedResourceName());
+            }
+            try
+            {
+                execute(command);
+                for (DrbdRscData<Resource> drbdRscData : batch)
+                {
+                    drbdRscData.setAdjustRequired(false);
+                    adjusted.add(drbdRscData);
+                }
+            }
+            catch (ExtCmdFailedException ignored)
+            {
+                // the resources of this batch will be adjusted one by one, which reports the actual error
+            }
+        }
+        return adjusted;
+    }
+
     /**
      * Resizes a resource
      */
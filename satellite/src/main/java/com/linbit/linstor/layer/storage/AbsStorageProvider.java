@@ -167,19 +167,24 @@ public abstract class AbsStorageProvider<
     protected final CloneService cloneService;
     protected final StltExtToolsChecker extToolsChecker;
     private final BackupShippingMgr backupShipMapper;
-    protected final HashMap<String, INFO> infoListCache;
+    /*
+     * The following collections are synchronized since the device manager might process resources concurrently
+     */
+    protected final Map<String, INFO> infoListCache;
     protected boolean subclassMaintainsInfoListCache;
-    protected final List<Consumer<Map<String, Long>>> postRunVolumeNotifications = new ArrayList<>();
-    protected final Set<String> changedStoragePoolStrings = new HashSet<>();
+    protected final List<Consumer<Map<String, Long>>> postRunVolumeNotifications =
+        Collections.synchronizedList(new ArrayList<>());
+    protected final Set<String> changedStoragePoolStrings = Collections.synchronizedSet(new HashSet<>());
     private final String typeDescr;
     private final FileSystemWatch fsWatch;
     protected final DeviceProviderKind kind;
     private final DrbdInvalidateUtils drbdInvalidateUtils;
 
-    private final Map<StorPool, Long> extentSizeFromSpCache = new HashMap<>();
+    private final Map<StorPool, Long> extentSizeFromSpCache = Collections.synchronizedMap(new HashMap<>());
 
-    private final Set<StorPool> changedStorPools = new HashSet<>();
-    private boolean prepared;
+    private final Set<StorPool> changedStorPools = Collections.synchronizedSet(new HashSet<>());
+    // read by the device handler workers that process resources concurrently
+    private volatile boolean prepared;
     protected boolean isDevPathExpectedToBeNull = false;
     private final RemoteMap remoteMap;
 
@@ -207,7 +212,7 @@ public abstract class AbsStorageProvider<
         kind = kindRef;
 
         subclassMaintainsInfoListCache = false;
-        infoListCache = new HashMap<>();
+        infoListCache = Collections.synchronizedMap(new HashMap<>());
     }
 
     @Override
@@ -559,7 +564,11 @@ public abstract class AbsStorageProvider<
     @Override
     public Collection<StorPool> getChangedStorPools()
     {
-        Set<StorPool> copy = new HashSet<>(changedStorPools);
+        Set<StorPool> copy;
+        synchronized (changedStorPools)
+        {
+            copy = new HashSet<>(changedStorPools);
+        }
         return copy;
     }
 
@@ -248,7 +248,7 @@ public class LvmProvider
                         config
                     )
                 );
-                LvmUtils.recacheNextLvs();
+                LvmUtils.recacheNextLvs(vlmDataRef.getVolumeGroup());
             }
             // deactivating a volume MUST NOT happen within the prepare step
             // as other layers might still hold the device open
@@ -329,7 +329,7 @@ public class LvmProvider
                 )
             );
         }
-        LvmUtils.recacheNext();
+        LvmUtils.recacheNext(vlmData.getVolumeGroup());
 
         updateStripesPropIfNeeded(vlmData, findStripesInAdditionalArgs(additionalOptionsArr));
     }
@@ -468,7 +468,7 @@ public class LvmProvider
                 config
             )
         );
-        LvmUtils.recacheNext();
+        LvmUtils.recacheNext(vlmData.getVolumeGroup());
     }
 
     @Override
@@ -502,7 +502,7 @@ public class LvmProvider
                 )
             );
             vlmData.setExists(false);
-            LvmUtils.recacheNext();
+            LvmUtils.recacheNext(volumeGroup);
         }
         else
         {
@@ -531,7 +531,7 @@ public class LvmProvider
                     config
                 )
             );
-            LvmUtils.recacheNext();
+            LvmUtils.recacheNext(volumeGroup);
 
             vlmData.setExists(false);
 
@@ -550,7 +550,7 @@ public class LvmProvider
                             LvmVolumeType.VOLUME
                         )
                     );
-                    LvmUtils.recacheNext();
+                    LvmUtils.recacheNext(volumeGroup);
                 }
             );
         }
@@ -570,7 +570,7 @@ public class LvmProvider
                 config
             )
         );
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(vlmDataRef.getVolumeGroup());
     }
 
     @Override
@@ -861,7 +861,7 @@ public class LvmProvider
                     config
                 )
             );
-            LvmUtils.recacheNextLvs();
+            LvmUtils.recacheNextLvs(vlmData.getVolumeGroup());
         }
         else
         {
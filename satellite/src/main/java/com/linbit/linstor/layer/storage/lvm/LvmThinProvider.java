@@ -143,7 +143,7 @@ public class LvmThinProvider extends LvmProvider
                 )
             );
         }
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(volumeGroup);
     }
 
     @Override
@@ -162,7 +162,7 @@ public class LvmThinProvider extends LvmProvider
             )
         );
         lvmVlmData.setExists(false);
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(lvmVlmData.getVolumeGroup());
     }
 
     @Override
@@ -221,7 +221,7 @@ public class LvmThinProvider extends LvmProvider
                     )
                 );
             }
-            LvmUtils.recacheNextLvs();
+            LvmUtils.recacheNextLvs(snapVlm.getVolumeGroup());
         }
         catch (InvalidKeyException | InvalidNameException exc)
         {
@@ -252,7 +252,7 @@ public class LvmThinProvider extends LvmProvider
                 additionalOptionsArr
             )
         );
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(vlmData.getVolumeGroup());
     }
 
     @Override
@@ -271,7 +271,7 @@ public class LvmThinProvider extends LvmProvider
             )
         );
         snapVlm.setExists(false);
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(snapVlm.getVolumeGroup());
     }
 
     @Override
@@ -301,7 +301,7 @@ public class LvmThinProvider extends LvmProvider
                 config
             )
         );
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(vlmDataRef.getVolumeGroup());
     }
 
     @Override
@@ -366,7 +366,7 @@ public class LvmThinProvider extends LvmProvider
                 config
             )
         );
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(vlmData.getVolumeGroup());
     }
 
     @Override
@@ -502,7 +502,7 @@ public class LvmThinProvider extends LvmProvider
                 )
             );
 
-            LvmUtils.recacheNextLvs();
+            LvmUtils.recacheNextLvs(vlmData.getVolumeGroup());
         }
         else
         {
@@ -543,7 +543,7 @@ public class LvmThinProvider extends LvmProvider
                 Collections.singleton(vlmGrp),
                 config -> LvmCommands.activateZero(extCmdFactory, vlmGrp, thinPool, config)
             );
-            LvmUtils.recacheNextLvs();
+            LvmUtils.recacheNextLvs(vlmGrp);
         }
 
         ret.changeStorPoolProp(
@@ -5,12 +5,12 @@ import com.linbit.extproc.ExtCmdFactory;
 import com.linbit.linstor.PriorityProps;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.layer.storage.utils.StorageInfoCollector;
 import com.linbit.linstor.propscon.ReadOnlyProps;
 import com.linbit.linstor.storage.StorageException;
 import com.linbit.linstor.storage.StorageUtils;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.ExceptionThrowingSupplier;
-import com.linbit.utils.TimedCache;
 
 import static com.linbit.linstor.layer.storage.lvm.utils.LvmCommands.LVS_COL_ATTRIBUTES;
 import static com.linbit.linstor.layer.storage.lvm.utils.LvmCommands.LVS_COL_CHUNK_SIZE;
@@ -36,6 +36,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility methods for LVM storage operations.
@@ -48,37 +49,37 @@ public class LvmUtils
     public static final String DELIMITER = ";";
     private static final float LVM_DEFAULT_DATA_PERCENT = 100;
 
-    private static final HashMap<Set<String>, String> CACHED_LVM_CONFIG_STRING = new HashMap<>();
+    private static final Map<Set<String>, String> CACHED_LVM_CONFIG_STRING = new ConcurrentHashMap<>();
 
     private static final String LVM_CACHE_PROP_KEY = ApiConsts.NAMESPC_STORAGE_DRIVER + "/" +
         ApiConsts.KEY_STOR_POOL_LVM_SIZES_CACHE_TIME;
     private static final long DFLT_LVM_CACHE_TIME_IN_MS = 10_000L;
     /**
-     * TimedCache's key: Collection of volume groups to "filter" for
+     * Collector's key: Set of volume groups to "filter" for
      * <br/>
-     * TimedCache's value's outer map's key: single volume-group name
+     * Collector's value's outer map's key: single volume-group name
      * <br/>
      * LvmCache's map's key: LV identifier
      */
-    private static final TimedCache<Collection<String>, Map<String, Map<String, LvsInfo>>> CACHED_LVS;
+    private static final StorageInfoCollector<Map<String, Map<String, LvsInfo>>> CACHED_LVS;
     /**
-     * TimedCache's key: Collection of volume groups to "filter" for
+     * Collector's key: Set of volume groups to "filter" for
      * <br/>
-     * TimedCache's value's map's key: single volume-group name
+     * Collector's value's map's key: single volume-group name
      */
-    private static final TimedCache<Collection<String>, Map<String, VgsInfo>> CACHED_VGS_THIN;
+    private static final StorageInfoCollector<Map<String, VgsInfo>> CACHED_VGS_THIN;
     /**
-     * TimedCache's key: Collection of volume groups to "filter" for
+     * Collector's key: Set of volume groups to "filter" for
      * <br/>
-     * TimedCache's value's map's key: single volume-group name
+     * Collector's value's map's key: single volume-group name
      */
-    private static final TimedCache<Collection<String>, Map<String, VgsInfo>> CACHED_VGS_THICK;
+    private static final StorageInfoCollector<Map<String, VgsInfo>> CACHED_VGS_THICK;
 
     static
     {
-        CACHED_LVS = new TimedCache<>(DFLT_LVM_CACHE_TIME_IN_MS);
-        CACHED_VGS_THIN = new TimedCache<>(DFLT_LVM_CACHE_TIME_IN_MS);
-        CACHED_VGS_THICK = new TimedCache<>(DFLT_LVM_CACHE_TIME_IN_MS);
+        CACHED_LVS = new StorageInfoCollector<>(DFLT_LVM_CACHE_TIME_IN_MS, LvmUtils::getVolumeGroupName);
+        CACHED_VGS_THIN = new StorageInfoCollector<>(DFLT_LVM_CACHE_TIME_IN_MS, LvmUtils::getVolumeGroupName);
+        CACHED_VGS_THICK = new StorageInfoCollector<>(DFLT_LVM_CACHE_TIME_IN_MS, LvmUtils::getVolumeGroupName);
     }
 
     private LvmUtils()
@@ -166,16 +167,7 @@ public class LvmUtils
             {
                 for (String vlmGrp : volumeGroups)
                 {
-                    int thinPoolIdx = vlmGrp.indexOf("/");
-                    if (thinPoolIdx != -1)
-                    {
-                        // thin vlmGrp, we only need the first part, the "actual" volume group, not the thin pool
-                        vlmGrps.add(vlmGrp.substring(0, thinPoolIdx));
-                    }
-                    else
-                    {
-                        vlmGrps.add(vlmGrp);
-                    }
+                    vlmGrps.add(getVolumeGroupName(vlmGrp));
                 }
             }
 
@@ -208,6 +200,25 @@ public class LvmUtils
         return lvmConfig;
     }
 
+    /**
+     * Returns only the "actual" volume group of the given "vg/thinpool" string
+     */
+    private static String getVolumeGroupName(String vlmGrpRef)
+    {
+        String ret;
+        int thinPoolIdx = vlmGrpRef.indexOf("/");
+        if (thinPoolIdx != -1)
+        {
+            // thin vlmGrp, we only need the first part, the "actual" volume group, not the thin pool
+            ret = vlmGrpRef.substring(0, thinPoolIdx);
+        }
+        else
+        {
+            ret = vlmGrpRef;
+        }
+        return ret;
+    }
+
     public static String getLvmFilterByPhysicalVolumes(String devicePathRef)
     {
         return getLvmFilterByPhysicalVolumes(Collections.singleton(devicePathRef));
@@ -240,7 +251,7 @@ public class LvmUtils
         throws StorageException
     {
         CACHED_LVM_CONFIG_STRING.remove(volumeGroups);
-        recacheNext();
+        recacheNext(volumeGroups);
         return getLvmConfig(extCmdFactory, volumeGroups);
     }
 
@@ -257,7 +268,6 @@ public class LvmUtils
             if (!ret.containsKey(vg))
             {
                 recacheLvmConfig(extCmdFactory, volumeGroups);
-                recacheNext();
                 ret = supplierRef.supply();
                 break;
             }
@@ -265,7 +275,7 @@ public class LvmUtils
         return ret;
     }
 
-    public static synchronized void updateCacheTime(ReadOnlyProps stltConfRef, ReadOnlyProps nodePropsRef)
+    public static void updateCacheTime(ReadOnlyProps stltConfRef, ReadOnlyProps nodePropsRef)
     {
         PriorityProps prioProps = new PriorityProps(nodePropsRef, stltConfRef);
         @Nullable String prop = prioProps.getProp(LVM_CACHE_PROP_KEY);
@@ -279,64 +289,107 @@ public class LvmUtils
             cacheTime = Long.parseLong(prop);
         }
 
-        CACHED_LVS.setMaxCacheTime(cacheTime, true);
-        CACHED_VGS_THIN.setMaxCacheTime(cacheTime, true);
-        CACHED_VGS_THICK.setMaxCacheTime(cacheTime, true);
+        CACHED_LVS.setMaxCacheTime(cacheTime);
+        CACHED_VGS_THIN.setMaxCacheTime(cacheTime);
+        CACHED_VGS_THICK.setMaxCacheTime(cacheTime);
     }
 
-    public static synchronized void recacheNext()
+    public static void recacheNext()
     {
         recacheNextLvs();
         recacheNextVgs();
     }
 
-    public static synchronized void recacheNextLvs()
+    public static void recacheNextLvs()
     {
-        CACHED_LVS.clear();
-        CACHED_VGS_THIN.clear();
+        CACHED_LVS.invalidateAll();
+        CACHED_VGS_THIN.invalidateAll();
     }
 
-    public static synchronized void recacheNextVgs()
+    public static void recacheNextVgs()
+    {
+        CACHED_VGS_THICK.invalidateAll();
+        CACHED_VGS_THIN.invalidateAll();
+    }
+
+    /**
+     * Same as {@link #recacheNext()}, but only invalidates the cached data of the given volume group
+     */
+    public static void recacheNext(@Nullable String volumeGroup)
     {
-        CACHED_VGS_THICK.clear();
-        CACHED_VGS_THIN.clear();
+        if (volumeGroup == null)
+        {
+            recacheNext();
+        }
+        else
+        {
+            recacheNext(Collections.singleton(volumeGroup));
+        }
     }
 
-    public static synchronized Map<String /* vg */, Map<String/* lv */, LvsInfo>> getLvsInfo(
+    private static void recacheNext(Collection<String> volumeGroups)
+    {
+        Set<String> vgNames = new HashSet<>();
+        for (String vlmGrp : volumeGroups)
+        {
+            vgNames.add(getVolumeGroupName(vlmGrp));
+        }
+        CACHED_LVS.invalidate(vgNames);
+        CACHED_VGS_THIN.invalidate(vgNames);
+        CACHED_VGS_THICK.invalidate(vgNames);
+    }
+
+    /**
+     * Same as {@link #recacheNextLvs()}, but only invalidates the cached data of the given volume group
+     */
+    public static void recacheNextLvs(@Nullable String volumeGroup)
+    {
+        if (volumeGroup == null)
+        {
+            recacheNextLvs();
+        }
+        else
+        {
+            Set<String> vgNames = Collections.singleton(getVolumeGroupName(volumeGroup));
+            CACHED_LVS.invalidate(vgNames);
+            CACHED_VGS_THIN.invalidate(vgNames);
+        }
+    }
+
+    public static Map<String /* vg */, Map<String/* lv */, LvsInfo>> getLvsInfo(
         final ExtCmdFactory ecf,
         final Set<String> volumeGroups
     )
         throws StorageException
     {
-        final long now = System.currentTimeMillis();
-        @Nullable Map<String /* vg */, Map<String/* lv */, LvsInfo>> ret = CACHED_LVS.get(volumeGroups, now);
-        if (ret == null)
-        {
-            ret = getLvsInfoImpl(ecf, volumeGroups);
-            CACHED_LVS.put(volumeGroups, ret, now);
-        }
-        return ret;
+        // the key set is copied by the collector, but the loader is kept for background refreshes
+        final Set<String> volumeGroupsCopy = new HashSet<>(volumeGroups);
+        return CACHED_LVS.get(volumeGroupsCopy, () -> getLvsInfoImpl(ecf, volumeGroupsCopy));
     }
 
-    public static synchronized Map<String, VgsInfo> getVgsInfo(
+    public static Map<String, VgsInfo> getVgsInfo(
         ExtCmdFactory extCmdFactoryRef,
         Set<String> volumeGroupSetRef,
         boolean thinRef
     )
         throws StorageException
     {
-        final long now = System.currentTimeMillis();
-        TimedCache<Collection<String>, Map<String, VgsInfo>> cache = thinRef ? CACHED_VGS_THIN : CACHED_VGS_THICK;
+        StorageInfoCollector<Map<String, VgsInfo>> cache = thinRef ? CACHED_VGS_THIN : CACHED_VGS_THICK;
+        // the key set is copied by the collector, but the loader is kept for background refreshes
+        final Set<String> volumeGroups = new HashSet<>(volumeGroupSetRef);
+        ExceptionThrowingSupplier<Map<String, VgsInfo>, StorageException> loader =
+            () -> getVgsInfoImpl(extCmdFactoryRef, volumeGroups, thinRef);
 
-        @Nullable Map<String, VgsInfo> ret = cache.get(volumeGroupSetRef, now);
-        if (ret == null)
+        Map<String, VgsInfo> ret = cache.get(volumeGroups, loader);
+        for (String vg : volumeGroups)
         {
-            ret = retryIfNotAllContainingVgsExist(
-                extCmdFactoryRef,
-                volumeGroupSetRef,
-                () -> getVgsInfoImpl(extCmdFactoryRef, volumeGroupSetRef, thinRef)
-            );
-            cache.put(volumeGroupSetRef, ret, now);
+            if (!ret.containsKey(vg))
+            {
+                // also invalidates the cached entry, so the next call does not coalesce with the outdated data
+                recacheLvmConfig(extCmdFactoryRef, volumeGroups);
+                ret = cache.get(volumeGroups, loader);
+                break;
+            }
         }
         return ret;
     }
@@ -623,7 +676,6 @@ public class LvmUtils
         if (!exists)
         {
             recacheLvmConfig(extCmdFactory, volumeGroup);
-            recacheNext();
             exists = checkVgExistsBoolImpl(extCmdFactory, volumeGroup);
         }
         return exists;
@@ -651,7 +703,6 @@ public class LvmUtils
         if (!exists)
         {
             recacheLvmConfig(extCmdFactory, volumeGroup);
-            recacheNext();
             exists = checkThinPoolExistsBoolImpl(extCmdFactory, volumeGroup, thinPool);
         }
         return exists;
@@ -0,0 +1,374 @@
+package com.linbit.linstor.layer.storage.utils;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.storage.StorageException;
+import com.linbit.utils.ExceptionThrowingSupplier;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache for the output of storage inventory commands (<code>lvs</code>, <code>vgs</code>, <code>zfs list</code>, ...),
+ * keyed by the set of storage pools (volume groups, zpools) the command was filtered for.
+ *
+ * Compared to a simple TimedCache:
+ * <ul>
+ *  <li>Concurrent requests for the same key are coalesced into a single execution of the command, without holding
+ *      a global monitor while the command runs</li>
+ *  <li>Invalidations only affect the entries containing the given storage pools. Invalidations that arrive while
+ *      the command is running are coalesced into a single subsequent execution</li>
+ *  <li>Entries that were recently requested are refreshed by a background sampler shortly before they expire and
+ *      shortly after they were invalidated, so that the device manager usually does not have to wait for the
+ *      command at all</li>
+ * </ul>
+ * An empty key means "all storage pools" and is affected by every invalidation.
+ *
+ * @param <VALUE> Parsed output of the command
+ */
+public class StorageInfoCollector<VALUE>
+{
+    // invalidations within this delay are coalesced into a single background refresh
+    private static final long INVALIDATION_REFRESH_DELAY_IN_MS = 250;
+    private static final long MIN_SAMPLE_INTERVAL_IN_MS = 1_000;
+    // entries that were not requested for this many cache periods are dropped
+    private static final int IDLE_CACHE_PERIODS = 3;
+
+    private static final ScheduledExecutorService SAMPLER = createSampler();
+
+    private final Function<String, String> poolNameMapper;
+    private final Map<Set<String>, CollectorEntry> entries = new ConcurrentHashMap<>();
+    private volatile long maxCacheTimeInMs;
+
+    /**
+     * @param maxCacheTimeInMsRef Time after which an entry has to be refreshed
+     * @param poolNameMapperRef Maps an element of a key to the storage pool name used for invalidation, i.e.
+     *     "vg/thinpool" to "vg"
+     */
+    public StorageInfoCollector(long maxCacheTimeInMsRef, Function<String, String> poolNameMapperRef)
+    {
+        maxCacheTimeInMs = maxCacheTimeInMsRef;
+        poolNameMapper = poolNameMapperRef;
+        scheduleSample(maxCacheTimeInMsRef);
+    }
+
+    private static ScheduledExecutorService createSampler()
+    {
+        ScheduledThreadPoolExecutor sampler = new ScheduledThreadPoolExecutor(
+            1,
+            runnable ->
+            {
+                Thread thread = new Thread(runnable, "StorageInfoCollector");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        sampler.setRemoveOnCancelPolicy(true);
+        return sampler;
+    }
+
+    public void setMaxCacheTime(long maxCacheTimeInMsRef)
+    {
+        maxCacheTimeInMs = maxCacheTimeInMsRef;
+    }
+
+    /**
+     * Returns the cached value for the given key, or runs the given loader if there is no valid cached value. If
+     * another thread is already running the loader for the same key, this thread waits for that result instead.
+     *
+     * The loader is also used for background refreshes of this key, so it must not depend on the calling thread.
+     */
+    public VALUE get(Set<String> keyRef, ExceptionThrowingSupplier<VALUE, StorageException> loaderRef)
+        throws StorageException
+    {
+        @Nullable CollectorEntry entry = entries.get(keyRef);
+        if (entry == null)
+        {
+            // the key is copied since callers might modify their set afterwards
+            entry = entries.computeIfAbsent(Set.copyOf(keyRef), CollectorEntry::new);
+        }
+        final long now = System.currentTimeMillis();
+        entry.loader = loaderRef;
+        entry.lastAccess = now;
+
+        @Nullable VALUE ret = null;
+        @Nullable CompletableFuture<VALUE> future = null;
+        boolean load = false;
+        synchronized (entry)
+        {
+            if (entry.isValid(now))
+            {
+                ret = entry.value;
+            }
+            else
+            if (entry.inFlight != null && entry.inFlightGen == entry.invalidatedGen)
+            {
+                // coalesce with the already running command
+                future = entry.inFlight;
+            }
+            else
+            {
+                future = entry.startLoad();
+                load = true;
+            }
+        }
+        if (future != null)
+        {
+            if (load)
+            {
+                entry.load(future, loaderRef);
+            }
+            ret = join(future);
+        }
+        return ret;
+    }
+
+    /**
+     * Invalidates all entries that contain at least one of the given storage pools
+     */
+    public void invalidate(Collection<String> poolNamesRef)
+    {
+        for (CollectorEntry entry : entries.values())
+        {
+            if (entry.poolNames.isEmpty() || containsAny(entry.poolNames, poolNamesRef))
+            {
+                entry.invalidate();
+            }
+        }
+    }
+
+    public void invalidateAll()
+    {
+        for (CollectorEntry entry : entries.values())
+        {
+            entry.invalidate();
+        }
+    }
+
+    private static boolean containsAny(Set<String> poolNames, Collection<String> poolNamesToCheck)
+    {
+        boolean ret = false;
+        for (String poolName : poolNamesToCheck)
+        {
+            if (poolNames.contains(poolName))
+            {
+                ret = true;
+                break;
+            }
+        }
+        return ret;
+    }
+
+    private void scheduleSample(long cacheTimeRef)
+    {
+        SAMPLER.schedule(this::sample, Math.max(MIN_SAMPLE_INTERVAL_IN_MS, cacheTimeRef / 2), TimeUnit.MILLISECONDS);
+    }
+
+    private void sample()
+    {
+        final long cacheTime = maxCacheTimeInMs;
+        try
+        {
+            if (cacheTime > 0)
+            {
+                final long now = System.currentTimeMillis();
+                final long nextSample = now + Math.max(MIN_SAMPLE_INTERVAL_IN_MS, cacheTime / 2);
+                for (CollectorEntry entry : entries.values())
+                {
+                    if (now - entry.lastAccess > IDLE_CACHE_PERIODS * cacheTime)
+                    {
+                        entries.remove(entry.key, entry);
+                    }
+                    else
+                    if (!entry.isValid(nextSample))
+                    {
+                        // would expire before the next sample
+                        entry.refreshInBackground();
+                    }
+                }
+            }
+            else
+            {
+                entries.clear();
+            }
+        }
+        finally
+        {
+            scheduleSample(cacheTime);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) throws StorageException
+    {
+        T ret;
+        try
+        {
+            ret = future.join();
+        }
+        catch (CompletionException exc)
+        {
+            Throwable cause = exc.getCause();
+            if (cause instanceof StorageException storExc)
+            {
+                throw storExc;
+            }
+            if (cause instanceof RuntimeException runtimeExc)
+            {
+                throw runtimeExc;
+            }
+            if (cause instanceof Error err)
+            {
+                throw err;
+            }
+            throw new ImplementationError(cause);
+        }
+        return ret;
+    }
+
+    private class CollectorEntry
+    {
+        private final Set<String> key;
+        private final Set<String> poolNames;
+
+        private volatile @Nullable ExceptionThrowingSupplier<VALUE, StorageException> loader;
+        private volatile long lastAccess;
+
+        // guarded by this
+        private @Nullable VALUE value;
+        private long loadedAt;
+        private long loadedGen = -1;
+        private long invalidatedGen;
+        private @Nullable CompletableFuture<VALUE> inFlight;
+        private long inFlightGen;
+        private boolean refreshScheduled;
+
+        CollectorEntry(Set<String> keyRef)
+        {
+            key = keyRef;
+            poolNames = new HashSet<>();
+            for (String elem : keyRef)
+            {
+                poolNames.add(poolNameMapper.apply(elem));
+            }
+        }
+
+        private synchronized boolean isValid(long nowRef)
+        {
+            return value != null && loadedGen == invalidatedGen && loadedAt + maxCacheTimeInMs > nowRef;
+        }
+
+        private synchronized CompletableFuture<VALUE> startLoad()
+        {
+            CompletableFuture<VALUE> future = new CompletableFuture<>();
+            inFlight = future;
+            inFlightGen = invalidatedGen;
+            return future;
+        }
+
+        /**
+         * Runs the loader without holding any monitor and publishes the result
+         */
+        private void load(CompletableFuture<VALUE> future, ExceptionThrowingSupplier<VALUE, StorageException> loaderRef)
+        {
+            final long loadGen;
+            synchronized (this)
+            {
+                loadGen = inFlightGen;
+            }
+            final long startTime = System.currentTimeMillis();
+            try
+            {
+                VALUE loadedValue = loaderRef.supply();
+                synchronized (this)
+                {
+                    if (inFlight == future)
+                    {
+                        inFlight = null;
+                    }
+                    if (loadGen >= loadedGen)
+                    {
+                        // if there were invalidations in the meantime, loadGen < invalidatedGen, so the value is
+                        // handed to the waiting threads, but will not be considered valid for further requests
+                        value = loadedValue;
+                        loadedAt = startTime;
+                        loadedGen = loadGen;
+                    }
+                }
+                future.complete(loadedValue);
+            }
+            catch (StorageException | RuntimeException | Error exc)
+            {
+                synchronized (this)
+                {
+                    if (inFlight == future)
+                    {
+                        inFlight = null;
+                    }
+                }
+                future.completeExceptionally(exc);
+            }
+        }
+
+        private void invalidate()
+        {
+            boolean schedule = false;
+            synchronized (this)
+            {
+                ++invalidatedGen;
+                if (!refreshScheduled && maxCacheTimeInMs > 0)
+                {
+                    refreshScheduled = true;
+                    schedule = true;
+                }
+            }
+            if (schedule)
+            {
+                SAMPLER.schedule(
+                    () ->
+                    {
+                        final boolean stale;
+                        synchronized (this)
+                        {
+                            refreshScheduled = false;
+                            // a foreground request might have already reloaded the entry
+                            stale = loadedGen != invalidatedGen;
+                        }
+                        if (stale && System.currentTimeMillis() - lastAccess <= maxCacheTimeInMs)
+                        {
+                            refreshInBackground();
+                        }
+                    },
+                    INVALIDATION_REFRESH_DELAY_IN_MS,
+                    TimeUnit.MILLISECONDS
+                );
+            }
+        }
+
+        private void refreshInBackground()
+        {
+            @Nullable ExceptionThrowingSupplier<VALUE, StorageException> loaderRef = loader;
+            @Nullable CompletableFuture<VALUE> future = null;
+            synchronized (this)
+            {
+                if (loaderRef != null && (inFlight == null || inFlightGen != invalidatedGen))
+                {
+                    future = startLoad();
+                }
+            }
+            if (future != null)
+            {
+                // errors are reported to the foreground callers once they run the loader themselves
+                load(future, loaderRef);
+            }
+        }
+    }
+}
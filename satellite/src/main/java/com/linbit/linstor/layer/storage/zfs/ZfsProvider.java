@@ -138,7 +138,7 @@ public class ZfsProvider
     @Override
     protected Map<String, Long> getFreeSpacesImpl() throws StorageException
     {
-        return ZfsUtils.getZPoolFreeSize(extCmdFactory.create(), changedStoragePoolStrings);
+        return ZfsUtils.getZPoolFreeSize(extCmdFactory, changedStoragePoolStrings);
     }
 
     @Override
@@ -313,6 +313,7 @@ public class ZfsProvider
             false,
             getZfscreateOptions(vlmData)
         );
+        ZfsUtils.recacheNext(vlmData.getZPool());
     }
 
     protected String[] getZfscreateOptions(ZfsData<Resource> vlmDataRef)
@@ -410,6 +411,7 @@ public class ZfsProvider
             asLvIdentifier(vlmData),
             vlmData.getExpectedSize()
         );
+        ZfsUtils.recacheNext(vlmData.getZPool());
     }
 
     @Override
@@ -497,6 +499,7 @@ public class ZfsProvider
                     fullQualIdentifierRef,
                     zfsTypeRef
                 );
+                ZfsUtils.recacheNext(fullQualIdentifierRef);
 
                 deleteCascade(zfsInfo, zfsTypeRef);
             }
@@ -619,6 +622,7 @@ public class ZfsProvider
                 snapVlm.getVolume().getAbsResource().getSnapshotName().displayValue,
                 getZfsSnapshotOptions(vlmData)
             );
+            ZfsUtils.recacheNext(vlmData.getZPool());
         }
     }
 
@@ -632,6 +636,7 @@ public class ZfsProvider
             asSnapLvIdentifier(sourceSnapVlmDataRef),
             asLvIdentifier(targetVlmDataRef)
         );
+        ZfsUtils.recacheNext(targetVlmDataRef.getZPool());
     }
 
     @Override
@@ -653,6 +658,7 @@ public class ZfsProvider
             rawCurrentLvId,
             newId
         );
+        ZfsUtils.recacheNext(zPool);
     }
 
     private void markForDeletion(final String zPoolRef, final String zfsIdRef) throws StorageException
@@ -676,6 +682,7 @@ public class ZfsProvider
             asLvIdentifier(vlmDataRef),
             rollbackToSnapVlmDataRef.getRscLayerObject().getSnapName().displayValue
         );
+        ZfsUtils.recacheNext(rollbackToSnapVlmDataRef.getZPool());
     }
 
     @Override
@@ -794,11 +801,11 @@ public class ZfsProvider
         }
 
         long capacity = ZfsUtils.getZPoolTotalSize(
-            extCmdFactory.create(),
+            extCmdFactory,
             Collections.singleton(zPool)
         ).get(zPool);
         long freeSpace = ZfsUtils.getZPoolFreeSize(
-            extCmdFactory.create(),
+            extCmdFactory,
             Collections.singleton(zPool)
         ).get(zPool);
 
@@ -1022,6 +1029,7 @@ public class ZfsProvider
 
             // mark to be deleted
             markForDeletion(vlmData.getZPool(), srcFullSnapshotName);
+            ZfsUtils.recacheNext(vlmData.getZPool());
         }
         else
         {
@@ -1124,6 +1132,7 @@ public class ZfsProvider
             DFLT_PROBE_VLM_SIZE_KIB,
             thinRef
         );
+        ZfsUtils.recacheNext(volumeGroup);
 
         final String devPath = getDevicePath(volumeGroup, volumeNameRef);
         return devPath;
@@ -1147,5 +1156,6 @@ public class ZfsProvider
             volumeNameRef,
             ZfsVolumeType.VOLUME
         );
+        ZfsUtils.recacheNext(volumeGroup);
     }
 }
@@ -53,6 +53,7 @@ public class ZfsThinProvider extends ZfsProvider
             true,
             getZfscreateOptions(vlmData)
         );
+        ZfsUtils.recacheNext(vlmData.getZPool());
     }
 
     @Override
@@ -106,7 +107,7 @@ public class ZfsThinProvider extends ZfsProvider
         }
 
         long capacity = ZfsUtils.getZPoolTotalSize(
-            extCmdFactory.create(),
+            extCmdFactory,
             Collections.singleton(zPool)
         ).get(zPool);
 
@@ -7,6 +7,7 @@ import com.linbit.extproc.ExtCmd.OutputData;
 import com.linbit.extproc.ExtCmdFactory;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.layer.storage.utils.ParseUtils;
+import com.linbit.linstor.layer.storage.utils.StorageInfoCollector;
 import com.linbit.linstor.layer.storage.zfs.utils.ZfsCommands.ZfsVolumeType;
 import com.linbit.linstor.storage.StorageException;
 import com.linbit.linstor.storage.StorageUtils;
@@ -19,6 +20,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -41,6 +43,17 @@ public class ZfsUtils
 
     private static final String DELIMITER = "\t"; // default for all "zfs -H ..." commands
 
+    private static final long DFLT_ZFS_CACHE_TIME_IN_MS = 10_000;
+    /**
+     * Collector's key: Set of zpools (or datasets) to "filter" for
+     * <br/>
+     * Collector's value's key: single zpool (or dataset) name
+     */
+    private static final StorageInfoCollector<Map<String, Long>> CACHED_ZPOOL_FREE_SIZES =
+        new StorageInfoCollector<>(DFLT_ZFS_CACHE_TIME_IN_MS, ZfsUtils::getZPoolRootName);
+    private static final StorageInfoCollector<Map<String, Long>> CACHED_ZPOOL_TOTAL_SIZES =
+        new StorageInfoCollector<>(DFLT_ZFS_CACHE_TIME_IN_MS, ZfsUtils::getZPoolRootName);
+
     private static final int ZFS_LIST_COL_IDENTIFIER        = 0; // -o "name"
     private static final int ZFS_LIST_COL_REFER_SIZE        = 1; // -o "refer"
     private static final int ZFS_LIST_COL_VOLSIZE           = 2; // -o "volsize"
@@ -422,6 +435,55 @@ public class ZfsUtils
             File.separator + identifier;
     }
 
+    /**
+     * Cached version of {@link #getZPoolFreeSize(ExtCmd, Set)}. The returned map must not be modified.
+     */
+    public static Map<String, Long> getZPoolFreeSize(ExtCmdFactory extCmdFactory, Set<String> zPools)
+        throws StorageException
+    {
+        final Set<String> zPoolsCopy = new HashSet<>(zPools);
+        return CACHED_ZPOOL_FREE_SIZES.get(
+            zPoolsCopy,
+            () -> Collections.unmodifiableMap(getZPoolFreeSize(extCmdFactory.create(), zPoolsCopy))
+        );
+    }
+
+    /**
+     * Cached version of {@link #getZPoolTotalSize(ExtCmd, Set)}. The returned map must not be modified.
+     */
+    public static Map<String, Long> getZPoolTotalSize(ExtCmdFactory extCmdFactory, Set<String> zPools)
+        throws StorageException
+    {
+        final Set<String> zPoolsCopy = new HashSet<>(zPools);
+        return CACHED_ZPOOL_TOTAL_SIZES.get(
+            zPoolsCopy,
+            () -> Collections.unmodifiableMap(getZPoolTotalSize(extCmdFactory.create(), zPoolsCopy))
+        );
+    }
+
+    /**
+     * Invalidates the cached sizes of the zpool the given dataset belongs to
+     */
+    public static void recacheNext(@Nullable String zPoolOrDataset)
+    {
+        if (zPoolOrDataset == null)
+        {
+            recacheNext();
+        }
+        else
+        {
+            Set<String> zPoolRoot = Collections.singleton(getZPoolRootName(zPoolOrDataset));
+            CACHED_ZPOOL_FREE_SIZES.invalidate(zPoolRoot);
+            CACHED_ZPOOL_TOTAL_SIZES.invalidate(zPoolRoot);
+        }
+    }
+
+    public static void recacheNext()
+    {
+        CACHED_ZPOOL_FREE_SIZES.invalidateAll();
+        CACHED_ZPOOL_TOTAL_SIZES.invalidateAll();
+    }
+
     public static Map<String, Long> getZPoolFreeSize(ExtCmd extCmd, Set<String> zPool) throws StorageException
     {
         Map<String, Long> freeSizes = ParseUtils.parseSimpleTable(
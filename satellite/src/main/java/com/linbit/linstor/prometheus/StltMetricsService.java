@@ -0,0 +1,179 @@
+package com.linbit.linstor.prometheus;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.ServiceName;
+import com.linbit.SystemService;
+import com.linbit.SystemServiceStartException;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.core.cfg.StltConfig;
+import com.linbit.linstor.logging.ErrorReporter;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+
+/**
+ * Optional HTTP endpoint that exposes the metrics recorded on the satellite (see {@link LinstorServerMetrics}),
+ * e.g. the run time of external commands or the throughput of S3 backup shippings. The controller's /metrics
+ * endpoint only contains the metrics recorded on the controller.
+ *
+ * Disabled by default, see the [metrics] section of linstor_satellite.toml.
+ */
+@Singleton
+public class StltMetricsService implements SystemService
+{
+    public static final ServiceName SERVICE_NAME;
+    public static final String SERVICE_INFO = "StltMetricsService";
+
+    private static final String METRICS_PATH = "/metrics";
+
+    static
+    {
+        try
+        {
+            SERVICE_NAME = new ServiceName(SERVICE_INFO);
+        }
+        catch (InvalidNameException invalidNameExc)
+        {
+            throw new ImplementationError(invalidNameExc);
+        }
+    }
+
+    private final ErrorReporter errorReporter;
+    private final StltConfig stltCfg;
+
+    private ServiceName instanceName;
+    private @Nullable HttpServer httpServer;
+
+    @Inject
+    public StltMetricsService(ErrorReporter errorReporterRef, StltConfig stltCfgRef)
+    {
+        errorReporter = errorReporterRef;
+        stltCfg = stltCfgRef;
+        instanceName = SERVICE_NAME;
+    }
+
+    @Override
+    public synchronized void start() throws SystemServiceStartException
+    {
+        if (stltCfg.isMetricsEnabled() && httpServer == null)
+        {
+            @Nullable String bindAddress = stltCfg.getMetricsBindAddress();
+            InetSocketAddress listenAddr = bindAddress == null ?
+                new InetSocketAddress(stltCfg.getMetricsPort()) :
+                new InetSocketAddress(bindAddress, stltCfg.getMetricsPort());
+            try
+            {
+                HttpServer server = HttpServer.create(listenAddr, 0);
+                server.createContext(METRICS_PATH, this::handleMetricsRequest);
+                server.start();
+                httpServer = server;
+                errorReporter.logInfo("Metrics endpoint listening on %s%s", listenAddr, METRICS_PATH);
+            }
+            catch (IOException ioExc)
+            {
+                // the satellite works just fine without its metrics
+                throw new SystemServiceStartException(
+                    "Unable to start the metrics endpoint on " + listenAddr,
+                    ioExc,
+                    false
+                );
+            }
+        }
+    }
+
+    private void handleMetricsRequest(HttpExchange exchange) throws IOException
+    {
+        try (exchange)
+        {
+            if ("GET".equals(exchange.getRequestMethod()))
+            {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                try (Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8))
+                {
+                    TextFormat.write004(writer, CollectorRegistry.defaultRegistry.metricFamilySamples());
+                }
+                exchange.getResponseHeaders().set("Content-Type", TextFormat.CONTENT_TYPE_004);
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, buffer.size());
+                try (OutputStream responseBody = exchange.getResponseBody())
+                {
+                    buffer.writeTo(responseBody);
+                }
+            }
+            else
+            {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_BAD_METHOD, -1);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void shutdown(boolean jvmShutdownRef)
+    {
+        @Nullable HttpServer server = httpServer;
+        if (server != null)
+        {
+            server.stop(0);
+            httpServer = null;
+        }
+    }
+
+    @Override
+    public void awaitShutdown(long timeout)
+    {
+        // nothing to wait for, shutdown stops the http server immediately
+    }
+
+    @Override
+    public void setServiceInstanceName(ServiceName instanceNameRef)
+    {
+        instanceName = instanceNameRef;
+    }
+
+    @Override
+    public ServiceName getServiceName()
+    {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public String getServiceInfo()
+    {
+        return SERVICE_INFO;
+    }
+
+    @Override
+    public ServiceName getInstanceName()
+    {
+        return instanceName;
+    }
+
+    @Override
+    public synchronized boolean isStarted()
+    {
+        return httpServer != null;
+    }
+
+    /**
+     * @return the address the metrics endpoint is listening on, or null if the endpoint is not running
+     */
+    public synchronized @Nullable InetSocketAddress getListenAddress()
+    {
+        @Nullable HttpServer server = httpServer;
+        return server == null ? null : server.getAddress();
+    }
+}
@@ -0,0 +1,4 @@
+@NonNullByDefault
+package com.linbit.linstor.prometheus;
+
+import com.linbit.linstor.annotation.NonNullByDefault;
@@ -6,6 +6,7 @@ import com.linbit.linstor.LinStorRuntimeException;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.core.CriticalError;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.timer.Action;
 import com.linbit.timer.Timer;
 import com.linbit.utils.ShellUtils;
@@ -22,6 +23,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import io.prometheus.client.Histogram;
 import org.slf4j.MDC;
 
 /**
@@ -31,6 +33,12 @@ import org.slf4j.MDC;
  */
 public class ExtCmd extends ChildProcessHandler
 {
+    /*
+     * Every command needs two threads reading its stdout and stderr. A satellite runs thousands of short-lived
+     * commands per device manager run, and virtual threads are much cheaper to start than platform threads.
+     */
+    private static volatile boolean virtualThreadOutputPumps = true;
+
     private final Map<ExtCmdCondition, String> conditionsWithDescriptions;
     private final Set<ExtCmdEndedListener> extCmdEndedListenerSet;
 
@@ -56,6 +64,15 @@ public class ExtCmd extends ChildProcessHandler
         extCmdEndedListenerSet = new HashSet<>();
     }
 
+    /**
+     * Selects whether the output of external commands is read by virtual threads (the default) or by newly created
+     * platform threads
+     */
+    public static void setVirtualThreadOutputPumps(boolean virtualThreadOutputPumpsRef)
+    {
+        virtualThreadOutputPumps = virtualThreadOutputPumpsRef;
+    }
+
     public ExtCmd setSaveWithoutSharedLocks(boolean saveWithoutSharedLocksRef)
     {
         saveWithoutSharedLocks = saveWithoutSharedLocksRef;
@@ -148,17 +165,57 @@ public class ExtCmd extends ChildProcessHandler
             }
             startTime = System.currentTimeMillis();
             setChild(child);
+            recordMetrics(child, command);
             outReceiver = new OutputReceiver(
                 child.getInputStream(), errLog, logExecution, MDC.get(ErrorReporter.LOGID));
             errReceiver = new OutputReceiver(
                 child.getErrorStream(), errLog, logExecution, MDC.get(ErrorReporter.LOGID));
         }
-        new Thread(outReceiver).start();
-        new Thread(errReceiver).start();
+        startOutputPump(outReceiver);
+        startOutputPump(errReceiver);
 
         return child.getOutputStream();
     }
 
+    private static void startOutputPump(OutputReceiver receiver)
+    {
+        if (virtualThreadOutputPumps)
+        {
+            Thread.ofVirtual().start(receiver);
+        }
+        else
+        {
+            new Thread(receiver).start();
+        }
+    }
+
+    /**
+     * Counts the given child process as running until it exits. This also covers asynchronously executed commands
+     * that are never passed to {@link #syncProcess()}.
+     */
+    private static void recordMetrics(Process child, String[] command)
+    {
+        String cmdName = getCommandName(command);
+        LinstorServerMetrics.extCmdRunning.labels(cmdName).inc();
+        Histogram.Timer timer = LinstorServerMetrics.extCmdDurationHistogram.labels(cmdName).startTimer();
+        child.onExit().whenComplete(
+            (ignoredProc, ignoredExc) ->
+            {
+                LinstorServerMetrics.extCmdRunning.labels(cmdName).dec();
+                timer.observeDuration();
+            }
+        );
+    }
+
+    /**
+     * Returns the name of the executable without its path, i.e. "lvs" for "/usr/sbin/lvs"
+     */
+    static String getCommandName(String[] command)
+    {
+        String cmdName = command.length > 0 ? command[0] : "";
+        return cmdName.substring(cmdName.lastIndexOf('/') + 1);
+    }
+
     private void checkForConditions()
     {
         for (Entry<ExtCmdCondition, String> entry : conditionsWithDescriptions.entrySet())
@@ -1,9 +1,12 @@
 package com.linbit.linstor;
 
+import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.k8s.K8sResourceClient;
 import com.linbit.linstor.dbdrivers.k8s.crd.LinstorCrd;
 import com.linbit.linstor.dbdrivers.k8s.crd.LinstorSpec;
 
+import java.util.List;
+
 import io.fabric8.kubernetes.client.KubernetesClient;
 
 public interface ControllerK8sCrdDatabase extends ControllerDatabase
@@ -12,7 +15,22 @@ public interface ControllerK8sCrdDatabase extends ControllerDatabase
 
     K8sResourceClient<?> getCachingClient(Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>> clazz);
 
+    /**
+     * Creates the caching clients for all given CRD classes that do not have one yet, running at most
+     * <code>parallelism</code> of the initial list requests concurrently
+     */
+    void preloadCachingClients(
+        List<Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>>> crdClasses,
+        int parallelism
+    )
+        throws DatabaseException;
+
     int getMaxRollbackEntries();
 
+    /**
+     * Maximum number of concurrent API server requests while committing a transaction
+     */
+    int getMaxParallelRequests();
+
     void clearCache();
 }
@@ -39,6 +39,7 @@ public class InternalApiConsts
     public static final String API_REQUEST_RSC       = "RequestRsc";
     public static final String API_APPLY_RSC         = "ApplyRsc";
     public static final String API_APPLY_RSC_DELETED = "ApplyDeletedRsc";
+    public static final String API_APPLY_RSC_DELTA   = "ApplyRscDelta";
 
     public static final String API_CHANGED_IN_PROGRESS_SNAPSHOT     = "ChangedInProgressSnapshot";
     public static final String API_REQUEST_IN_PROGRESS_SNAPSHOT     = "RequestInProgressSnapshot";
@@ -96,6 +97,8 @@ public class InternalApiConsts
     public static final String API_NOTIFY_EXTERNAL_FILE_APPLIED = "NotifyExternalFileApplied";
     public static final String API_REQUEST_EXT_FILE_STATUS = "RequestExtFileStatus";
 
+    public static final String API_EVENT_BATCH = "EventBatch";
+
     /*
      * Event stream actions
      */
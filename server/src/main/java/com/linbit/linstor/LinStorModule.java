@@ -17,6 +17,9 @@ public class LinStorModule extends AbstractModule
     // Maximum number of worker threads
     private static final int MAX_THREAD_SIZE = 16;
 
+    // Scheduler for handling messages received from peers. Bound by the controller / satellite specific modules
+    public static final String MSG_PROCESSING_SCHEDULER = "MsgProcessingScheduler";
+
     @Override
     protected void configure()
     {
@@ -28,7 +28,10 @@ import com.linbit.linstor.storage.kinds.DeviceProviderKind;
 import com.linbit.linstor.storage.kinds.RaidLevel;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Function;
 
 import org.slf4j.event.Level;
 
@@ -59,6 +62,28 @@ public class LinstorParsingUtils
         return nodeName;
     }
 
+    /**
+     * Parses the given plain (non-regex) name filters into a sorted set of names. A name that is not valid cannot
+     * match any object, so it is skipped instead of failing the whole request.
+     *
+     * @param parser e.g. {@link #asNodeName(String)}
+     */
+    public static <T> TreeSet<T> asExactNames(Collection<String> nameFilters, Function<String, T> parser)
+    {
+        TreeSet<T> names = new TreeSet<>();
+        for (String nameFilter : nameFilters)
+        {
+            try
+            {
+                names.add(parser.apply(nameFilter));
+            }
+            catch (ApiRcException ignored)
+            {
+            }
+        }
+        return names;
+    }
+
     public static Node.Type asNodeType(String nodeTypeStr)
     {
         Node.Type nodeType;
@@ -24,9 +24,24 @@ public class PriorityProps
     public static final String FALLBACKMAP_NAME = "Fallback";
     public static final String DEFAULT_DESCR = "default value";
 
+    /**
+     * Number of lookups after which the merged view of all props is materialized. Many PriorityProps are only created
+     * for one or two lookups, where iterating over all properties of all containers would cost more than it saves.
+     */
+    private static final int MATERIALIZE_AFTER_LOOKUPS = 4;
+
     private final List<PairNonNull<ReadOnlyProps, String>> propList = new ArrayList<>();
     private final HashMap<String, String> fallbackMap = new HashMap<>();
 
+    private int uncachedLookups = 0;
+    private boolean hasUntrackedProps = false;
+    /**
+     * Merged view of all props (relative key to value and the first container containing it), valid as long as the
+     * modification counts of all containers still equal the ones in effectivePropsModCounts
+     */
+    private @Nullable Map<String, PairNonNull<String, ReadOnlyProps>> effectiveProps;
+    private long[] effectivePropsModCounts = new long[0];
+
     public PriorityProps(
         NodeConnection nodeConnection,
         ResourceConnection resourceConnection,
@@ -70,6 +85,7 @@ public class PriorityProps
         if (props != null)
         {
             propList.add(new PairNonNull<>(props, descr));
+            effectiveProps = null;
         }
         return this;
     }
@@ -79,6 +95,7 @@ public class PriorityProps
         if (props != null)
         {
             propList.add(new PairNonNull<>(props, descr));
+            effectiveProps = null;
         }
         return this;
     }
@@ -94,13 +111,27 @@ public class PriorityProps
     {
         @Nullable String value = null;
         @Nullable ReadOnlyProps container = null;
-        for (PairNonNull<ReadOnlyProps, String> pair : propList)
+        @Nullable Map<String, PairNonNull<String, ReadOnlyProps>> effectivePropsMap = getEffectiveProps();
+        @Nullable String relativeKey = effectivePropsMap == null ? null : toRelativeKey(key, namespace);
+        if (effectivePropsMap != null && relativeKey != null)
         {
-            value = pair.objA.getProp(key, namespace);
-            if (value != null)
+            @Nullable PairNonNull<String, ReadOnlyProps> entry = effectivePropsMap.get(relativeKey);
+            if (entry != null)
             {
-                container = pair.objA;
-                break;
+                value = entry.objA;
+                container = entry.objB;
+            }
+        }
+        else
+        {
+            for (PairNonNull<ReadOnlyProps, String> pair : propList)
+            {
+                value = pair.objA.getProp(key, namespace);
+                if (value != null)
+                {
+                    container = pair.objA;
+                    break;
+                }
             }
         }
         if (value == null)
@@ -142,6 +173,100 @@ public class PriorityProps
         return result.objA == null ? new Pair<>(defaultValue, null) : result;
     }
 
+    /**
+     * Returns the merged view of all props if it is (still) valid or worth to be built, null otherwise.
+     */
+    private @Nullable Map<String, PairNonNull<String, ReadOnlyProps>> getEffectiveProps()
+    {
+        @Nullable Map<String, PairNonNull<String, ReadOnlyProps>> ret = effectiveProps;
+        if (ret != null && !isEffectivePropsValid())
+        {
+            ret = null;
+        }
+        if (ret == null)
+        {
+            if (++uncachedLookups > MATERIALIZE_AFTER_LOOKUPS && !hasUntrackedProps)
+            {
+                ret = materializeEffectiveProps();
+            }
+            effectiveProps = ret;
+        }
+        return ret;
+    }
+
+    private boolean isEffectivePropsValid()
+    {
+        boolean valid = effectivePropsModCounts.length == propList.size();
+        for (int idx = 0; valid && idx < effectivePropsModCounts.length; ++idx)
+        {
+            valid = propList.get(idx).objA.getModificationCount() == effectivePropsModCounts[idx];
+        }
+        return valid;
+    }
+
+    private @Nullable Map<String, PairNonNull<String, ReadOnlyProps>> materializeEffectiveProps()
+    {
+        @Nullable Map<String, PairNonNull<String, ReadOnlyProps>> ret = new HashMap<>();
+        long[] modCounts = new long[propList.size()];
+        for (int idx = 0; idx < modCounts.length && ret != null; ++idx)
+        {
+            ReadOnlyProps props = propList.get(idx).objA;
+            modCounts[idx] = props.getModificationCount();
+            if (modCounts[idx] <= 0)
+            {
+                // modifications are not tracked, we would never notice that our view is outdated
+                hasUntrackedProps = true;
+                ret = null;
+            }
+            else
+            {
+                // the keys of the entries are absolute, even if props is a namespace of a container
+                int prefixLen = props.getPath().length();
+                for (Entry<String, String> entry : props.entrySet())
+                {
+                    ret.putIfAbsent(entry.getKey().substring(prefixLen), new PairNonNull<>(entry.getValue(), props));
+                }
+            }
+        }
+        effectivePropsModCounts = modCounts;
+        return ret;
+    }
+
+    /**
+     * Returns the key relative to the props, as used in {@link #effectiveProps}, or null if the given key or
+     * namespace needs the sanitizing and validation of {@link ReadOnlyProps#getProp(String, String)} (i.e. they
+     * contain absolute paths, empty path elements or are too long)
+     */
+    private static @Nullable String toRelativeKey(@Nullable String key, @Nullable String namespace)
+    {
+        @Nullable String relativeKey;
+        if (key == null)
+        {
+            relativeKey = null;
+        }
+        else
+        if (namespace == null || namespace.isEmpty())
+        {
+            relativeKey = key;
+        }
+        else
+        {
+            relativeKey = namespace + ReadOnlyProps.PATH_SEPARATOR + key;
+        }
+
+        if (relativeKey != null && (
+            relativeKey.isEmpty() ||
+            relativeKey.length() >= PropsContainer.PATH_MAX_LENGTH ||
+            relativeKey.startsWith(ReadOnlyProps.PATH_SEPARATOR) ||
+            relativeKey.endsWith(ReadOnlyProps.PATH_SEPARATOR) ||
+            relativeKey.contains(ReadOnlyProps.PATH_SEPARATOR + ReadOnlyProps.PATH_SEPARATOR)
+        ))
+        {
+            relativeKey = null;
+        }
+        return relativeKey;
+    }
+
     private String prepStoreKey(String key)
     {
         return key
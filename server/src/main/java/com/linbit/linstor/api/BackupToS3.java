@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
@@ -40,6 +41,7 @@ import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
 import com.amazonaws.services.s3.model.DeleteObjectsResult.DeletedObject;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
@@ -53,8 +55,6 @@ import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
-import com.amazonaws.services.s3.model.UploadPartRequest;
-import com.amazonaws.services.s3.model.UploadPartResult;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -63,6 +63,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class BackupToS3
 {
     private static final ObjectMapper OBJ_MAPPER = new ObjectMapper();
+    private static final int RESTORE_CHUNK_SIZE = 16 << 20;
 
     private final StltConfigAccessor stltConfigAccessor;
     private final DecryptionHelper decHelper;
@@ -104,13 +105,22 @@ public class BackupToS3
         return initResp.getUploadId();
     }
 
+    /**
+     * Uploads the given stream as the parts of the given multipart upload and completes the upload.
+     *
+     * @param maxSize the size of the volume in KiB, used to choose the part size
+     * @param partsInFlight the number of parts uploaded concurrently. Each of them needs a buffer of the part size.
+     * @param partRetries how often the upload of a single part is retried before the whole upload fails
+     */
     public void putObjectMultipart(
         String key,
         InputStream input,
         long maxSize,
         String uploadId,
         S3Remote remote,
-        byte[] masterKey
+        byte[] masterKey,
+        int partsInFlight,
+        int partRetries
     ) throws SdkClientException, AmazonServiceException, IOException, StorageException
     {
         assert maxSize >= 0;
@@ -120,57 +130,21 @@ public class BackupToS3
         String bucket = remote.getBucket();
         boolean reqPays = getRequesterPays(remote, s3, bucket);
 
-        // make the buffer size (part size) as small as possible, without going over the limit of Integer.MAX_VALUE
-        // while making sure to stay above the minimum part size of 5 MB and below 1000 parts.
-        // we want small buffers in order to keep RAM usage low even with multiple concurrent uploads.
-        long bufferSize = Math.max(5 << 20, (long) (Math.ceil((maxSize * 1024) / 1000.0) + 1.0));
-        if (bufferSize > Integer.MAX_VALUE)
-        {
-            throw new StorageException(
-                "Can only ship parts up to " + Integer.MAX_VALUE + " bytes." +
-                    " Current shipment would require parts with a size of " + bufferSize + " bytes."
-            );
-        }
-        List<PartETag> parts = new ArrayList<>();
-
-        byte[] readBuf = new byte[(int) bufferSize];
-        int offset = 0;
-        int partId = 1;
-        for (int readLen = input.read(readBuf, offset, readBuf.length - offset);
-             readLen != -1;
-             readLen = input.read(readBuf, offset, readBuf.length - offset))
-        {
-            offset += readLen;
-            if (readBuf.length == offset)
-            {
-                UploadPartRequest uploadRequest = new UploadPartRequest()
-                    .withBucketName(bucket)
-                    .withKey(key)
-                    .withUploadId(uploadId)
-                    .withPartNumber(partId)
-                    .withInputStream(new ByteArrayInputStream(readBuf))
-                    .withPartSize(offset)
-                    .withRequesterPays(reqPays);
-                UploadPartResult uploadResult = s3.uploadPart(uploadRequest);
-                parts.add(uploadResult.getPartETag());
-                offset = 0;
-                partId++;
-            }
-        }
-        if (offset != 0)
-        {
-            UploadPartRequest uploadRequest = new UploadPartRequest()
-                .withBucketName(bucket)
-                .withKey(key)
-                .withUploadId(uploadId)
-                .withPartNumber(partId)
-                .withInputStream(new ByteArrayInputStream(readBuf, 0, offset))
-                .withLastPart(true)
-                .withPartSize(offset)
-                .withRequesterPays(reqPays);
-            UploadPartResult uploadResult = s3.uploadPart(uploadRequest);
-            parts.add(uploadResult.getPartETag());
-        }
+        int partSize = S3MultipartUpload.getPartSize(maxSize);
+        S3MultipartUpload upload = new S3MultipartUpload(
+            errorReporter,
+            s3,
+            bucket,
+            key,
+            uploadId,
+            reqPays,
+            remote.getName().displayValue,
+            partSize,
+            partsInFlight,
+            partRetries
+        );
+        long start = System.nanoTime();
+        List<PartETag> parts = upload.upload(input);
         CompleteMultipartUploadRequest compRequest = new CompleteMultipartUploadRequest(
             bucket,
             key,
@@ -178,7 +152,15 @@ public class BackupToS3
             parts
         ).withRequesterPays(reqPays);
         s3.completeMultipartUpload(compRequest);
-        errorReporter.logTrace("Backup upload of %s to bucket %s completed in %d parts", key, bucket, partId);
+        errorReporter.logTrace(
+            "Backup upload of %s to bucket %s completed: %d bytes in %d parts (%d in flight) in %d ms",
+            key,
+            bucket,
+            upload.getUploadedBytes(),
+            parts.size(),
+            upload.getPartsInFlight(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
     }
 
     public void abortMultipart(String key, String uploadId, S3Remote remote, byte[] masterKey)
@@ -395,6 +377,42 @@ public class BackupToS3
         return obj.getObjectContent();
     }
 
+    /**
+     * Like {@link #getObject(String, S3Remote, byte[])}, but downloads consecutive chunks of the object with
+     * concurrent ranged GETs.
+     *
+     * @param chunksInFlight the number of chunks downloaded concurrently, each of them needs a buffer of the chunk size
+     * @param chunkRetries how often the download of a single chunk is retried before reading fails
+     */
+    public S3RangedDownload getObjectRanged(
+        String key,
+        S3Remote remote,
+        byte[] masterKey,
+        int chunksInFlight,
+        int chunkRetries
+    )
+    {
+        final AmazonS3 s3 = getS3Client(remote, masterKey);
+
+        String bucket = remote.getBucket();
+        boolean reqPays = getRequesterPays(remote, s3, bucket);
+
+        GetObjectMetadataRequest req = new GetObjectMetadataRequest(bucket, key).withRequesterPays(reqPays);
+        long size = s3.getObjectMetadata(req).getContentLength();
+        return new S3RangedDownload(
+            errorReporter,
+            s3,
+            bucket,
+            key,
+            reqPays,
+            remote.getName().displayValue,
+            size,
+            RESTORE_CHUNK_SIZE,
+            chunksInFlight,
+            chunkRetries
+        );
+    }
+
     public List<S3ObjectSummary> listObjects(
         @Nullable String withPrefix,
         S3Remote remote,
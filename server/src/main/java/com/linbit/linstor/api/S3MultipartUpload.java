@@ -0,0 +1,306 @@
+package com.linbit.linstor.api;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+import com.linbit.linstor.storage.StorageException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import io.prometheus.client.Histogram;
+
+/**
+ * Uploads a stream as the parts of an already initiated S3 multipart upload, with several parts in flight at once.
+ *
+ * The stream is read into part sized buffers on the calling thread, while the parts are uploaded on virtual threads.
+ * At most {@code partsInFlight} buffers exist at any time, so reading blocks while all of them are being uploaded.
+ * Failed parts are retried a few times before the whole upload fails.
+ */
+class S3MultipartUpload
+{
+    /** S3 requires at least 5 MiB for all but the last part, use a bit more to need less requests */
+    static final long MIN_PART_SIZE = 8L << 20;
+    /** S3 allows at most 10000 parts, leave some room in case the stream is larger than the volume */
+    static final int MAX_EXPECTED_PARTS = 9_000;
+    /** Upper limit for the memory of all buffers of one upload, reduces the parts in flight for large parts */
+    static final long MAX_BUFFER_MEMORY = 1L << 30;
+
+    private static final long PART_SIZE_ALIGNMENT = 1L << 20;
+    private static final long KIB = 1024;
+
+    private final ErrorReporter errorReporter;
+    private final AmazonS3 s3;
+    private final String bucket;
+    private final String key;
+    private final String uploadId;
+    private final boolean reqPays;
+    private final String remoteName;
+    private final int partSize;
+    private final int partsInFlight;
+    private final int partRetries;
+
+    private final Semaphore freeBuffers;
+    private final ConcurrentLinkedQueue<byte[]> bufferPool = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private long readBytes = 0;
+
+    S3MultipartUpload(
+        ErrorReporter errorReporterRef,
+        AmazonS3 s3Ref,
+        String bucketRef,
+        String keyRef,
+        String uploadIdRef,
+        boolean reqPaysRef,
+        String remoteNameRef,
+        int partSizeRef,
+        int partsInFlightRef,
+        int partRetriesRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        s3 = s3Ref;
+        bucket = bucketRef;
+        key = keyRef;
+        uploadId = uploadIdRef;
+        reqPays = reqPaysRef;
+        remoteName = remoteNameRef;
+        partSize = partSizeRef;
+        partsInFlight = Math.max(1, (int) Math.min(partsInFlightRef, MAX_BUFFER_MEMORY / partSizeRef));
+        partRetries = partRetriesRef;
+
+        freeBuffers = new Semaphore(partsInFlight);
+    }
+
+    /**
+     * Chooses the part size for a volume of the given size: as small as possible to keep the memory usage low, but
+     * large enough to stay below the maximum number of parts.
+     *
+     * @param volSizeKib the size of the volume in KiB
+     */
+    static int getPartSize(long volSizeKib) throws StorageException
+    {
+        long volSize = volSizeKib * KIB;
+        long partSize = Math.max(MIN_PART_SIZE, (volSize + MAX_EXPECTED_PARTS - 1) / MAX_EXPECTED_PARTS);
+        partSize = (partSize + PART_SIZE_ALIGNMENT - 1) / PART_SIZE_ALIGNMENT * PART_SIZE_ALIGNMENT;
+        if (partSize > Integer.MAX_VALUE)
+        {
+            throw new StorageException(
+                "Can only ship parts up to " + Integer.MAX_VALUE + " bytes." +
+                    " Current shipment would require parts with a size of " + partSize + " bytes."
+            );
+        }
+        return (int) partSize;
+    }
+
+    int getPartsInFlight()
+    {
+        return partsInFlight;
+    }
+
+    long getUploadedBytes()
+    {
+        return readBytes;
+    }
+
+    /**
+     * Uploads the given stream until its end.
+     *
+     * @return the uploaded parts in order, as needed to complete the multipart upload
+     */
+    List<PartETag> upload(InputStream input) throws IOException, SdkClientException
+    {
+        List<Future<PartETag>> parts = new ArrayList<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        boolean readAll = false;
+        try
+        {
+            int partNr = 1;
+            boolean eof = false;
+            while (!eof && !failed.get())
+            {
+                byte[] buffer = takeBuffer();
+                int len = readFully(input, buffer);
+                eof = len < buffer.length;
+                if (len > 0)
+                {
+                    readBytes += len;
+                    final int curPartNr = partNr;
+                    final boolean lastPart = eof;
+                    parts.add(executor.submit(() -> uploadPart(curPartNr, buffer, len, lastPart)));
+                    partNr++;
+                }
+                else
+                {
+                    releaseBuffer(buffer);
+                }
+            }
+            readAll = true;
+        }
+        finally
+        {
+            if (!readAll)
+            {
+                executor.shutdownNow();
+            }
+            // waits for the parts still in flight
+            executor.close();
+        }
+        return getAll(parts);
+    }
+
+    private byte[] takeBuffer() throws InterruptedIOException
+    {
+        try
+        {
+            freeBuffers.acquire();
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a part to be uploaded");
+        }
+        @Nullable byte[] buffer = bufferPool.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    private void releaseBuffer(byte[] buffer)
+    {
+        bufferPool.add(buffer);
+        freeBuffers.release();
+    }
+
+    private static int readFully(InputStream input, byte[] buffer) throws IOException
+    {
+        int offset = 0;
+        int readLen = 0;
+        while (offset < buffer.length && readLen != -1)
+        {
+            readLen = input.read(buffer, offset, buffer.length - offset);
+            if (readLen > 0)
+            {
+                offset += readLen;
+            }
+        }
+        return offset;
+    }
+
+    private PartETag uploadPart(int partNr, byte[] buffer, int len, boolean lastPart)
+    {
+        LinstorServerMetrics.backupS3PartsInFlight.labels(remoteName).inc();
+        try
+        {
+            @Nullable PartETag partETag = null;
+            int attempt = 0;
+            while (partETag == null)
+            {
+                UploadPartRequest uploadRequest = new UploadPartRequest()
+                    .withBucketName(bucket)
+                    .withKey(key)
+                    .withUploadId(uploadId)
+                    .withPartNumber(partNr)
+                    .withInputStream(new ByteArrayInputStream(buffer, 0, len))
+                    .withLastPart(lastPart)
+                    .withPartSize(len)
+                    .withRequesterPays(reqPays);
+                Histogram.Timer timer = LinstorServerMetrics.backupS3PartDuration.labels(remoteName).startTimer();
+                try
+                {
+                    partETag = s3.uploadPart(uploadRequest).getPartETag();
+                    timer.observeDuration();
+                    LinstorServerMetrics.backupS3UploadedBytes.labels(remoteName).inc(len);
+                }
+                catch (SdkClientException exc)
+                {
+                    if (attempt >= partRetries || !S3Retries.isRetryable(exc) || failed.get())
+                    {
+                        throw exc;
+                    }
+                    attempt++;
+                    LinstorServerMetrics.backupS3PartRetries.labels(remoteName).inc();
+                    errorReporter.logWarning(
+                        "Upload of part %d of %s failed, retrying (%d/%d): %s",
+                        partNr,
+                        key,
+                        attempt,
+                        partRetries,
+                        exc.getMessage()
+                    );
+                    waitBeforeRetry(attempt, exc);
+                }
+            }
+            return partETag;
+        }
+        catch (RuntimeException | Error exc)
+        {
+            // stop reading the stream, the upload cannot succeed anymore
+            failed.set(true);
+            throw exc;
+        }
+        finally
+        {
+            LinstorServerMetrics.backupS3PartsInFlight.labels(remoteName).dec();
+            releaseBuffer(buffer);
+        }
+    }
+
+    private static void waitBeforeRetry(int attempt, SdkClientException exc)
+    {
+        try
+        {
+            S3Retries.waitBeforeRetry(attempt);
+        }
+        catch (InterruptedException interruptedExc)
+        {
+            Thread.currentThread().interrupt();
+            exc.addSuppressed(interruptedExc);
+            throw exc;
+        }
+    }
+
+    private static List<PartETag> getAll(List<Future<PartETag>> parts) throws IOException
+    {
+        List<PartETag> ret = new ArrayList<>(parts.size());
+        try
+        {
+            for (Future<PartETag> part : parts)
+            {
+                ret.add(part.get());
+            }
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a part to be uploaded");
+        }
+        catch (ExecutionException exc)
+        {
+            Throwable cause = exc.getCause();
+            if (cause instanceof RuntimeException runtimeExc)
+            {
+                throw runtimeExc;
+            }
+            if (cause instanceof Error error)
+            {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+        return ret;
+    }
+}
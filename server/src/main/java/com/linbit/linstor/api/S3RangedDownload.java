@@ -0,0 +1,278 @@
+package com.linbit.linstor.api;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+
+/**
+ * Reads an S3 object with several concurrent ranged GETs of consecutive chunks.
+ *
+ * The chunks are downloaded on virtual threads into a bounded ring of buffers and handed out strictly in order, so
+ * reading this stream returns the same bytes as reading the object with a single GET. At most
+ * {@code chunksInFlight + 1} buffers exist at any time: one for the chunk currently being read and one for each
+ * chunk being downloaded (or already downloaded, but not yet read). Failed chunks are retried a few times before
+ * reading fails.
+ */
+public class S3RangedDownload extends InputStream
+{
+    private final ErrorReporter errorReporter;
+    private final AmazonS3 s3;
+    private final String bucket;
+    private final String key;
+    private final boolean reqPays;
+    private final String remoteName;
+    private final long size;
+    private final int chunkSize;
+    private final int chunksInFlight;
+    private final int chunkRetries;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    // the chunks being downloaded, in the order of their offsets
+    private final ArrayDeque<Future<byte[]>> pending = new ArrayDeque<>();
+    private final ConcurrentLinkedQueue<byte[]> bufferPool = new ConcurrentLinkedQueue<>();
+
+    private long nextOffset = 0;
+    private long position = 0;
+    private @Nullable byte[] current = null;
+    private int currentPos = 0;
+    private int currentLen = 0;
+    private volatile boolean closed = false;
+
+    S3RangedDownload(
+        ErrorReporter errorReporterRef,
+        AmazonS3 s3Ref,
+        String bucketRef,
+        String keyRef,
+        boolean reqPaysRef,
+        String remoteNameRef,
+        long sizeRef,
+        int chunkSizeRef,
+        int chunksInFlightRef,
+        int chunkRetriesRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        s3 = s3Ref;
+        bucket = bucketRef;
+        key = keyRef;
+        reqPays = reqPaysRef;
+        remoteName = remoteNameRef;
+        size = sizeRef;
+        chunkSize = chunkSizeRef;
+        chunksInFlight = Math.max(1, chunksInFlightRef);
+        chunkRetries = chunkRetriesRef;
+    }
+
+    /**
+     * @return the size of the object in bytes
+     */
+    public long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * @return the number of bytes read so far
+     */
+    public long getPosition()
+    {
+        return position;
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        int ret = -1;
+        if (nextChunkIfNeeded())
+        {
+            ret = current[currentPos++] & 0xFF;
+            position++;
+        }
+        return ret;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int len) throws IOException
+    {
+        int ret = len == 0 ? 0 : -1;
+        if (len > 0 && nextChunkIfNeeded())
+        {
+            ret = Math.min(len, currentLen - currentPos);
+            System.arraycopy(current, currentPos, buffer, offset, ret);
+            currentPos += ret;
+            position += ret;
+        }
+        return ret;
+    }
+
+    @Override
+    public int available()
+    {
+        return currentLen - currentPos;
+    }
+
+    @Override
+    public void close()
+    {
+        if (!closed)
+        {
+            closed = true;
+            executor.shutdownNow();
+            pending.clear();
+            current = null;
+        }
+    }
+
+    /**
+     * Makes sure that {@link #current} has unread bytes, unless the end of the object was reached.
+     *
+     * @return false if the end of the object was reached
+     */
+    private boolean nextChunkIfNeeded() throws IOException
+    {
+        if (closed)
+        {
+            throw new IOException("Stream closed");
+        }
+        if (current != null && currentPos == currentLen)
+        {
+            bufferPool.add(current);
+            current = null;
+        }
+        if (current == null)
+        {
+            requestChunks();
+            @Nullable Future<byte[]> next = pending.poll();
+            if (next != null)
+            {
+                currentLen = (int) Math.min(chunkSize, size - position);
+                currentPos = 0;
+                current = await(next);
+                // keep the ring full while the current chunk is read
+                requestChunks();
+            }
+        }
+        return current != null;
+    }
+
+    private void requestChunks()
+    {
+        while (pending.size() < chunksInFlight && nextOffset < size)
+        {
+            final long offset = nextOffset;
+            final int len = (int) Math.min(chunkSize, size - offset);
+            @Nullable byte[] pooledBuffer = bufferPool.poll();
+            final byte[] buffer = pooledBuffer != null ? pooledBuffer : new byte[chunkSize];
+            pending.add(executor.submit(() -> downloadChunk(offset, len, buffer)));
+            nextOffset += len;
+        }
+    }
+
+    private byte[] downloadChunk(long offset, int len, byte[] buffer) throws IOException
+    {
+        boolean done = false;
+        int attempt = 0;
+        while (!done)
+        {
+            GetObjectRequest req = new GetObjectRequest(bucket, key, reqPays).withRange(offset, offset + len - 1);
+            try (
+                S3Object obj = s3.getObject(req);
+                InputStream input = obj.getObjectContent();
+            )
+            {
+                readFully(input, buffer, len);
+                LinstorServerMetrics.backupS3DownloadedBytes.labels(remoteName).inc(len);
+                done = true;
+            }
+            catch (SdkClientException | IOException exc)
+            {
+                if (attempt >= chunkRetries || !S3Retries.isRetryable(exc) || closed)
+                {
+                    throw exc;
+                }
+                attempt++;
+                LinstorServerMetrics.backupS3PartRetries.labels(remoteName).inc();
+                errorReporter.logWarning(
+                    "Download of bytes %d-%d of %s failed, retrying (%d/%d): %s",
+                    offset,
+                    offset + len - 1,
+                    key,
+                    attempt,
+                    chunkRetries,
+                    exc.getMessage()
+                );
+                try
+                {
+                    S3Retries.waitBeforeRetry(attempt);
+                }
+                catch (InterruptedException interruptedExc)
+                {
+                    Thread.currentThread().interrupt();
+                    exc.addSuppressed(interruptedExc);
+                    throw exc;
+                }
+            }
+        }
+        return buffer;
+    }
+
+    private static void readFully(InputStream input, byte[] buffer, int len) throws IOException
+    {
+        int offset = 0;
+        while (offset < len)
+        {
+            int readLen = input.read(buffer, offset, len - offset);
+            if (readLen == -1)
+            {
+                throw new EOFException("Object ended after " + offset + " of " + len + " bytes of the chunk");
+            }
+            offset += readLen;
+        }
+    }
+
+    private byte[] await(Future<byte[]> chunk) throws IOException
+    {
+        try
+        {
+            return chunk.get();
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a chunk to be downloaded");
+        }
+        catch (ExecutionException exc)
+        {
+            Throwable cause = exc.getCause();
+            if (cause instanceof IOException ioExc)
+            {
+                throw ioExc;
+            }
+            if (cause instanceof RuntimeException runtimeExc)
+            {
+                throw runtimeExc;
+            }
+            if (cause instanceof Error error)
+            {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.linbit.linstor.api;
+
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonServiceException;
+
+/**
+ * Retry policy shared by the concurrent S3 up- and downloads of backup shippings.
+ */
+final class S3Retries
+{
+    private static final long RETRY_DELAY_MS = 1_000;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private S3Retries()
+    {
+        // utils-class, do not allow instance
+    }
+
+    /**
+     * Errors caused by the request itself (access denied, unknown upload id, ...) will not go away by retrying,
+     * everything else (connection problems, server errors, throttling) might.
+     */
+    static boolean isRetryable(Exception exc)
+    {
+        return !(exc instanceof AmazonServiceException serviceExc) ||
+            serviceExc.getErrorType() != AmazonServiceException.ErrorType.Client ||
+            serviceExc.getStatusCode() == HTTP_TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * Waits before the given retry, a bit longer with each attempt.
+     *
+     * @param attempt the number of the retry, starting with 1
+     */
+    static void waitBeforeRetry(int attempt) throws InterruptedException
+    {
+        TimeUnit.MILLISECONDS.sleep(RETRY_DELAY_MS * attempt);
+    }
+}
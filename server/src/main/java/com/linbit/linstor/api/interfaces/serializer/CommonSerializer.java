@@ -11,12 +11,14 @@ import com.linbit.linstor.api.prop.WhitelistProps;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.StorPoolName;
+import com.linbit.linstor.event.EventBatcher;
 import com.linbit.linstor.event.EventIdentifier;
 import com.linbit.linstor.event.common.ResourceState;
 import com.linbit.linstor.logging.ErrorReportResult;
 import com.linbit.linstor.proto.requests.MsgReqDrbdReactorExecOuterClass.DrbdReactorCommand;
 import com.linbit.linstor.storage.kinds.ExtToolsInfo;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -40,6 +42,13 @@ public interface CommonSerializer
     {
         byte[] build();
 
+        /**
+         * Like {@link #build()}, but serializes into a buffer of the
+         * {@link com.linbit.linstor.netcom.MessageBufferPool} that can be passed to
+         * {@link com.linbit.linstor.netcom.Peer#sendMessage(ByteBuffer)}.
+         */
+        ByteBuffer buildBuffer();
+
         CommonSerializerBuilder authError(ApiCallRcImpl apiCallRcRef);
 
         CommonSerializerBuilder authSuccess(
@@ -77,6 +86,8 @@ public interface CommonSerializer
             String eventStreamAction
         );
 
+        CommonSerializerBuilder eventBatch(List<EventBatcher.BatchedEvent> events);
+
         CommonSerializerBuilder volumeDiskState(String diskState);
         CommonSerializerBuilder replicationState(String peerName, String replicationState);
         CommonSerializerBuilder donePercentageEvent(String peerName, @Nullable Float donePercentage);
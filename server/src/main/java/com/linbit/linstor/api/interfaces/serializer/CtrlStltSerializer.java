@@ -2,6 +2,7 @@ package com.linbit.linstor.api.interfaces.serializer;
 
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.SpaceInfo;
+import com.linbit.linstor.api.pojo.RscDeltaPojo;
 import com.linbit.linstor.core.apicallhandler.controller.internal.helpers.AtomicUpdateSatelliteData;
 import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.core.identifier.SharedStorPoolName;
@@ -73,7 +74,13 @@ public interface CtrlStltSerializer extends CommonSerializer
             long updateId
         );
         CtrlStltSerializerBuilder deletedNode(String nodeNameStr, long fullSyncTimestamp, long updateId);
-        CtrlStltSerializerBuilder resource(Resource localResource, long fullSyncTimestamp, long updateId);
+        CtrlStltSerializerBuilder resource(
+            Resource localResource,
+            long fullSyncTimestamp,
+            long updateId,
+            long deltaVersion
+        );
+        CtrlStltSerializerBuilder resourceDelta(RscDeltaPojo rscDelta, long fullSyncTimestamp, long updateId);
         CtrlStltSerializerBuilder deletedResource(String rscNameStr, long fullSyncTimestamp, long updateId);
         CtrlStltSerializerBuilder storPool(StorPool storPool, long fullSyncTimestamp, long updateId);
 
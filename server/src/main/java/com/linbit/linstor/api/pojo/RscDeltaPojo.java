@@ -0,0 +1,176 @@
+package com.linbit.linstor.api.pojo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Property and flag changes of a resource definition (including its volume definitions, resources and volumes)
+ * between two delta versions. The satellite may only apply this delta if its local copy of the resource
+ * definition is exactly at {@link #getBaseVersion()}.
+ */
+public class RscDeltaPojo
+{
+    private final String rscName;
+    private final long baseVersion;
+    private final long version;
+    private final PropsDeltaPojo rscDfnProps;
+    private final long rscDfnFlags;
+    private final List<VlmDeltaPojo> vlmDfns;
+    private final List<RscOnNodeDeltaPojo> rscs;
+
+    public RscDeltaPojo(
+        String rscNameRef,
+        long baseVersionRef,
+        long versionRef,
+        PropsDeltaPojo rscDfnPropsRef,
+        long rscDfnFlagsRef,
+        List<VlmDeltaPojo> vlmDfnsRef,
+        List<RscOnNodeDeltaPojo> rscsRef
+    )
+    {
+        rscName = rscNameRef;
+        baseVersion = baseVersionRef;
+        version = versionRef;
+        rscDfnProps = rscDfnPropsRef;
+        rscDfnFlags = rscDfnFlagsRef;
+        vlmDfns = Collections.unmodifiableList(vlmDfnsRef);
+        rscs = Collections.unmodifiableList(rscsRef);
+    }
+
+    public String getRscName()
+    {
+        return rscName;
+    }
+
+    public long getBaseVersion()
+    {
+        return baseVersion;
+    }
+
+    public long getVersion()
+    {
+        return version;
+    }
+
+    public PropsDeltaPojo getRscDfnProps()
+    {
+        return rscDfnProps;
+    }
+
+    public long getRscDfnFlags()
+    {
+        return rscDfnFlags;
+    }
+
+    public List<VlmDeltaPojo> getVlmDfns()
+    {
+        return vlmDfns;
+    }
+
+    public List<RscOnNodeDeltaPojo> getRscs()
+    {
+        return rscs;
+    }
+
+    public static class PropsDeltaPojo
+    {
+        private final Map<String, String> setProps;
+        private final Set<String> deletedKeys;
+
+        public PropsDeltaPojo(Map<String, String> setPropsRef, Set<String> deletedKeysRef)
+        {
+            setProps = Collections.unmodifiableMap(setPropsRef);
+            deletedKeys = Collections.unmodifiableSet(deletedKeysRef);
+        }
+
+        public Map<String, String> getSetProps()
+        {
+            return setProps;
+        }
+
+        public Set<String> getDeletedKeys()
+        {
+            return deletedKeys;
+        }
+
+        public boolean isEmpty()
+        {
+            return setProps.isEmpty() && deletedKeys.isEmpty();
+        }
+    }
+
+    /**
+     * Used for volume definitions as well as for volumes of a {@link RscOnNodeDeltaPojo}
+     */
+    public static class VlmDeltaPojo
+    {
+        private final int vlmNr;
+        private final PropsDeltaPojo props;
+        private final long flags;
+
+        public VlmDeltaPojo(int vlmNrRef, PropsDeltaPojo propsRef, long flagsRef)
+        {
+            vlmNr = vlmNrRef;
+            props = propsRef;
+            flags = flagsRef;
+        }
+
+        public int getVlmNr()
+        {
+            return vlmNr;
+        }
+
+        public PropsDeltaPojo getProps()
+        {
+            return props;
+        }
+
+        public long getFlags()
+        {
+            return flags;
+        }
+    }
+
+    public static class RscOnNodeDeltaPojo
+    {
+        private final String nodeName;
+        private final PropsDeltaPojo props;
+        private final long flags;
+        private final List<VlmDeltaPojo> vlms;
+
+        public RscOnNodeDeltaPojo(
+            String nodeNameRef,
+            PropsDeltaPojo propsRef,
+            long flagsRef,
+            List<VlmDeltaPojo> vlmsRef
+        )
+        {
+            nodeName = nodeNameRef;
+            props = propsRef;
+            flags = flagsRef;
+            vlms = Collections.unmodifiableList(vlmsRef);
+        }
+
+        public String getNodeName()
+        {
+            return nodeName;
+        }
+
+        public PropsDeltaPojo getProps()
+        {
+            return props;
+        }
+
+        public long getFlags()
+        {
+            return flags;
+        }
+
+        public List<VlmDeltaPojo> getVlms()
+        {
+            return vlms;
+        }
+    }
+}
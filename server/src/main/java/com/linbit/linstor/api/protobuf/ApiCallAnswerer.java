@@ -14,6 +14,7 @@ import javax.inject.Singleton;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 @Singleton
 public class ApiCallAnswerer
@@ -48,9 +49,9 @@ public class ApiCallAnswerer
 
     public void answerApiCallRc(ApiCallRc apiCallRc)
     {
-        byte[] apiCallMsgData = commonSerializer.answerBuilder(ApiConsts.API_REPLY, apiCallIdProvider.get())
+        ByteBuffer apiCallMsgData = commonSerializer.answerBuilder(ApiConsts.API_REPLY, apiCallIdProvider.get())
             .apiCallRcSeries(apiCallRc)
-            .build();
+            .buildBuffer();
 
         peerProvider.get().sendMessage(apiCallMsgData);
     }
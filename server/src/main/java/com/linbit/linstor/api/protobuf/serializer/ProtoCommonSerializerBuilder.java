@@ -62,12 +62,14 @@ import com.linbit.linstor.core.objects.StorPoolDefinition;
 import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.core.objects.VolumeDefinition;
 import com.linbit.linstor.core.types.TcpPortNumber;
+import com.linbit.linstor.event.EventBatcher;
 import com.linbit.linstor.event.EventIdentifier;
 import com.linbit.linstor.event.common.ResourceState;
 import com.linbit.linstor.layer.LayerIgnoreReason;
 import com.linbit.linstor.logging.ErrorReport;
 import com.linbit.linstor.logging.ErrorReportResult;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.MessageBufferPool;
 import com.linbit.linstor.proto.MsgHeaderOuterClass;
 import com.linbit.linstor.proto.common.ApiCallResponseOuterClass;
 import com.linbit.linstor.proto.common.BCacheRscOuterClass.BCacheRsc;
@@ -135,6 +137,8 @@ import com.linbit.linstor.proto.eventdata.EventRscStateOuterClass.EventRscState.
 import com.linbit.linstor.proto.eventdata.EventRscStateOuterClass.PeerState;
 import com.linbit.linstor.proto.eventdata.EventVlmDiskStateOuterClass;
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntAuthResponseOuterClass.MsgIntAuthResponse;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntEventBatchOuterClass.MsgIntBatchedEvent;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntEventBatchOuterClass.MsgIntEventBatch;
 import com.linbit.linstor.proto.requests.MsgDelErrorReportsOuterClass.MsgDelErrorReports;
 import com.linbit.linstor.proto.requests.MsgReqDrbdReactorExecOuterClass.DrbdReactorCommand;
 import com.linbit.linstor.proto.requests.MsgReqDrbdReactorExecOuterClass.MsgReqDrbdReactorExec;
@@ -162,6 +166,8 @@ import com.linbit.utils.TimeUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -222,6 +228,47 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
         return ret;
     }
 
+    @Override
+    public ByteBuffer buildBuffer()
+    {
+        ByteBuffer ret;
+        if (exceptionoccurred)
+        {
+            ret = ByteBuffer.allocate(0); // do not send corrupted data
+        }
+        else
+        {
+            final ByteBuffer buffer = MessageBufferPool.getInstance().acquire(baos.size());
+            try
+            {
+                // copies the serialized data straight into the pooled buffer, without the intermediate byte[]
+                baos.writeTo(
+                    new OutputStream()
+                    {
+                        @Override
+                        public void write(int data)
+                        {
+                            buffer.put((byte) data);
+                        }
+
+                        @Override
+                        public void write(byte[] data, int offset, int length)
+                        {
+                            buffer.put(data, offset, length);
+                        }
+                    }
+                );
+            }
+            catch (IOException exc)
+            {
+                throw new ImplementationError(exc);
+            }
+            buffer.flip();
+            ret = buffer;
+        }
+        return ret;
+    }
+
     private void header(@Nullable String msgContent, Long apiCallId, boolean isAnswer) throws IOException
     {
         MsgHeaderOuterClass.MsgHeader.Builder headerBuilder = MsgHeaderOuterClass.MsgHeader.newBuilder();
@@ -511,45 +558,80 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
     {
         try
         {
-            MsgEventOuterClass.MsgEvent.Builder eventBuilder = MsgEventOuterClass.MsgEvent.newBuilder();
-
-            eventBuilder
-                .setWatchId(watchId)
-                .setEventAction(eventStreamAction)
-                .setEventName(eventIdentifier.getEventName());
+            buildMsgEvent(watchId, eventIdentifier, eventStreamAction).writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
+        return this;
+    }
 
-            if (eventIdentifier.getResourceName() != null)
+    @Override
+    public CommonSerializer.CommonSerializerBuilder eventBatch(List<EventBatcher.BatchedEvent> events)
+    {
+        try
+        {
+            MsgIntEventBatch.Builder batchBuilder = MsgIntEventBatch.newBuilder();
+            for (EventBatcher.BatchedEvent event : events)
             {
-                eventBuilder.setResourceName(eventIdentifier.getResourceName().displayValue);
+                MsgIntBatchedEvent.Builder eventBuilder = MsgIntBatchedEvent.newBuilder()
+                    .setEvent(buildMsgEvent(event.watchId(), event.eventIdentifier(), event.eventStreamAction()));
+                @Nullable byte[] value = event.value();
+                if (value != null)
+                {
+                    eventBuilder.setEventData(ByteString.copyFrom(value));
+                }
+                batchBuilder.addEvents(eventBuilder);
             }
+            batchBuilder.build().writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
+        return this;
+    }
 
-            if (eventIdentifier.getNodeName() != null)
-            {
-                eventBuilder.setNodeName(eventIdentifier.getNodeName().displayValue);
-            }
+    private static MsgEventOuterClass.MsgEvent buildMsgEvent(
+        Integer watchId,
+        EventIdentifier eventIdentifier,
+        String eventStreamAction
+    )
+    {
+        MsgEventOuterClass.MsgEvent.Builder eventBuilder = MsgEventOuterClass.MsgEvent.newBuilder();
 
-            if (eventIdentifier.getVolumeNumber() != null)
-            {
-                eventBuilder.setVolumeNumber(eventIdentifier.getVolumeNumber().value);
-            }
+        eventBuilder
+            .setWatchId(watchId)
+            .setEventAction(eventStreamAction)
+            .setEventName(eventIdentifier.getEventName());
 
-            if (eventIdentifier.getSnapshotName() != null)
-            {
-                eventBuilder.setSnapshotName(eventIdentifier.getSnapshotName().displayValue);
-            }
+        if (eventIdentifier.getResourceName() != null)
+        {
+            eventBuilder.setResourceName(eventIdentifier.getResourceName().displayValue);
+        }
 
-            if (eventIdentifier.getPeerNodeName() != null)
-            {
-                eventBuilder.setPeerName(eventIdentifier.getPeerNodeName().displayValue);
-            }
+        if (eventIdentifier.getNodeName() != null)
+        {
+            eventBuilder.setNodeName(eventIdentifier.getNodeName().displayValue);
+        }
 
-            eventBuilder.build().writeDelimitedTo(baos);
+        if (eventIdentifier.getVolumeNumber() != null)
+        {
+            eventBuilder.setVolumeNumber(eventIdentifier.getVolumeNumber().value);
         }
-        catch (IOException exc)
+
+        if (eventIdentifier.getSnapshotName() != null)
         {
-            handleIOException(exc);
+            eventBuilder.setSnapshotName(eventIdentifier.getSnapshotName().displayValue);
         }
-        return this;
+
+        if (eventIdentifier.getPeerNodeName() != null)
+        {
+            eventBuilder.setPeerName(eventIdentifier.getPeerNodeName().displayValue);
+        }
+
+        return eventBuilder.build();
     }
 
     @Override
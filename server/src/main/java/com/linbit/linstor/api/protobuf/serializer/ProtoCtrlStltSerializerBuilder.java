@@ -7,6 +7,7 @@ import com.linbit.linstor.api.SpaceInfo;
 import com.linbit.linstor.api.interfaces.serializer.CommonSerializer.CommonSerializerBuilder;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer.CtrlStltSerializerBuilder;
+import com.linbit.linstor.api.pojo.RscDeltaPojo;
 import com.linbit.linstor.api.protobuf.ProtoUuidUtils;
 import com.linbit.linstor.core.CtrlSecurityObjects;
 import com.linbit.linstor.core.apicallhandler.controller.internal.helpers.AtomicUpdateSatelliteData;
@@ -67,6 +68,10 @@ import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyExternalFileOuterCla
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyFullSyncOuterClass.MsgIntApplyFullSync;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyNodeOuterClass.MsgIntApplyNode;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRemoteOuterClass.MsgIntApplyRemote;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscDeltaOuterClass.IntPropsDelta;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscDeltaOuterClass.IntRscDelta;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscDeltaOuterClass.IntVlmDelta;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscDeltaOuterClass.MsgIntApplyRscDelta;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscOuterClass.MsgIntApplyRsc;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplySharedStorPoolLocksOuterClass.MsgIntApplySharedStorPoolLocks;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplySnapshotOuterClass.MsgIntApplySnapshot;
@@ -397,7 +402,8 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
     public ProtoCtrlStltSerializerBuilder resource(
         Resource localResource,
         long fullSyncTimestamp,
-        long updateId
+        long updateId,
+        long deltaVersion
     )
     {
         try
@@ -406,6 +412,7 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
                 .setRsc(rscSerializerHelper.buildIntResource(localResource, true))
                 .setFullSyncId(fullSyncTimestamp)
                 .setUpdateId(updateId)
+                .setDeltaVersion(deltaVersion)
                 .build()
                 .writeDelimitedTo(baos);
         }
@@ -416,6 +423,65 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         return this;
     }
 
+    @Override
+    public ProtoCtrlStltSerializerBuilder resourceDelta(
+        RscDeltaPojo rscDelta,
+        long fullSyncTimestamp,
+        long updateId
+    )
+    {
+        try
+        {
+            MsgIntApplyRscDelta.Builder builder = MsgIntApplyRscDelta.newBuilder()
+                .setRscName(rscDelta.getRscName())
+                .setBaseVersion(rscDelta.getBaseVersion())
+                .setVersion(rscDelta.getVersion())
+                .setRscDfnProps(buildPropsDelta(rscDelta.getRscDfnProps()))
+                .setRscDfnFlags(rscDelta.getRscDfnFlags())
+                .setFullSyncId(fullSyncTimestamp)
+                .setUpdateId(updateId);
+            for (RscDeltaPojo.VlmDeltaPojo vlmDfnDelta : rscDelta.getVlmDfns())
+            {
+                builder.addVlmDfns(buildVlmDelta(vlmDfnDelta));
+            }
+            for (RscDeltaPojo.RscOnNodeDeltaPojo rscOnNodeDelta : rscDelta.getRscs())
+            {
+                IntRscDelta.Builder rscBuilder = IntRscDelta.newBuilder()
+                    .setNodeName(rscOnNodeDelta.getNodeName())
+                    .setProps(buildPropsDelta(rscOnNodeDelta.getProps()))
+                    .setFlags(rscOnNodeDelta.getFlags());
+                for (RscDeltaPojo.VlmDeltaPojo vlmDelta : rscOnNodeDelta.getVlms())
+                {
+                    rscBuilder.addVlms(buildVlmDelta(vlmDelta));
+                }
+                builder.addRscs(rscBuilder);
+            }
+            builder.build().writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
+        return this;
+    }
+
+    private static IntVlmDelta buildVlmDelta(RscDeltaPojo.VlmDeltaPojo vlmDelta)
+    {
+        return IntVlmDelta.newBuilder()
+            .setVlmNr(vlmDelta.getVlmNr())
+            .setProps(buildPropsDelta(vlmDelta.getProps()))
+            .setFlags(vlmDelta.getFlags())
+            .build();
+    }
+
+    private static IntPropsDelta buildPropsDelta(RscDeltaPojo.PropsDeltaPojo propsDelta)
+    {
+        return IntPropsDelta.newBuilder()
+            .putAllSetProps(propsDelta.getSetProps())
+            .addAllDeletedKeys(propsDelta.getDeletedKeys())
+            .build();
+    }
+
     @Override
     public ProtoCtrlStltSerializerBuilder deletedResource(
         String rscNameStr,
@@ -7,7 +7,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import com.moandjiezana.toml.Toml;
@@ -35,6 +37,33 @@ public class StltConfig extends LinstorConfig
      */
     private @Nullable Set<Path> whitelistedExternalFilePaths;
 
+    /*
+     * Device manager
+     */
+    private int devMgrRscWorkers;
+    private int devMgrRscWorkersPerStorPool;
+    private boolean extCmdVirtualThreads;
+
+    /*
+     * Metrics
+     */
+    private boolean metricsEnabled;
+    private @Nullable String metricsBindAddress;
+    private int metricsPort;
+
+    /*
+     * Backup shipping
+     */
+    private int backupS3PartsInFlight;
+    private int backupS3PartRetries;
+    private int backupS3RestoreChunksInFlight;
+    private Map<String, Integer> backupS3RemotePartsInFlight = Collections.emptyMap();
+
+    /*
+     * Events
+     */
+    private long eventBatchFlushIntervalMs;
+
     public StltConfig(String[] argsRef)
     {
         super(argsRef);
@@ -57,6 +86,20 @@ public class StltConfig extends LinstorConfig
         setNetSecureSslProtocol("TLSv1.2");
 
         setExternalFilesWhitelist(Collections.emptySet()); // just to prevent NPE when checking the set with .contains
+
+        setDevMgrRscWorkers(1); // sequential processing of resources
+        setDevMgrRscWorkersPerStorPool(0); // no per-storage-pool limit
+        setExtCmdVirtualThreads(true);
+
+        setMetricsEnabled(false);
+        setMetricsBindAddress("127.0.0.1");
+        setMetricsPort(3372);
+
+        setBackupS3PartsInFlight(4);
+        setBackupS3PartRetries(3);
+        setBackupS3RestoreChunksInFlight(4);
+
+        setEventBatchFlushIntervalMs(100L);
     }
 
     @Override
@@ -278,4 +321,163 @@ public class StltConfig extends LinstorConfig
             }
         }
     }
+
+    public int getDevMgrRscWorkers()
+    {
+        return devMgrRscWorkers;
+    }
+
+    public void setDevMgrRscWorkers(@Nullable Integer devMgrRscWorkersRef)
+    {
+        if (devMgrRscWorkersRef != null)
+        {
+            devMgrRscWorkers = devMgrRscWorkersRef;
+        }
+    }
+
+    public int getDevMgrRscWorkersPerStorPool()
+    {
+        return devMgrRscWorkersPerStorPool;
+    }
+
+    public void setDevMgrRscWorkersPerStorPool(@Nullable Integer devMgrRscWorkersPerStorPoolRef)
+    {
+        if (devMgrRscWorkersPerStorPoolRef != null)
+        {
+            devMgrRscWorkersPerStorPool = devMgrRscWorkersPerStorPoolRef;
+        }
+    }
+
+    public boolean isExtCmdVirtualThreads()
+    {
+        return extCmdVirtualThreads;
+    }
+
+    public void setExtCmdVirtualThreads(@Nullable Boolean extCmdVirtualThreadsRef)
+    {
+        if (extCmdVirtualThreadsRef != null)
+        {
+            extCmdVirtualThreads = extCmdVirtualThreadsRef;
+        }
+    }
+
+    public boolean isMetricsEnabled()
+    {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(@Nullable Boolean metricsEnabledRef)
+    {
+        if (metricsEnabledRef != null)
+        {
+            metricsEnabled = metricsEnabledRef;
+        }
+    }
+
+    public @Nullable String getMetricsBindAddress()
+    {
+        return metricsBindAddress;
+    }
+
+    public void setMetricsBindAddress(@Nullable String metricsBindAddressRef)
+    {
+        if (metricsBindAddressRef != null)
+        {
+            metricsBindAddress = metricsBindAddressRef;
+        }
+    }
+
+    public int getMetricsPort()
+    {
+        return metricsPort;
+    }
+
+    public void setMetricsPort(@Nullable Integer metricsPortRef)
+    {
+        if (metricsPortRef != null)
+        {
+            metricsPort = metricsPortRef;
+        }
+    }
+
+    public int getBackupS3PartsInFlight()
+    {
+        return backupS3PartsInFlight;
+    }
+
+    /**
+     * @return the number of parts uploaded concurrently by a backup shipping to the S3 remote with the given name
+     */
+    public int getBackupS3PartsInFlight(String remoteName)
+    {
+        @Nullable Integer partsInFlight = backupS3RemotePartsInFlight.get(remoteName.toUpperCase());
+        return partsInFlight != null ? partsInFlight : backupS3PartsInFlight;
+    }
+
+    public void setBackupS3PartsInFlight(@Nullable Integer backupS3PartsInFlightRef)
+    {
+        if (backupS3PartsInFlightRef != null)
+        {
+            backupS3PartsInFlight = backupS3PartsInFlightRef;
+        }
+    }
+
+    public void setBackupS3RemotePartsInFlight(@Nullable Map<String, Integer> backupS3RemotePartsInFlightRef)
+    {
+        if (backupS3RemotePartsInFlightRef != null)
+        {
+            Map<String, Integer> partsInFlight = new HashMap<>();
+            for (Map.Entry<String, Integer> entry : backupS3RemotePartsInFlightRef.entrySet())
+            {
+                partsInFlight.put(entry.getKey().toUpperCase(), entry.getValue());
+            }
+            backupS3RemotePartsInFlight = partsInFlight;
+        }
+    }
+
+    public int getBackupS3PartRetries()
+    {
+        return backupS3PartRetries;
+    }
+
+    public void setBackupS3PartRetries(@Nullable Integer backupS3PartRetriesRef)
+    {
+        if (backupS3PartRetriesRef != null)
+        {
+            backupS3PartRetries = backupS3PartRetriesRef;
+        }
+    }
+
+    /**
+     * @return the number of chunks downloaded concurrently when restoring a backup from S3, 0 for a single download
+     */
+    public int getBackupS3RestoreChunksInFlight()
+    {
+        return backupS3RestoreChunksInFlight;
+    }
+
+    public void setBackupS3RestoreChunksInFlight(@Nullable Integer backupS3RestoreChunksInFlightRef)
+    {
+        if (backupS3RestoreChunksInFlightRef != null)
+        {
+            backupS3RestoreChunksInFlight = backupS3RestoreChunksInFlightRef;
+        }
+    }
+
+    /**
+     * @return the interval in which events for the controller are collected and sent as a single message, 0 to send
+     *     each event on its own
+     */
+    public long getEventBatchFlushIntervalMs()
+    {
+        return eventBatchFlushIntervalMs;
+    }
+
+    public void setEventBatchFlushIntervalMs(@Nullable Long eventBatchFlushIntervalMsRef)
+    {
+        if (eventBatchFlushIntervalMsRef != null)
+        {
+            eventBatchFlushIntervalMs = eventBatchFlushIntervalMsRef;
+        }
+    }
 }
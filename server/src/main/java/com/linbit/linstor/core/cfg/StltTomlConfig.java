@@ -2,6 +2,7 @@ package com.linbit.linstor.core.cfg;
 
 import com.linbit.linstor.annotation.Nullable;
 
+import java.util.Map;
 import java.util.Set;
 
 public class StltTomlConfig
@@ -57,14 +58,76 @@ public class StltTomlConfig
         }
     }
 
+    static class DevMgr
+    {
+        private @Nullable Integer rsc_workers;
+        private @Nullable Integer rsc_workers_per_storpool;
+        private @Nullable Boolean ext_cmd_virtual_threads;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setDevMgrRscWorkers(rsc_workers);
+            cfg.setDevMgrRscWorkersPerStorPool(rsc_workers_per_storpool);
+            cfg.setExtCmdVirtualThreads(ext_cmd_virtual_threads);
+        }
+    }
+
+    static class Metrics
+    {
+        private @Nullable Boolean enabled;
+        private @Nullable String bind_address;
+        private @Nullable Integer port;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setMetricsEnabled(enabled);
+            cfg.setMetricsBindAddress(bind_address);
+            cfg.setMetricsPort(port);
+        }
+    }
+
+    static class BackupShipping
+    {
+        private @Nullable Integer s3_parts_in_flight;
+        private @Nullable Integer s3_part_retries;
+        private @Nullable Map<String, Integer> s3_remote_parts_in_flight;
+        private @Nullable Integer s3_restore_chunks_in_flight;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setBackupS3PartsInFlight(s3_parts_in_flight);
+            cfg.setBackupS3PartRetries(s3_part_retries);
+            cfg.setBackupS3RemotePartsInFlight(s3_remote_parts_in_flight);
+            cfg.setBackupS3RestoreChunksInFlight(s3_restore_chunks_in_flight);
+        }
+    }
+
+    static class Events
+    {
+        private @Nullable Long batch_flush_interval_ms;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setEventBatchFlushIntervalMs(batch_flush_interval_ms);
+        }
+    }
+
     private NETCOM netcom = new NETCOM();
     private Logging logging = new Logging();
     private Files files = new Files();
+    private DevMgr devmgr = new DevMgr();
+    private Metrics metrics = new Metrics();
+    private BackupShipping backup_shipping = new BackupShipping();
+    private Events events = new Events();
 
     public void applyTo(StltConfig cfg)
     {
         netcom.applyTo(cfg);
         logging.applyTo(cfg);
         files.applyTo(cfg);
+        devmgr.applyTo(cfg);
+        metrics.applyTo(cfg);
+        backup_shipping.applyTo(cfg);
+        events.applyTo(cfg);
     }
 }
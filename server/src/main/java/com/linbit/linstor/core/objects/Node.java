@@ -36,6 +36,7 @@ import com.linbit.linstor.stateflags.FlagsHelper;
 import com.linbit.linstor.stateflags.StateFlags;
 import com.linbit.linstor.storage.ProcCryptoEntry;
 import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+import com.linbit.linstor.transaction.ChangeSequence;
 import com.linbit.linstor.transaction.TransactionMap;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
@@ -610,6 +611,7 @@ public class Node extends AbsCoreObj<Node> implements NodeInfo
         checkDeleted();
         peer = peerRef;
         reconnectAttemptCount += 1;
+        ChangeSequence.next();
     }
 
     public long getReconnectAttemptCount()
@@ -0,0 +1,80 @@
+package com.linbit.linstor.event;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coalesces the events collected during one flush interval of a batched watch.
+ *
+ * Only the latest value of each event stream is kept. Closing a stream is never dropped, and values sent after a
+ * stream was closed (i.e. after the object was re-created) stay behind the close, so the receiver sees streams being
+ * closed and opened in the original order.
+ */
+public final class EventBatcher
+{
+    public record BatchedEvent(
+        Integer watchId,
+        EventIdentifier eventIdentifier,
+        String eventStreamAction,
+        @Nullable byte[] value
+    )
+    {
+        boolean isValue()
+        {
+            return eventStreamAction.equals(InternalApiConsts.EVENT_STREAM_VALUE);
+        }
+    }
+
+    private EventBatcher()
+    {
+        // utils-class, do not allow instance
+    }
+
+    /**
+     * @param events the events in the order in which they were emitted
+     *
+     * @return the events to send, in order
+     */
+    public static List<BatchedEvent> coalesce(List<BatchedEvent> events)
+    {
+        List<BatchedEvent> ret = new ArrayList<>(events.size());
+        // index in ret of the pending value of each stream, as long as the stream was not closed after it
+        Map<EventIdentifier, Integer> valueIdx = new HashMap<>();
+        for (BatchedEvent event : events)
+        {
+            EventIdentifier eventId = event.eventIdentifier();
+            if (event.isValue())
+            {
+                @Nullable Integer idx = valueIdx.get(eventId);
+                if (idx == null)
+                {
+                    valueIdx.put(eventId, ret.size());
+                    ret.add(event);
+                }
+                else
+                {
+                    ret.set(idx, event);
+                    LinstorServerMetrics.eventSavedMessages.labels(eventId.getEventName(), "coalesced").inc();
+                }
+            }
+            else
+            {
+                valueIdx.remove(eventId);
+                ret.add(event);
+            }
+        }
+        // all but the first event of the batch are sent without a message of their own
+        for (int idx = 1; idx < ret.size(); idx++)
+        {
+            String eventName = ret.get(idx).eventIdentifier().getEventName();
+            LinstorServerMetrics.eventSavedMessages.labels(eventName, "batched").inc();
+        }
+        return ret;
+    }
+}
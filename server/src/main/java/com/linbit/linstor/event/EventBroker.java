@@ -3,6 +3,7 @@ package com.linbit.linstor.event;
 import com.linbit.ImplementationError;
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.LinStorDataAlreadyExistsException;
+import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
 import com.linbit.linstor.event.serializer.EventSerializer;
@@ -13,12 +14,14 @@ import com.linbit.linstor.netcom.PeerNotConnectedException;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
@@ -56,6 +59,31 @@ public class EventBroker
      * Add a watch and send initial state for all relevant events.
      */
     public void createWatch(Peer peer, Watch watch)
+    {
+        createWatch(peer, watch, events -> events.map(this::serializeEvent));
+    }
+
+    /**
+     * Like {@link #createWatch(Peer, Watch)}, but collects the events of each flush interval and sends them in a
+     * single {@link InternalApiConsts#API_EVENT_BATCH} message, keeping only the latest value of each event stream.
+     */
+    public void createBatchedWatch(Peer peer, Watch watch, Duration flushInterval)
+    {
+        createWatch(
+            peer,
+            watch,
+            events -> events
+                .buffer(flushInterval)
+                .filter(batch -> !batch.isEmpty())
+                .map(batch -> serializeBatch(EventBatcher.coalesce(batch)))
+        );
+    }
+
+    private void createWatch(
+        Peer peer,
+        Watch watch,
+        Function<Flux<EventBatcher.BatchedEvent>, Flux<byte[]>> serializer
+    )
     {
         errorReporter.logTrace("Create watch for: %s", watch.getEventIdentifier());
         watchLock.lock();
@@ -63,7 +91,7 @@ public class EventBroker
         {
             Collection<String> eventNames = getMatchingEventNames(watch.getEventIdentifier().getEventName());
 
-            List<Flux<byte[]>> watchStreams = new ArrayList<>();
+            List<Flux<EventBatcher.BatchedEvent>> watchStreams = new ArrayList<>();
 
             for (String eventName : eventNames)
             {
@@ -79,7 +107,7 @@ public class EventBroker
                     createWatchForEvent(watch, eventSerializer.get(), eventSerializerDescriptor.getEventName()));
             }
 
-            Flux<byte[]> mergedStreams = Flux.merge(watchStreams);
+            Flux<byte[]> mergedStreams = serializer.apply(Flux.merge(watchStreams));
 
             Disposable disposable = mergedStreams
                 .subscribe(
@@ -131,7 +159,7 @@ public class EventBroker
         errorReporter.logTrace("Event 'connection closed' end: %s", peer);
     }
 
-    private <T> Flux<byte[]> createWatchForEvent(
+    private <T> Flux<EventBatcher.BatchedEvent> createWatchForEvent(
         Watch watch,
         EventSerializer.Serializer<T> eventSerializer,
         String eventName
@@ -139,10 +167,10 @@ public class EventBroker
     {
         return eventSerializer.getEvent()
             .watchForStreams(watch.getEventIdentifier().getObjectIdentifier())
-            .map(objectSignal -> serializeSignal(watch.getPeerWatchId(), eventSerializer, eventName, objectSignal));
+            .map(objectSignal -> toBatchedEvent(watch.getPeerWatchId(), eventSerializer, eventName, objectSignal));
     }
 
-    private <T> byte[] serializeSignal(
+    private <T> EventBatcher.BatchedEvent toBatchedEvent(
         Integer peerWatchId,
         EventSerializer.Serializer<T> eventSerializer,
         String eventName,
@@ -152,30 +180,62 @@ public class EventBroker
         EventIdentifier eventIdentifier = new EventIdentifier(eventName, objectSignal.getObjectIdentifier());
         Signal<T> signal = objectSignal.getSignal();
 
-        CommonSerializer.CommonSerializerBuilder builder = commonSerializer.onewayBuilder(ApiConsts.API_EVENT);
+        EventBatcher.BatchedEvent event;
         if (signal.isOnNext())
         {
-            builder
-                .event(peerWatchId, eventIdentifier, InternalApiConsts.EVENT_STREAM_VALUE)
-                .bytes(eventSerializer.writeEventValue(signal.get()));
+            event = new EventBatcher.BatchedEvent(
+                peerWatchId,
+                eventIdentifier,
+                InternalApiConsts.EVENT_STREAM_VALUE,
+                eventSerializer.writeEventValue(signal.get())
+            );
         }
         else
         if (signal.isOnComplete())
         {
-            builder.event(peerWatchId, eventIdentifier, InternalApiConsts.EVENT_STREAM_CLOSE_REMOVED);
+            event = new EventBatcher.BatchedEvent(
+                peerWatchId,
+                eventIdentifier,
+                InternalApiConsts.EVENT_STREAM_CLOSE_REMOVED,
+                null
+            );
         }
         else
         if (signal.isOnError() && signal.getThrowable() instanceof PeerNotConnectedException)
         {
-            builder.event(peerWatchId, eventIdentifier, InternalApiConsts.EVENT_STREAM_CLOSE_NO_CONNECTION);
+            event = new EventBatcher.BatchedEvent(
+                peerWatchId,
+                eventIdentifier,
+                InternalApiConsts.EVENT_STREAM_CLOSE_NO_CONNECTION,
+                null
+            );
         }
         else
         {
             throw new ImplementationError("Unexpected event signal " + signal);
         }
+        return event;
+    }
+
+    private byte[] serializeEvent(EventBatcher.BatchedEvent event)
+    {
+        CommonSerializer.CommonSerializerBuilder builder = commonSerializer.onewayBuilder(ApiConsts.API_EVENT)
+            .event(event.watchId(), event.eventIdentifier(), event.eventStreamAction());
+        @Nullable byte[] value = event.value();
+        if (value != null)
+        {
+            builder.bytes(value);
+        }
         return builder.build();
     }
 
+    private byte[] serializeBatch(List<EventBatcher.BatchedEvent> events)
+    {
+        return commonSerializer.onewayBuilder(InternalApiConsts.API_EVENT_BATCH)
+            .eventBatch(events)
+            .build();
+    }
+
     private Collection<String> getMatchingEventNames(String eventName)
     {
         return eventName == null || eventName.isEmpty() ? eventSerializers.keySet() : Collections.singleton(eventName);
@@ -4,6 +4,7 @@ import com.linbit.ImplementationError;
 import com.linbit.InvalidNameException;
 import com.linbit.ValueOutOfRangeException;
 import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.LinStorScope;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.identifier.NodeName;
@@ -30,6 +31,8 @@ import javax.inject.Singleton;
 
 import java.io.InputStream;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -172,6 +175,27 @@ public class EventProcessor
         String peerNodeNameStr,
         InputStream eventDataIn
     )
+    {
+        return handleEvents(
+            Collections.singletonList(
+                new IncomingEvent(
+                    eventAction,
+                    eventName,
+                    resourceNameStr,
+                    volumeNr,
+                    snapshotNameStr,
+                    peerNodeNameStr,
+                    eventDataIn
+                )
+            )
+        );
+    }
+
+    /**
+     * Handles several events of the current peer, in order, with a single lock.
+     * Every event is committed on its own, a failing event only rolls back its own changes.
+     */
+    public Flux<?> handleEvents(List<IncomingEvent> events)
     {
         return scopeRunner.fluxInTransactionalScope(
             "Handle event",
@@ -179,46 +203,43 @@ public class EventProcessor
                 .write(NODES_MAP, RSC_DFN_MAP)
                 .postLinstorLocks(eventHandlingLock)
                 .build(),
-            () -> handleEventInTransaction(
-                eventAction,
-                eventName,
-                resourceNameStr,
-                volumeNr,
-                snapshotNameStr,
-                peerNodeNameStr,
-                eventDataIn
-            ),
+            () -> handleEventsInTransaction(events),
             MDC.getCopyOfContextMap()
         );
     }
 
-    private Flux<?> handleEventInTransaction(
-        String eventAction,
-        String eventName,
-        String resourceNameStr,
-        Integer volumeNr,
-        String snapshotNameStr,
-        String peerNodeNameStr,
-        InputStream eventDataIn
-    )
+    private Flux<?> handleEventsInTransaction(List<IncomingEvent> events)
+    {
+        for (IncomingEvent event : events)
+        {
+            handleEventInTransaction(event);
+        }
+        return Flux.empty();
+    }
+
+    private void handleEventInTransaction(IncomingEvent event)
     {
         try
         {
-            Provider<EventHandler> eventHandlerProvider = eventHandlers.get(eventName);
+            Provider<EventHandler> eventHandlerProvider = eventHandlers.get(event.eventName());
             if (eventHandlerProvider == null)
             {
-                errorReporter.logWarning("Unknown event '%s' received", eventName);
+                errorReporter.logWarning("Unknown event '%s' received", event.eventName());
             }
             else
             {
-                ResourceName resourceName = resourceNameStr != null ? new ResourceName(resourceNameStr) : null;
-                VolumeNumber volumeNumber = volumeNr != null ? new VolumeNumber(volumeNr) : null;
-                SnapshotName snapshotName = snapshotNameStr != null ? new SnapshotName(snapshotNameStr) : null;
-                NodeName peerNodeName = peerNodeNameStr != null ? new NodeName(peerNodeNameStr) : null;
+                ResourceName resourceName = event.resourceNameStr() != null ?
+                    new ResourceName(event.resourceNameStr()) :
+                    null;
+                VolumeNumber volumeNumber = event.volumeNr() != null ? new VolumeNumber(event.volumeNr()) : null;
+                SnapshotName snapshotName = event.snapshotNameStr() != null ?
+                    new SnapshotName(event.snapshotNameStr()) :
+                    null;
+                NodeName peerNodeName = event.peerNodeNameStr() != null ? new NodeName(event.peerNodeNameStr()) : null;
 
                 Peer peer = peerProvider.get();
                 EventIdentifier eventIdentifier = new EventIdentifier(
-                    eventName,
+                    event.eventName(),
                     new ObjectIdentifier(
                         peer.getNode().getName(),
                         resourceName,
@@ -230,8 +251,9 @@ public class EventProcessor
 
                 incomingEventStreamStore.addEventStreamIfNew(eventIdentifier);
 
+                String eventAction = event.eventAction();
                 errorReporter.logTrace("Peer %s, event '%s' %s", peer, eventIdentifier, eventAction);
-                eventHandlerProvider.get().execute(eventAction, eventIdentifier, eventDataIn);
+                eventHandlerProvider.get().execute(eventAction, eventIdentifier, event.eventDataIn());
 
                 if (eventAction.equals(InternalApiConsts.EVENT_STREAM_CLOSE_REMOVED))
                 {
@@ -247,8 +269,9 @@ public class EventProcessor
         catch (Exception | ImplementationError exc)
         {
             errorReporter.reportError(exc);
+            // do not commit partial changes of this event together with the next events of the batch
+            rollbackIfNeeded(transMgrProvider.get());
         }
-        return Flux.empty();
     }
 
     private void commit(TransactionMgr transMgr)
@@ -262,29 +285,50 @@ public class EventProcessor
             catch (TransactionException sqlExc)
             {
                 errorReporter.reportError(sqlExc);
-                rollbackIfNeededAndCloseConn(transMgr);
+                // the connection is still needed by the remaining events, it is returned by the owner of the scope
+                rollbackIfNeeded(transMgr);
             }
         }
     }
 
-    private void rollbackIfNeededAndCloseConn(TransactionMgr transMgr)
+    private void rollbackIfNeeded(TransactionMgr transMgr)
     {
-        if (transMgr != null)
+        if (transMgr != null && transMgr.isDirty())
         {
-            if (transMgr.isDirty())
+            try
             {
-                try
-                {
-                    transMgr.rollback();
-                }
-                catch (TransactionException exc)
-                {
-                    errorReporter.reportError(exc);
-                    // TODO: needs a better panic-shutdown to prevent DB corruption
-                    System.exit(1);
-                }
+                transMgr.rollback();
             }
+            catch (TransactionException exc)
+            {
+                errorReporter.reportError(exc);
+                // TODO: needs a better panic-shutdown to prevent DB corruption
+                System.exit(1);
+            }
+        }
+    }
+
+    private void rollbackIfNeededAndCloseConn(TransactionMgr transMgr)
+    {
+        if (transMgr != null)
+        {
+            rollbackIfNeeded(transMgr);
             transMgr.returnConnection();
         }
     }
+
+    /**
+     * An event received from a satellite, either on its own or as part of a batch
+     */
+    public record IncomingEvent(
+        String eventAction,
+        String eventName,
+        @Nullable String resourceNameStr,
+        @Nullable Integer volumeNr,
+        @Nullable String snapshotNameStr,
+        @Nullable String peerNodeNameStr,
+        InputStream eventDataIn
+    )
+    {
+    }
 }
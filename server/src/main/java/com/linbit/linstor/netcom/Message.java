@@ -28,9 +28,34 @@ public interface Message
 
     void setData(byte[] data) throws IllegalMessageStateException;
 
+    /**
+     * Sets an already serialized data buffer (position 0, limit at the end of the data) for sending.
+     * The message takes ownership of the buffer and returns it to the {@link MessageBufferPool} in
+     * {@link #releaseBuffers()}.
+     */
+    void setData(ByteBuffer data) throws IllegalMessageStateException;
+
+    /**
+     * Prepares a (pooled) data buffer of the given size for receiving the message's data
+     */
+    void allocateData(int size) throws IllegalMessageStateException;
+
+    int getDataLength() throws IllegalMessageStateException;
+
     int getType() throws IllegalMessageStateException;
 
     ByteBuffer getHeaderBuffer();
 
     ByteBuffer getDataBuffer() throws IllegalMessageStateException;
+
+    /**
+     * Returns the pooled buffers of this message to the {@link MessageBufferPool}. Must be called exactly once,
+     * after the message was completely sent or received.
+     * The data of inbound messages is copied out of the pooled buffer first, so {@link #getData()} and
+     * {@link #getType()} can still be used afterwards.
+     */
+    default void releaseBuffers()
+    {
+        // no pooled buffers by default
+    }
 }
@@ -0,0 +1,96 @@
+package com.linbit.linstor.netcom;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Size-classed pool of direct ByteBuffers used for the header and data buffers of network messages.
+ *
+ * Buffer capacities are powers of two, starting at {@link Message#HEADER_SIZE} bytes up to
+ * {@link #MAX_POOLED_SIZE}. Requests for larger buffers are served with non-pooled heap buffers, since those
+ * only occur rarely (e.g. full sync of a very large satellite) and allocating direct memory of that size
+ * for every such message would be more expensive than the copy it saves.
+ *
+ * Each size class only retains a limited amount of memory. Buffers that are not returned to the pool (for
+ * example because the connection was closed while the message was still queued) are simply reclaimed by the
+ * garbage collector.
+ */
+public final class MessageBufferPool
+{
+    // 4 MiB == 0x400000
+    public static final int MAX_POOLED_SIZE = 0x400000;
+
+    // At most 16 MiB are retained per size class
+    private static final int MAX_RETAINED_BYTES_PER_CLASS = 0x1000000;
+    private static final int MAX_BUFFERS_PER_CLASS = 256;
+
+    private static final int MIN_CLASS_SHIFT = Integer.numberOfTrailingZeros(Message.HEADER_SIZE);
+    private static final int MAX_CLASS_SHIFT = Integer.numberOfTrailingZeros(MAX_POOLED_SIZE);
+
+    private static final MessageBufferPool INSTANCE = new MessageBufferPool();
+
+    private final ArrayBlockingQueue<ByteBuffer>[] sizeClasses;
+
+    @SuppressWarnings("unchecked")
+    private MessageBufferPool()
+    {
+        sizeClasses = new ArrayBlockingQueue[MAX_CLASS_SHIFT - MIN_CLASS_SHIFT + 1];
+        for (int idx = 0; idx < sizeClasses.length; ++idx)
+        {
+            int classSize = 1 << (idx + MIN_CLASS_SHIFT);
+            int capacity = Math.max(1, Math.min(MAX_BUFFERS_PER_CLASS, MAX_RETAINED_BYTES_PER_CLASS / classSize));
+            sizeClasses[idx] = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    public static MessageBufferPool getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a buffer with position 0 and a limit of exactly <code>size</code> bytes. The capacity of the
+     * returned buffer might be larger than <code>size</code>.
+     */
+    public ByteBuffer acquire(int size)
+    {
+        ByteBuffer buffer;
+        if (size > MAX_POOLED_SIZE)
+        {
+            buffer = ByteBuffer.allocate(size);
+        }
+        else
+        {
+            int idx = getClassIndex(size);
+            buffer = sizeClasses[idx].poll();
+            if (buffer == null)
+            {
+                buffer = ByteBuffer.allocateDirect(1 << (idx + MIN_CLASS_SHIFT));
+            }
+            buffer.clear();
+            buffer.limit(size);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns the given buffer to the pool. Buffers that were not acquired from this pool are ignored.
+     * The caller must not access the buffer (or any of its views) afterwards.
+     */
+    public void release(ByteBuffer buffer)
+    {
+        int capacity = buffer.capacity();
+        if (buffer.isDirect() && !buffer.isReadOnly() && Integer.bitCount(capacity) == 1 &&
+            capacity >= Message.HEADER_SIZE && capacity <= MAX_POOLED_SIZE)
+        {
+            // if the size class is already full, the buffer is left to the garbage collector
+            sizeClasses[Integer.numberOfTrailingZeros(capacity) - MIN_CLASS_SHIFT].offer(buffer);
+        }
+    }
+
+    private static int getClassIndex(int size)
+    {
+        int shift = size <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+        return Math.max(shift, MIN_CLASS_SHIFT) - MIN_CLASS_SHIFT;
+    }
+}
@@ -3,29 +3,39 @@ package com.linbit.linstor.netcom;
 import com.linbit.linstor.annotation.Nullable;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 
 /**
  * Abstract implementation of a message containing the plain data and header bytes
  * already wrapped in ByteBuffers for easier handling and some error checking.
+ *
+ * The header and data buffers are taken from the {@link MessageBufferPool} and have to be returned by calling
+ * {@link #releaseBuffers()} once the message was completely sent or received.
  */
 public class MessageData implements Message
 {
-    // TODO: Use ByteBuffer.allocateDirect(...) instead of ByteBuffer.wrap(...)
-    protected final ByteBuffer headerBuffer;
+    private final MessageBufferPool bufferPool;
+
+    protected @Nullable ByteBuffer headerBuffer;
     protected @Nullable ByteBuffer dataBuffer;
 
-    protected final byte[] headerBytes;
     protected @Nullable byte[] dataBytes;
 
-    private boolean forSend;
+    private final boolean forSend;
+    private boolean released = false;
+    private int type;
+    private int dataLength;
 
     public MessageData(boolean forSendRef)
+    {
+        this(forSendRef, MessageBufferPool.getInstance());
+    }
+
+    public MessageData(boolean forSendRef, MessageBufferPool bufferPoolRef)
     {
         forSend = forSendRef;
+        bufferPool = bufferPoolRef;
 
-        headerBytes = new byte[HEADER_SIZE];
-        headerBuffer = ByteBuffer.wrap(headerBytes);
+        headerBuffer = bufferPool.acquire(HEADER_SIZE);
         reset();
     }
 
@@ -34,9 +44,13 @@ public class MessageData implements Message
     {
         if (dataBytes == null)
         {
-            throw new IllegalMessageStateException(
-                "Attempt to fetch content data from a message that is not ready for processing"
-            );
+            if (dataBuffer == null)
+            {
+                throw new IllegalMessageStateException(
+                    "Attempt to fetch content data from a message that is not ready for processing"
+                );
+            }
+            dataBytes = copyData(dataBuffer);
         }
         return dataBytes;
     }
@@ -44,30 +58,61 @@ public class MessageData implements Message
     @Override
     public void setData(byte[] data) throws IllegalMessageStateException
     {
+        setData(ByteBuffer.wrap(data));
         dataBytes = data;
-        dataBuffer = ByteBuffer.wrap(data);
+    }
+
+    @Override
+    public void setData(ByteBuffer data) throws IllegalMessageStateException
+    {
+        ensureNotReleased();
+        releaseDataBuffer();
+        dataBytes = null;
+        dataBuffer = data;
+        dataLength = data.limit();
         if (forSend)
         {
-            headerBuffer.putInt(LENGTH_FIELD_OFFSET, data.length);
+            headerBuffer.putInt(LENGTH_FIELD_OFFSET, dataLength);
         }
     }
 
+    @Override
+    public void allocateData(int size) throws IllegalMessageStateException
+    {
+        setData(bufferPool.acquire(size));
+    }
+
+    @Override
+    public int getDataLength()
+    {
+        return dataLength;
+    }
+
     @Override
     public int getType() throws IllegalMessageStateException
     {
-        return headerBuffer.getInt(TYPE_FIELD_OFFSET);
+        return released ? type : headerBuffer.getInt(TYPE_FIELD_OFFSET);
     }
 
     protected final void reset()
     {
-        Arrays.fill(headerBytes, (byte) 0);
+        headerBuffer.putLong(0, 0L);
+        headerBuffer.putLong(Long.BYTES, 0L);
         dataBytes = null;
         dataBuffer = null;
+        dataLength = 0;
     }
 
     @Override
     public ByteBuffer getHeaderBuffer()
     {
+        if (released)
+        {
+            // rebuilt on demand, the pooled header buffer is no longer ours
+            return ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(TYPE_FIELD_OFFSET, type)
+                .putInt(LENGTH_FIELD_OFFSET, dataLength);
+        }
         return headerBuffer;
     }
 
@@ -76,4 +121,59 @@ public class MessageData implements Message
     {
         return dataBuffer;
     }
+
+    @Override
+    public void releaseBuffers()
+    {
+        if (!released)
+        {
+            type = headerBuffer.getInt(TYPE_FIELD_OFFSET);
+            if (!forSend && dataBuffer != null && dataBytes == null)
+            {
+                // inbound data is still needed by the message processor
+                dataBytes = copyData(dataBuffer);
+            }
+            released = true;
+
+            bufferPool.release(headerBuffer);
+            headerBuffer = null;
+            releaseDataBuffer();
+            dataBuffer = dataBytes == null ? null : ByteBuffer.wrap(dataBytes);
+        }
+    }
+
+    private void releaseDataBuffer()
+    {
+        if (dataBuffer != null)
+        {
+            // no-op for wrapped byte arrays
+            bufferPool.release(dataBuffer);
+        }
+    }
+
+    private void ensureNotReleased() throws IllegalMessageStateException
+    {
+        if (released)
+        {
+            throw new IllegalMessageStateException("Attempt to modify a message whose buffers were already released");
+        }
+    }
+
+    private static byte[] copyData(ByteBuffer buffer)
+    {
+        byte[] data;
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.array().length == buffer.limit())
+        {
+            // non-pooled heap buffer (oversized message), no need to copy
+            data = buffer.array();
+        }
+        else
+        {
+            ByteBuffer view = buffer.duplicate();
+            view.position(0);
+            data = new byte[view.limit()];
+            view.get(data);
+        }
+        return data;
+    }
 }
@@ -15,6 +15,7 @@ import javax.net.ssl.SSLException;
 
 import java.io.ByteArrayInputStream;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.locks.ReadWriteLock;
 
@@ -93,6 +94,18 @@ public interface Peer
      */
     boolean sendMessage(byte[] data);
 
+    /**
+     * Like {@link #sendMessage(byte[])}, but takes an already serialized buffer (position 0, limit at the end of
+     * the data), usually acquired from the {@link MessageBufferPool}. The peer takes ownership of the buffer.
+     */
+    default boolean sendMessage(ByteBuffer data)
+    {
+        byte[] dataBytes = new byte[data.limit()];
+        data.get(0, dataBytes);
+        MessageBufferPool.getInstance().release(data);
+        return sendMessage(dataBytes);
+    }
+
     /**
      * Wraps the parameter into a {@link Message} which is created by {@link #createMessage()} and
      * calls {@link #sendMessage(Message)}.
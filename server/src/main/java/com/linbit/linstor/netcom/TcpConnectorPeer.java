@@ -11,6 +11,7 @@ import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.linstor.satellitestate.SatelliteState;
+import com.linbit.linstor.transaction.ChangeSequence;
 import com.linbit.linstor.utils.externaltools.ExtToolsManager;
 import com.linbit.utils.OrderingFlux;
 
@@ -111,6 +112,9 @@ public class TcpConnectorPeer implements Peer
     // TODO: Put a capacity limit on the maximum number of queued outbound messages
     protected final Deque<Message> msgOutQueue;
 
+    // Header and data buffer of msgOut, used for gathering writes
+    private final ByteBuffer[] msgOutBuffers = new ByteBuffer[2];
+
     protected SelectionKey selKey;
 
 
@@ -324,7 +328,7 @@ public class TcpConnectorPeer implements Peer
         {
             synchronized (this)
             {
-                long msgSize = msg.getData().length;
+                long msgSize = msg.getDataLength();
                 if (msgSize > msgSentSizePeak)
                 {
                     msgSentSizePeak = msgSize;
@@ -343,7 +347,8 @@ public class TcpConnectorPeer implements Peer
                 try
                 {
                     enableInterestOps(OP_WRITE);
-                    connector.wakeup();
+                    // only the selector loop handling this connection has to be woken up
+                    selKey.selector().wakeup();
                 }
                 catch (IllegalStateException illState)
                 {
@@ -404,6 +409,34 @@ public class TcpConnectorPeer implements Peer
             Message msg = createMessage();
             msg.setData(data);
             isConnected = sendMessage(msg);
+            if (!isConnected)
+            {
+                msg.releaseBuffers();
+            }
+        }
+        catch (IllegalMessageStateException exc)
+        {
+            throw new ImplementationError(
+                "Creating an outgoing message caused an IllegalMessageStateException",
+                exc
+            );
+        }
+        return isConnected;
+    }
+
+    @Override
+    public boolean sendMessage(ByteBuffer data)
+    {
+        boolean isConnected = false;
+        try
+        {
+            Message msg = createMessage();
+            msg.setData(data);
+            isConnected = sendMessage(msg);
+            if (!isConnected)
+            {
+                msg.releaseBuffers();
+            }
         }
         catch (IllegalMessageStateException exc)
         {
@@ -467,7 +500,10 @@ public class TcpConnectorPeer implements Peer
                 {
                     MDC.setContextMap(MDC.getCopyOfContextMap());
                     long apiCallId = nextApiCallId.getAndIncrement();
-                    byte[] messageBytes = commonSerializer.apiCallBuilder(apiCallName, apiCallId).bytes(data).build();
+                    // serialized directly into a pooled buffer that is handed over to the message
+                    ByteBuffer messageBuffer = commonSerializer.apiCallBuilder(apiCallName, apiCallId)
+                        .bytes(data)
+                        .buildBuffer();
 
                     fluxSink.onDispose(() -> openRpcs.remove(apiCallId));
 
@@ -475,12 +511,13 @@ public class TcpConnectorPeer implements Peer
 
                     if ((authenticationRequired && !authenticated) || (fullSyncAppliedRequired && !fullSyncApplied))
                     {
+                        MessageBufferPool.getInstance().release(messageBuffer);
                         fluxSink.error(new PeerNotConnectedException());
                     }
                     else
                     {
                         errorReporter.logTrace("Peer %s, API call %d '%s' send", this, apiCallId, apiCallName);
-                        boolean isConnected = sendMessage(messageBytes);
+                        boolean isConnected = sendMessage(messageBuffer);
                         if (!isConnected)
                         {
                             fluxSink.error(new PeerNotConnectedException());
@@ -662,6 +699,8 @@ public class TcpConnectorPeer implements Peer
             );
         }
         connectionStatus = status;
+        // the connection status is part of the node list
+        ChangeSequence.next();
     }
 
     @Override
@@ -746,6 +785,12 @@ public class TcpConnectorPeer implements Peer
     {
         synchronized (this)
         {
+            if (msgOut != null)
+            {
+                msgOut.releaseBuffers();
+            }
+            msgOutBuffers[0] = null;
+            msgOutBuffers[1] = null;
             msgOut = msgOutQueue.pollFirst();
             if (msgOut == null)
             {
@@ -1071,7 +1116,7 @@ public class TcpConnectorPeer implements Peer
         {
             dataSize = Message.DEFAULT_MAX_DATA_SIZE;
         }
-        msgIn.setData(new byte[dataSize]);
+        msgIn.allocateData(dataSize);
         currentReadPhase = currentReadPhase.getNextPhase();
     }
 
@@ -1103,15 +1148,21 @@ public class TcpConnectorPeer implements Peer
         {
             case HEADER ->
             {
-                ByteBuffer headerBuffer = msgOut.getHeaderBuffer();
-                outChannel.write(headerBuffer);
-                if (!headerBuffer.hasRemaining())
+                // gathering write, header and data usually leave in a single syscall (and TCP segment)
+                ByteBuffer[] outBuffers = getMsgOutBuffers();
+                outChannel.write(outBuffers);
+                if (!outBuffers[0].hasRemaining())
                 {
                     currentWritePhase = currentWritePhase.getNextPhase();
-                    state = writeData(outChannel, state);
+                    state = checkDataWritten(outBuffers[1], state);
                 }
             }
-            case DATA -> { state = writeData(outChannel, state); }
+            case DATA ->
+            {
+                ByteBuffer dataBuffer = getMsgOutBuffers()[1];
+                outChannel.write(dataBuffer);
+                state = checkDataWritten(dataBuffer, state);
+            }
             default -> throw new ImplementationError(
                 String.format(
                     "Missing case label for enum member '%s'",
@@ -1128,12 +1179,9 @@ public class TcpConnectorPeer implements Peer
         return state;
     }
 
-    private WriteState writeData(SocketChannel outChannel, WriteState stateRef)
-        throws IOException, IllegalMessageStateException
+    private WriteState checkDataWritten(ByteBuffer dataBuffer, WriteState stateRef)
     {
         WriteState state = stateRef;
-        ByteBuffer dataBuffer = msgOut.getDataBuffer();
-        outChannel.write(dataBuffer);
         if (!dataBuffer.hasRemaining())
         {
             // Finished sending the message
@@ -1143,13 +1191,29 @@ public class TcpConnectorPeer implements Peer
         return state;
     }
 
+    /**
+     * Returns the header and data buffer of the current outbound message. The buffers are only fetched once per
+     * message, since some messages (e.g. {@link TcpHeaderOnlyMessage}) return a new view on every call.
+     */
+    protected ByteBuffer[] getMsgOutBuffers() throws IllegalMessageStateException
+    {
+        if (msgOutBuffers[0] == null)
+        {
+            msgOutBuffers[0] = msgOut.getHeaderBuffer();
+            msgOutBuffers[1] = msgOut.getDataBuffer();
+        }
+        return msgOutBuffers;
+    }
 
     protected void addToQueue(Message msg)
     {
         try
         {
+            // the data is copied out of the pooled buffer, which is reused for following messages
+            msg.releaseBuffers();
+
             // This method is single-threaded, no need to synchronize
-            long msgSize = msg.getData().length;
+            long msgSize = msg.getDataLength();
             if (msgSize > msgRecvSizePeak)
             {
                 msgRecvSizePeak = msgSize;
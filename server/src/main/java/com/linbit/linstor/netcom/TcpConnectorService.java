@@ -47,7 +47,9 @@ import java.nio.channels.UnsupportedAddressTypeException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -168,6 +170,15 @@ public class TcpConnectorService implements Runnable, TcpConnector
 
     private final AtomicInteger connCount = new AtomicInteger(0);
 
+    // Number of selector loops (I/O threads). The primary selector loop (see run()) also accepts new connections,
+    // the additional selector loops only perform the I/O of the connections assigned to them
+    private final int ioThreadCount;
+
+    // Additional selector loops, empty unless ioThreadCount > 1
+    private final List<IoLoop> ioLoops = new CopyOnWriteArrayList<>();
+
+    // Round-robin start index for choosing the selector loop of a new connection
+    private final AtomicInteger nextIoLoopIdx = new AtomicInteger(0);
 
     public TcpConnectorService(
         ErrorReporter errorReporterRef,
@@ -176,6 +187,23 @@ public class TcpConnectorService implements Runnable, TcpConnector
         @Nullable SocketAddress bindAddressRef,
         ConnectionObserver connObserverRef
     )
+    {
+        this(errorReporterRef, commonSerializerRef, msgProcessorRef, bindAddressRef, connObserverRef, 1);
+    }
+
+    /**
+     * @param ioThreadCountRef Number of selector loops (I/O threads). New connections are assigned to the loop with
+     *     the fewest connections. All I/O of a connection is performed by the loop it was assigned to, which keeps
+     *     the order of messages per peer.
+     */
+    public TcpConnectorService(
+        ErrorReporter errorReporterRef,
+        CommonSerializer commonSerializerRef,
+        MessageProcessor msgProcessorRef,
+        @Nullable SocketAddress bindAddressRef,
+        ConnectionObserver connObserverRef,
+        int ioThreadCountRef
+    )
     {
         ErrorCheck.ctorNotNull(TcpConnectorService.class, ErrorReporter.class, errorReporterRef);
         ErrorCheck.ctorNotNull(TcpConnectorService.class, MessageProcessor.class, msgProcessorRef);
@@ -190,6 +218,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
         // until initialize() has completed
         shutdownFlag    = new AtomicBoolean(true);
         connObserver    = new SafeConnectionObserver(errorReporterRef, connObserverRef);
+        ioThreadCount   = Math.max(1, ioThreadCountRef);
 
         bindAddress = bindAddressRef;
     }
@@ -211,9 +240,11 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 String peerId = address.getAddress().getHostAddress() + ":" + address.getPort() + "/"
                     + connCount.incrementAndGet();
                 SelectionKey connKey;
-                synchronized (syncObj)
+                final @Nullable IoLoop ioLoop = chooseIoLoop();
+                synchronized (ioLoop == null ? syncObj : ioLoop.loopSyncObj)
                 {
-                    srvSel.wakeup();
+                    final Selector connSel = ioLoop == null ? srvSel : ioLoop.selector;
+                    connSel.wakeup();
                     try
                     {
                         // set IP_TOS before connect so also SYN packet gets prioritized
@@ -232,13 +263,13 @@ public class TcpConnectorService implements Runnable, TcpConnector
                         // as the controller does not know about this peer (we didnt return yet)
                         // we will register for no operation.
                         // As soon as the controller tries to send a message, that will trigger the OP_WRITE anyways
-                        connKey = socketChannel.register(srvSel, 0);
+                        connKey = socketChannel.register(connSel, 0);
                     }
                     else
                     {
                         // if connect returns false we will receive OP_CONNECT
                         // and we will need to call the finishConnection()
-                        connKey = socketChannel.register(srvSel, OP_CONNECT);
+                        connKey = socketChannel.register(connSel, OP_CONNECT);
                     }
                     peer = createTcpConnectorPeer(address, peerId, connKey, true, node);
                     connKey.attach(peer);
@@ -363,9 +394,44 @@ public class TcpConnectorService implements Runnable, TcpConnector
                     false
                 );
             }
+            try
+            {
+                ioLoops.clear();
+                for (int idx = 1; idx < ioThreadCount; ++idx)
+                {
+                    ioLoops.add(new IoLoop(idx));
+                }
+            }
+            catch (IOException ioExc)
+            {
+                uninitialize();
+                closeIoLoops();
+                String descriptionText = String.format(
+                    "Initialization of the I/O threads of the %s service instance '%s' failed.",
+                    TcpConnectorService.class.getName(),
+                    serviceInstanceName.displayValue
+                );
+                throw new SystemServiceStartException(
+                    descriptionText,
+                    // Description
+                    descriptionText,
+                    // Cause
+                    ioExc.getMessage(),
+                    // Correction
+                    null,
+                    // Details
+                    null,
+                    ioExc,
+                    false
+                );
+            }
             selectorLoopThread = new Thread(this);
             selectorLoopThread.setName(serviceInstanceName.getDisplayName());
             selectorLoopThread.start();
+            for (IoLoop ioLoop : ioLoops)
+            {
+                ioLoop.start();
+            }
         }
     }
 
@@ -378,6 +444,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
         {
             srvSel.wakeup();
         }
+        wakeupIoLoops();
     }
 
     @Override
@@ -393,6 +460,10 @@ public class TcpConnectorService implements Runnable, TcpConnector
         {
             joinThr.join(timeout);
         }
+        for (IoLoop ioLoop : ioLoops)
+        {
+            ioLoop.thread.join(timeout);
+        }
     }
 
     @Override
@@ -402,341 +473,362 @@ public class TcpConnectorService implements Runnable, TcpConnector
         ArrayList<Peer> peersWithFinishedMessages = new ArrayList<>();
         while (!shutdownFlag.get())
         {
-            try (var ignore = MDC.putCloseable(ErrorReporter.LOGID, ErrorReporter.getNewLogId()))
+            try
             {
-                try
+                selectorIteration(serverSelector, syncObj, peersWithFinishedMessages);
+            }
+            catch (ClosedSelectorException selectExc)
+            {
+                // Selector became inoperative. Log error and attempt to reinitialize.
+                errorReporter.reportError(selectExc);
+                reinitialize();
+            }
+            catch (IOException ioExc)
+            {
+                // I/O error while selecting (likely), or an uncaught I/O error
+                // while performing I/O on a channel (should not happen)
+                // Log error and attempt to reinitialize.
+                errorReporter.logDebug("IOException: %s", ioExc.getLocalizedMessage());
+                errorReporter.reportError(Level.TRACE, ioExc);
+                reinitialize();
+            }
+            catch (Exception exc)
+            {
+                // Uncaught exception. Log error and shut down.
+                errorReporter.reportError(exc);
+                break;
+            }
+            catch (ImplementationError implErr)
+            {
+                // Uncaught exception. Log error and shut down.
+                errorReporter.reportError(implErr);
+                break;
+            }
+        }
+        uninitialize();
+
+        // The additional selector loops are shut down together with the primary loop
+        shutdownFlag.set(true);
+        wakeupIoLoops();
+
+        synchronized (this)
+        {
+            selectorLoopThread = null;
+        }
+    }
+
+    /**
+     * Performs one iteration of a selector loop: selects ready channels of the given selector, processes
+     * pending inbound messages and performs the I/O operations of all selected channels.
+     */
+    private void selectorIteration(
+        Selector selector,
+        Object selectorSyncObj,
+        ArrayList<Peer> peersWithFinishedMessages
+    )
+        throws IOException, IllegalMessageStateException
+    {
+        try (var ignore = MDC.putCloseable(ErrorReporter.LOGID, ErrorReporter.getNewLogId()))
+        {
+            try
+            {
+                if (peersWithFinishedMessages.isEmpty())
                 {
-                    if (peersWithFinishedMessages.isEmpty())
+                    // Block until I/O operations are ready to be performed
+                    // on at least one of the channels, or until the selection
+                    // operation is interrupted (e.g., using wakeup())
+                    int selectCount = selector.select();
+
+                    synchronized (selectorSyncObj)
                     {
-                        // Block until I/O operations are ready to be performed
-                        // on at least one of the channels, or until the selection
-                        // operation is interrupted (e.g., using wakeup())
-                        int selectCount = serverSelector.select();
+                        // wait for the syncObj to get released
 
-                        synchronized (syncObj)
+                        // Ensure making some progress in the case that
+                        // the blocking select() call is repeatedly interrupted
+                        // (e.g., using wakeup()) before having selected any
+                        // channels
+                        if (selectCount <= 0)
                         {
-                            // wait for the syncObj to get released
-
-                            // Ensure making some progress in the case that
-                            // the blocking select() call is repeatedly interrupted
-                            // (e.g., using wakeup()) before having selected any
-                            // channels
-                            if (selectCount <= 0)
-                            {
-                                /*
-                                 * this selectNow has to be inside the synchronized block as otherwise
-                                 * it would be possible that the TcpConnector thread is already past
-                                 * the previous .select(), THEN another thread (i.e. reconnector)
-                                 * calls .wakeup() which is immediately consumed by the .selectNow()
-                                 * BEFORE the thread calling .wakeup() could register some new
-                                 * listeners. We suspect that we ended up in a deadlock occasionally
-                                 * because of this.
-                                 */
-                                serverSelector.selectNow();
-                            }
+                            /*
+                             * this selectNow has to be inside the synchronized block as otherwise
+                             * it would be possible that the TcpConnector thread is already past
+                             * the previous .select(), THEN another thread (i.e. reconnector)
+                             * calls .wakeup() which is immediately consumed by the .selectNow()
+                             * BEFORE the thread calling .wakeup() could register some new
+                             * listeners. We suspect that we ended up in a deadlock occasionally
+                             * because of this.
+                             */
+                            selector.selectNow();
                         }
-
                     }
-                    else
-                    {
 
-                        ListIterator<Peer> listIterator = peersWithFinishedMessages.listIterator();
-                        while (listIterator.hasNext())
+                }
+                else
+                {
+
+                    ListIterator<Peer> listIterator = peersWithFinishedMessages.listIterator();
+                    while (listIterator.hasNext())
+                    {
+                        try
                         {
-                            try
+                            boolean finished = true;
+                            Peer peer = listIterator.next();
+                            if (peer.hasNextMsgIn())
                             {
-                                boolean finished = true;
-                                Peer peer = listIterator.next();
-                                if (peer.hasNextMsgIn())
-                                {
-                                    msgProcessor.processMessage(peer.nextCurrentMsgIn(), this, peer);
-                                    finished = false;
-                                }
-
-                                if (finished)
-                                {
-                                    listIterator.remove();
-                                }
+                                msgProcessor.processMessage(peer.nextCurrentMsgIn(), this, peer);
+                                finished = false;
                             }
-                            catch (CancelledKeyException ignored)
-                            {
-                                // Selection key no longer valid
-                                // Cleaned up by the next select() or selectNow() operation
 
+                            if (finished)
+                            {
+                                listIterator.remove();
                             }
                         }
+                        catch (CancelledKeyException ignored)
+                        {
+                            // Selection key no longer valid
+                            // Cleaned up by the next select() or selectNow() operation
 
-                        // we tried to process one message from each waiting peer.
-                        // now we see if we have new operations (read, write, accept, connect)
-                        // if peers still have more messages, they have to wait until the next
-                        // loop-cycle (fair scheduling).
-                        serverSelector.selectNow();
+                        }
                     }
+
+                    // we tried to process one message from each waiting peer.
+                    // now we see if we have new operations (read, write, accept, connect)
+                    // if peers still have more messages, they have to wait until the next
+                    // loop-cycle (fair scheduling).
+                    selector.selectNow();
                 }
-                catch (CancelledKeyException ignored)
-                {
-                    // Selection key no longer valid
-                    // Cleaned up by the next select() or selectNow() operation
-                }
+            }
+            catch (CancelledKeyException ignored)
+            {
+                // Selection key no longer valid
+                // Cleaned up by the next select() or selectNow() operation
+            }
 
-                onSelectorWakeup();
+            onSelectorWakeup(selector);
 
-                Iterator<SelectionKey> keysIter = serverSelector.selectedKeys().iterator();
-                while (keysIter.hasNext())
+            Iterator<SelectionKey> keysIter = selector.selectedKeys().iterator();
+            while (keysIter.hasNext())
+            {
+                SelectionKey currentKey = null;
+                try
                 {
-                    SelectionKey currentKey = null;
-                    try
-                    {
-                        currentKey = keysIter.next();
-                        keysIter.remove();
+                    currentKey = keysIter.next();
+                    keysIter.remove();
 
-                        // Skip all operations if determining ready operations fails
-                        int ops = currentKey.readyOps();
+                    // Skip all operations if determining ready operations fails
+                    int ops = currentKey.readyOps();
 
-                        if ((ops & OP_READ) != 0)
+                    if ((ops & OP_READ) != 0)
+                    {
+                        TcpConnectorPeer connPeer = null;
+                        try
                         {
-                            TcpConnectorPeer connPeer = null;
-                            try
+                            connPeer = (TcpConnectorPeer) currentKey.attachment();
+                            ReadState state = connPeer.read((SocketChannel) currentKey.channel());
+                            switch (state)
                             {
-                                connPeer = (TcpConnectorPeer) currentKey.attachment();
-                                ReadState state = connPeer.read((SocketChannel) currentKey.channel());
-                                switch (state)
+                                case UNFINISHED ->
                                 {
-                                    case UNFINISHED ->
-                                    {
-                                        // no-op
-                                    }
-                                    case FINISHED ->
+                                    // no-op
+                                }
+                                case FINISHED ->
+                                {
+                                    msgProcessor.processMessage(connPeer.nextCurrentMsgIn(), this, connPeer);
+                                    if (connPeer.hasNextMsgIn())
                                     {
-                                        msgProcessor.processMessage(connPeer.nextCurrentMsgIn(), this, connPeer);
-                                        if (connPeer.hasNextMsgIn())
-                                        {
-                                            peersWithFinishedMessages.add(connPeer);
-                                        }
+                                        peersWithFinishedMessages.add(connPeer);
                                     }
-                                    case END_OF_STREAM ->
+                                }
+                                case END_OF_STREAM ->
+                                {
+                                    final Node connNode = connPeer.getNode();
+                                    if (connNode != null)
                                     {
-                                        final Node connNode = connPeer.getNode();
-                                        if (connNode != null)
-                                        {
-                                            final NodeName name = connNode.getName();
-                                            errorReporter.logInfo(
-                                                "Remote satellite %s (peer %s) has closed the connection.",
-                                                name.displayValue, connPeer.getId()
-                                            );
-                                        }
-                                        closeConnection(currentKey, connPeer.isClientMode());
+                                        final NodeName name = connNode.getName();
+                                        errorReporter.logInfo(
+                                            "Remote satellite %s (peer %s) has closed the connection.",
+                                            name.displayValue, connPeer.getId()
+                                        );
                                     }
-                                    default -> throw new ImplementationError(
-                                        String.format(
-                                            "Missing case label for enum member '%s'",
-                                            state.name()
-                                        ),
-                                        null
-                                    );
+                                    closeConnection(currentKey, connPeer.isClientMode());
                                 }
-                            }
-                            catch (NotYetConnectedException connExc)
-                            {
-                                // This might possibly happen if an outbound connection is
-                                // marked as READ interested before establishing the connection
-                                // is finished; if the Selector would even report it as ready
-                                // in this case.
-                                // Anyway, the reason would be an implementation flaw of some
-                                // kind, therefore, log this error and then treat the connection's
-                                // state as a protocol error and close the connection.
-                                errorReporter.reportError(new ImplementationError(connExc));
-                                closeConnection(currentKey, true);
-                            }
-                            catch (IllegalMessageStateException msgStateExc)
-                            {
-                                errorReporter.reportError(
-                                    new ImplementationError(
-                                        "A message object with an illegal state was registered " +
-                                        "as the target of an I/O read operation",
-                                        msgStateExc
-                                    )
-                                );
-                                closeConnection(currentKey, true);
-                            }
-                            catch (IOException ioExc)
-                            {
-                                // Protocol error - I/O error while reading a message
-                                // Close the connection
-                                errorReporter.reportError(
-                                    Level.TRACE, ioExc, connPeer,
-                                    "I/O exception while attempting to receive data from the peer"
+                                default -> throw new ImplementationError(
+                                    String.format(
+                                        "Missing case label for enum member '%s'",
+                                        state.name()
+                                    ),
+                                    null
                                 );
-                                closeConnection(currentKey, true);
                             }
                         }
-                        else
-                        if ((ops & OP_ACCEPT) != 0)
+                        catch (NotYetConnectedException connExc)
                         {
-                            try
-                            {
-                                acceptConnection();
-                            }
-                            catch (ClosedChannelException closeExc)
-                            {
-                                // May be thrown by accept() if the server socket is closed
-                                // Attempt to reinitialize to recover
-                                reinitialize();
-                                // Break out of iterating over keys, because those are all
-                                // invalid after reinitialization, and the set of keys may have
-                                // been modified too
-                                break;
-                            }
-                            catch (NotYetBoundException unboundExc)
-                            {
-                                // Generated if accept() is invoked on an unbound server socket
-                                // This should not happen, unless there is an
-                                // implementation error somewhere.
-                                // Attempt to reinitialize to recover
-                                reinitialize();
-                                // Break out of iterating over keys, because those are all
-                                // invalid after reinitialization, and the set of keys may have
-                                // been modified too
-                                break;
-                            }
-                            catch (ClosedSelectorException closeExc)
-                            {
-                                // Throw by accept() if the selector is closed
-                                // Attempt to reinitialize to recover
-                                reinitialize();
-                                // Break out of iterating over keys, because those are all
-                                // invalid after reinitialization, and the set of keys may have
-                                // been modified too
-                                break;
-                            }
-                            catch (IOException ioExc)
-                            {
-                                errorReporter.reportError(
-                                    Level.TRACE, ioExc, null,
-                                    "I/O exception while attempting to accept a peer connection"
-                                );
-                            }
+                            // This might possibly happen if an outbound connection is
+                            // marked as READ interested before establishing the connection
+                            // is finished; if the Selector would even report it as ready
+                            // in this case.
+                            // Anyway, the reason would be an implementation flaw of some
+                            // kind, therefore, log this error and then treat the connection's
+                            // state as a protocol error and close the connection.
+                            errorReporter.reportError(new ImplementationError(connExc));
+                            closeConnection(currentKey, true);
                         }
-                        else
-                        if ((ops & OP_WRITE) != 0)
+                        catch (IllegalMessageStateException msgStateExc)
                         {
-                            TcpConnectorPeer connPeer = null;
-                            try
-                            {
-                                connPeer = (TcpConnectorPeer) currentKey.attachment();
-                                connPeer.write((SocketChannel) currentKey.channel());
-                            }
-                            catch (NotYetConnectedException connExc)
-                            {
-                                // This might possibly happen if an outbound connection is
-                                // marked as WRITE interested before establishing the connection
-                                // is finished; if the Selector would even report it as ready
-                                // in this case.
-                                // Anyway, the reason would be an implementation flaw of some
-                                // kind, therefore, log this error and then treat the connection's
-                                // state as a protocol error and close the connection.
-                                errorReporter.reportError(new ImplementationError(connExc));
-                                closeConnection(currentKey, true);
-                            }
-                            catch (IllegalMessageStateException msgStateExc)
-                            {
-                                errorReporter.reportError(
-                                    new ImplementationError(
-                                        "A message object with an illegal state was registered " +
-                                        "as the target of an I/O write operation",
-                                        msgStateExc
-                                    )
-                                );
-                                closeConnection(currentKey, true);
-                            }
-                            catch (IOException ioExc)
-                            {
-                                // Protocol error - I/O error while writing a message
-                                // Close channel / disconnect peer, invalidate SelectionKey
-                                // Close the connection
-                                errorReporter.reportError(
-                                    Level.TRACE, ioExc, connPeer,
-                                    "I/O exception while attempting to send data to the peer"
-                                );
-                                closeConnection(currentKey, true);
-                            }
+                            errorReporter.reportError(
+                                new ImplementationError(
+                                    "A message object with an illegal state was registered " +
+                                    "as the target of an I/O read operation",
+                                    msgStateExc
+                                )
+                            );
+                            closeConnection(currentKey, true);
                         }
-                        else
-                        if ((ops & OP_CONNECT) != 0)
+                        catch (IOException ioExc)
                         {
-                            TcpConnectorPeer connPeer = null;
-                            try
-                            {
-                                connPeer = (TcpConnectorPeer) currentKey.attachment();
-                                establishConnection(currentKey);
-                            }
-                            catch (IOException ioExc)
-                            {
-                                errorReporter.reportError(
-                                    Level.TRACE, ioExc, connPeer,
-                                    "I/O exception while attempting to connect to the peer"
-                                );
-                            }
+                            // Protocol error - I/O error while reading a message
+                            // Close the connection
+                            errorReporter.reportError(
+                                Level.TRACE, ioExc, connPeer,
+                                "I/O exception while attempting to receive data from the peer"
+                            );
+                            closeConnection(currentKey, true);
                         }
                     }
-                    catch (CancelledKeyException keyExc)
+                    else
+                    if ((ops & OP_ACCEPT) != 0)
                     {
-                        if (currentKey != null)
+                        try
                         {
-                            closeConnection(currentKey, true);
+                            acceptConnection();
+                        }
+                        catch (ClosedChannelException closeExc)
+                        {
+                            // May be thrown by accept() if the server socket is closed
+                            // Attempt to reinitialize to recover
+                            reinitialize();
+                            // Break out of iterating over keys, because those are all
+                            // invalid after reinitialization, and the set of keys may have
+                            // been modified too
+                            break;
+                        }
+                        catch (NotYetBoundException unboundExc)
+                        {
+                            // Generated if accept() is invoked on an unbound server socket
+                            // This should not happen, unless there is an
+                            // implementation error somewhere.
+                            // Attempt to reinitialize to recover
+                            reinitialize();
+                            // Break out of iterating over keys, because those are all
+                            // invalid after reinitialization, and the set of keys may have
+                            // been modified too
+                            break;
+                        }
+                        catch (ClosedSelectorException closeExc)
+                        {
+                            // Throw by accept() if the selector is closed
+                            // Attempt to reinitialize to recover
+                            reinitialize();
+                            // Break out of iterating over keys, because those are all
+                            // invalid after reinitialization, and the set of keys may have
+                            // been modified too
+                            break;
+                        }
+                        catch (IOException ioExc)
+                        {
+                            errorReporter.reportError(
+                                Level.TRACE, ioExc, null,
+                                "I/O exception while attempting to accept a peer connection"
+                            );
                         }
                     }
-                    catch (IllegalStateException illState)
+                    else
+                    if ((ops & OP_WRITE) != 0)
                     {
-                        if (currentKey != null)
+                        TcpConnectorPeer connPeer = null;
+                        try
+                        {
+                            connPeer = (TcpConnectorPeer) currentKey.attachment();
+                            connPeer.write((SocketChannel) currentKey.channel());
+                        }
+                        catch (NotYetConnectedException connExc)
+                        {
+                            // This might possibly happen if an outbound connection is
+                            // marked as WRITE interested before establishing the connection
+                            // is finished; if the Selector would even report it as ready
+                            // in this case.
+                            // Anyway, the reason would be an implementation flaw of some
+                            // kind, therefore, log this error and then treat the connection's
+                            // state as a protocol error and close the connection.
+                            errorReporter.reportError(new ImplementationError(connExc));
+                            closeConnection(currentKey, true);
+                        }
+                        catch (IllegalMessageStateException msgStateExc)
                         {
                             errorReporter.reportError(
                                 new ImplementationError(
-                                    "Unhandled IllegalStateException",
-                                    illState
-                                ),
-                                (Peer) currentKey.attachment(),
-                                null
+                                    "A message object with an illegal state was registered " +
+                                    "as the target of an I/O write operation",
+                                    msgStateExc
+                                )
                             );
                             closeConnection(currentKey, true);
                         }
+                        catch (IOException ioExc)
+                        {
+                            // Protocol error - I/O error while writing a message
+                            // Close channel / disconnect peer, invalidate SelectionKey
+                            // Close the connection
+                            errorReporter.reportError(
+                                Level.TRACE, ioExc, connPeer,
+                                "I/O exception while attempting to send data to the peer"
+                            );
+                            closeConnection(currentKey, true);
+                        }
+                    }
+                    else
+                    if ((ops & OP_CONNECT) != 0)
+                    {
+                        TcpConnectorPeer connPeer = null;
+                        try
+                        {
+                            connPeer = (TcpConnectorPeer) currentKey.attachment();
+                            establishConnection(currentKey);
+                        }
+                        catch (IOException ioExc)
+                        {
+                            errorReporter.reportError(
+                                Level.TRACE, ioExc, connPeer,
+                                "I/O exception while attempting to connect to the peer"
+                            );
+                        }
+                    }
+                }
+                catch (CancelledKeyException keyExc)
+                {
+                    if (currentKey != null)
+                    {
+                        closeConnection(currentKey, true);
+                    }
+                }
+                catch (IllegalStateException illState)
+                {
+                    if (currentKey != null)
+                    {
+                        errorReporter.reportError(
+                            new ImplementationError(
+                                "Unhandled IllegalStateException",
+                                illState
+                            ),
+                            (Peer) currentKey.attachment(),
+                            null
+                        );
+                        closeConnection(currentKey, true);
                     }
                 }
-            }
-            catch (ClosedSelectorException selectExc)
-            {
-                // Selector became inoperative. Log error and attempt to reinitialize.
-                errorReporter.reportError(selectExc);
-                reinitialize();
-            }
-            catch (IOException ioExc)
-            {
-                // I/O error while selecting (likely), or an uncaught I/O error
-                // while performing I/O on a channel (should not happen)
-                // Log error and attempt to reinitialize.
-                errorReporter.logDebug("IOException: %s", ioExc.getLocalizedMessage());
-                errorReporter.reportError(Level.TRACE, ioExc);
-                reinitialize();
-            }
-            catch (Exception exc)
-            {
-                // Uncaught exception. Log error and shut down.
-                errorReporter.reportError(exc);
-                break;
-            }
-            catch (ImplementationError implErr)
-            {
-                // Uncaught exception. Log error and shut down.
-                errorReporter.reportError(implErr);
-                break;
             }
         }
-        uninitialize();
-
-        synchronized (this)
-        {
-            selectorLoopThread = null;
-        }
     }
 
     private void acceptConnection()
@@ -780,7 +872,20 @@ public class TcpConnectorService implements Runnable, TcpConnector
                             SelectionKey connKey = null;
                             try
                             {
-                                connKey = newSocket.register(serverSelector, SelectionKey.OP_READ);
+                                final @Nullable IoLoop ioLoop = chooseIoLoop();
+                                if (ioLoop == null)
+                                {
+                                    // called by the primary selector loop, no need to wake up the selector
+                                    connKey = newSocket.register(serverSelector, SelectionKey.OP_READ);
+                                }
+                                else
+                                {
+                                    synchronized (ioLoop.loopSyncObj)
+                                    {
+                                        ioLoop.selector.wakeup();
+                                        connKey = newSocket.register(ioLoop.selector, SelectionKey.OP_READ);
+                                    }
+                                }
                             }
                             catch (IllegalSelectorException illSelExc)
                             {
@@ -917,6 +1022,66 @@ public class TcpConnectorService implements Runnable, TcpConnector
     public void wakeup()
     {
         serverSelector.wakeup();
+        wakeupIoLoops();
+    }
+
+    private void wakeupIoLoops()
+    {
+        for (IoLoop ioLoop : ioLoops)
+        {
+            ioLoop.selector.wakeup();
+        }
+    }
+
+    private synchronized void closeIoLoops()
+    {
+        for (IoLoop ioLoop : ioLoops)
+        {
+            ioLoop.closeSelector();
+        }
+        ioLoops.clear();
+    }
+
+    /**
+     * Returns the selector loop a new connection should be assigned to, which is the loop with the fewest
+     * registered connections. Ties are broken round-robin.
+     *
+     * @return the additional selector loop, or null if the connection should be handled by the primary loop
+     */
+    private @Nullable IoLoop chooseIoLoop()
+    {
+        @Nullable IoLoop ret = null;
+        if (!ioLoops.isEmpty())
+        {
+            // the key sets are owned by the selector threads, so the sizes might be slightly outdated,
+            // which is fine for the purpose of load balancing
+            int loopCount = ioLoops.size() + 1;
+            int startIdx = Math.floorMod(nextIoLoopIdx.getAndIncrement(), loopCount);
+            int minConnections = Integer.MAX_VALUE;
+            for (int offset = 0; offset < loopCount; ++offset)
+            {
+                int idx = (startIdx + offset) % loopCount;
+                @Nullable IoLoop candidate = idx == 0 ? null : ioLoops.get(idx - 1);
+                int connections;
+                if (candidate == null)
+                {
+                    Selector srvSel = serverSelector;
+                    // do not count the server socket
+                    connections = srvSel == null ? Integer.MAX_VALUE :
+                        srvSel.keys().size() - (serverSocket == null ? 0 : 1);
+                }
+                else
+                {
+                    connections = candidate.selector.keys().size();
+                }
+                if (connections < minConnections)
+                {
+                    minConnections = connections;
+                    ret = candidate;
+                }
+            }
+        }
+        return ret;
     }
 
     protected void establishConnection(SelectionKey currentKey)
@@ -1051,17 +1216,17 @@ public class TcpConnectorService implements Runnable, TcpConnector
         currentKey.cancel();
     }
 
-    private void closeAllConnections()
+    private void closeAllConnections(@Nullable Selector selector)
     {
         try
         {
-            if (serverSelector != null)
+            if (selector != null)
             {
-                for (SelectionKey currentKey : serverSelector.keys())
+                for (SelectionKey currentKey : selector.keys())
                 {
                     closeConnection(currentKey, false, true);
                 }
-                serverSelector.close();
+                selector.close();
             }
         }
         catch (ClosedSelectorException selectExc)
@@ -1312,7 +1477,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
 
     private void uninitialize()
     {
-        closeAllConnections();
+        closeAllConnections(serverSelector);
         closeServerSocket();
 
         serverSocket    = null;
@@ -1388,9 +1553,104 @@ public class TcpConnectorService implements Runnable, TcpConnector
         {
             selectorLoopThread.setName(serviceInstanceName.getDisplayName());
         }
+        for (IoLoop ioLoop : ioLoops)
+        {
+            ioLoop.thread.setName(ioLoop.getThreadName());
+        }
     }
 
-    protected void onSelectorWakeup()
+    /**
+     * Additional selector loop that performs the I/O operations of the connections assigned to it
+     * by {@link TcpConnectorService#chooseIoLoop()}. Connections are never moved between selector loops.
+     */
+    private class IoLoop implements Runnable
+    {
+        private final int loopIdx;
+        // Same purpose as TcpConnectorService.syncObj, but for this loop's selector
+        private final Object loopSyncObj = new Object();
+        private final Thread thread;
+        private volatile Selector selector;
+
+        private IoLoop(int loopIdxRef) throws IOException
+        {
+            loopIdx = loopIdxRef;
+            selector = Selector.open();
+            thread = new Thread(this);
+            thread.setName(getThreadName());
+        }
+
+        private String getThreadName()
+        {
+            return serviceInstanceName.getDisplayName() + "-io-" + loopIdx;
+        }
+
+        private void start()
+        {
+            thread.start();
+        }
+
+        @Override
+        public void run()
+        {
+            ArrayList<Peer> peersWithFinishedMessages = new ArrayList<>();
+            while (!shutdownFlag.get())
+            {
+                try
+                {
+                    selectorIteration(selector, loopSyncObj, peersWithFinishedMessages);
+                }
+                catch (ClosedSelectorException | IOException exc)
+                {
+                    // Only affects the connections of this selector loop, which are closed and left to the
+                    // reconnector. The server socket is still handled by the primary selector loop.
+                    errorReporter.reportError(Level.TRACE, exc);
+                    reopenSelector();
+                }
+                catch (Exception exc)
+                {
+                    // Uncaught exception. Log error and shut down the whole connector.
+                    errorReporter.reportError(exc);
+                    shutdown(false);
+                }
+                catch (ImplementationError implErr)
+                {
+                    // Uncaught exception. Log error and shut down the whole connector.
+                    errorReporter.reportError(implErr);
+                    shutdown(false);
+                }
+            }
+            closeSelector();
+        }
+
+        private void reopenSelector()
+        {
+            synchronized (loopSyncObj)
+            {
+                closeSelector();
+                try
+                {
+                    selector = Selector.open();
+                }
+                catch (IOException ioExc)
+                {
+                    errorReporter.reportError(ioExc);
+                    shutdown(false);
+                }
+            }
+        }
+
+        private void closeSelector()
+        {
+            closeAllConnections(selector);
+        }
+    }
+
+    /**
+     * Called by every selector loop after its selector returned from selecting operations.
+     *
+     * @param selector The selector of the calling selector loop
+     */
+    protected void onSelectorWakeup(Selector selector)
         throws IllegalMessageStateException, IOException
     {
     }
@@ -29,6 +29,24 @@ public class TcpHeaderOnlyMessage implements Message
         throw new ImplementationError("Cannot set Data of TcpHeaderOnlyMessage", null);
     }
 
+    @Override
+    public void setData(ByteBuffer data)
+    {
+        throw new ImplementationError("Cannot set Data of TcpHeaderOnlyMessage", null);
+    }
+
+    @Override
+    public void allocateData(int size)
+    {
+        throw new ImplementationError("Cannot allocate Data of TcpHeaderOnlyMessage", null);
+    }
+
+    @Override
+    public int getDataLength()
+    {
+        return 0;
+    }
+
     @Override
     public int getType() throws IllegalMessageStateException
     {
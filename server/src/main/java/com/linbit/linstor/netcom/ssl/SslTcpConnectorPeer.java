@@ -21,6 +21,7 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -576,27 +577,34 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
                 {
                     case HEADER ->
                     {
-                        final ByteBuffer headerBuffer = msgOut.getHeaderBuffer();
+                        // header and data are wrapped together, so that the header does not end up in
+                        // a TLS record of its own
+                        final ByteBuffer[] outBuffers = getMsgOutBuffers();
                         if (DEBUG_PLAIN_DATA)
                         {
                             debugLogBufferContent(
                                 "sslOutbound: wrap: buffer data:",
-                                headerBuffer
+                                outBuffers[0]
                             );
                         }
-                        sslStatus = sslEngine.wrap(headerBuffer, encryptedWriteBuffer);
+                        sslStatus = sslEngine.wrap(outBuffers, encryptedWriteBuffer);
                         if (DEBUG_SSL_STATE)
                         {
                             debugLog("sslOutbound: SSL status after wrap: " + sslStatus.getStatus().name());
                         }
-                        if (!headerBuffer.hasRemaining())
+                        if (!outBuffers[0].hasRemaining())
                         {
                             currentWritePhase = currentWritePhase.getNextPhase();
+                            if (!outBuffers[1].hasRemaining())
+                            {
+                                outboundMessageFinished(outBuffers);
+                            }
                         }
                     }
                     case DATA ->
                     {
-                        final ByteBuffer dataBuffer = msgOut.getDataBuffer();
+                        final ByteBuffer[] outBuffers = getMsgOutBuffers();
+                        final ByteBuffer dataBuffer = outBuffers[1];
                         if (DEBUG_PLAIN_DATA)
                         {
                             debugLogBufferContent(
@@ -611,27 +619,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
                         }
                         if (!dataBuffer.hasRemaining())
                         {
-                            if (DEBUG_MSG_DATA)
-                            {
-                                final ByteBuffer headerBuffer = msgOut.getHeaderBuffer();
-                                debugLogBufferContent(
-                                    "sslOutbound: Message processed, message header:",
-                                    headerBuffer
-                                );
-                                debugLogBufferContent(
-                                    "sslOutbound: Message processed, message data:",
-                                    dataBuffer
-                                );
-                            }
-                            currentWritePhase = Phase.HEADER;
-                            // If there are no more outbound messages pending, this will disable OP_WRITE.
-                            nextOutMessage();
-                            // WriteState.FINISHED would be returned here to indicate that an entire message
-                            // has been sent, if it were to be implemented in the netcom connector
-                            if (DEBUG_IO && msgOut == null)
-                            {
-                                debugLog("sslOutbound: Disable I/O: OP_WRITE (by nextOutMessage)");
-                            }
+                            outboundMessageFinished(outBuffers);
                         }
                     }
                     default -> throw new ImplementationError(
@@ -693,6 +681,40 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
         return sslStatus == null ? null : sslStatus.getStatus();
     }
 
+    /**
+     * Advances to the next outbound LINSTOR message after the current message was completely passed through
+     * the SSL engine.
+     *
+     * @param outBuffers header and data buffer of the finished message
+     * @throws IllegalMessageStateException If the LINSTOR message is in an illegal state for reading its data;
+     *         not supposed to happen, indicates an implementation error
+     */
+    private void outboundMessageFinished(final ByteBuffer[] outBuffers)
+        throws IllegalMessageStateException
+    {
+        if (DEBUG_MSG_DATA)
+        {
+            debugLogBufferContent(
+                "sslOutbound: Message processed, message header:",
+                outBuffers[0]
+            );
+            debugLogBufferContent(
+                "sslOutbound: Message processed, message data:",
+                outBuffers[1]
+            );
+        }
+        currentWritePhase = Phase.HEADER;
+        // If there are no more outbound messages pending, this will disable OP_WRITE.
+        // This also returns the buffers of the finished message to the pool.
+        nextOutMessage();
+        // WriteState.FINISHED would be returned here to indicate that an entire message
+        // has been sent, if it were to be implemented in the netcom connector
+        if (DEBUG_IO && msgOut == null)
+        {
+            debugLog("sslOutbound: Disable I/O: OP_WRITE (by nextOutMessage)");
+        }
+    }
+
     /**
      * Called by the connector service upon completion of asynchronously running SSL engine tasks.
      * This callback method continues the SSL handshake after the peer's I/O operations had been suspended
@@ -767,6 +789,14 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
         }
     }
 
+    /**
+     * Returns the selector of the selector loop that performs the I/O operations for this peer
+     */
+    Selector getSelector()
+    {
+        return getSelectionKey().selector();
+    }
+
     /**
      * Performs a step of an SSL handshake
      *
@@ -21,6 +21,7 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
@@ -28,7 +29,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.util.Arrays;
-import java.util.Map.Entry;
+import java.util.Iterator;
 import java.util.TreeMap;
 
 
@@ -102,13 +103,56 @@ public class SslTcpConnectorService extends TcpConnectorService
     )
         throws IOException, NoSuchAlgorithmException, KeyManagementException,
         UnrecoverableKeyException, KeyStoreException, CertificateException
+    {
+        this(
+            errorReporter,
+            commonSerializer,
+            msgProcessorRef,
+            bindAddress,
+            connObserverRef,
+            cryptoProviderRef,
+            sslProtocol,
+            keyStoreFile,
+            keyStorePasswd,
+            keyPasswd,
+            trustStoreFile,
+            trustStorePasswd,
+            1
+        );
+    }
+
+    /**
+     * Same as {@link #SslTcpConnectorService(ErrorReporter, CommonSerializer, MessageProcessor, SocketAddress,
+     * ConnectionObserver, ModularCryptoProvider, String, String, char[], char[], String, char[])}, but with a
+     * configurable number of selector loops
+     *
+     * @param ioThreadCountRef Number of selector loops (I/O threads), see {@link TcpConnectorService}
+     */
+    public SslTcpConnectorService(
+        final ErrorReporter errorReporter,
+        final CommonSerializer commonSerializer,
+        final MessageProcessor msgProcessorRef,
+        final SocketAddress bindAddress,
+        final ConnectionObserver connObserverRef,
+        final ModularCryptoProvider cryptoProviderRef,
+        final String sslProtocol,
+        final String keyStoreFile,
+        final char[] keyStorePasswd,
+        final char[] keyPasswd,
+        final String trustStoreFile,
+        final char[] trustStorePasswd,
+        final int ioThreadCountRef
+    )
+        throws IOException, NoSuchAlgorithmException, KeyManagementException,
+        UnrecoverableKeyException, KeyStoreException, CertificateException
     {
         super(
             errorReporter,
             commonSerializer,
             msgProcessorRef,
             bindAddress,
-            connObserverRef
+            connObserverRef,
+            ioThreadCountRef
         );
         if (DEBUG_INIT)
         {
@@ -278,7 +322,8 @@ public class SslTcpConnectorService extends TcpConnectorService
             }
             taskCompletionMap.put(id, connPeer);
         }
-        wakeup();
+        // Only the selector loop of the peer continues the handshake
+        connPeer.getSelector().wakeup();
     }
 
     /**
@@ -288,19 +333,21 @@ public class SslTcpConnectorService extends TcpConnectorService
      *
      * @throws IllegalMessageStateException If the LINSTOR message is in an illegal state for the data transfer
      *         operation performed by SSL processing methods; not supposed to happen, indicates an implementation error
+     * @param selector The selector of the calling selector loop. Only peers handled by that selector loop are
+     *     processed.
      * @throws IOException If network I/O operations fail while continuing the SSL handshake
      */
     @Override
-    protected void onSelectorWakeup()
+    protected void onSelectorWakeup(final Selector selector)
         throws IllegalMessageStateException, IOException
     {
         if (DEBUG_SSL_TASKS)
         {
             debugLog("onSelectorWakeup called");
         }
-        for (@Nullable SslTcpConnectorPeer connPeer = nextTaskCompletionEntry();
+        for (@Nullable SslTcpConnectorPeer connPeer = nextTaskCompletionEntry(selector);
              connPeer != null;
-             connPeer = nextTaskCompletionEntry())
+             connPeer = nextTaskCompletionEntry(selector))
         {
             if (DEBUG_SSL_TASKS)
             {
@@ -343,15 +390,24 @@ public class SslTcpConnectorService extends TcpConnectorService
      * Used to iterate through the peers that were scheduled for continuing the SSL handshake after completion of
      * concurrently running SSLEngine tasks.
      *
+     * @param selector Selector of the selector loop that handles the returned peer
      * @return SslTcpConnectorPeer object scheduled for continuing the SSL handshake
      */
-    private @Nullable SslTcpConnectorPeer nextTaskCompletionEntry()
+    private @Nullable SslTcpConnectorPeer nextTaskCompletionEntry(final Selector selector)
     {
-        @Nullable SslTcpConnectorPeer connPeer;
+        @Nullable SslTcpConnectorPeer connPeer = null;
         synchronized (taskCompletionMap)
         {
-            final Entry<String, SslTcpConnectorPeer> entry = taskCompletionMap.pollFirstEntry();
-            connPeer = entry == null ? null : entry.getValue();
+            final Iterator<SslTcpConnectorPeer> peerIter = taskCompletionMap.values().iterator();
+            while (connPeer == null && peerIter.hasNext())
+            {
+                final SslTcpConnectorPeer entryPeer = peerIter.next();
+                if (entryPeer.getSelector() == selector)
+                {
+                    peerIter.remove();
+                    connPeer = entryPeer;
+                }
+            }
         }
         return connPeer;
     }
@@ -1,5 +1,7 @@
 package com.linbit.linstor.prometheus;
 
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class LinstorServerMetrics
@@ -27,4 +29,112 @@ public class LinstorServerMetrics
         .buckets(DEFAULT_BUCKETS)
         .labelNames("apicall", "peer")
         .register();
+
+    /**
+     * Number of SQL statements that did not need their own database round trip, either because they were executed
+     * as part of a JDBC batch ("batched") or because they were redundant ("coalesced").
+     */
+    public static final Counter dbSavedStatements = Counter.build()
+        .name("linstor_db_saved_statements")
+        .help("Number of SQL statements saved by batching or coalescing writes per database table")
+        .labelNames("table", "reason")
+        .register();
+
+    /**
+     * Number of event messages a satellite did not need to send to the controller, either because the event was
+     * sent in a batch with other events ("batched") or because a newer value of the same event stream superseded it
+     * ("coalesced").
+     */
+    public static final Counter eventSavedMessages = Counter.build()
+        .name("linstor_event_saved_messages")
+        .help("Number of event messages saved by batching or coalescing events per event name")
+        .labelNames("event", "reason")
+        .register();
+
+    /**
+     * Histogram for the run time of external commands, labeled by the name of the executable (without path).
+     */
+    public static final Histogram extCmdDurationHistogram = Histogram.build()
+        .name("linstor_ext_cmd_duration_seconds")
+        .help("Run time of external commands in seconds")
+        .unit("seconds")
+        .buckets(DEFAULT_BUCKETS)
+        .labelNames("command")
+        .register();
+
+    /**
+     * Number of currently running external commands, labeled by the name of the executable (without path).
+     */
+    public static final Gauge extCmdRunning = Gauge.build()
+        .name("linstor_ext_cmd_running")
+        .help("Number of currently running external commands")
+        .labelNames("command")
+        .register();
+
+    /**
+     * Number of bytes uploaded to S3 by backup shippings, labeled by the remote. The rate is the upload throughput.
+     */
+    public static final Counter backupS3UploadedBytes = Counter.build()
+        .name("linstor_backup_s3_uploaded_bytes")
+        .help("Number of bytes uploaded to S3 by backup shippings")
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Histogram for the upload time of single parts of S3 backup shippings, labeled by the remote.
+     */
+    public static final Histogram backupS3PartDuration = Histogram.build()
+        .name("linstor_backup_s3_part_upload_duration_seconds")
+        .help("Upload time of single parts of S3 backup shippings in seconds")
+        .unit("seconds")
+        .buckets(DEFAULT_BUCKETS)
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Number of parts of S3 backup shippings that are currently being uploaded, labeled by the remote.
+     */
+    public static final Gauge backupS3PartsInFlight = Gauge.build()
+        .name("linstor_backup_s3_parts_in_flight")
+        .help("Number of parts of S3 backup shippings currently being uploaded")
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Number of bytes downloaded from S3 by backup restores, labeled by the remote. The rate is the download
+     * throughput.
+     */
+    public static final Counter backupS3DownloadedBytes = Counter.build()
+        .name("linstor_backup_s3_downloaded_bytes")
+        .help("Number of bytes downloaded from S3 by backup restores")
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Number of bytes of a backup already downloaded by a running S3 restore, labeled by the remote and the backup.
+     * Compared to {@link #backupS3RestoreSizeBytes} this is the progress of the restore.
+     */
+    public static final Gauge backupS3RestoreDownloadedBytes = Gauge.build()
+        .name("linstor_backup_s3_restore_downloaded_bytes")
+        .help("Number of bytes of a backup already downloaded by a running S3 restore")
+        .labelNames("remote", "backup")
+        .register();
+
+    /**
+     * Size of a backup that is currently being restored from S3, labeled by the remote and the backup.
+     */
+    public static final Gauge backupS3RestoreSizeBytes = Gauge.build()
+        .name("linstor_backup_s3_restore_size_bytes")
+        .help("Size in bytes of a backup currently being restored from S3")
+        .labelNames("remote", "backup")
+        .register();
+
+    /**
+     * Number of retried part uploads and chunk downloads of S3 backup shippings, labeled by the remote.
+     */
+    public static final Counter backupS3PartRetries = Counter.build()
+        .name("linstor_backup_s3_part_retries")
+        .help("Number of retried part uploads and chunk downloads of S3 backup shippings")
+        .labelNames("remote")
+        .register();
 }
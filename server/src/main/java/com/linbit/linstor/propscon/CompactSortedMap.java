@@ -0,0 +1,309 @@
+package com.linbit.linstor.propscon;
+
+import com.linbit.linstor.annotation.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Map with the same key order as a <code>TreeMap&lt;String, V&gt;</code>, but backed by two sorted arrays instead of
+ * one tree node per entry.
+ *
+ * A {@link PropsContainer} namespace usually only holds a handful of entries and there are tens of thousands of
+ * containers on a large controller, so the per-entry overhead of a TreeMap dominates the memory used for the actual
+ * properties. Lookups are a binary search, inserts and removes shift the tail of the arrays, which is cheap for the
+ * sizes in question.
+ *
+ * All keys are deduplicated through a dictionary shared by all instances, so that the same key stored in every
+ * resource's or volume's container only exists once on the heap. The dictionary only holds weak references, keys that
+ * are no longer used by any container are garbage collected.
+ *
+ * Like the TreeMap it replaces, this class is not thread safe (see the synchronization notice of
+ * {@link PropsContainer}). Iterators are fail-fast.
+ */
+class CompactSortedMap<V> extends AbstractMap<String, V>
+{
+    private static final Interner<String> KEY_DICTIONARY = Interners.newWeakInterner();
+
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final int MIN_CAPACITY = 4;
+
+    private String[] keys;
+    private Object[] values;
+    private int size;
+    private int modCount;
+
+    private @Nullable EntrySetView entrySetView;
+
+    CompactSortedMap()
+    {
+        keys = EMPTY_KEYS;
+        values = EMPTY_VALUES;
+        size = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Returns the shared instance of the given key
+     */
+    static String internKey(String key)
+    {
+        return KEY_DICTIONARY.intern(key);
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return key instanceof String strKey && indexOf(strKey) >= 0;
+    }
+
+    @Override
+    public @Nullable V get(Object key)
+    {
+        V value = null;
+        if (key instanceof String strKey)
+        {
+            int idx = indexOf(strKey);
+            if (idx >= 0)
+            {
+                value = valueAt(idx);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public @Nullable V put(String key, V value)
+    {
+        Objects.requireNonNull(key);
+        V oldValue;
+        int idx = indexOf(key);
+        if (idx >= 0)
+        {
+            oldValue = valueAt(idx);
+            values[idx] = value;
+        }
+        else
+        {
+            oldValue = null;
+            insertAt(-(idx + 1), internKey(key), value);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public @Nullable V remove(Object key)
+    {
+        V oldValue = null;
+        if (key instanceof String strKey)
+        {
+            int idx = indexOf(strKey);
+            if (idx >= 0)
+            {
+                oldValue = valueAt(idx);
+                removeAt(idx);
+            }
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (size > 0)
+        {
+            keys = EMPTY_KEYS;
+            values = EMPTY_VALUES;
+            size = 0;
+            ++modCount;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet()
+    {
+        EntrySetView view = entrySetView;
+        if (view == null)
+        {
+            view = new EntrySetView();
+            entrySetView = view;
+        }
+        return view;
+    }
+
+    private int indexOf(String key)
+    {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int idx)
+    {
+        return (V) values[idx];
+    }
+
+    private void insertAt(int idx, String key, V value)
+    {
+        if (size == keys.length)
+        {
+            int newCapacity = Math.max(MIN_CAPACITY, size + (size >> 1));
+            keys = Arrays.copyOf(keys, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        int tailLength = size - idx;
+        if (tailLength > 0)
+        {
+            System.arraycopy(keys, idx, keys, idx + 1, tailLength);
+            System.arraycopy(values, idx, values, idx + 1, tailLength);
+        }
+        keys[idx] = key;
+        values[idx] = value;
+        ++size;
+        ++modCount;
+    }
+
+    private void removeAt(int idx)
+    {
+        int tailLength = size - idx - 1;
+        if (tailLength > 0)
+        {
+            System.arraycopy(keys, idx + 1, keys, idx, tailLength);
+            System.arraycopy(values, idx + 1, values, idx, tailLength);
+        }
+        --size;
+        keys[size] = null;
+        values[size] = null;
+        ++modCount;
+
+        if (size == 0)
+        {
+            keys = EMPTY_KEYS;
+            values = EMPTY_VALUES;
+        }
+        else
+        if (size < keys.length >> 2 && keys.length > MIN_CAPACITY)
+        {
+            // shrink, containers often temporarily grow during a bulk update
+            int newCapacity = Math.max(MIN_CAPACITY, size << 1);
+            keys = Arrays.copyOf(keys, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    private class EntrySetView extends AbstractSet<Map.Entry<String, V>>
+    {
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public void clear()
+        {
+            CompactSortedMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, V>>
+    {
+        private int nextIdx = 0;
+        private int lastIdx = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext()
+        {
+            return nextIdx < size;
+        }
+
+        @Override
+        public Map.Entry<String, V> next()
+        {
+            checkForComodification();
+            if (nextIdx >= size)
+            {
+                throw new NoSuchElementException();
+            }
+            lastIdx = nextIdx++;
+            return new CompactEntry(keys[lastIdx], valueAt(lastIdx), expectedModCount);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (lastIdx < 0)
+            {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAt(lastIdx);
+            nextIdx = lastIdx;
+            lastIdx = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification()
+        {
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class CompactEntry extends AbstractMap.SimpleEntry<String, V>
+    {
+        private static final long serialVersionUID = 3924715289456117208L;
+
+        private final int createdModCount;
+
+        CompactEntry(String key, V value, int createdModCountRef)
+        {
+            super(key, value);
+            createdModCount = createdModCountRef;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            // writes through to the map, as TreeMap's entries do. Replacing a value does not change the structure of
+            // the map, so the entry is still valid as long as no key was added or removed
+            if (modCount != createdModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            values[indexOf(getKey())] = value;
+            return super.setValue(value);
+        }
+    }
+}
@@ -37,4 +37,9 @@ public interface Props extends TransactionObject, ReadOnlyProps
     void clear() throws DatabaseException;
 
     void delete() throws DatabaseException;
+
+    /**
+     * Registers a listener that is notified about every change of a property, see {@link PropsChangeListener}
+     */
+    void setChangeListener(@Nullable PropsChangeListener listener);
 }
@@ -0,0 +1,24 @@
+package com.linbit.linstor.propscon;
+
+import com.linbit.linstor.annotation.Nullable;
+
+/**
+ * Observes all changes of the properties of a {@link PropsContainer} hierarchy, see
+ * {@link PropsContainer#setChangeListener(PropsChangeListener)}.
+ *
+ * The listener is also notified about the changes made by a rollback, so anything derived from the properties by a
+ * listener stays consistent with the container without having to take part in the transaction itself.
+ */
+@FunctionalInterface
+public interface PropsChangeListener
+{
+    /**
+     * Called after a property was set, changed or removed. Not called if a property was set to the value it already
+     * had.
+     *
+     * @param key the full key of the property (including all namespaces)
+     * @param oldValue the previous value or null if the property was not set before
+     * @param newValue the new value or null if the property was removed
+     */
+    void propChanged(String key, @Nullable String oldValue, @Nullable String newValue);
+}
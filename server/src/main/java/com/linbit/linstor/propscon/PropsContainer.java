@@ -76,6 +76,10 @@ public class PropsContainer extends AbsTransactionObject implements Props
     protected final @Nullable PropsDatabaseDriver dbDriver;
     protected @Nullable Provider<TransactionMgr> transMgrProvider;
     private @Nullable Map<String, String> cachedPropMap;
+    // only maintained by the root container, see getModificationCount()
+    private long modificationCount = 1;
+    // only used by the root container, see setChangeListener()
+    private @Nullable PropsChangeListener changeListener;
 
     /*
      * Only sub-containers do not have an instance name, since they use their parent's
@@ -117,7 +121,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
             ErrorCheck.ctorNotNull(PropsContainer.class, String.class, key);
 
             checkKey(key);
-            containerKey = key;
+            containerKey = CompactSortedMap.internKey(key);
 
             rootContainer = parent.getRoot();
             parentContainer = parent;
@@ -126,8 +130,9 @@ public class PropsContainer extends AbsTransactionObject implements Props
         instanceName = instanceNameRef;
         description = descriptionRef;
         type = typeRef;
-        propMap = new TreeMap<>();
-        containerMap = new TreeMap<>();
+        // most containers only hold a few entries, see CompactSortedMap
+        propMap = new CompactSortedMap<>();
+        containerMap = new CompactSortedMap<>();
 
         keySetAccessor = null;
         entrySetAccessor = null;
@@ -281,7 +286,10 @@ public class PropsContainer extends AbsTransactionObject implements Props
         }
         if (!value.equals(oldValue))
         {
-            dbPersist(con.getPath() + actualKey, value, oldValue);
+            modified();
+            String fullKey = con.getPath() + actualKey;
+            dbPersist(fullKey, value, oldValue);
+            notifyChanged(fullKey, oldValue, value);
         }
         return oldValue;
     }
@@ -334,9 +342,12 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
                 if (value != null)
                 {
+                    modified();
                     con.modifySize(-1);
+                    String fullKey = con.getPath() + actualKey;
                     con.removeCleanup();
-                    dbRemove(con.getPath() + actualKey, value);
+                    dbRemove(fullKey, value);
+                    notifyChanged(fullKey, value, null);
                 }
             }
         }
@@ -446,6 +457,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
                     targetContainer.modifySize(1);
                 }
             }
+            modified();
         }
         catch (InvalidKeyException invalidKeyExc)
         {
@@ -471,6 +483,8 @@ public class PropsContainer extends AbsTransactionObject implements Props
         // cache all entries in case we need to rollback
 
         rootContainer.activateTransMgr();
+        // only the entries of this (sub-)container are actually removed
+        @Nullable Map<String, String> removedEntries = rootContainer.changeListener == null ? null : cloneMap();
         Set<Entry<String, String>> entrySet = rootContainer.entrySet();
         for (Entry<String, String> entry : entrySet)
         {
@@ -489,6 +503,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
         containerMap.clear();
         propMap.clear();
+        modified();
 
         if (parentContainer != null)
         {
@@ -496,6 +511,14 @@ public class PropsContainer extends AbsTransactionObject implements Props
         }
         removeCleanup();
         itemCount = 0;
+
+        if (removedEntries != null)
+        {
+            for (Entry<String, String> entry : removedEntries.entrySet())
+            {
+                notifyChanged(entry.getKey(), entry.getValue(), null);
+            }
+        }
     }
 
     /**
@@ -785,6 +808,39 @@ public class PropsContainer extends AbsTransactionObject implements Props
         return pathComponents.toString();
     }
 
+    @Override
+    public long getModificationCount()
+    {
+        return rootContainer.modificationCount;
+    }
+
+    private void modified()
+    {
+        ++rootContainer.modificationCount;
+    }
+
+    /**
+     * Registers a listener that is notified about every change of a property of this container hierarchy, including
+     * the changes made by {@link #rollbackImpl()}. Only one listener can be registered, a previously registered
+     * listener is replaced. Properties that are already set are not reported to the new listener.
+     *
+     * @param listener the listener or null to remove the current one
+     */
+    @Override
+    public void setChangeListener(@Nullable PropsChangeListener listener)
+    {
+        rootContainer.changeListener = listener;
+    }
+
+    private void notifyChanged(String key, @Nullable String oldValue, @Nullable String newValue)
+    {
+        @Nullable PropsChangeListener listener = rootContainer.changeListener;
+        if (listener != null)
+        {
+            listener.propChanged(key, oldValue, newValue);
+        }
+    }
+
     private StringBuilder getPathComponents()
     {
         StringBuilder pathComponents;
@@ -959,6 +1015,10 @@ public class PropsContainer extends AbsTransactionObject implements Props
                 {
                     targetContainer.modifySize(1);
                 }
+                if (!Objects.equals(oldValue, value))
+                {
+                    root.notifyChanged(key, oldValue, value);
+                }
             }
             catch (InvalidKeyException | DatabaseException exc)
             {
@@ -970,6 +1030,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
             }
         }
         root.cachedPropMap.clear();
+        modified();
     }
 
     private void dbPersist(String key, String value, String oldValue) throws DatabaseException
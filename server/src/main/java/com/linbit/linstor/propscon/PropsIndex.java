@@ -0,0 +1,142 @@
+package com.linbit.linstor.propscon;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.utils.RegexMatcher;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary index from the values of selected property keys to the objects owning the properties.
+ *
+ * Objects are added with {@link #add(Object, Props)}, which registers a {@link PropsChangeListener} on the object's
+ * properties. From then on, the index follows every change of the properties, including rollbacks, so it always
+ * reflects the current (not necessarily committed) state of the properties, just like the properties themselves.
+ * Deleting an object clears its properties, which also removes the object from the index.
+ *
+ * The index does not need its own synchronization beyond the one that already protects the indexed properties (the
+ * internal maps are concurrent so that readers cannot break them).
+ *
+ * @param <T> the type of the indexed objects
+ */
+public class PropsIndex<T>
+{
+    private final Set<String> indexedKeys;
+    // key -> value -> objects having that value
+    private final Map<String, Map<String, Set<T>>> index = new ConcurrentHashMap<>();
+
+    public PropsIndex(Collection<String> indexedKeysRef)
+    {
+        indexedKeys = Set.copyOf(indexedKeysRef);
+    }
+
+    /**
+     * Adds the given object with its current property values and keeps it up to date from now on. Replaces any other
+     * change listener of the given properties.
+     */
+    public void add(T obj, Props props)
+    {
+        if (!indexedKeys.isEmpty())
+        {
+            for (String key : indexedKeys)
+            {
+                try
+                {
+                    @Nullable String value = props.getProp(key);
+                    if (value != null)
+                    {
+                        addEntry(obj, key, value);
+                    }
+                }
+                catch (InvalidKeyException exc)
+                {
+                    // an invalid key cannot be set, so there is nothing to index
+                }
+            }
+            props.setChangeListener((key, oldValue, newValue) -> propChanged(obj, key, oldValue, newValue));
+        }
+    }
+
+    /**
+     * Returns all objects whose property with the given key has exactly the given value, or null if the key is not
+     * indexed (in which case the caller has to check all objects).
+     */
+    public @Nullable Set<T> lookup(String key, String value)
+    {
+        @Nullable Set<T> ret = null;
+        if (indexedKeys.contains(key))
+        {
+            @Nullable Map<String, Set<T>> valueMap = index.get(key);
+            @Nullable Set<T> objs = valueMap == null ? null : valueMap.get(value);
+            ret = objs == null ? Collections.emptySet() : new HashSet<>(objs);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the smallest set of candidates for the given property filters (see
+     * {@link ReadOnlyProps#contains(List)}), or null if none of the filters is an exact match on an indexed key.
+     *
+     * The returned objects still have to be checked against all filters.
+     */
+    public @Nullable Set<T> lookupCandidates(List<String> propFilters)
+    {
+        @Nullable Set<T> candidates = null;
+        for (String propFilter : propFilters)
+        {
+            String[] split = propFilter.split("=", 2);
+            if (split.length == 2 && !RegexMatcher.isRegex(split[0]) && !RegexMatcher.isRegex(split[1]))
+            {
+                @Nullable Set<T> matches = lookup(split[0], split[1]);
+                if (matches != null && (candidates == null || matches.size() < candidates.size()))
+                {
+                    candidates = matches;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void propChanged(T obj, String key, @Nullable String oldValue, @Nullable String newValue)
+    {
+        if (indexedKeys.contains(key))
+        {
+            if (oldValue != null)
+            {
+                removeEntry(obj, key, oldValue);
+            }
+            if (newValue != null)
+            {
+                addEntry(obj, key, newValue);
+            }
+        }
+    }
+
+    private void addEntry(T obj, String key, String value)
+    {
+        index.computeIfAbsent(key, ignored -> new ConcurrentHashMap<>())
+            .computeIfAbsent(value, ignored -> ConcurrentHashMap.newKeySet())
+            .add(obj);
+    }
+
+    private void removeEntry(T obj, String key, String value)
+    {
+        @Nullable Map<String, Set<T>> valueMap = index.get(key);
+        if (valueMap != null)
+        {
+            valueMap.computeIfPresent(
+                value,
+                (ignored, objs) ->
+                {
+                    objs.remove(obj);
+                    return objs.isEmpty() ? null : objs;
+                }
+            );
+        }
+    }
+}
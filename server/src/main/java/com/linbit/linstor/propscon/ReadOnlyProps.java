@@ -38,6 +38,14 @@ public interface ReadOnlyProps extends Iterable<Map.Entry<String, String>>
 
     String getPath();
 
+    /**
+     * Returns a counter that changes whenever any property of the container hierarchy this instance belongs to is
+     * added, changed or removed. This allows callers to cache values derived from the properties.
+     *
+     * @return The modification counter, or a value &lt;= 0 if the implementation does not track modifications
+     */
+    long getModificationCount();
+
     Map<String, String> map();
 
     Map<String, String> cloneMap();
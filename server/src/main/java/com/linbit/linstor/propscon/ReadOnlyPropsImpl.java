@@ -145,6 +145,12 @@ public class ReadOnlyPropsImpl implements Props
         denyAccess();
     }
 
+    @Override
+    public void setChangeListener(@Nullable PropsChangeListener listener)
+    {
+        denyAccess();
+    }
+
     @Override
     public int size()
     {
@@ -163,6 +169,12 @@ public class ReadOnlyPropsImpl implements Props
         return propsMap.getPath();
     }
 
+    @Override
+    public long getModificationCount()
+    {
+        return propsMap.getModificationCount();
+    }
+
     @Override
     public Map<String, String> map()
     {
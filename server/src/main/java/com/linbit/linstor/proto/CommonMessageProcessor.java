@@ -2,6 +2,7 @@ package com.linbit.linstor.proto;
 
 import com.linbit.ImplementationError;
 import com.linbit.linstor.LinStorException;
+import com.linbit.linstor.LinStorModule;
 import com.linbit.linstor.api.ApiCall;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
@@ -31,6 +32,7 @@ import com.linbit.locks.LockGuard;
 import com.linbit.utils.MathUtils;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.ByteArrayInputStream;
@@ -78,7 +80,7 @@ public class CommonMessageProcessor implements MessageProcessor
     @Inject
     public CommonMessageProcessor(
         ErrorReporter errorLogRef,
-        Scheduler scheduler,
+        @Named(LinStorModule.MSG_PROCESSING_SCHEDULER) Scheduler scheduler,
         ScopeRunner scopeRunnerRef,
         CommonSerializer commonSerializerRef,
         Map<String, BaseApiCall> apiCalls,
@@ -0,0 +1,42 @@
+package com.linbit.linstor.transaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing sequence that changes whenever the state visible through the list APIs may have changed,
+ * i.e. after every commit of a transaction that modified objects, and whenever the connection state of a peer changes.
+ *
+ * The sequence is only ever compared for equality, so it may change more often than strictly necessary, but never
+ * less: if the sequence did not change, a list answered before still describes the current state. Since it starts
+ * from 0 after each restart, {@link #getTag()} also contains the time this instance was started.
+ */
+public final class ChangeSequence
+{
+    private static final String INSTANCE_ID = Long.toHexString(System.currentTimeMillis());
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private ChangeSequence()
+    {
+    }
+
+    /**
+     * Marks the state as changed.
+     */
+    public static void next()
+    {
+        SEQUENCE.incrementAndGet();
+    }
+
+    public static long current()
+    {
+        return SEQUENCE.get();
+    }
+
+    /**
+     * @return an opaque string identifying the current state, e.g. to be used as an HTTP entity tag
+     */
+    public static String getTag()
+    {
+        return INSTANCE_ID + "-" + Long.toHexString(SEQUENCE.get());
+    }
+}
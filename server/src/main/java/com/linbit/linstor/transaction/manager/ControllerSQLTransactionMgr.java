@@ -1,6 +1,9 @@
 package com.linbit.linstor.transaction.manager;
 
 import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.LinStorDBRuntimeException;
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.transaction.ChangeSequence;
 import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectCollection;
@@ -13,12 +16,14 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     private final ControllerSQLDatabase controllerDatabase;
     private final Connection dbCon;
     private final TransactionObjectCollection transactionObjectCollection;
+    private final SQLWriteBuffer writeBuffer;
 
     public ControllerSQLTransactionMgr(ControllerSQLDatabase controllerDatabaseRef) throws SQLException
     {
         controllerDatabase = controllerDatabaseRef;
         dbCon = controllerDatabaseRef.getConnection();
         transactionObjectCollection = new TransactionObjectCollection();
+        writeBuffer = new SQLWriteBuffer(dbCon);
     }
 
     @Override
@@ -30,16 +35,22 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     @Override
     public void commit() throws TransactionException
     {
+        boolean changed = !writeBuffer.isEmpty() || transactionObjectCollection.areAnyDirty();
         try
         {
+            writeBuffer.flush();
             dbCon.commit();
         }
-        catch (SQLException sqlExc)
+        catch (SQLException | DatabaseException exc)
         {
-            throw new TransactionException("Database commit failed.", sqlExc);
+            throw new TransactionException("Database commit failed.", exc);
         }
 
         transactionObjectCollection.commitAll();
+        if (changed)
+        {
+            ChangeSequence.next();
+        }
 
         clearTransactionObjects();
     }
@@ -49,6 +60,7 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     public void rollback() throws TransactionException
     {
         transactionObjectCollection.rollbackAll();
+        writeBuffer.clear();
 
         try
         {
@@ -83,12 +95,30 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     @Override
     public Connection getConnection()
     {
+        if (!writeBuffer.isEmpty())
+        {
+            try
+            {
+                writeBuffer.flush();
+            }
+            catch (DatabaseException dbExc)
+            {
+                throw new LinStorDBRuntimeException("Failed to execute pending database writes", dbExc);
+            }
+        }
         return dbCon;
     }
 
+    @Override
+    public SQLWriteBuffer getWriteBuffer()
+    {
+        return writeBuffer;
+    }
+
     @Override
     public void returnConnection()
     {
+        writeBuffer.clear();
         controllerDatabase.returnConnection(dbCon);
 
         clearTransactionObjects();
@@ -0,0 +1,185 @@
+package com.linbit.linstor.transaction.manager;
+
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.DatabaseTable;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Write-behind buffer for the INSERT, UPDATE and DELETE statements of a single SQL transaction.
+ *
+ * Instead of executing every statement immediately, the statements are queued and executed by {@link #flush()} as JDBC
+ * batches, which is called before the transaction is committed and before anything reads from the transaction's
+ * connection. The order of the statements is preserved: consecutive statements with the same SQL string are executed
+ * as one batch, which is the common case when many objects of the same kind or many properties are written at once.
+ *
+ * An UPDATE of a column that is followed by another UPDATE of the same column of the same row (i.e. same SQL string
+ * and same primary key) is redundant and is dropped.
+ *
+ * The parameters of the statements have to be captured when the statement is queued, not when it is flushed, since the
+ * data object might have been changed again in the meantime.
+ */
+public class SQLWriteBuffer
+{
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final String REASON_BATCHED = "batched";
+    private static final String REASON_COALESCED = "coalesced";
+
+    private final Connection dbCon;
+    private final ArrayList<PendingWrite> pendingWrites = new ArrayList<>();
+    private final HashMap<UpdateKey, PendingWrite> pendingUpdates = new HashMap<>();
+
+    @FunctionalInterface
+    public interface ParameterSetter
+    {
+        void setParameters(PreparedStatement stmt) throws SQLException, DatabaseException;
+    }
+
+    public SQLWriteBuffer(Connection dbConRef)
+    {
+        dbCon = dbConRef;
+    }
+
+    /**
+     * Queues the given INSERT or DELETE statement
+     */
+    public void add(DatabaseTable table, String sql, ParameterSetter paramSetter)
+    {
+        pendingWrites.add(new PendingWrite(table, sql, paramSetter));
+    }
+
+    /**
+     * Queues the given UPDATE statement, which updates the row with the given primary key. A still pending UPDATE
+     * with the same SQL string and primary key is dropped.
+     */
+    public void addUpdate(DatabaseTable table, String sql, Object[] pkValues, ParameterSetter paramSetter)
+    {
+        PendingWrite write = new PendingWrite(table, sql, paramSetter);
+        PendingWrite overridden = pendingUpdates.put(new UpdateKey(sql, Arrays.asList(pkValues)), write);
+        if (overridden != null)
+        {
+            overridden.obsolete = true;
+        }
+        pendingWrites.add(write);
+    }
+
+    public boolean isEmpty()
+    {
+        return pendingWrites.isEmpty();
+    }
+
+    /**
+     * Executes all queued statements. The queue is empty afterwards, even if a statement failed, as the transaction
+     * has to be rolled back in that case anyways.
+     */
+    public void flush() throws DatabaseException
+    {
+        try
+        {
+            int idx = 0;
+            int count = pendingWrites.size();
+            while (idx < count)
+            {
+                PendingWrite first = pendingWrites.get(idx);
+                if (first.obsolete)
+                {
+                    countSaved(first.table, REASON_COALESCED, 1);
+                    ++idx;
+                }
+                else
+                {
+                    try (PreparedStatement stmt = dbCon.prepareStatement(first.sql))
+                    {
+                        int batchSize = 0;
+                        PendingWrite write = first;
+                        while (write != null)
+                        {
+                            if (write.obsolete)
+                            {
+                                countSaved(write.table, REASON_COALESCED, 1);
+                            }
+                            else
+                            {
+                                write.paramSetter.setParameters(stmt);
+                                stmt.addBatch();
+                                ++batchSize;
+                                if (batchSize == MAX_BATCH_SIZE)
+                                {
+                                    executeBatch(stmt, first.table, batchSize);
+                                    batchSize = 0;
+                                }
+                            }
+                            ++idx;
+                            write = idx < count && pendingWrites.get(idx).sql.equals(first.sql) ?
+                                pendingWrites.get(idx) :
+                                null;
+                        }
+                        executeBatch(stmt, first.table, batchSize);
+                    }
+                }
+            }
+        }
+        catch (SQLException sqlExc)
+        {
+            throw new DatabaseException(sqlExc);
+        }
+        finally
+        {
+            clear();
+        }
+    }
+
+    /**
+     * Drops all queued statements
+     */
+    public void clear()
+    {
+        pendingWrites.clear();
+        pendingUpdates.clear();
+    }
+
+    private static void executeBatch(PreparedStatement stmt, DatabaseTable table, int batchSize) throws SQLException
+    {
+        if (batchSize > 0)
+        {
+            stmt.executeBatch();
+            countSaved(table, REASON_BATCHED, batchSize - 1);
+        }
+    }
+
+    private static void countSaved(DatabaseTable table, String reason, int savedStatements)
+    {
+        if (savedStatements > 0)
+        {
+            LinstorServerMetrics.dbSavedStatements.labels(table.getName(), reason).inc(savedStatements);
+        }
+    }
+
+    private static class PendingWrite
+    {
+        private final DatabaseTable table;
+        private final String sql;
+        private final ParameterSetter paramSetter;
+        private boolean obsolete;
+
+        PendingWrite(DatabaseTable tableRef, String sqlRef, ParameterSetter paramSetterRef)
+        {
+            table = tableRef;
+            sql = sqlRef;
+            paramSetter = paramSetterRef;
+            obsolete = false;
+        }
+    }
+
+    private record UpdateKey(String sql, List<Object> pkValues)
+    {
+    }
+}
@@ -3,6 +3,10 @@ package com.linbit.linstor.transaction.manager;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectCollection;
 
+/**
+ * The device manager might process resources concurrently (see the <code>[devmgr]</code> section of the satellite's
+ * configuration) while sharing a single transaction. Therefore all methods are synchronized.
+ */
 public class SatelliteTransactionMgr implements TransactionMgr
 {
     private final TransactionObjectCollection transactionObjectCollection;
@@ -13,13 +17,13 @@ public class SatelliteTransactionMgr implements TransactionMgr
     }
 
     @Override
-    public void register(TransactionObject transObj)
+    public synchronized void register(TransactionObject transObj)
     {
         transactionObjectCollection.register(transObj);
     }
 
     @Override
-    public void commit()
+    public synchronized void commit()
     {
         transactionObjectCollection.commitAll();
         clearTransactionObjects();
@@ -27,32 +31,32 @@ public class SatelliteTransactionMgr implements TransactionMgr
 
 
     @Override
-    public void rollback()
+    public synchronized void rollback()
     {
         transactionObjectCollection.rollbackAll();
         clearTransactionObjects();
     }
 
     @Override
-    public void clearTransactionObjects()
+    public synchronized void clearTransactionObjects()
     {
         transactionObjectCollection.clearAll();
     }
 
     @Override
-    public boolean isDirty()
+    public synchronized boolean isDirty()
     {
         return transactionObjectCollection.areAnyDirty();
     }
 
     @Override
-    public int sizeObjects()
+    public synchronized int sizeObjects()
     {
         return transactionObjectCollection.sizeObjects();
     }
 
     @Override
-    public void returnConnection()
+    public synchronized void returnConnection()
     {
         clearTransactionObjects();
     }
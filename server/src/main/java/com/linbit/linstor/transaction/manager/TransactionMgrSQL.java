@@ -4,5 +4,15 @@ import java.sql.Connection;
 
 public interface TransactionMgrSQL extends TransactionMgr
 {
+    /**
+     * Returns the connection of this transaction. Writes still pending in the {@link #getWriteBuffer() write buffer}
+     * are flushed first, so that everything executed on the returned connection sees all writes of this transaction.
+     */
     Connection getConnection();
+
+    /**
+     * Returns the buffer that collects the writes of this transaction until they are flushed, at the latest on
+     * {@link #commit()}
+     */
+    SQLWriteBuffer getWriteBuffer();
 }
@@ -44,6 +44,17 @@ public class RegexMatcher
         return str.chars().anyMatch(chr -> REGEX_META_CHARS.indexOf(chr) >= 0);
     }
 
+    /**
+     * Tests whether all given filters are literals, i.e. each of them matches exactly one value, so they can be
+     * resolved by direct lookups instead of matching every candidate value.
+     *
+     * @return true if {@code filters} is not empty and none of the filters contains a regex metacharacter
+     */
+    public static boolean isAllLiterals(Collection<String> filters)
+    {
+        return !filters.isEmpty() && filters.stream().noneMatch(RegexMatcher::isRegex);
+    }
+
     /**
      * Compiles a single filter into a {@link Pattern}. If the filter contains a regex metacharacter it is
      * compiled as a regular expression; otherwise it is quoted and matched literally.
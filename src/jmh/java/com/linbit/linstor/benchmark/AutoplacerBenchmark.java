@@ -0,0 +1,74 @@
+package com.linbit.linstor.benchmark;
+
+import com.linbit.linstor.api.interfaces.AutoSelectFilterApi;
+import com.linbit.linstor.api.pojo.builder.AutoSelectFilterBuilder;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.Autoplacer;
+import com.linbit.linstor.core.objects.StorPool;
+
+import javax.inject.Inject;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Storage pool selection of the {@link Autoplacer} (filter, rating and selection) for a new resource definition.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AutoplacerBenchmark
+{
+    private static final int STOR_POOLS_PER_NODE = 5;
+
+    @State(Scope.Benchmark)
+    public static class AutoplacerState extends BenchmarkCluster
+    {
+        @Param({"500"})
+        public int storPoolCount;
+
+        @Param({"3"})
+        public int placeCount;
+
+        @Inject Autoplacer autoplacer;
+
+        AutoSelectFilterApi selectFilter;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() throws Exception
+        {
+            setUpCluster();
+            createNodes(storPoolCount / STOR_POOLS_PER_NODE, STOR_POOLS_PER_NODE);
+            selectFilter = new AutoSelectFilterBuilder()
+                .setPlaceCount(placeCount)
+                .build();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownTrial() throws Exception
+        {
+            tearDownCluster();
+        }
+    }
+
+    @Benchmark
+    public Set<StorPool> autoPlace(AutoplacerState state)
+    {
+        return state.autoplacer.autoPlace(state.selectFilter, null, BenchmarkCluster.VLM_SIZE_KIB);
+    }
+}
@@ -0,0 +1,151 @@
+package com.linbit.linstor.benchmark;
+
+import com.linbit.linstor.api.ApiConsts.ConnectionStatus;
+import com.linbit.linstor.core.identifier.StorPoolName;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.StorPoolDefinition;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.security.GenericDbBase;
+import com.linbit.linstor.storage.kinds.DeviceLayerKind;
+import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+import com.linbit.linstor.utils.externaltools.ExtToolsManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Synthetic controller cluster for the JMH benchmarks.
+ *
+ * Uses the same Guice setup and test factories as the unit tests (see {@link GenericDbBase}), but instead of being
+ * driven by JUnit, {@link #setUpCluster()} and {@link #tearDownCluster()} have to be called from the benchmark's
+ * <code>@Setup</code> and <code>@TearDown</code> methods. The LINSTOR scope is entered by the thread calling
+ * {@link #setUpCluster()}, which is also the JMH worker thread as long as the benchmark runs single-threaded.
+ */
+public class BenchmarkCluster extends GenericDbBase
+{
+    public static final String STOR_POOL_NAME_PREFIX = "pool";
+    public static final long STOR_POOL_CAPACITY_KIB = 100L * 1024 * 1024 * 1024; // 100 TiB
+    public static final long VLM_SIZE_KIB = 1024 * 1024; // 1 GiB
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final List<StorPool> diskfulStorPools = new ArrayList<>();
+    private final List<Resource> resources = new ArrayList<>();
+
+    public void setUpCluster() throws Exception
+    {
+        setUpBeforeClass();
+        setUpAndEnterScope();
+    }
+
+    public void tearDownCluster() throws Exception
+    {
+        commitAndCleanUp(true);
+    }
+
+    /**
+     * Creates the given amount of online satellites with <code>storPoolsPerNode</code> LVM storage pools each
+     */
+    public void createNodes(int nodeCount, int storPoolsPerNode) throws Exception
+    {
+        for (int nodeIdx = 0; nodeIdx < nodeCount; nodeIdx++)
+        {
+            Node node = nodeTestFactory.create(nodeName(nodeIdx));
+            node.setPeer(createOnlinePeer());
+            nodesMap.put(node.getName(), node);
+            nodes.add(node);
+
+            for (int spIdx = 0; spIdx < storPoolsPerNode; spIdx++)
+            {
+                StorPool storPool = storPoolTestFactory.builder(node, STOR_POOL_NAME_PREFIX + spIdx)
+                    .setDriverKind(DeviceProviderKind.LVM)
+                    .build();
+                storPool.getFreeSpaceTracker().setCapacityInfo(STOR_POOL_CAPACITY_KIB, STOR_POOL_CAPACITY_KIB);
+
+                StorPoolDefinition storPoolDfn = storPool.getDefinition();
+                storPoolDfnMap.put(storPoolDfn.getName(), storPoolDfn);
+                diskfulStorPools.add(storPool);
+            }
+        }
+    }
+
+    /**
+     * Creates <code>rscDfnCount</code> DRBD resource definitions with one volume each and places
+     * <code>replicaCount</code> resources of every resource definition round-robin on the nodes created by
+     * {@link #createNodes(int, int)}
+     */
+    public void createResources(int rscDfnCount, int replicaCount) throws Exception
+    {
+        List<DeviceLayerKind> layerStack = Arrays.asList(DeviceLayerKind.DRBD, DeviceLayerKind.STORAGE);
+        StorPoolName storPoolName = new StorPoolName(STOR_POOL_NAME_PREFIX + 0);
+        int nextNodeIdx = 0;
+        for (int rscDfnIdx = 0; rscDfnIdx < rscDfnCount; rscDfnIdx++)
+        {
+            String rscName = String.format("rsc-%05d", rscDfnIdx);
+            ResourceDefinition rscDfn = resourceDefinitionTestFactory.builder(rscName)
+                .setLayerStack(layerStack)
+                .build();
+            rscDfnMap.put(rscDfn.getName(), rscDfn);
+            for (int replica = 0; replica < replicaCount; replica++)
+            {
+                Node node = nodes.get(nextNodeIdx);
+                nextNodeIdx = (nextNodeIdx + 1) % nodes.size();
+
+                Resource rsc = resourceTestFactory.builder(node.getName().displayValue, rscName)
+                    .setLayerStack(layerStack)
+                    .build();
+                volumeTestFactory.builder(node.getName().displayValue, rscName, 0)
+                    .setSize(VLM_SIZE_KIB)
+                    .setStorPoolData(node.getStorPool(storPoolName))
+                    .build();
+                resources.add(rsc);
+            }
+        }
+    }
+
+    public List<Node> getNodes()
+    {
+        return nodes;
+    }
+
+    public List<StorPool> getDiskfulStorPools()
+    {
+        return diskfulStorPools;
+    }
+
+    public List<Resource> getResources()
+    {
+        return resources;
+    }
+
+    private static String nodeName(int nodeIdx)
+    {
+        return String.format("node-%03d", nodeIdx);
+    }
+
+    private static Peer createOnlinePeer()
+    {
+        ExtToolsManager extToolsMgr = Mockito.mock(ExtToolsManager.class);
+        Mockito.when(extToolsMgr.isLayerSupported(ArgumentMatchers.any())).thenReturn(true);
+        Mockito.when(extToolsMgr.isProviderSupported(ArgumentMatchers.any())).thenReturn(true);
+        Mockito.when(extToolsMgr.getSupportedLayers())
+            .thenReturn(new TreeSet<>(Arrays.asList(DeviceLayerKind.values())));
+        Mockito.when(extToolsMgr.getSupportedProviders())
+            .thenReturn(new TreeSet<>(Arrays.asList(DeviceProviderKind.values())));
+
+        Peer peer = Mockito.mock(Peer.class);
+        Mockito.when(peer.isOnline()).thenReturn(true);
+        Mockito.when(peer.getConnectionStatus()).thenReturn(ConnectionStatus.ONLINE);
+        Mockito.when(peer.getExtToolsManager()).thenReturn(extToolsMgr);
+        Mockito.when(peer.getSatelliteStateLock()).thenReturn(new ReentrantReadWriteLock());
+        return peer;
+    }
+}
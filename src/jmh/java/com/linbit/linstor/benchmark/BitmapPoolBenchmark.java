@@ -0,0 +1,109 @@
+package com.linbit.linstor.benchmark;
+
+import com.linbit.ExhaustedPoolException;
+import com.linbit.linstor.numberpool.BitmapPool;
+import com.linbit.linstor.range.Range;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocation in a {@link BitmapPool} of the size of the DRBD minor number pool that is already filled to the given
+ * percentage with randomly distributed numbers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BitmapPoolBenchmark
+{
+    private static final int POOL_SIZE = 1 << 20;
+    private static final long SEED = 42;
+
+    @State(Scope.Benchmark)
+    public static class PoolState
+    {
+        @Param({"10", "90"})
+        public int fillPercent;
+
+        BitmapPool pool;
+        List<Range> ranges;
+        int[] probeNumbers;
+        int nextProbeIdx;
+
+        @Setup(Level.Trial)
+        public void setUpTrial()
+        {
+            pool = new BitmapPool(POOL_SIZE);
+            ranges = Collections.singletonList(new Range(0, POOL_SIZE - 1));
+
+            Random random = new Random(SEED);
+            int allocCount = (int) ((long) POOL_SIZE * fillPercent / 100);
+            while (pool.getAllocatedCount() < allocCount)
+            {
+                pool.allocate(random.nextInt(POOL_SIZE));
+            }
+
+            probeNumbers = new int[4096];
+            for (int idx = 0; idx < probeNumbers.length; idx++)
+            {
+                probeNumbers[idx] = random.nextInt(POOL_SIZE);
+            }
+        }
+
+        int nextProbeNumber()
+        {
+            int nr = probeNumbers[nextProbeIdx];
+            nextProbeIdx = (nextProbeIdx + 1) % probeNumbers.length;
+            return nr;
+        }
+    }
+
+    /**
+     * Allocates the lowest free number and releases it again, so that the fill level stays constant
+     */
+    @Benchmark
+    public int autoAllocate(PoolState state) throws ExhaustedPoolException
+    {
+        int nr = state.pool.autoAllocate(state.ranges);
+        state.pool.deallocate(nr);
+        return nr;
+    }
+
+    @Benchmark
+    public boolean isAllocated(PoolState state)
+    {
+        return state.pool.isAllocated(state.nextProbeNumber());
+    }
+
+    /**
+     * Toggles random numbers, i.e. allocates free numbers and releases allocated numbers
+     */
+    @Benchmark
+    public boolean toggleAllocation(PoolState state)
+    {
+        int nr = state.nextProbeNumber();
+        boolean allocated = state.pool.allocate(nr);
+        if (!allocated)
+        {
+            state.pool.deallocate(nr);
+        }
+        return allocated;
+    }
+}
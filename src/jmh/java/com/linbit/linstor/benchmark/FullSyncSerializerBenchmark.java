@@ -0,0 +1,92 @@
+package com.linbit.linstor.benchmark;
+
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.StorPool;
+
+import javax.inject.Inject;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full sync serialization (controller to satellite) of a synthetic cluster, containing all nodes, storage pools and
+ * resources of the cluster.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FullSyncSerializerBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class ClusterState extends BenchmarkCluster
+    {
+        @Param({"1000"})
+        public int rscCount;
+
+        @Inject CtrlStltSerializer ctrlStltSerializer;
+
+        Set<Node> nodeSet;
+        Set<StorPool> storPoolSet;
+        Set<Resource> rscSet;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() throws Exception
+        {
+            setUpCluster();
+            // 2 replicas per resource definition on 20 nodes, i.e. 50 resources per node with the default rscCount
+            createNodes(20, 2);
+            createResources(rscCount / 2, 2);
+
+            nodeSet = new HashSet<>(getNodes());
+            storPoolSet = new HashSet<>();
+            for (Node node : nodeSet)
+            {
+                node.streamStorPools().forEach(storPoolSet::add);
+            }
+            rscSet = new HashSet<>(getResources());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownTrial() throws Exception
+        {
+            tearDownCluster();
+        }
+    }
+
+    @Benchmark
+    public byte[] fullSync(ClusterState state)
+    {
+        return state.ctrlStltSerializer.headerlessBuilder()
+            .fullSync(
+                state.nodeSet,
+                state.storPoolSet,
+                state.rscSet,
+                Collections.emptySet(),
+                Collections.emptySet(),
+                Collections.emptySet(),
+                1L,
+                0L
+            )
+            .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.linbit.linstor.benchmark;
+
+import com.linbit.linstor.api.rest.v1.serializer.Json;
+import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
+import com.linbit.linstor.core.apis.NodeApi;
+import com.linbit.linstor.core.apis.ResourceApi;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.satellitestate.SatelliteState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * REST serialization of the resource and node lists, i.e. the conversion of the API objects into
+ * {@link JsonGenTypes} by {@link Json} and the following Jackson serialization, as done for
+ * <code>/v1/view/resources</code> and <code>/v1/nodes</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JsonSerializerBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class RestState extends BenchmarkCluster
+    {
+        @Param({"1000"})
+        public int rscCount;
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final Map<NodeName, SatelliteState> satelliteStates = Collections.emptyMap();
+
+        List<ResourceApi> rscApis;
+        List<NodeApi> nodeApis;
+        List<JsonGenTypes.Resource> jsonRscs;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() throws Exception
+        {
+            setUpCluster();
+            createNodes(20, 2);
+            createResources(rscCount / 2, 2);
+
+            rscApis = new ArrayList<>();
+            for (Resource rsc : getResources())
+            {
+                rscApis.add(rsc.getApiData(null, null, null));
+            }
+            nodeApis = new ArrayList<>();
+            for (Node node : getNodes())
+            {
+                nodeApis.add(node.getApiData(null, null));
+            }
+            jsonRscs = toJsonResources(this);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownTrial() throws Exception
+        {
+            tearDownCluster();
+        }
+    }
+
+    @Benchmark
+    public String viewResources(RestState state) throws JsonProcessingException
+    {
+        return state.objectMapper.writeValueAsString(toJsonResources(state));
+    }
+
+    @Benchmark
+    public String viewResourcesJacksonOnly(RestState state) throws JsonProcessingException
+    {
+        return state.objectMapper.writeValueAsString(state.jsonRscs);
+    }
+
+    @Benchmark
+    public String listNodes(RestState state) throws JsonProcessingException
+    {
+        List<JsonGenTypes.Node> nodes = new ArrayList<>(state.nodeApis.size());
+        for (NodeApi nodeApi : state.nodeApis)
+        {
+            nodes.add(Json.apiToNode(nodeApi));
+        }
+        return state.objectMapper.writeValueAsString(nodes);
+    }
+
+    private static List<JsonGenTypes.Resource> toJsonResources(RestState state)
+    {
+        List<JsonGenTypes.Resource> rscs = new ArrayList<>(state.rscApis.size());
+        for (ResourceApi rscApi : state.rscApis)
+        {
+            rscs.add(Json.apiToResourceWithVolumes(rscApi, state.satelliteStates, true));
+        }
+        return rscs;
+    }
+}
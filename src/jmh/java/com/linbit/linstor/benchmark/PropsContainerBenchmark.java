@@ -0,0 +1,146 @@
+package com.linbit.linstor.benchmark;
+
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.propscon.InvalidKeyException;
+import com.linbit.linstor.propscon.InvalidValueException;
+import com.linbit.linstor.propscon.Props;
+import com.linbit.linstor.propscon.PropsContainer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lookups, updates and iteration of a {@link PropsContainer} with deeply nested namespaces, similar to the
+ * "DrbdOptions/..." or "Aux/..." properties of a large cluster.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropsContainerBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class PropsState extends BenchmarkCluster
+    {
+        @Param({"5"})
+        public int namespaceDepth;
+
+        @Param({"1000"})
+        public int propCount;
+
+        PropsContainer props;
+        String[] keys;
+        String deepestNamespace;
+        int nextKeyIdx;
+        int round;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() throws Exception
+        {
+            setUpCluster();
+            props = propsContainerFactory.getInstance("benchmarkInstance", "", LinStorObject.CTRL);
+
+            StringBuilder namespace = new StringBuilder();
+            for (int depth = 0; depth < namespaceDepth; depth++)
+            {
+                namespace.append("Namespace").append(depth).append('/');
+            }
+            deepestNamespace = namespace.substring(0, namespace.length() - 1);
+
+            keys = new String[propCount];
+            for (int idx = 0; idx < propCount; idx++)
+            {
+                // spread the keys over all levels of the namespace hierarchy
+                int level = idx % namespaceDepth;
+                String prefix = namespace.substring(0, nthSlash(namespace, level) + 1);
+                keys[idx] = prefix + "key" + idx;
+                props.setProp(keys[idx], "value" + idx);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownTrial() throws Exception
+        {
+            tearDownCluster();
+        }
+
+        String nextKey()
+        {
+            String key = keys[nextKeyIdx];
+            nextKeyIdx = (nextKeyIdx + 1) % keys.length;
+            if (nextKeyIdx == 0)
+            {
+                ++round;
+            }
+            return key;
+        }
+
+        private static int nthSlash(CharSequence str, int nth)
+        {
+            int found = -1;
+            int idx = 0;
+            while (found < nth)
+            {
+                if (str.charAt(idx) == '/')
+                {
+                    ++found;
+                }
+                ++idx;
+            }
+            return idx - 1;
+        }
+    }
+
+    @Benchmark
+    public String getProp(PropsState state) throws InvalidKeyException
+    {
+        return state.props.getProp(state.nextKey());
+    }
+
+    @Benchmark
+    public String setProp(PropsState state) throws InvalidKeyException, InvalidValueException, DatabaseException
+    {
+        String key = state.nextKey();
+        // alternate the value every round over all keys, so that every call is an actual update
+        return state.props.setProp(key, (state.round & 1) == 0 ? "even" : "odd");
+    }
+
+    @Benchmark
+    public void iterateAll(PropsState state, Blackhole blackhole)
+    {
+        for (Map.Entry<String, String> entry : state.props.entrySet())
+        {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void iterateDeepestNamespace(PropsState state, Blackhole blackhole)
+    {
+        Props namespace = state.props.getNamespace(state.deepestNamespace);
+        if (namespace != null)
+        {
+            for (Map.Entry<String, String> entry : namespace.entrySet())
+            {
+                blackhole.consume(entry.getValue());
+            }
+        }
+    }
+}
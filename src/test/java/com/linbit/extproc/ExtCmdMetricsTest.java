@@ -0,0 +1,91 @@
+package com.linbit.extproc;
+
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.logging.StderrErrorReporter;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+import com.linbit.timer.Action;
+import com.linbit.timer.GenericTimer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ExtCmdMetricsTest
+{
+    private static final String CMD_NAME = "TestOutput";
+    private static final String CMD_PATH = "test-support/" + CMD_NAME;
+
+    private GenericTimer<String, Action<String>> intrTimer;
+    private ErrorReporter errLog;
+
+    @Before
+    public void setUp()
+    {
+        intrTimer = new GenericTimer<>();
+        intrTimer.start();
+        errLog = new StderrErrorReporter("LINSTOR-UNITTESTS");
+    }
+
+    @After
+    public void tearDown()
+    {
+        ExtCmd.setVirtualThreadOutputPumps(true);
+        intrTimer.shutdown(false);
+    }
+
+    @Test
+    public void commandName()
+    {
+        assertEquals("lvs", ExtCmd.getCommandName(new String[] {"/usr/sbin/lvs", "--noheadings"}));
+        assertEquals("drbdsetup", ExtCmd.getCommandName(new String[] {"drbdsetup", "events2"}));
+        assertEquals("", ExtCmd.getCommandName(new String[0]));
+    }
+
+    @Test
+    public void virtualThreadPumps() throws Exception
+    {
+        ExtCmd.setVirtualThreadOutputPumps(true);
+        execAndCheckMetrics();
+    }
+
+    @Test
+    public void platformThreadPumps() throws Exception
+    {
+        ExtCmd.setVirtualThreadOutputPumps(false);
+        execAndCheckMetrics();
+    }
+
+    private void execAndCheckMetrics() throws Exception
+    {
+        final int expectedLen = 23456;
+        double countBefore = getObservedCount();
+
+        ExtCmd.OutputData output = new ExtCmd(intrTimer, errLog).exec(
+            CMD_PATH,
+            "0",
+            Integer.toString(expectedLen),
+            "stdout",
+            "exit"
+        );
+        assertEquals(expectedLen, output.stdoutData.length);
+        assertEquals(0, output.exitCode);
+
+        // the metrics are updated asynchronously once the process exit was noticed
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (getObservedCount() == countBefore && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(10);
+        }
+        assertEquals(countBefore + 1, getObservedCount(), 0.0);
+        assertEquals(0.0, LinstorServerMetrics.extCmdRunning.labels(CMD_NAME).get(), 0.0);
+    }
+
+    private static double getObservedCount()
+    {
+        double[] buckets = LinstorServerMetrics.extCmdDurationHistogram.labels(CMD_NAME).get().buckets;
+        // the last bucket is always +Inf and therefore counts every observation
+        return buckets[buckets.length - 1];
+    }
+}
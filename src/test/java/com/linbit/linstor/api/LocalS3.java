@@ -0,0 +1,108 @@
+package com.linbit.linstor.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+/**
+ * Local stand-in for the parts of a multipart upload and for ranged GETs of a single object. Counts the attempts
+ * and the concurrent requests, requests are identified by their part number (uploads) or offset (downloads).
+ */
+class LocalS3 extends AbstractAmazonS3
+{
+    interface BeforeRequest
+    {
+        void accept(long partNrOrOffset) throws Exception;
+    }
+
+    final byte[] content;
+    final Map<Integer, byte[]> parts = new ConcurrentHashMap<>();
+    final Map<Long, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    volatile BeforeRequest beforeRequest = ignored ->
+    {
+    };
+
+    LocalS3()
+    {
+        this(new byte[0]);
+    }
+
+    LocalS3(byte[] contentRef)
+    {
+        content = contentRef;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest req)
+    {
+        int partNr = req.getPartNumber();
+        parts.put(partNr, request(partNr, () -> req.getInputStream().readAllBytes()));
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(partNr);
+        result.setETag("etag-" + partNr);
+        return result;
+    }
+
+    @Override
+    public S3Object getObject(GetObjectRequest req)
+    {
+        long[] range = req.getRange();
+        long offset = range[0];
+        int len = (int) (range[1] - range[0] + 1);
+        request(offset, () -> null);
+        S3Object obj = new S3Object();
+        obj.setObjectContent(new ByteArrayInputStream(content, (int) offset, len));
+        return obj;
+    }
+
+    /**
+     * @return the concatenated parts of the multipart upload
+     */
+    byte[] getUploadedObject() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int partNr = 1; partNr <= parts.size(); partNr++)
+        {
+            out.write(parts.get(partNr));
+        }
+        return out.toByteArray();
+    }
+
+    private <T> T request(long partNrOrOffset, Callable<T> requestBody)
+    {
+        attempts.computeIfAbsent(partNrOrOffset, ignored -> new AtomicInteger()).incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        T ret;
+        try
+        {
+            beforeRequest.accept(partNrOrOffset);
+            ret = requestBody.call();
+        }
+        catch (SdkClientException exc)
+        {
+            throw exc;
+        }
+        catch (Exception exc)
+        {
+            throw new SdkClientException(exc);
+        }
+        finally
+        {
+            inFlight.decrementAndGet();
+        }
+        return ret;
+    }
+}
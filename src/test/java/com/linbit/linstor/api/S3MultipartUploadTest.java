@@ -0,0 +1,153 @@
+package com.linbit.linstor.api;
+
+import com.linbit.linstor.storage.StorageException;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.model.PartETag;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class S3MultipartUploadTest
+{
+    private static final int PART_SIZE = 1024;
+
+    private LocalS3 s3;
+    private byte[] data;
+
+    @Before
+    public void setUp()
+    {
+        s3 = new LocalS3();
+        data = new byte[10 * PART_SIZE + 123];
+        new Random(42).nextBytes(data);
+    }
+
+    @Test
+    public void uploadsPartsConcurrentlyAndInOrder() throws Exception
+    {
+        // the first two parts only finish when both are in flight at the same time
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        s3.beforeRequest = partNr ->
+        {
+            if (partNr <= 2)
+            {
+                barrier.await(10, TimeUnit.SECONDS);
+            }
+        };
+
+        List<PartETag> parts = newUpload(3, 0).upload(new ByteArrayInputStream(data));
+
+        assertEquals(11, parts.size());
+        for (int idx = 0; idx < parts.size(); idx++)
+        {
+            assertEquals(idx + 1, parts.get(idx).getPartNumber());
+        }
+        assertArrayEquals(data, s3.getUploadedObject());
+        assertTrue(s3.maxInFlight.get() <= 3);
+    }
+
+    @Test
+    public void retriesFailedParts() throws Exception
+    {
+        s3.beforeRequest = partNr ->
+        {
+            if (partNr == 2 && s3.attempts.get(partNr).get() == 1)
+            {
+                throw new SdkClientException("connection reset");
+            }
+        };
+
+        newUpload(2, 1).upload(new ByteArrayInputStream(data));
+
+        assertEquals(2, s3.attempts.get(2L).get());
+        assertArrayEquals(data, s3.getUploadedObject());
+    }
+
+    @Test
+    public void clientErrorsAreNotRetried() throws Exception
+    {
+        s3.beforeRequest = partNr ->
+        {
+            if (partNr == 2)
+            {
+                AmazonServiceException exc = new AmazonServiceException("access denied");
+                exc.setErrorType(AmazonServiceException.ErrorType.Client);
+                exc.setStatusCode(403);
+                throw exc;
+            }
+        };
+
+        try
+        {
+            newUpload(2, 3).upload(new ByteArrayInputStream(data));
+            fail("upload should fail");
+        }
+        catch (AmazonServiceException expected)
+        {
+            assertEquals(1, s3.attempts.get(2L).get());
+        }
+    }
+
+    @Test
+    public void partSize() throws Exception
+    {
+        assertEquals(S3MultipartUpload.MIN_PART_SIZE, S3MultipartUpload.getPartSize(1L << 20));
+
+        long twoTib = 2L << 30;
+        long partSize = S3MultipartUpload.getPartSize(twoTib);
+        assertEquals(0, partSize % (1 << 20));
+        assertTrue(partSize * S3MultipartUpload.MAX_EXPECTED_PARTS >= twoTib * 1024);
+
+        try
+        {
+            S3MultipartUpload.getPartSize(1L << 40);
+            fail("parts larger than 2 GiB cannot be buffered");
+        }
+        catch (StorageException expected)
+        {
+            // expected
+        }
+    }
+
+    @Test
+    public void partsInFlightAreLimitedByMemory()
+    {
+        int partSize = (int) (S3MultipartUpload.MAX_BUFFER_MEMORY / 2);
+        assertEquals(2, newUpload(8, 0, partSize).getPartsInFlight());
+        assertEquals(1, newUpload(8, 0, Integer.MAX_VALUE).getPartsInFlight());
+    }
+
+    private S3MultipartUpload newUpload(int partsInFlight, int partRetries)
+    {
+        return newUpload(partsInFlight, partRetries, PART_SIZE);
+    }
+
+    private S3MultipartUpload newUpload(int partsInFlight, int partRetries, int partSize)
+    {
+        return new S3MultipartUpload(
+            new EmptyErrorReporter(),
+            s3,
+            "bucket",
+            "key",
+            "uploadId",
+            false,
+            "remote",
+            partSize,
+            partsInFlight,
+            partRetries
+        );
+    }
+}
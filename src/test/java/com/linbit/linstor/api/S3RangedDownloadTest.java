@@ -0,0 +1,156 @@
+package com.linbit.linstor.api;
+
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class S3RangedDownloadTest
+{
+    private static final int CHUNK_SIZE = 1024;
+
+    private LocalS3 s3;
+    private byte[] data;
+
+    @Before
+    public void setUp()
+    {
+        data = new byte[10 * CHUNK_SIZE + 123];
+        new Random(42).nextBytes(data);
+        s3 = new LocalS3(data);
+    }
+
+    @Test
+    public void downloadsChunksConcurrentlyAndInOrder() throws Exception
+    {
+        // the first and the third chunk only finish when both are in flight at the same time
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        s3.beforeRequest = offset ->
+        {
+            if (offset == 0 || offset == 2 * CHUNK_SIZE)
+            {
+                barrier.await(10, TimeUnit.SECONDS);
+            }
+        };
+
+        try (S3RangedDownload download = newDownload(3, 0))
+        {
+            assertArrayEquals(data, readAll(download, 100));
+            assertEquals(data.length, download.getPosition());
+        }
+        assertTrue(s3.maxInFlight.get() <= 3);
+        assertEquals(11, s3.attempts.size());
+    }
+
+    @Test
+    public void singleByteReads() throws Exception
+    {
+        try (S3RangedDownload download = newDownload(2, 0))
+        {
+            for (byte expected : data)
+            {
+                assertEquals(expected & 0xFF, download.read());
+            }
+            assertEquals(-1, download.read());
+        }
+    }
+
+    @Test
+    public void retriesFailedChunks() throws Exception
+    {
+        s3.beforeRequest = offset ->
+        {
+            if (offset == CHUNK_SIZE && s3.attempts.get(offset).get() == 1)
+            {
+                throw new SdkClientException("connection reset");
+            }
+        };
+
+        try (S3RangedDownload download = newDownload(2, 1))
+        {
+            assertArrayEquals(data, readAll(download, CHUNK_SIZE));
+        }
+        assertEquals(2, s3.attempts.get((long) CHUNK_SIZE).get());
+    }
+
+    @Test
+    public void clientErrorsAreNotRetried() throws Exception
+    {
+        s3.beforeRequest = offset ->
+        {
+            if (offset == CHUNK_SIZE)
+            {
+                AmazonServiceException exc = new AmazonServiceException("access denied");
+                exc.setErrorType(AmazonServiceException.ErrorType.Client);
+                exc.setStatusCode(403);
+                throw exc;
+            }
+        };
+
+        try (S3RangedDownload download = newDownload(2, 3))
+        {
+            readAll(download, CHUNK_SIZE);
+            fail("download should fail");
+        }
+        catch (AmazonServiceException expected)
+        {
+            assertEquals(1, s3.attempts.get((long) CHUNK_SIZE).get());
+        }
+    }
+
+    @Test
+    public void emptyObject() throws Exception
+    {
+        s3 = new LocalS3(new byte[0]);
+        try (S3RangedDownload download = newDownload(4, 0))
+        {
+            assertEquals(-1, download.read(new byte[10], 0, 10));
+        }
+        assertTrue(s3.attempts.isEmpty());
+    }
+
+    private S3RangedDownload newDownload(int chunksInFlight, int chunkRetries)
+    {
+        return new S3RangedDownload(
+            new EmptyErrorReporter(),
+            s3,
+            "bucket",
+            "key",
+            false,
+            "remote",
+            s3.content.length,
+            CHUNK_SIZE,
+            chunksInFlight,
+            chunkRetries
+        );
+    }
+
+    private static byte[] readAll(InputStream input, int bufferSize) throws IOException
+    {
+        byte[] ret = new byte[0];
+        byte[] buffer = new byte[bufferSize];
+        int readLen = input.read(buffer);
+        while (readLen != -1)
+        {
+            int oldLen = ret.length;
+            ret = Arrays.copyOf(ret, oldLen + readLen);
+            System.arraycopy(buffer, 0, ret, oldLen, readLen);
+            readLen = input.read(buffer);
+        }
+        return ret;
+    }
+}
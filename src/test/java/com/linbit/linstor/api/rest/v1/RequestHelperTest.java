@@ -0,0 +1,158 @@
+package com.linbit.linstor.api.rest.v1;
+
+import com.linbit.linstor.api.LinStorScope;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.security.LdapAuthentication;
+import com.linbit.linstor.transaction.ChangeSequence;
+import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.http.server.Request;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import reactor.core.scheduler.Schedulers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RequestHelperTest
+{
+    private static final String API_CALL = "TestListApiCall";
+
+    private RequestHelper requestHelper;
+    private AtomicInteger callableRuns;
+
+    @Before
+    public void setUp()
+    {
+        requestHelper = new RequestHelper(
+            Mockito.mock(ErrorReporter.class),
+            new LinStorScope(),
+            Mockito.mock(TransactionMgrGenerator.class),
+            Mockito.mock(LdapAuthentication.class),
+            Mockito.mock(CtrlConfig.class),
+            Schedulers.immediate(),
+            Schedulers.immediate()
+        );
+        callableRuns = new AtomicInteger();
+    }
+
+    @Test
+    public void noIfNoneMatchReturnsListWithETag()
+    {
+        Response response = doConditional(null);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(ChangeSequence.getTag(), response.getEntityTag().getValue());
+        assertEquals(1, callableRuns.get());
+    }
+
+    @Test
+    public void matchingTagReturnsNotModified()
+    {
+        Response response = doConditional(quoted(ChangeSequence.getTag()));
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertEquals(ChangeSequence.getTag(), response.getEntityTag().getValue());
+        // the list handler must not run, so no locks are taken
+        assertEquals(0, callableRuns.get());
+    }
+
+    @Test
+    public void matchingTagInListReturnsNotModified()
+    {
+        Response response = doConditional("\"other\",  " + quoted(ChangeSequence.getTag()) + " , \"another\"");
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertEquals(0, callableRuns.get());
+    }
+
+    @Test
+    public void weakTagReturnsNotModified()
+    {
+        Response response = doConditional("W/" + quoted(ChangeSequence.getTag()));
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertEquals(0, callableRuns.get());
+    }
+
+    @Test
+    public void wildcardReturnsNotModified()
+    {
+        Response response = doConditional("*");
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertEquals(0, callableRuns.get());
+    }
+
+    @Test
+    public void otherTagsReturnList()
+    {
+        String tag = ChangeSequence.getTag();
+        Response response = doConditional("\"other\", W/\"another\", " + tag);
+
+        // the unquoted tag is not a valid entity tag and must not match
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(tag, response.getEntityTag().getValue());
+        assertEquals(1, callableRuns.get());
+    }
+
+    @Test
+    public void changedSequenceReturnsList()
+    {
+        String oldTag = ChangeSequence.getTag();
+        ChangeSequence.next();
+
+        Response response = doConditional(quoted(oldTag));
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(ChangeSequence.getTag(), response.getEntityTag().getValue());
+        assertEquals(1, callableRuns.get());
+    }
+
+    @Test
+    public void errorResponseHasNoETag()
+    {
+        Response response = requestHelper.doInScopeConditional(
+            API_CALL,
+            mockRequest(null),
+            () -> Response.status(Response.Status.NOT_FOUND).build()
+        );
+
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
+        assertNull(response.getEntityTag());
+    }
+
+    private Response doConditional(String ifNoneMatch)
+    {
+        return requestHelper.doInScopeConditional(
+            API_CALL,
+            mockRequest(ifNoneMatch),
+            () ->
+            {
+                callableRuns.incrementAndGet();
+                return Response.ok("[]").build();
+            }
+        );
+    }
+
+    private static Request mockRequest(String ifNoneMatch)
+    {
+        Request request = Mockito.mock(Request.class);
+        Mockito.when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        Mockito.when(request.getHeader("User-Agent")).thenReturn("RequestHelperTest");
+        Mockito.when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn(ifNoneMatch);
+        return request;
+    }
+
+    private static String quoted(String tag)
+    {
+        return "\"" + tag + "\"";
+    }
+}
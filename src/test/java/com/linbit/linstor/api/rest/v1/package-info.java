@@ -0,0 +1,3 @@
+package com.linbit.linstor.api.rest.v1;
+
+// empty to override corresponding src/main/java/.../package-info.java (@NonNullByDefault not needed for tests)
@@ -1,9 +1,11 @@
 package com.linbit.linstor.core;
 
+import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedFetcher;
 import com.linbit.linstor.core.apicallhandler.controller.internal.SatelliteRetcodeHandler;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.multibindings.Multibinder;
+import org.mockito.Mockito;
 
 public class ApiTestModule extends AbstractModule
 {
@@ -23,5 +25,8 @@ public class ApiTestModule extends AbstractModule
         // Declare the multibinder so CtrlSatelliteUpdateCaller's SatelliteRetcodeDispatcher
         // dependency resolves to an empty Set in tests (no handlers registered).
         Multibinder.newSetBinder(binder(), SatelliteRetcodeHandler.class);
+
+        // The node delete handler drops cached allocated sizes, tests never fetch them from satellites
+        bind(VlmAllocatedFetcher.class).toInstance(Mockito.mock(VlmAllocatedFetcher.class));
     }
 }
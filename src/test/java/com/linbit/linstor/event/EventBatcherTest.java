@@ -0,0 +1,85 @@
+package com.linbit.linstor.event;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class EventBatcherTest
+{
+    private EventIdentifier vlm0DiskState;
+    private EventIdentifier vlm1DiskState;
+    private EventIdentifier vlm0Done;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        NodeName nodeName = new NodeName("node1");
+        ResourceName rscName = new ResourceName("rsc1");
+        vlm0DiskState = EventIdentifier.volume(
+            InternalApiConsts.EVENT_VOLUME_DISK_STATE,
+            nodeName,
+            rscName,
+            new VolumeNumber(0)
+        );
+        vlm1DiskState = EventIdentifier.volume(
+            InternalApiConsts.EVENT_VOLUME_DISK_STATE,
+            nodeName,
+            rscName,
+            new VolumeNumber(1)
+        );
+        vlm0Done = EventIdentifier.volume(
+            InternalApiConsts.EVENT_DONE_PERCENTAGE,
+            nodeName,
+            rscName,
+            new VolumeNumber(0)
+        );
+    }
+
+    @Test
+    public void latestValueWins()
+    {
+        EventBatcher.BatchedEvent done10 = value(vlm0Done);
+        EventBatcher.BatchedEvent diskState = value(vlm0DiskState);
+        EventBatcher.BatchedEvent done20 = value(vlm0Done);
+        EventBatcher.BatchedEvent otherVlm = value(vlm1DiskState);
+        EventBatcher.BatchedEvent done30 = value(vlm0Done);
+
+        assertEquals(
+            List.of(done30, diskState, otherVlm),
+            EventBatcher.coalesce(List.of(done10, diskState, done20, otherVlm, done30))
+        );
+    }
+
+    @Test
+    public void closedStreamsKeepTheirOrder()
+    {
+        EventBatcher.BatchedEvent before = value(vlm0DiskState);
+        EventBatcher.BatchedEvent beforeLatest = value(vlm0DiskState);
+        EventBatcher.BatchedEvent close = close(vlm0DiskState);
+        EventBatcher.BatchedEvent after = value(vlm0DiskState);
+        EventBatcher.BatchedEvent afterLatest = value(vlm0DiskState);
+
+        assertEquals(
+            List.of(beforeLatest, close, afterLatest),
+            EventBatcher.coalesce(List.of(before, beforeLatest, close, after, afterLatest))
+        );
+    }
+
+    private static EventBatcher.BatchedEvent value(EventIdentifier eventIdentifier)
+    {
+        return new EventBatcher.BatchedEvent(0, eventIdentifier, InternalApiConsts.EVENT_STREAM_VALUE, new byte[0]);
+    }
+
+    private static EventBatcher.BatchedEvent close(EventIdentifier eventIdentifier)
+    {
+        return new EventBatcher.BatchedEvent(0, eventIdentifier, InternalApiConsts.EVENT_STREAM_CLOSE_REMOVED, null);
+    }
+}
@@ -0,0 +1,192 @@
+package com.linbit.linstor.event;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.LinStorScope;
+import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.event.handler.EventHandler;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.transaction.TransactionObject;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
+import com.linbit.locks.LockGuardFactory;
+
+import javax.inject.Provider;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+
+import static org.junit.Assert.assertEquals;
+
+public class EventProcessorTest
+{
+    private static final String TEST_EVENT_NAME = "TestEventName";
+    private static final String FAILING_VALUE = "fail";
+
+    private TestTransactionMgr transMgr;
+    private EventProcessor eventProcessor;
+
+    @Before
+    public void setUp()
+        throws Exception
+    {
+        transMgr = new TestTransactionMgr();
+
+        ScopeRunner scopeRunner = Mockito.mock(ScopeRunner.class);
+        Mockito.when(
+            scopeRunner.fluxInTransactionalScope(
+                Mockito.anyString(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any()
+            )
+        ).thenAnswer(invocation -> invocation.<Callable<Flux<?>>>getArgument(2).call());
+
+        Node node = Mockito.mock(Node.class);
+        Mockito.when(node.getName()).thenReturn(new NodeName("TestNodeName"));
+        Peer peer = Mockito.mock(Peer.class);
+        Mockito.when(peer.getNode()).thenReturn(node);
+
+        EventHandler eventHandler = this::execute;
+        Map<String, Provider<EventHandler>> eventHandlers = Map.of(TEST_EVENT_NAME, () -> eventHandler);
+
+        eventProcessor = new EventProcessor(
+            Mockito.mock(ErrorReporter.class),
+            eventHandlers,
+            scopeRunner,
+            new LockGuardFactory(
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true),
+                new ReentrantReadWriteLock(true)
+            ),
+            () -> peer,
+            Mockito.mock(LinStorScope.class),
+            () -> transMgr,
+            Mockito.mock(TransactionMgrGenerator.class)
+        );
+    }
+
+    @Test
+    public void failingEventInBatchIsRolledBack()
+    {
+        eventProcessor.handleEvents(
+            List.of(
+                event("rsc1", "value1"),
+                event("rsc2", FAILING_VALUE),
+                event("rsc3", "value3")
+            )
+        ).blockLast();
+
+        assertEquals(List.of("value1", "value3"), transMgr.committed);
+        assertEquals(List.of(FAILING_VALUE), transMgr.rolledBack);
+    }
+
+    @Test
+    public void everyEventInBatchIsCommitted()
+    {
+        eventProcessor.handleEvents(
+            List.of(
+                event("rsc1", "value1"),
+                event("rsc2", "value2")
+            )
+        ).blockLast();
+
+        assertEquals(List.of("value1", "value2"), transMgr.committed);
+        assertEquals(List.of(), transMgr.rolledBack);
+        assertEquals(2, transMgr.commitCount);
+    }
+
+    private void execute(String eventAction, EventIdentifier eventIdentifier, InputStream eventDataIn)
+        throws IOException
+    {
+        String value = new String(eventDataIn.readAllBytes(), StandardCharsets.UTF_8);
+        // the change is made before the handler fails, just like a partially applied event
+        transMgr.pending.add(value);
+        if (value.equals(FAILING_VALUE))
+        {
+            throw new IOException("Test exception");
+        }
+    }
+
+    private static EventProcessor.IncomingEvent event(String rscName, String value)
+    {
+        return new EventProcessor.IncomingEvent(
+            InternalApiConsts.EVENT_STREAM_VALUE,
+            TEST_EVENT_NAME,
+            rscName,
+            null,
+            null,
+            null,
+            new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    private static class TestTransactionMgr implements TransactionMgr
+    {
+        private final List<String> pending = new ArrayList<>();
+        private final List<String> committed = new ArrayList<>();
+        private final List<String> rolledBack = new ArrayList<>();
+        private int commitCount;
+
+        @Override
+        public void register(TransactionObject transObj)
+        {
+            // not needed
+        }
+
+        @Override
+        public void commit()
+        {
+            committed.addAll(pending);
+            pending.clear();
+            commitCount++;
+        }
+
+        @Override
+        public void rollback()
+        {
+            rolledBack.addAll(pending);
+            pending.clear();
+        }
+
+        @Override
+        public void clearTransactionObjects()
+        {
+            pending.clear();
+        }
+
+        @Override
+        public boolean isDirty()
+        {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public int sizeObjects()
+        {
+            return pending.size();
+        }
+    }
+}
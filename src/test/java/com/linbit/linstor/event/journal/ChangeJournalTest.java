@@ -0,0 +1,122 @@
+package com.linbit.linstor.event.journal;
+
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.transaction.manager.SatelliteTransactionMgr;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChangeJournalTest
+{
+    private TransactionMgr transMgr;
+    private ChangeJournal journal;
+
+    private ObjectChange nodeCreated;
+    private ObjectChange rscModified;
+    private ObjectChange rscDfnDeleted;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        transMgr = new SatelliteTransactionMgr();
+        journal = new ChangeJournal(() -> transMgr, 2);
+
+        nodeCreated = ObjectChange.node(ObjectChange.Action.CREATE, new NodeName("node1"));
+        rscModified = ObjectChange.rsc(ObjectChange.Action.MODIFY, new NodeName("node1"), new ResourceName("rsc1"));
+        rscDfnDeleted = ObjectChange.rscDfn(ObjectChange.Action.DELETE, new ResourceName("rsc2"));
+    }
+
+    @Test
+    public void appendOnCommitOnly()
+    {
+        long start = journal.getLastSeq();
+        journal.record(nodeCreated);
+        assertEquals(start, journal.getLastSeq());
+
+        transMgr.rollback();
+        assertEquals(start, journal.getLastSeq());
+
+        journal.record(rscModified);
+        journal.record(rscModified);
+        transMgr.commit();
+        assertEquals(start + 1, journal.getLastSeq());
+        assertEquals(
+            List.of(new ChangeJournal.Entry(start + 1, rscModified)),
+            journal.watch(start).changes().take(1).collectList().block()
+        );
+    }
+
+    @Test
+    public void replaySince()
+    {
+        long start = journal.getLastSeq();
+        journal.record(nodeCreated);
+        transMgr.commit();
+        journal.record(rscModified);
+        transMgr.commit();
+
+        ChangeJournal.Watch watch = journal.watch(start + 1);
+        assertTrue(watch.complete());
+        assertEquals(start + 2, watch.seq());
+
+        journal.record(rscDfnDeleted);
+        transMgr.commit();
+        assertEquals(
+            List.of(
+                new ChangeJournal.Entry(start + 2, rscModified),
+                new ChangeJournal.Entry(start + 3, rscDfnDeleted)
+            ),
+            watch.changes().take(2).collectList().block()
+        );
+    }
+
+    @Test
+    public void evictedChangesAreReported()
+    {
+        long start = journal.getLastSeq();
+        journal.record(nodeCreated);
+        transMgr.commit();
+        journal.record(rscModified);
+        transMgr.commit();
+        journal.record(rscDfnDeleted);
+        transMgr.commit();
+
+        assertFalse(journal.watch(start).complete());
+        assertTrue(journal.watch(start + 1).complete());
+        // sequence numbers from the future, e.g. from before a restart
+        assertFalse(journal.watch(start + 4).complete());
+    }
+
+    @Test
+    public void propsInstances() throws Exception
+    {
+        assertEquals(
+            ObjectChange.node(ObjectChange.Action.MODIFY, new NodeName("node1")),
+            ObjectChange.forPropsInstance("/NODES/NODE1")
+        );
+        assertEquals(
+            ObjectChange.rscDfn(ObjectChange.Action.MODIFY, new ResourceName("rsc1")),
+            ObjectChange.forPropsInstance("/VLM_DFNS/RSC1/0")
+        );
+        assertEquals(
+            ObjectChange.vlm(
+                ObjectChange.Action.MODIFY,
+                new NodeName("node1"),
+                new ResourceName("rsc1"),
+                new VolumeNumber(1)
+            ),
+            ObjectChange.forPropsInstance("/VLMS/NODE1/RSC1/1")
+        );
+        assertNull(ObjectChange.forPropsInstance("/STOR_POOLS/NODE1/POOL1"));
+    }
+}
@@ -0,0 +1,331 @@
+package com.linbit.linstor.layer.drbd;
+
+import com.linbit.drbd.DrbdVersion;
+import com.linbit.extproc.ExtCmdFactory;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.core.ControllerPeerConnector;
+import com.linbit.linstor.core.StltConfigAccessor;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdEventPublisher;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdResource;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdStateStore;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdVolume;
+import com.linbit.linstor.layer.drbd.resfiles.DrbdResourceFileUtils;
+import com.linbit.linstor.layer.drbd.utils.DrbdAdm;
+import com.linbit.linstor.layer.drbd.utils.WindowsFirewall;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.stateflags.Flags;
+import com.linbit.linstor.stateflags.StateFlags;
+import com.linbit.linstor.stateflags.StateFlagsBits;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdRscData;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdRscDfnData;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdVlmData;
+import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
+import com.linbit.linstor.storage.interfaces.layers.drbd.DrbdRscObject.DrbdRscFlags;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DrbdLayerBatchAdjustTest
+{
+    private DrbdAdm drbdAdm;
+    private DrbdStateStore drbdState;
+    private DrbdLayer drbdLayer;
+    private VolumeNumber vlmNr;
+
+    private final Map<DrbdRscData<Resource>, List<Volume>> volumes = new HashMap<>();
+
+    @Before
+    public void setUp() throws Exception
+    {
+        vlmNr = new VolumeNumber(0);
+
+        drbdAdm = Mockito.mock(DrbdAdm.class);
+        Mockito.when(drbdAdm.adjustBatch(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+        drbdState = Mockito.mock(DrbdStateStore.class);
+
+        drbdLayer = new DrbdLayer(
+            drbdAdm,
+            Mockito.mock(DrbdResourceFileUtils.class),
+            drbdState,
+            Mockito.mock(DrbdEventPublisher.class),
+            Mockito.mock(ErrorReporter.class),
+            Mockito.mock(CtrlStltSerializer.class),
+            Mockito.mock(ControllerPeerConnector.class),
+            () -> null,
+            Mockito.mock(ExtCmdFactory.class),
+            Mockito.mock(StltConfigAccessor.class),
+            Mockito.mock(DrbdVersion.class),
+            Mockito.mock(WindowsFirewall.class)
+        );
+        // also resets the static list of adjustable resources
+        drbdLayer.clearCache();
+    }
+
+    @Test
+    public void upResourcesAreAdjustedInOneBatch() throws Exception
+    {
+        DrbdRscData<Resource> rsc1 = mockRsc("rsc1");
+        DrbdRscData<Resource> rsc2 = mockRsc("rsc2");
+
+        adjustInBatches(List.of(rsc1, rsc2));
+
+        Mockito.verify(drbdAdm).adjustBatch(List.of(rsc1, rsc2));
+        drbdLayer.updateRequiresAdjust(rsc1);
+        drbdLayer.updateRequiresAdjust(rsc2);
+        Mockito.verify(rsc1).setAdjustRequired(false);
+        Mockito.verify(rsc2).setAdjustRequired(false);
+    }
+
+    @Test
+    public void singleResourceIsNotBatched() throws Exception
+    {
+        DrbdRscData<Resource> rsc1 = mockRsc("rsc1");
+
+        adjustInBatches(List.of(rsc1));
+
+        Mockito.verify(drbdAdm, Mockito.never()).adjustBatch(Mockito.any());
+        drbdLayer.updateRequiresAdjust(rsc1);
+        Mockito.verify(rsc1).setAdjustRequired(true);
+    }
+
+    @Test
+    public void onlyBatchAdjustableResourcesAreBatched() throws Exception
+    {
+        DrbdRscData<Resource> rsc1 = mockRsc("rsc1");
+        DrbdRscData<Resource> rsc2 = mockRsc("rsc2");
+        DrbdRscData<Resource> rsc3 = mockRsc("rsc3");
+        setRscFlags(rsc3, Resource.Flags.DELETE);
+
+        adjustInBatches(List.of(rsc1, rsc2, rsc3));
+
+        Mockito.verify(drbdAdm).adjustBatch(List.of(rsc1, rsc2));
+        // not adjusted in the batch, so processResource has to adjust it
+        drbdLayer.updateRequiresAdjust(rsc3);
+        Mockito.verify(rsc3).setAdjustRequired(true);
+    }
+
+    @Test
+    public void clearCacheForgetsBatchAdjustedResources() throws Exception
+    {
+        DrbdRscData<Resource> rsc1 = mockRsc("rsc1");
+        DrbdRscData<Resource> rsc2 = mockRsc("rsc2");
+        adjustInBatches(List.of(rsc1, rsc2));
+
+        drbdLayer.clearCache();
+
+        drbdLayer.updateRequiresAdjust(rsc1);
+        Mockito.verify(rsc1).setAdjustRequired(true);
+    }
+
+    @Test
+    public void upResourceIsBatchAdjustable() throws Exception
+    {
+        assertTrue(drbdLayer.isBatchAdjustable(mockRsc("rsc1")));
+    }
+
+    @Test
+    public void deletedResourceIsNotBatchAdjustable() throws Exception
+    {
+        for (Resource.Flags flag : List.of(Resource.Flags.DELETE, Resource.Flags.DRBD_DELETE, Resource.Flags.INACTIVE))
+        {
+            DrbdRscData<Resource> rsc = mockRsc("rsc1");
+            setRscFlags(rsc, flag);
+            assertFalse(flag.name(), drbdLayer.isBatchAdjustable(rsc));
+        }
+    }
+
+    @Test
+    public void downResourceDefinitionIsNotBatchAdjustable() throws Exception
+    {
+        DrbdRscData<Resource> rsc = mockRsc("rsc1");
+        Mockito.when(rsc.getRscDfnLayerObject().isDown()).thenReturn(true);
+
+        assertFalse(drbdLayer.isBatchAdjustable(rsc));
+    }
+
+    @Test
+    public void resourceWithoutDrbdStateIsNotBatchAdjustable() throws Exception
+    {
+        DrbdRscData<Resource> rsc = mockRsc("rsc1");
+        Mockito.when(drbdState.getDrbdResource("rsc1")).thenReturn(null);
+
+        assertFalse(drbdLayer.isBatchAdjustable(rsc));
+    }
+
+    @Test
+    public void drbdRscFlagsPreventBatchAdjust() throws Exception
+    {
+        DrbdRscData<Resource> rsc = mockRsc("rsc1");
+        Mockito.when(rsc.getFlags()).thenReturn(flags(DrbdRscFlags.class, DrbdRscFlags.FORCE_NEW_METADATA));
+
+        assertFalse(drbdLayer.isBatchAdjustable(rsc));
+    }
+
+    @Test
+    public void deletedOrResizedVolumeIsNotBatchAdjustable() throws Exception
+    {
+        for (Volume.Flags flag : List.of(
+            Volume.Flags.DELETE,
+            Volume.Flags.DRBD_DELETE,
+            Volume.Flags.RESIZE,
+            Volume.Flags.DRBD_RESIZE,
+            Volume.Flags.CLONING
+        ))
+        {
+            DrbdRscData<Resource> rsc = mockRsc("rsc1");
+            setVlmFlags(rsc, flag);
+            assertFalse(flag.name(), drbdLayer.isBatchAdjustable(rsc));
+        }
+    }
+
+    @Test
+    public void cloningVolumeWithoutDrbdIsNotBatchAdjustable() throws Exception
+    {
+        DrbdRscData<Resource> rsc = mockRsc("rsc1");
+        // a volume that has no DRBD volume (yet), only the resource knows about it
+        volumes.get(rsc).add(mockVlm(Volume.Flags.CLONING));
+
+        assertFalse(drbdLayer.isBatchAdjustable(rsc));
+    }
+
+    @Test
+    public void deletedPeerPreventsBatchAdjust() throws Exception
+    {
+        for (Resource.Flags flag : List.of(Resource.Flags.DELETE, Resource.Flags.DRBD_DELETE))
+        {
+            DrbdRscData<Resource> rsc = mockRsc("rsc1");
+            DrbdRscData<Resource> peer = mockPeer(rsc);
+            assertTrue(drbdLayer.isBatchAdjustable(rsc));
+
+            setRscFlags(peer, flag);
+            assertFalse(flag.name(), drbdLayer.isBatchAdjustable(rsc));
+        }
+    }
+
+    @Test
+    public void deletedPeerVolumePreventsBatchAdjust() throws Exception
+    {
+        for (Volume.Flags flag : List.of(Volume.Flags.DELETE, Volume.Flags.DRBD_DELETE))
+        {
+            DrbdRscData<Resource> rsc = mockRsc("rsc1");
+            DrbdRscData<Resource> peer = mockPeer(rsc);
+
+            setVlmFlags(peer, flag);
+            assertFalse(flag.name(), drbdLayer.isBatchAdjustable(rsc));
+        }
+    }
+
+    private void adjustInBatches(List<DrbdRscData<Resource>> rscs)
+    {
+        Set<AbsRscLayerObject<Resource>> rscDataSet = new LinkedHashSet<>(rscs);
+        drbdLayer.adjustInBatches(rscDataSet, Collections.emptyList());
+    }
+
+    /**
+     * Local resource with a single volume that is up and does not need anything but an adjust
+     */
+    @SuppressWarnings("unchecked")
+    private DrbdRscData<Resource> mockRsc(String rscName) throws Exception
+    {
+        DrbdRscDfnData<Resource> rscDfnData = Mockito.mock(DrbdRscDfnData.class);
+        List<DrbdRscData<Resource>> rscDataList = new ArrayList<>();
+        Mockito.when(rscDfnData.getDrbdRscDataList()).thenReturn(rscDataList);
+
+        DrbdRscData<Resource> rscData = mockRscData(rscName, rscDfnData);
+
+        DrbdResource drbdRscState = Mockito.mock(DrbdResource.class);
+        Mockito.when(drbdRscState.getVolume(vlmNr)).thenReturn(Mockito.mock(DrbdVolume.class));
+        Mockito.when(drbdState.getDrbdResource(rscName)).thenReturn(drbdRscState);
+        return rscData;
+    }
+
+    /**
+     * Resource of the same resource definition on another node
+     */
+    private DrbdRscData<Resource> mockPeer(DrbdRscData<Resource> localRscData) throws Exception
+    {
+        return mockRscData(localRscData.getSuffixedResourceName(), localRscData.getRscDfnLayerObject());
+    }
+
+    @SuppressWarnings("unchecked")
+    private DrbdRscData<Resource> mockRscData(String rscName, DrbdRscDfnData<Resource> rscDfnData) throws Exception
+    {
+        Resource rsc = Mockito.mock(Resource.class);
+        List<Volume> rscVolumes = new ArrayList<>();
+        Mockito.when(rsc.iterateVolumes()).thenAnswer(invocation -> rscVolumes.iterator());
+
+        Volume vlm = mockVlm();
+        rscVolumes.add(vlm);
+        DrbdVlmData<Resource> drbdVlmData = Mockito.mock(DrbdVlmData.class);
+        Mockito.when(drbdVlmData.getVlmNr()).thenReturn(vlmNr);
+        Mockito.when(drbdVlmData.getVolume()).thenReturn(vlm);
+
+        DrbdRscData<Resource> rscData = Mockito.mock(DrbdRscData.class);
+        Mockito.when(rscData.getResourceName()).thenReturn(new ResourceName(rscName));
+        Mockito.when(rscData.getSuffixedResourceName()).thenReturn(rscName);
+        Mockito.when(rscData.getAbsResource()).thenReturn(rsc);
+        Mockito.when(rscData.getRscDfnLayerObject()).thenReturn(rscDfnData);
+        Mockito.when(rscData.getFlags()).thenReturn(flags(DrbdRscFlags.class));
+        Mockito.when(rscData.getVlmLayerObjects()).thenReturn(Map.of(vlmNr, drbdVlmData));
+        setRscFlags(rscData);
+
+        rscDfnData.getDrbdRscDataList().add(rscData);
+        volumes.put(rscData, rscVolumes);
+        return rscData;
+    }
+
+    private static Volume mockVlm(Volume.Flags... vlmFlags)
+    {
+        Volume vlm = Mockito.mock(Volume.class);
+        Mockito.when(vlm.getFlags()).thenReturn(flags(Volume.Flags.class, vlmFlags));
+        return vlm;
+    }
+
+    private static void setRscFlags(DrbdRscData<Resource> rscData, Resource.Flags... rscFlags)
+    {
+        Resource rsc = rscData.getAbsResource();
+        Mockito.when(rsc.getStateFlags()).thenReturn(flags(Resource.Flags.class, rscFlags));
+    }
+
+    private void setVlmFlags(DrbdRscData<Resource> rscData, Volume.Flags... vlmFlags)
+    {
+        for (Volume vlm : volumes.get(rscData))
+        {
+            Mockito.when(vlm.getFlags()).thenReturn(flags(Volume.Flags.class, vlmFlags));
+        }
+    }
+
+    @SafeVarargs
+    private static <FLAG extends Enum<FLAG> & Flags> StateFlags<FLAG> flags(
+        Class<FLAG> flagsClass,
+        FLAG... enabledFlags
+    )
+    {
+        return new StateFlagsBits<>(
+            flagsClass,
+            StateFlagsBits.getMask(flagsClass.getEnumConstants()),
+            (pk, oldFlagBits, newFlagBits) ->
+            {
+                // not persisted
+            },
+            StateFlagsBits.getMask(enabledFlags),
+            null
+        );
+    }
+}
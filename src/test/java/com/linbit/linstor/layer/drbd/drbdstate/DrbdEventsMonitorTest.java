@@ -0,0 +1,124 @@
+package com.linbit.linstor.layer.drbd.drbdstate;
+
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+import com.linbit.linstor.transaction.manager.SatelliteTransactionMgr;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DrbdEventsMonitorTest
+{
+    private DrbdStateTracker tracker;
+    private DrbdEventsMonitor monitor;
+    private List<Float> donePercentages;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        SatelliteTransactionMgr transMgr = new SatelliteTransactionMgr();
+        tracker = new DrbdStateTracker();
+        monitor = new DrbdEventsMonitor(
+            tracker,
+            new EmptyErrorReporter(),
+            new CoreModule.ResourceDefinitionMapImpl(() -> transMgr)
+        );
+        donePercentages = new ArrayList<>();
+        tracker.addObserver(
+            new ResourceObserver()
+            {
+                @Override
+                public void donePercentageChanged(
+                    DrbdResource resource,
+                    DrbdConnection connection,
+                    DrbdVolume volume,
+                    Float prevPercentage,
+                    Float current
+                )
+                {
+                    if (current != null)
+                    {
+                        donePercentages.add(current);
+                    }
+                }
+            },
+            DrbdStateTracker.OBS_DONE_PERC
+        );
+
+        receive("exists resource name:rsc1 role:Secondary suspended:no");
+        receive("exists connection name:rsc1 peer-node-id:1 conn-name:node2 connection:Connected role:Secondary");
+        receive("exists device name:rsc1 volume:0 minor:1000 disk:UpToDate client:no");
+        receive(
+            "exists peer-device name:rsc1 peer-node-id:1 conn-name:node2 volume:0 replication:SyncSource " +
+                "peer-disk:Inconsistent peer-client:no"
+        );
+        receive("exists -");
+    }
+
+    @Test
+    public void parseLine() throws Exception
+    {
+        DrbdEventLineParser parser = new DrbdEventLineParser();
+        parser.read(bytes("change  peer-device name:rsc1 conn-name:node2  volume:0 path:a:b ignored done:12.50"));
+        assertTrue(parser.parse());
+        assertSame(DrbdEventsMonitor.ACTION_CHANGE, parser.getAction());
+        assertSame(DrbdEventsMonitor.OBJ_PEER_VOLUME, parser.getObjType());
+        assertEquals(
+            Map.of("name", "rsc1", "conn-name", "node2", "volume", "0", "path", "a:b", "done", "12.50"),
+            parser.getProps()
+        );
+
+        parser.read(new byte[0]);
+        assertFalse(parser.parse());
+        assertEquals(Map.of(), parser.getProps());
+    }
+
+    @Test(expected = EventsSourceException.class)
+    public void lineWithoutObjectType() throws Exception
+    {
+        receive("change ");
+    }
+
+    @Test
+    public void doneChangesAreCoalesced() throws Exception
+    {
+        String peerVlm = "change peer-device name:rsc1 peer-node-id:1 conn-name:node2 volume:0 ";
+        receive(peerVlm + "done:10.00");
+        receive(peerVlm + "done:20.00");
+        receive(peerVlm + "done:30.00");
+        assertEquals(List.of(), donePercentages);
+
+        monitor.flushCoalesced();
+        assertEquals(List.of(30.0f), donePercentages);
+
+        // other changes apply the pending progress first
+        receive(peerVlm + "done:40.00");
+        receive(peerVlm + "replication:Established peer-disk:UpToDate");
+        assertEquals(List.of(30.0f, 40.0f), donePercentages);
+        assertEquals(
+            DiskState.UP_TO_DATE,
+            tracker.getResource("rsc1").getConnection("node2").getVolume(new VolumeNumber(0)).getDiskState()
+        );
+    }
+
+    private void receive(String line) throws EventsSourceException
+    {
+        monitor.receiveEvent(bytes(line));
+    }
+
+    private static byte[] bytes(String line)
+    {
+        return line.getBytes(StandardCharsets.UTF_8);
+    }
+}
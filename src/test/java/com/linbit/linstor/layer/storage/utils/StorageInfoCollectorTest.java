@@ -0,0 +1,111 @@
+package com.linbit.linstor.layer.storage.utils;
+
+import com.linbit.linstor.storage.StorageException;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class StorageInfoCollectorTest
+{
+    private static final long TIMEOUT_MS = 5_000;
+    private static final long CACHE_TIME_MS = 60_000;
+
+    private static final Set<String> VG1 = Collections.singleton("vg1/thin");
+    private static final Set<String> VG2 = Collections.singleton("vg2");
+
+    private StorageInfoCollector<Integer> collector;
+    private AtomicInteger loadCount;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp()
+    {
+        collector = new StorageInfoCollector<>(CACHE_TIME_MS, vg -> vg.split("/")[0]);
+        loadCount = new AtomicInteger();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void valueIsCached() throws StorageException
+    {
+        assertEquals(1, (int) collector.get(VG1, loadCount::incrementAndGet));
+        assertEquals(1, (int) collector.get(VG1, loadCount::incrementAndGet));
+        assertEquals(2, (int) collector.get(VG2, loadCount::incrementAndGet));
+    }
+
+    @Test
+    public void invalidateOnlyAffectsGivenPool() throws StorageException
+    {
+        collector.get(VG1, loadCount::incrementAndGet);
+        collector.get(VG2, loadCount::incrementAndGet);
+
+        collector.invalidate(Collections.singleton("vg1"));
+
+        assertEquals(3, (int) collector.get(VG1, loadCount::incrementAndGet));
+        assertEquals(2, (int) collector.get(VG2, loadCount::incrementAndGet));
+    }
+
+    @Test
+    public void concurrentRequestsAreCoalesced() throws Exception
+    {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        Future<Integer> first = executor.submit(
+            () -> collector.get(
+                VG1,
+                () ->
+                {
+                    loaderStarted.countDown();
+                    awaitQuietly(releaseLoader);
+                    return loadCount.incrementAndGet();
+                }
+            )
+        );
+        loaderStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        ExecutorService secondExecutor = Executors.newSingleThreadExecutor();
+        try
+        {
+            Future<Integer> second = secondExecutor.submit(() -> collector.get(VG1, loadCount::incrementAndGet));
+            releaseLoader.countDown();
+
+            assertEquals(1, (int) first.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            assertEquals(1, (int) second.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            assertEquals(1, loadCount.get());
+        }
+        finally
+        {
+            secondExecutor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
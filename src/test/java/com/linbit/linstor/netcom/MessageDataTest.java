@@ -0,0 +1,80 @@
+package com.linbit.linstor.netcom;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MessageDataTest
+{
+    private final MessageBufferPool pool = MessageBufferPool.getInstance();
+
+    @Test
+    public void testAcquireSizeClasses()
+    {
+        ByteBuffer header = pool.acquire(Message.HEADER_SIZE);
+        assertTrue(header.isDirect());
+        assertEquals(Message.HEADER_SIZE, header.capacity());
+        assertEquals(Message.HEADER_SIZE, header.limit());
+
+        ByteBuffer data = pool.acquire(1000);
+        assertTrue(data.isDirect());
+        assertEquals(1024, data.capacity());
+        assertEquals(0, data.position());
+        assertEquals(1000, data.limit());
+
+        ByteBuffer oversized = pool.acquire(MessageBufferPool.MAX_POOLED_SIZE + 1);
+        assertFalse(oversized.isDirect());
+        assertEquals(MessageBufferPool.MAX_POOLED_SIZE + 1, oversized.limit());
+    }
+
+    @Test
+    public void testReleasedBufferIsReused()
+    {
+        // odd size class, so other tests do not interfere
+        ByteBuffer buffer = pool.acquire(0x30000);
+        pool.release(buffer);
+        ByteBuffer reused = pool.acquire(0x20001);
+        assertSame(buffer, reused);
+        assertEquals(0x20001, reused.limit());
+        pool.release(reused);
+    }
+
+    @Test
+    public void testInboundDataSurvivesRelease() throws Exception
+    {
+        byte[] payload = {1, 2, 3, 4, 5};
+
+        MessageData msg = new MessageData(false);
+        ByteBuffer header = msg.getHeaderBuffer();
+        header.putInt(Message.TYPE_FIELD_OFFSET, MessageTypes.DATA);
+        header.putInt(Message.LENGTH_FIELD_OFFSET, payload.length);
+        msg.allocateData(payload.length);
+        msg.getDataBuffer().put(payload);
+
+        msg.releaseBuffers();
+
+        assertEquals(MessageTypes.DATA, msg.getType());
+        assertEquals(payload.length, msg.getDataLength());
+        assertArrayEquals(payload, msg.getData());
+    }
+
+    @Test
+    public void testOutboundHeaderLength() throws Exception
+    {
+        ByteBuffer data = pool.acquire(3);
+        data.put(new byte[] {7, 8, 9}).flip();
+
+        MessageData msg = new MessageData(true);
+        msg.setData(data);
+
+        assertEquals(3, msg.getHeaderBuffer().getInt(Message.LENGTH_FIELD_OFFSET));
+        assertArrayEquals(new byte[] {7, 8, 9}, msg.getData());
+        msg.releaseBuffers();
+    }
+}
@@ -0,0 +1,110 @@
+package com.linbit.linstor.prometheus;
+
+import com.linbit.linstor.core.cfg.StltConfig;
+import com.linbit.linstor.logging.StderrErrorReporter;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class StltMetricsServiceTest
+{
+    private static final String REMOTE_NAME = "StltMetricsServiceTestRemote";
+
+    private StltConfig stltCfg;
+    private StltMetricsService metricsService;
+
+    @Before
+    public void setUp()
+    {
+        stltCfg = Mockito.mock(StltConfig.class);
+        Mockito.when(stltCfg.getMetricsBindAddress()).thenReturn("127.0.0.1");
+        // any free port
+        Mockito.when(stltCfg.getMetricsPort()).thenReturn(0);
+        metricsService = new StltMetricsService(new StderrErrorReporter("Test"), stltCfg);
+    }
+
+    @After
+    public void tearDown()
+    {
+        metricsService.shutdown(false);
+    }
+
+    @Test
+    public void disabledEndpointIsNotStarted() throws Exception
+    {
+        Mockito.when(stltCfg.isMetricsEnabled()).thenReturn(false);
+
+        metricsService.start();
+
+        assertFalse(metricsService.isStarted());
+    }
+
+    @Test
+    public void servesBackupS3UploadMetrics() throws Exception
+    {
+        Mockito.when(stltCfg.isMetricsEnabled()).thenReturn(true);
+        metricsService.start();
+        assertTrue(metricsService.isStarted());
+
+        LinstorServerMetrics.backupS3UploadedBytes.labels(REMOTE_NAME).inc(1024);
+        LinstorServerMetrics.backupS3PartDuration.labels(REMOTE_NAME).observe(0.5);
+
+        String metrics = scrape();
+
+        assertTrue(metrics.contains("linstor_backup_s3_uploaded_bytes_total{remote=\"" + REMOTE_NAME + "\"}"));
+        assertTrue(
+            metrics.contains("linstor_backup_s3_part_upload_duration_seconds_count{remote=\"" + REMOTE_NAME + "\"}")
+        );
+    }
+
+    @Test
+    public void servesEventMetrics() throws Exception
+    {
+        Mockito.when(stltCfg.isMetricsEnabled()).thenReturn(true);
+        metricsService.start();
+
+        LinstorServerMetrics.eventSavedMessages.labels("StltMetricsServiceTestEvent", "coalesced").inc();
+
+        String metrics = scrape();
+
+        assertTrue(
+            metrics.contains(
+                "linstor_event_saved_messages_total{event=\"StltMetricsServiceTestEvent\",reason=\"coalesced\"}"
+            )
+        );
+    }
+
+    private String scrape() throws Exception
+    {
+        InetSocketAddress listenAddr = metricsService.getListenAddress();
+        assertNotNull(listenAddr);
+        HttpURLConnection con = (HttpURLConnection) URI.create(
+            "http://127.0.0.1:" + listenAddr.getPort() + "/metrics"
+        ).toURL().openConnection();
+        try
+        {
+            assertEquals(HttpURLConnection.HTTP_OK, con.getResponseCode());
+            try (InputStream in = con.getInputStream())
+            {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        finally
+        {
+            con.disconnect();
+        }
+    }
+}
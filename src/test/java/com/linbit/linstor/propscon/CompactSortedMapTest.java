@@ -0,0 +1,95 @@
+package com.linbit.linstor.propscon;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompactSortedMapTest
+{
+    @Test
+    public void behavesLikeTreeMap()
+    {
+        Map<String, String> expected = new TreeMap<>();
+        Map<String, String> actual = new CompactSortedMap<>();
+
+        Random random = new Random(1234);
+        for (int idx = 0; idx < 10_000; idx++)
+        {
+            String key = "key" + random.nextInt(200);
+            if (random.nextInt(3) == 0)
+            {
+                assertEquals(expected.remove(key), actual.remove(key));
+            }
+            else
+            {
+                String value = "value" + idx;
+                assertEquals(expected.put(key, value), actual.put(key, value));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual);
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(actual.values()));
+
+        actual.clear();
+        assertTrue(actual.isEmpty());
+        assertNull(actual.get("key1"));
+    }
+
+    @Test
+    public void keysAreShared()
+    {
+        Map<String, String> map1 = new CompactSortedMap<>();
+        Map<String, String> map2 = new CompactSortedMap<>();
+        map1.put(new String("DrbdOptions"), "a");
+        map2.put(new String("DrbdOptions"), "b");
+
+        assertSame(map1.keySet().iterator().next(), map2.keySet().iterator().next());
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        Map<String, String> map = new CompactSortedMap<>();
+        List<String> keys = List.of("a", "b", "c", "d", "e");
+        for (String key : keys)
+        {
+            map.put(key, key);
+        }
+        Iterator<Map.Entry<String, String>> iter = map.entrySet().iterator();
+        while (iter.hasNext())
+        {
+            String key = iter.next().getKey();
+            if (!key.equals("c"))
+            {
+                iter.remove();
+            }
+        }
+        assertEquals(Map.of("c", "c"), map);
+        assertFalse(map.containsKey("a"));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void iteratorIsFailFast()
+    {
+        Map<String, String> map = new CompactSortedMap<>();
+        map.put("a", "a");
+        map.put("b", "b");
+        for (String key : map.keySet())
+        {
+            map.put(key + "x", "x");
+        }
+    }
+}
@@ -97,4 +97,32 @@ public class PriorityPropsTests extends GenericDbBase
 
         assertTrue(prioProps.anyPropsHasNamespace("fb"));
     }
+
+    @Test
+    public void memoizedLookupsFollowChangesTest() throws Exception
+    {
+        // enough lookups so that the merged view of all props gets materialized
+        for (int idx = 0; idx < 10; idx++)
+        {
+            assertEquals("1", prioProps.getProp("1", "a"));
+            assertEquals("8", prioProps.getProp("b/a/1"));
+        }
+        assertEquals(prop1, prioProps.getPropAndContainer("1", "a").objB);
+
+        prop1.removeProp("/a/1");
+        assertEquals("4", prioProps.getProp("1", "a"));
+        assertEquals(prop2, prioProps.getPropAndContainer("1", "a").objB);
+
+        prop3.setProp("/a/3", "10");
+        assertEquals("10", prioProps.getProp("a/3"));
+
+        prop1.setProp("/a/1", "11");
+        assertEquals("11", prioProps.getProp("1", "a"));
+
+        PropsContainer prop4 = propsContainerFactory.getInstance("testInstanceName4", "", LinStorObject.CTRL);
+        prop4.setProp("/d/1", "12");
+        prioProps.addProps(prop4.getNamespace("d"));
+        assertEquals("12", prioProps.getProp("1"));
+        assertNull(prioProps.getProp("d/1"));
+    }
 }
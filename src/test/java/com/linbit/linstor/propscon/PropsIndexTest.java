@@ -0,0 +1,88 @@
+package com.linbit.linstor.propscon;
+
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.dbdrivers.SatellitePropDriver;
+import com.linbit.linstor.transaction.manager.SatelliteTransactionMgr;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PropsIndexTest
+{
+    private static final String SITE_KEY = "Aux/site";
+    private static final String OTHER_KEY = "Aux/other";
+
+    private TransactionMgr transMgr;
+    private PropsContainerFactory propsContainerFactory;
+    private PropsIndex<String> index;
+
+    private PropsContainer props1;
+    private PropsContainer props2;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        transMgr = new SatelliteTransactionMgr();
+        propsContainerFactory = new PropsContainerFactory(new SatellitePropDriver(), () -> transMgr);
+        index = new PropsIndex<>(List.of(SITE_KEY));
+
+        props1 = propsContainerFactory.getInstance("/RSCS/node1/rsc", "", LinStorObject.RSC);
+        props2 = propsContainerFactory.getInstance("/RSCS/node2/rsc", "", LinStorObject.RSC);
+        props1.setProp(SITE_KEY, "east");
+        transMgr.commit();
+
+        index.add("rsc1", props1);
+        index.add("rsc2", props2);
+    }
+
+    @Test
+    public void existingAndChangedValues() throws Exception
+    {
+        assertEquals(Set.of("rsc1"), index.lookup(SITE_KEY, "east"));
+        assertEquals(Set.of(), index.lookup(SITE_KEY, "west"));
+
+        props2.setProp(SITE_KEY, "east");
+        props1.setProp(SITE_KEY, "west");
+        assertEquals(Set.of("rsc2"), index.lookup(SITE_KEY, "east"));
+        assertEquals(Set.of("rsc1"), index.lookup(SITE_KEY, "west"));
+
+        props2.removeProp(SITE_KEY);
+        props1.clear();
+        assertEquals(Set.of(), index.lookup(SITE_KEY, "east"));
+        assertEquals(Set.of(), index.lookup(SITE_KEY, "west"));
+    }
+
+    @Test
+    public void rollbackRestoresIndex() throws Exception
+    {
+        props1.setProp(SITE_KEY, "west");
+        props2.setProp(SITE_KEY, "east");
+        transMgr.rollback();
+
+        assertEquals(Set.of("rsc1"), index.lookup(SITE_KEY, "east"));
+        assertEquals(Set.of(), index.lookup(SITE_KEY, "west"));
+    }
+
+    @Test
+    public void candidates() throws Exception
+    {
+        props2.setProp(SITE_KEY, "west");
+        props2.setProp(OTHER_KEY, "value");
+
+        // not indexed
+        assertNull(index.lookup(OTHER_KEY, "value"));
+        assertNull(index.lookupCandidates(List.of(OTHER_KEY + "=value")));
+        // regex values and key-only filters cannot be answered by the index
+        assertNull(index.lookupCandidates(List.of(SITE_KEY + "=e.*")));
+        assertNull(index.lookupCandidates(List.of(SITE_KEY)));
+
+        assertEquals(Set.of("rsc2"), index.lookupCandidates(List.of(OTHER_KEY + "=value", SITE_KEY + "=west")));
+    }
+}
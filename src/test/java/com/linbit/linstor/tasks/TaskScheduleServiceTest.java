@@ -0,0 +1,125 @@
+package com.linbit.linstor.tasks;
+
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.tasks.TaskScheduleService.Task;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TaskScheduleServiceTest
+{
+    private static final long TIMEOUT_MS = 10_000;
+
+    private TaskScheduleService taskScheduleService;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        CtrlConfig ctrlCfg = new CtrlConfig(null);
+        ctrlCfg.setTaskWorkerThreads(2);
+        taskScheduleService = new TaskScheduleService(new EmptyErrorReporter(), ctrlCfg);
+        taskScheduleService.start();
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        taskScheduleService.shutdown(false);
+        taskScheduleService.awaitShutdown(TIMEOUT_MS);
+    }
+
+    @Test
+    public void slowTaskDoesNotDelayOtherTasks() throws Exception
+    {
+        CountDownLatch releaseSlowTask = new CountDownLatch(1);
+        CountDownLatch fastTaskRuns = new CountDownLatch(5);
+        taskScheduleService.addTask(scheduledAt ->
+        {
+            await(releaseSlowTask);
+            return Task.END_TASK;
+        });
+        taskScheduleService.addTask(scheduledAt ->
+        {
+            fastTaskRuns.countDown();
+            return fastTaskRuns.getCount() == 0 ? Task.END_TASK : scheduledAt + 20;
+        });
+
+        assertTrue(fastTaskRuns.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        releaseSlowTask.countDown();
+    }
+
+    @Test
+    public void rescheduleWhileRunningDoesNotOverlap() throws Exception
+    {
+        CountDownLatch firstRunStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRun = new CountDownLatch(1);
+        CountDownLatch secondRunDone = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger concurrentRuns = new AtomicInteger();
+        AtomicInteger maxConcurrentRuns = new AtomicInteger();
+        Task task = scheduledAt ->
+        {
+            maxConcurrentRuns.accumulateAndGet(concurrentRuns.incrementAndGet(), Math::max);
+            if (runs.incrementAndGet() == 1)
+            {
+                firstRunStarted.countDown();
+                await(releaseFirstRun);
+            }
+            else
+            {
+                secondRunDone.countDown();
+            }
+            concurrentRuns.decrementAndGet();
+            return Task.END_TASK;
+        };
+
+        taskScheduleService.addTask(task);
+        assertTrue(firstRunStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        taskScheduleService.rescheduleAt(task, 0);
+        taskScheduleService.rescheduleAt(task, 0);
+        releaseFirstRun.countDown();
+
+        assertTrue(secondRunDone.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        // the reschedule requests made during the first run are merged into a single run
+        Thread.sleep(500);
+        assertEquals(2, runs.get());
+        assertEquals(1, maxConcurrentRuns.get());
+    }
+
+    @Test
+    public void cancelledTaskDoesNotRun() throws Exception
+    {
+        AtomicInteger runs = new AtomicInteger();
+        Task task = scheduledAt ->
+        {
+            runs.incrementAndGet();
+            return Task.END_TASK;
+        };
+
+        taskScheduleService.rescheduleAt(task, 300);
+        taskScheduleService.rescheduleAt(task, -1);
+        Thread.sleep(800);
+        assertEquals(0, runs.get());
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
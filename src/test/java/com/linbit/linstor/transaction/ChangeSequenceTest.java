@@ -0,0 +1,99 @@
+package com.linbit.linstor.transaction;
+
+import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.TcpConnector;
+import com.linbit.linstor.netcom.TcpConnectorPeer;
+import com.linbit.linstor.transaction.manager.ControllerSQLTransactionMgr;
+
+import java.net.InetSocketAddress;
+import java.sql.Connection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class ChangeSequenceTest
+{
+    private ControllerSQLTransactionMgr transMgr;
+    private Connection dbCon;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        dbCon = Mockito.mock(Connection.class);
+        ControllerSQLDatabase db = Mockito.mock(ControllerSQLDatabase.class);
+        Mockito.when(db.getConnection()).thenReturn(dbCon);
+        transMgr = new ControllerSQLTransactionMgr(db);
+    }
+
+    @Test
+    public void commitWithChangesAdvancesSequence() throws Exception
+    {
+        transMgr.register(dirtyTransObj());
+        long before = ChangeSequence.current();
+        String tagBefore = ChangeSequence.getTag();
+
+        transMgr.commit();
+
+        assertEquals(before + 1, ChangeSequence.current());
+        assertNotEquals(tagBefore, ChangeSequence.getTag());
+        Mockito.verify(dbCon).commit();
+    }
+
+    @Test
+    public void commitWithoutChangesKeepsSequence() throws Exception
+    {
+        long before = ChangeSequence.current();
+
+        transMgr.commit();
+
+        assertEquals(before, ChangeSequence.current());
+    }
+
+    @Test
+    public void rollbackKeepsSequence() throws Exception
+    {
+        transMgr.register(dirtyTransObj());
+        long before = ChangeSequence.current();
+
+        transMgr.rollback();
+
+        assertEquals(before, ChangeSequence.current());
+    }
+
+    @Test
+    public void connectionStatusChangeAdvancesSequence()
+    {
+        TcpConnectorPeer peer = new TcpConnectorPeer(
+            Mockito.mock(ErrorReporter.class),
+            Mockito.mock(CommonSerializer.class),
+            new InetSocketAddress("127.0.0.1", 3366),
+            "TestPeer",
+            Mockito.mock(TcpConnector.class),
+            null,
+            null,
+            false
+        )
+        {
+            // protected constructor
+        };
+        long before = ChangeSequence.current();
+
+        peer.setConnectionStatus(ApiConsts.ConnectionStatus.ONLINE);
+
+        assertEquals(before + 1, ChangeSequence.current());
+    }
+
+    private static TransactionObject dirtyTransObj()
+    {
+        TransactionObject transObj = Mockito.mock(TransactionObject.class);
+        Mockito.when(transObj.isDirty()).thenReturn(true);
+        return transObj;
+    }
+}
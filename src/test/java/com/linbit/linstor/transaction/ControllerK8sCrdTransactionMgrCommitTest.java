@@ -0,0 +1,171 @@
+package com.linbit.linstor.transaction;
+
+import com.linbit.linstor.ControllerK8sCrdDatabase;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.k8s.K8sCachingClient;
+import com.linbit.linstor.dbdrivers.k8s.K8sResourceClient;
+import com.linbit.linstor.dbdrivers.k8s.crd.GenCrdCurrent;
+import com.linbit.linstor.dbdrivers.k8s.crd.LinstorCrd;
+import com.linbit.linstor.dbdrivers.k8s.crd.LinstorSpec;
+import com.linbit.linstor.dbdrivers.k8s.crd.RollbackCrd;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.fabric8.mockwebserver.http.MockResponse;
+import io.fabric8.mockwebserver.http.RecordedRequest;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Commits transactions of different sizes against the fabric8 mock API server (CRUD mode), sequentially (1 request in
+ * flight) and pipelined, and checks that every change is committed without exceeding the allowed parallel requests.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class ControllerK8sCrdTransactionMgrCommitTest
+{
+    private static final String PROPS_INSTANCE = "/BENCHMARK";
+
+    private CountingCrudDispatcher dispatcher;
+    private KubernetesMockServer server;
+    private KubernetesClient k8sClient;
+    private final Map<Class<?>, K8sResourceClient<?>> cachingClients = new HashMap<>();
+
+    @Before
+    public void setUp()
+    {
+        dispatcher = new CountingCrudDispatcher();
+        server = new KubernetesMockServer(
+            new Context(),
+            new MockWebServer(),
+            new HashMap<>(),
+            dispatcher,
+            false
+        );
+        server.init();
+        k8sClient = server.createClient();
+    }
+
+    @After
+    public void tearDown()
+    {
+        k8sClient.close();
+        server.destroy();
+    }
+
+    @Test
+    @Parameters({
+        "1, 1", "1, 8",
+        "10, 1", "10, 8",
+        "100, 1", "100, 8"
+    })
+    public void commitWithBoundedParallelRequests(int txSize, int maxParallelRequests) throws Exception
+    {
+        ControllerK8sCrdTransactionMgr txMgr = new ControllerK8sCrdTransactionMgr(
+            mockDatabase(maxParallelRequests)
+        );
+
+        // first transaction creates, second replaces half and deletes the other half of the entries
+        for (int idx = 0; idx < txSize; idx++)
+        {
+            txMgr.getTransaction().create(GeneratedDatabaseTables.PROPS_CONTAINERS, createProp(idx, "created"));
+        }
+        txMgr.commit();
+        assertEquals(txSize, listProps().size());
+
+        for (int idx = 0; idx < txSize; idx++)
+        {
+            if (idx % 2 == 0)
+            {
+                txMgr.getTransaction().replace(GeneratedDatabaseTables.PROPS_CONTAINERS, createProp(idx, "replaced"));
+            }
+            else
+            {
+                txMgr.getTransaction().delete(GeneratedDatabaseTables.PROPS_CONTAINERS, createProp(idx, "created"));
+            }
+        }
+        txMgr.commit();
+
+        assertEquals((txSize + 1) / 2, listProps().size());
+        for (GenCrdCurrent.PropsContainers crd : listProps())
+        {
+            assertEquals("replaced", crd.getSpec().propValue);
+        }
+        // a successful commit leaves no rollback entry behind
+        assertTrue(k8sClient.resources(RollbackCrd.class).list().getItems().isEmpty());
+
+        int maxInFlight = dispatcher.maxInFlight.get();
+        assertTrue("No request reached the API server", maxInFlight >= 1);
+        assertTrue(
+            maxInFlight + " requests in flight, but only " + maxParallelRequests + " are allowed",
+            maxInFlight <= maxParallelRequests
+        );
+    }
+
+    private static GenCrdCurrent.PropsContainers createProp(int idx, String value)
+    {
+        return GenCrdCurrent.createPropsContainers(PROPS_INSTANCE, "Key" + idx, value);
+    }
+
+    private List<GenCrdCurrent.PropsContainers> listProps()
+    {
+        return k8sClient.resources(GenCrdCurrent.PropsContainers.class).list().getItems();
+    }
+
+    private ControllerK8sCrdDatabase mockDatabase(int maxParallelRequests)
+    {
+        ControllerK8sCrdDatabase db = Mockito.mock(ControllerK8sCrdDatabase.class);
+        Mockito.when(db.getClient()).thenReturn(k8sClient);
+        Mockito.when(db.getMaxRollbackEntries()).thenReturn(100);
+        Mockito.when(db.getMaxParallelRequests()).thenReturn(maxParallelRequests);
+        Mockito.when(db.getCachingClient(Mockito.any())).thenAnswer(
+            invocation ->
+            {
+                Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>> clazz = invocation.getArgument(0);
+                return cachingClients.computeIfAbsent(
+                    clazz,
+                    ignored -> new K8sCachingClient<>(k8sClient.resources(clazz))
+                );
+            }
+        );
+        return db;
+    }
+
+    /**
+     * Records the highest number of requests that were handled by the mock API server at the same time
+     */
+    private static class CountingCrudDispatcher extends KubernetesCrudDispatcher
+    {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request)
+        {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try
+            {
+                return super.dispatch(request);
+            }
+            finally
+            {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
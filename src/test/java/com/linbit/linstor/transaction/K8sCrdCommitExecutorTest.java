@@ -0,0 +1,104 @@
+package com.linbit.linstor.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class K8sCrdCommitExecutorTest
+{
+    private static final int REQUEST_COUNT = 50;
+    private static final int MAX_PARALLEL = 4;
+    private static final long REQUEST_LATENCY_MS = 5;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+
+    @Test
+    public void runsAllRequestsBounded()
+    {
+        List<Runnable> requests = new ArrayList<>();
+        for (int idx = 0; idx < REQUEST_COUNT; idx++)
+        {
+            requests.add(this::slowRequest);
+        }
+
+        K8sCrdCommitExecutor.run(requests, MAX_PARALLEL);
+
+        assertEquals(REQUEST_COUNT, finished.get());
+        assertEquals(0, inFlight.get());
+        assertTrue(maxInFlight.get() > 1);
+        assertTrue(maxInFlight.get() <= MAX_PARALLEL);
+    }
+
+    @Test
+    public void runsSequentiallyWithoutParallelism()
+    {
+        List<Runnable> requests = new ArrayList<>();
+        for (int idx = 0; idx < 5; idx++)
+        {
+            requests.add(this::slowRequest);
+        }
+
+        K8sCrdCommitExecutor.run(requests, 1);
+
+        assertEquals(5, finished.get());
+        assertEquals(1, maxInFlight.get());
+    }
+
+    @Test
+    public void failureWaitsForRequestsInFlight()
+    {
+        RuntimeException failure = new IllegalStateException("API server unavailable");
+        List<Runnable> requests = new ArrayList<>();
+        for (int idx = 0; idx < REQUEST_COUNT; idx++)
+        {
+            requests.add(idx == 2 ? () -> failingRequest(failure) : this::slowRequest);
+        }
+
+        try
+        {
+            K8sCrdCommitExecutor.run(requests, MAX_PARALLEL);
+            fail("Exception expected");
+        }
+        catch (IllegalStateException exc)
+        {
+            assertEquals(failure, exc);
+        }
+        // nothing may still be running once the commit failed, otherwise the rollback would race with these requests
+        assertEquals(0, inFlight.get());
+        // no new requests are started after the failure
+        assertTrue(finished.get() < REQUEST_COUNT - 1);
+    }
+
+    private void slowRequest()
+    {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try
+        {
+            Thread.sleep(REQUEST_LATENCY_MS);
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            inFlight.decrementAndGet();
+            finished.incrementAndGet();
+        }
+    }
+
+    private void failingRequest(RuntimeException exc)
+    {
+        slowRequest();
+        throw exc;
+    }
+}
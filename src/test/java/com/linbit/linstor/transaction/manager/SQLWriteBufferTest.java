@@ -0,0 +1,109 @@
+package com.linbit.linstor.transaction.manager;
+
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SQLWriteBufferTest
+{
+    private static final String INSERT = "INSERT";
+    private static final String UPDATE = "UPDATE";
+    private static final String DELETE = "DELETE";
+
+    private Connection dbCon;
+    private PreparedStatement insertStmt;
+    private PreparedStatement updateStmt;
+    private PreparedStatement deleteStmt;
+    private SQLWriteBuffer writeBuffer;
+    private List<String> boundValues;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        dbCon = Mockito.mock(Connection.class);
+        insertStmt = Mockito.mock(PreparedStatement.class);
+        updateStmt = Mockito.mock(PreparedStatement.class);
+        deleteStmt = Mockito.mock(PreparedStatement.class);
+        Mockito.when(dbCon.prepareStatement(INSERT)).thenReturn(insertStmt);
+        Mockito.when(dbCon.prepareStatement(UPDATE)).thenReturn(updateStmt);
+        Mockito.when(dbCon.prepareStatement(DELETE)).thenReturn(deleteStmt);
+
+        writeBuffer = new SQLWriteBuffer(dbCon);
+        boundValues = new ArrayList<>();
+    }
+
+    @Test
+    public void consecutiveStatementsAreBatched() throws Exception
+    {
+        for (int idx = 0; idx < 3; idx++)
+        {
+            add(INSERT, "insert" + idx);
+        }
+        add(DELETE, "delete0");
+        add(INSERT, "insert3");
+        writeBuffer.flush();
+
+        // the order of the statements must not change
+        InOrder inOrder = Mockito.inOrder(insertStmt, deleteStmt);
+        inOrder.verify(insertStmt, Mockito.times(3)).addBatch();
+        inOrder.verify(insertStmt).executeBatch();
+        inOrder.verify(deleteStmt).addBatch();
+        inOrder.verify(deleteStmt).executeBatch();
+        inOrder.verify(insertStmt).addBatch();
+        inOrder.verify(insertStmt).executeBatch();
+
+        Mockito.verify(insertStmt, Mockito.never()).executeUpdate();
+        assertEquals(List.of("insert0", "insert1", "insert2", "delete0", "insert3"), boundValues);
+        assertTrue(writeBuffer.isEmpty());
+    }
+
+    @Test
+    public void redundantUpdatesAreDropped() throws Exception
+    {
+        addUpdate("rsc1", "value1");
+        addUpdate("rsc2", "value1");
+        addUpdate("rsc1", "value2");
+        writeBuffer.flush();
+
+        Mockito.verify(updateStmt, Mockito.times(2)).addBatch();
+        Mockito.verify(updateStmt).executeBatch();
+        assertEquals(List.of("rsc2=value1", "rsc1=value2"), boundValues);
+    }
+
+    @Test
+    public void clearDropsPendingWrites() throws Exception
+    {
+        add(INSERT, "insert0");
+        addUpdate("rsc1", "value1");
+        writeBuffer.clear();
+        writeBuffer.flush();
+
+        Mockito.verify(dbCon, Mockito.never()).prepareStatement(Mockito.anyString());
+    }
+
+    private void add(String sql, String value)
+    {
+        writeBuffer.add(GeneratedDatabaseTables.PROPS_CONTAINERS, sql, stmt -> boundValues.add(value));
+    }
+
+    private void addUpdate(String pk, String value)
+    {
+        writeBuffer.addUpdate(
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            UPDATE,
+            new Object[] {pk},
+            stmt -> boundValues.add(pk + "=" + value)
+        );
+    }
+}
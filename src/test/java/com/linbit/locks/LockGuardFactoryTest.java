@@ -0,0 +1,114 @@
+package com.linbit.locks;
+
+import com.linbit.locks.LockGuardFactory.LockObj;
+
+import java.util.ConcurrentModificationException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LockGuardFactoryTest
+{
+    private static final long TIMEOUT_MS = 5_000;
+
+    private LockGuardFactory lockGuardFactory;
+
+    @Before
+    public void setUp()
+    {
+        lockGuardFactory = new LockGuardFactory(
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true)
+        );
+    }
+
+    @Test
+    public void listConcurrentWithPropsUpdate() throws Exception
+    {
+        final int iterations = 2_000;
+        // simulates the props of a resource definition, both entries are always updated together
+        Map<String, String> props = new TreeMap<>();
+        props.put("key1", "0");
+        props.put("key2", "0");
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try
+        {
+            AtomicBoolean updating = new AtomicBoolean(true);
+            Future<?> updater = pool.submit(() ->
+            {
+                try
+                {
+                    for (int idx = 1; idx <= iterations; idx++)
+                    {
+                        // same lock as CtrlRscDfnApiCallHandler#updateProps
+                        try (LockGuard ignored = lockGuardFactory.create().write(LockObj.RSC_DFN_MAP).build())
+                        {
+                            props.put("key1", Integer.toString(idx));
+                            props.put("tmp", "");
+                            props.remove("tmp");
+                            props.put("key2", Integer.toString(idx));
+                        }
+                    }
+                }
+                finally
+                {
+                    updating.set(false);
+                }
+            });
+            Future<?> lister = pool.submit(() ->
+            {
+                while (updating.get())
+                {
+                    // same lock as the resource definition list handlers
+                    try (LockGuard ignored = lockGuardFactory.create().read(LockObj.RSC_DFN_MAP).build())
+                    {
+                        String firstVal = null;
+                        for (Map.Entry<String, String> entry : props.entrySet())
+                        {
+                            if (firstVal == null)
+                            {
+                                firstVal = entry.getValue();
+                            }
+                            else
+                            {
+                                assertEquals("List saw a half-applied update", firstVal, entry.getValue());
+                            }
+                        }
+                        assertEquals(2, props.size());
+                    }
+                    catch (ConcurrentModificationException exc)
+                    {
+                        throw new AssertionError("List ran concurrently with a props update", exc);
+                    }
+                }
+            });
+            updater.get(TIMEOUT_MS * 4, TimeUnit.MILLISECONDS);
+            lister.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertEquals(Integer.toString(iterations), props.get("key2"));
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+}
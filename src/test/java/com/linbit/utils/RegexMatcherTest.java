@@ -106,4 +106,13 @@ public class RegexMatcherTest
     {
         assertTrue(RegexMatcher.compileAll(Collections.emptyList(), false).isEmpty());
     }
+
+    @Test
+    public void testIsAllLiterals()
+    {
+        assertTrue(RegexMatcher.isAllLiterals(Arrays.asList("node1", "some.node.name")));
+        assertFalse(RegexMatcher.isAllLiterals(Arrays.asList("node1", "node.*")));
+        // no filter means "match all", which cannot be answered by lookups
+        assertFalse(RegexMatcher.isAllLiterals(Collections.emptyList()));
+    }
 }